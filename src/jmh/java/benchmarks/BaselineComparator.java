@@ -0,0 +1,169 @@
+package benchmarks;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BaselineComparator - Compare a JMH JSON result with the committed baseline
+ *
+ * Usage: BaselineComparator &lt;result.json&gt; &lt;baseline.json&gt; [thresholdPercent]
+ *
+ * For throughput modes higher is better, for time modes lower is better.
+ * A benchmark regresses when it is worse by more than the threshold AND its
+ * 99.9% confidence interval (JMH scoreConfidence) no longer overlaps the
+ * baseline's - a change inside the measurement error is reported as noise,
+ * not as a regression. Exits with status 1 when any benchmark regressed, or
+ * when there is no baseline (unless -Dbenchmark.allow.missing.baseline=true,
+ * e.g. on a new machine before its first baseline is recorded).
+ * To accept a new baseline, copy target/jmh-result.json over the baseline file;
+ * record it on the machine and JDK that run the check, with at least
+ * MIN_BASELINE_FORKS forks.
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOW_MISSING_BASELINE = "benchmark.allow.missing.baseline";
+    // Fewer forks leave JVM-to-JVM variance (JIT, layout) out of the error bars
+    private static final int MIN_BASELINE_FORKS = 3;
+
+    private BaselineComparator() {
+        throw new AssertionError("BaselineComparator class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <result.json> <baseline.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        Path resultFile = Paths.get(args[0]);
+        Path baselineFile = Paths.get(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        Map<String, Score> current = read(resultFile);
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + " - copy " + resultFile +
+                               " there to create one.");
+            if (Boolean.getBoolean(ALLOW_MISSING_BASELINE)) {
+                System.out.println("Regression check skipped (" + ALLOW_MISSING_BASELINE + "=true)");
+                return;
+            }
+            System.exit(1);
+        }
+        Map<String, Score> baseline = read(baselineFile);
+
+        warnIfNotComparable(baseline, current);
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s %9s%n", "Benchmark", "Baseline", "Current", "Change", "Error");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", now.value, "new");
+                continue;
+            }
+            double change = (now.value - before.value) * 100.0 / before.value;
+            // Positive "worse" means regression regardless of mode direction
+            double worse = now.higherIsBetter ? -change : change;
+            // Both intervals' half-widths: beyond that the intervals do not overlap
+            double noise = (before.error + now.error) * 100.0 / before.value;
+            boolean regressed = worse > Math.max(threshold, noise);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %8.1f%% %s%n", entry.getKey(), before.value,
+                              now.value, change, noise,
+                              regressed ? "REGRESSION" : worse > threshold ? "within error" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed more than " + threshold +
+                               "% and beyond their error");
+            System.exit(1);
+        }
+        System.out.println("No regressions above " + threshold + "% and beyond the error");
+    }
+
+    /**
+     * Warn when the baseline was recorded with too few forks or on another JDK;
+     * the check still runs, but such a baseline is not worth gating on
+     */
+    private static void warnIfNotComparable(Map<String, Score> baseline, Map<String, Score> current) {
+        Score first = baseline.values().stream().findFirst().orElse(null);
+        Score now = current.values().stream().findFirst().orElse(null);
+        if (first == null || now == null) {
+            return;
+        }
+        if (first.forks < MIN_BASELINE_FORKS) {
+            System.out.println("WARNING: baseline recorded with " + first.forks + " fork(s); re-record it with " +
+                               "at least " + MIN_BASELINE_FORKS);
+        }
+        if (!first.jdkVersion.equals(now.jdkVersion)) {
+            System.out.println("WARNING: baseline recorded on JDK " + first.jdkVersion + ", this run is on JDK " +
+                               now.jdkVersion + "; re-record it on the JDK that runs the check");
+        }
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Collection<?> runs = new Json().toType(reader, List.class);
+            for (Object item : runs) {
+                Map<?, ?> run = (Map<?, ?>) item;
+                String mode = String.valueOf(run.get("mode"));
+                StringBuilder key = new StringBuilder(String.valueOf(run.get("benchmark")));
+                Object params = run.get("params");
+                if (params instanceof Map) {
+                    Map<String, Object> sorted = new TreeMap<>();
+                    ((Map<?, ?>) params).forEach((name, value) -> sorted.put(String.valueOf(name), value));
+                    sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+                }
+                key.append(" [").append(mode).append(']');
+                Map<?, ?> primary = (Map<?, ?>) run.get("primaryMetric");
+                double value = ((Number) primary.get("score")).doubleValue();
+                Object forks = run.get("forks");
+                scores.put(key.toString(), new Score(value, error(primary), "thrpt".equals(mode),
+                                                     forks instanceof Number ? ((Number) forks).intValue() : 1,
+                                                     String.valueOf(run.get("jdkVersion"))));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Half-width of the 99.9% confidence interval; 0 when JMH could not
+     * compute one (a single measurement, written as "NaN")
+     */
+    private static double error(Map<?, ?> primary) {
+        Object error = primary.get("scoreError");
+        if (error instanceof Number && !Double.isNaN(((Number) error).doubleValue())) {
+            return ((Number) error).doubleValue();
+        }
+        return 0;
+    }
+
+    private static final class Score {
+        private final double value;
+        private final double error;
+        private final boolean higherIsBetter;
+        private final int forks;
+        private final String jdkVersion;
+
+        private Score(double value, double error, boolean higherIsBetter, int forks, String jdkVersion) {
+            this.value = value;
+            this.error = error;
+            this.higherIsBetter = higherIsBetter;
+            this.forks = forks;
+            this.jdkVersion = jdkVersion;
+        }
+    }
+}
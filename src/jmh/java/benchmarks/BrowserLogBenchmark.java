@@ -0,0 +1,86 @@
+package benchmarks;
+
+import browserlogs.BrowserEvent;
+import browserlogs.BrowserLogCapture;
+import browserlogs.EventRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BrowserLogBenchmark - Cost of recording one browser event
+ *
+ * Four threads record console events into one session buffer, like DevTools
+ * listeners of a busy page. convertOnly is the CDP-parameter conversion
+ * alone; record adds buffering: buffer=ring is the lock-free EventRing,
+ * buffer=locked a synchronized bounded deque for comparison. The overhead of
+ * capture is record minus convertOnly; it is paid on the DevTools thread,
+ * not by the test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BrowserLogBenchmark {
+
+    private static final int CAPACITY = 1024;
+
+    @Param({"ring", "locked"})
+    public String buffer;
+
+    private Map<String, Object> params;
+    private EventRing ring;
+    private Deque<BrowserEvent> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        params = new LinkedHashMap<>();
+        params.put("type", "error");
+        params.put("args", Arrays.asList(
+            Collections.singletonMap("value", "Failed to load resource: the server responded with a status of 500"),
+            Collections.singletonMap("value", 42)));
+        ring = new EventRing(CAPACITY);
+        locked = new ArrayDeque<>(CAPACITY);
+    }
+
+    @Benchmark
+    public BrowserEvent convertOnly() {
+        return BrowserLogCapture.consoleEvent(params);
+    }
+
+    @Benchmark
+    public void record() {
+        BrowserEvent event = BrowserLogCapture.consoleEvent(params);
+        if ("ring".equals(buffer)) {
+            ring.offer(event);
+        } else {
+            synchronized (locked) {
+                if (locked.size() == CAPACITY) {
+                    locked.removeFirst();
+                }
+                locked.addLast(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ConfigReader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReaderBenchmark - Getter cost (system property check + Properties lookup + parse)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getBrowser() {
+        return ConfigReader.getBrowser();
+    }
+
+    @Benchmark
+    public int getExplicitWait() {
+        return ConfigReader.getExplicitWait();
+    }
+
+    @Benchmark
+    public boolean isHeadless() {
+        return ConfigReader.isHeadless();
+    }
+
+    @Benchmark
+    public String getUrl() {
+        return ConfigReader.getUrl();
+    }
+}
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ExecutionEvents;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventLogBenchmark - Cost of emitting one execution event at high rates
+ *
+ * Four threads, each inside its own test invocation (correlation id set),
+ * emit phase events as fast as they can, so the async logger's ring buffer
+ * runs full and the figure includes back-pressure from the background
+ * writer. phaseEvent is ExecutionEvents.phase (reusable parameterized
+ * message, garbage-free); concatenatedEvent builds the same line with
+ * string concatenation for comparison. level=off measures the disabled
+ * stream. Add -prof gc to see allocation per event (0 B/op for phaseEvent
+ * once every ring buffer slot has been used).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class EventLogBenchmark {
+
+    private static final Logger EVENTS = LogManager.getLogger(ExecutionEvents.LOGGER_NAME);
+
+    @State(Scope.Benchmark)
+    public static class Stream {
+        @Param({"info", "off"})
+        public String level;
+
+        @Setup
+        public void setUp() {
+            Configurator.setLevel(ExecutionEvents.LOGGER_NAME, Level.valueOf(level));
+        }
+
+        @TearDown
+        public void tearDown() {
+            Configurator.setLevel(ExecutionEvents.LOGGER_NAME, Level.INFO);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Invocation {
+        private String cid;
+        private long nanos;
+
+        @Setup
+        public void setUp() {
+            cid = ExecutionEvents.begin("EventLogBenchmark.run", "none");
+        }
+
+        @TearDown
+        public void tearDown() {
+            ExecutionEvents.end();
+        }
+    }
+
+    @Benchmark
+    public void phaseEvent(Stream stream, Invocation invocation) {
+        ExecutionEvents.phase("driver", invocation.nanos += 1_000_000);
+    }
+
+    @Benchmark
+    public void concatenatedEvent(Stream stream, Invocation invocation) {
+        invocation.nanos += 1_000_000;
+        EVENTS.info("\"event\":\"phase\",\"cid\":\"" + invocation.cid +
+                    "\",\"test\":\"EventLogBenchmark.run\",\"browser\":\"none\",\"phase\":\"driver\",\"durationMs\":" +
+                    invocation.nanos / 1_000_000 + ",\"outcome\":\"\"");
+    }
+}
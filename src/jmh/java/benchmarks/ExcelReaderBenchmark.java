@@ -0,0 +1,90 @@
+package benchmarks;
+
+import constants.FrameworkConstants;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ExcelReader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExcelReaderBenchmark - Data provider loading on generated workbooks of varying size
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelReaderBenchmark {
+
+    private static final String SHEET = "Data";
+    private static final int COLUMNS = 6;
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private String fileName;
+
+    @Setup(Level.Trial)
+    public void generateWorkbook() throws IOException {
+        fileName = "jmh-bench-" + rows + ".xlsx";
+        FrameworkConstants.createDirectoryIfNotExists(FrameworkConstants.TEST_DATA_PATH);
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             FileOutputStream out = new FileOutputStream(
+                 FrameworkConstants.TEST_DATA_PATH + fileName)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < COLUMNS; c++) {
+                header.createCell(c).setCellValue("column" + c);
+            }
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                for (int c = 0; c < COLUMNS; c++) {
+                    if (c % 2 == 0) {
+                        row.createCell(c).setCellValue("value_" + r + "_" + c);
+                    } else {
+                        row.createCell(c).setCellValue(r * c);
+                    }
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteWorkbook() {
+        new File(FrameworkConstants.TEST_DATA_PATH + fileName).delete();
+    }
+
+    @Benchmark
+    public Object[][] getTestData() {
+        return ExcelReader.getTestData(fileName, SHEET);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getTestDataAsMap() {
+        return ExcelReader.getTestDataAsMap(fileName, SHEET);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import fake.FakeWebDriverServer;
+import grid.GridHttpClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GridClientBenchmark - Short remote sessions against a local stub hub
+ *
+ * Each operation opens a session on FakeWebDriverServer, runs a handful of
+ * typical commands and quits, from four threads at once. pooled=false gives
+ * every session its own HTTP client (Selenium's default behaviour),
+ * pooled=true shares one client per hub. hubLatencyMs adds a fixed delay to
+ * every command on the hub side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class GridClientBenchmark {
+
+    @Param({"true", "false"})
+    public boolean pooled;
+
+    @Param({"0", "2"})
+    public long hubLatencyMs;
+
+    private FakeWebDriverServer hub;
+    private GridHttpClientFactory factory;
+    private URL hubUrl;
+
+    @Setup(Level.Trial)
+    public void startHub() throws Exception {
+        hub = new FakeWebDriverServer(0, hubLatencyMs, 0, 0.0).start();
+        hubUrl = URI.create(hub.getUrl() + "/wd/hub").toURL();
+        factory = new GridHttpClientFactory(pooled);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopHub() {
+        factory.closeAll();
+        hub.stop();
+    }
+
+    @Benchmark
+    public String sessionWithCommands() {
+        HttpCommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(),
+            GridHttpClientFactory.clientConfig(hubUrl), factory);
+        RemoteWebDriver driver = new RemoteWebDriver(executor,
+            new MutableCapabilities(Map.of("browserName", "fake")));
+        try {
+            driver.get("https://www.saucedemo.com/");
+            driver.findElement(By.id("user-name")).sendKeys("standard_user");
+            driver.findElement(By.id("login-button")).isDisplayed();
+            driver.getScreenshotAs(OutputType.BASE64);
+            return driver.getTitle();
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.LogUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogUtilBenchmark - Cost of a LogUtil call (caller lookup + log4j dispatch)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogUtilBenchmark {
+
+    @Benchmark
+    public void info() {
+        LogUtil.info("benchmark message");
+    }
+
+    @Benchmark
+    public void debugBelowThreshold() {
+        // benchmarks package is not configured for debug -> measures the filtered path
+        LogUtil.debug("benchmark message");
+    }
+
+    @Benchmark
+    public void logStep() {
+        LogUtil.logStep("benchmark step");
+    }
+}
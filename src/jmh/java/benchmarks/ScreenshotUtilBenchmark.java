@@ -0,0 +1,54 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ScreenshotUtil;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScreenshotUtilBenchmark - File and Base64 screenshot paths with a stub driver
+ *
+ * Payload size approximates a compressed 1920x1080 page capture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreenshotUtilBenchmark {
+
+    @Param({"200000", "1000000"})
+    public int payloadBytes;
+
+    private StubDriver driver;
+
+    @Setup(Level.Trial)
+    public void createDriver() {
+        byte[] payload = new byte[payloadBytes];
+        new Random(42).nextBytes(payload);
+        driver = new StubDriver(payload);
+    }
+
+    @Benchmark
+    public String captureToFile() {
+        return ScreenshotUtil.captureScreenshot(driver, "jmh");
+    }
+
+    @Benchmark
+    public String captureBase64() {
+        return ScreenshotUtil.getBase64Screenshot(driver);
+    }
+}
@@ -0,0 +1,196 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * StubDriver - Zero-latency WebDriver used by the benchmarks
+ *
+ * Every lookup succeeds immediately with a visible, enabled element and
+ * screenshots return a fixed PNG payload, so benchmarks measure framework
+ * overhead only.
+ */
+public class StubDriver implements WebDriver, TakesScreenshot, JavascriptExecutor {
+
+    private final byte[] screenshot;
+    private final WebElement element = new StubElement();
+
+    public StubDriver(byte[] screenshot) {
+        this.screenshot = screenshot;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromPngBytes(screenshot);
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return "complete";
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.singletonList(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("main");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "main";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Always visible, always enabled element
+     */
+    private static class StubElement implements WebElement {
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return "";
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return this;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(10, 10);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(0, 0, 10, 10);
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
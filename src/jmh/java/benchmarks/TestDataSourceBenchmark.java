@@ -0,0 +1,178 @@
+package benchmarks;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.TestDataReader;
+import utils.TestDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataSourceBenchmark - Reading one data set as CSV, JSON and xlsx
+ *
+ * Each trial writes the same rows (6 columns: id, name, email, age, active,
+ * note; every 10th note quoted with a comma and quotes) in the chosen format
+ * to a temp file, then reads it from start to end per invocation:
+ *  allColumns  every value of every row
+ *  oneColumn   one value per row (CSV decodes only the fields asked for)
+ *  records     typed records through TestDataReader.records
+ * One million rows by default; -p rows=10000 for a quick run. ExcelReader
+ * (whole workbook in memory) is covered by ExcelReaderBenchmark up to 10,000
+ * rows - at a million it needs several GB of heap.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class TestDataSourceBenchmark {
+
+    private static final String[] COLUMNS = {"id", "name", "email", "age", "active", "note"};
+
+    public record Person(long id, String name, String email, int age, boolean active, String note) {
+    }
+
+    @Param({"csv", "json", "xlsx"})
+    public String format;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        file = Files.createTempFile("jmh-testdata-", "." + format);
+        switch (format) {
+            case "csv":
+                writeCsv();
+                break;
+            case "json":
+                writeJson();
+                break;
+            default:
+                writeXlsx();
+                break;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long allColumns(Blackhole blackhole) {
+        long count = 0;
+        try (TestDataSource source = TestDataSource.open(file.toString(), null)) {
+            int columns = source.getColumns().size();
+            while (source.next()) {
+                for (int column = 0; column < columns; column++) {
+                    blackhole.consume(source.get(column));
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long oneColumn(Blackhole blackhole) {
+        long count = 0;
+        try (TestDataSource source = TestDataSource.open(file.toString(), null)) {
+            while (source.next()) {
+                blackhole.consume(source.get(2));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long records(Blackhole blackhole) {
+        long count = 0;
+        Iterator<Object[]> records = TestDataReader.records(file.toString(), null, Person.class);
+        while (records.hasNext()) {
+            blackhole.consume(records.next());
+            count++;
+        }
+        return count;
+    }
+
+    // ==================== DATA ====================
+
+    private static String note(int row) {
+        return row % 10 == 0 ? "note, \"quoted\" " + row : "note " + row;
+    }
+
+    private void writeCsv() throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.join(",", COLUMNS));
+            out.write('\n');
+            for (int row = 1; row <= rows; row++) {
+                String note = note(row);
+                out.write(row + ",user" + row + ",user" + row + "@example.com," + (18 + row % 60) + "," +
+                          (row % 2 == 0) + "," +
+                          (note.indexOf(',') >= 0 ? "\"" + note.replace("\"", "\"\"") + "\"" : note) + "\n");
+            }
+        }
+    }
+
+    private void writeJson() throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("[\n");
+            for (int row = 1; row <= rows; row++) {
+                out.write("{\"id\":" + row + ",\"name\":\"user" + row + "\",\"email\":\"user" + row +
+                          "@example.com\",\"age\":" + (18 + row % 60) + ",\"active\":" + (row % 2 == 0) +
+                          ",\"note\":\"" + note(row).replace("\"", "\\\"") + "\"}" + (row < rows ? ",\n" : "\n"));
+            }
+            out.write("]\n");
+        }
+    }
+
+    private void writeXlsx() throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(file)) {
+            workbook.setCompressTempFiles(true);
+            Sheet sheet = workbook.createSheet("Data");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < COLUMNS.length; c++) {
+                header.createCell(c).setCellValue(COLUMNS[c]);
+            }
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue(r);
+                row.createCell(1).setCellValue("user" + r);
+                row.createCell(2).setCellValue("user" + r + "@example.com");
+                row.createCell(3).setCellValue(18 + r % 60);
+                row.createCell(4).setCellValue(r % 2 == 0);
+                row.createCell(5).setCellValue(note(r));
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+}
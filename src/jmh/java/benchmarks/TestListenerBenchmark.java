@@ -0,0 +1,133 @@
+package benchmarks;
+
+import com.aventstack.extentreports.ExtentReports;
+import listeners.TestListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testng.IClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestListenerBenchmark - Per-test listener callback cost (start + success)
+ *
+ * The report is an in-memory ExtentReports without reporters, recreated
+ * every iteration so the node list does not grow without bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestListenerBenchmark {
+
+    private final TestListener listener = new TestListener();
+    private ITestResult result;
+
+    @Setup(Level.Trial)
+    public void createResult() {
+        result = stubResult("benchmarkTest");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetReport() throws ReflectiveOperationException {
+        Field extent = TestListener.class.getDeclaredField("extent");
+        extent.setAccessible(true);
+        extent.set(null, new ExtentReports());
+    }
+
+    @Benchmark
+    public void startAndSucceed() {
+        listener.onTestStart(result);
+        listener.onTestSuccess(result);
+    }
+
+    /**
+     * Minimal ITestResult backed by dynamic proxies
+     */
+    static ITestResult stubResult(String methodName) {
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(
+            ITestNGMethod.class.getClassLoader(), new Class<?>[]{ITestNGMethod.class},
+            (proxy, m, args) -> {
+                switch (m.getName()) {
+                    case "getMethodName":
+                        return methodName;
+                    case "getGroups":
+                        return new String[0];
+                    default:
+                        return defaultValue(m.getReturnType());
+                }
+            });
+
+        // The listener reads the test class and the <test> parameters (browser target)
+        IClass testClass = (IClass) Proxy.newProxyInstance(
+            IClass.class.getClassLoader(), new Class<?>[]{IClass.class},
+            (proxy, m, args) -> "getRealClass".equals(m.getName()) ? TestListenerBenchmark.class
+                                                                   : defaultValue(m.getReturnType()));
+        XmlTest xmlTest = new XmlTest(new XmlSuite());
+        ITestContext context = (ITestContext) Proxy.newProxyInstance(
+            ITestContext.class.getClassLoader(), new Class<?>[]{ITestContext.class},
+            (proxy, m, args) -> "getCurrentXmlTest".equals(m.getName()) ? xmlTest
+                                                                        : defaultValue(m.getReturnType()));
+
+        long start = System.currentTimeMillis();
+        return (ITestResult) Proxy.newProxyInstance(
+            ITestResult.class.getClassLoader(), new Class<?>[]{ITestResult.class},
+            (proxy, m, args) -> {
+                switch (m.getName()) {
+                    case "getMethod":
+                        return method;
+                    case "getTestClass":
+                        return testClass;
+                    case "getTestContext":
+                        return context;
+                    case "getName":
+                        return methodName;
+                    case "getStatus":
+                        return ITestResult.SUCCESS;
+                    case "isSuccess":
+                        return true;
+                    case "getStartMillis":
+                        return start;
+                    case "getEndMillis":
+                        return start + 1;
+                    case "getParameters":
+                        return new Object[0];
+                    case "getAttribute":
+                        return null;
+                    default:
+                        return defaultValue(m.getReturnType());
+                }
+            });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import utils.WaitHelper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WaitHelperBenchmark - Explicit wait overhead when the condition is met on first poll
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WaitHelperBenchmark {
+
+    private static final By LOCATOR = By.id("login-button");
+
+    private WaitHelper waitHelper;
+
+    @Setup(Level.Trial)
+    public void createHelper() {
+        waitHelper = new WaitHelper(new StubDriver(new byte[0]));
+    }
+
+    @Benchmark
+    public WebElement waitForElementVisible() {
+        return waitHelper.waitForElementVisible(LOCATOR);
+    }
+
+    @Benchmark
+    public WebElement waitForElementClickable() {
+        return waitHelper.waitForElementClickable(LOCATOR);
+    }
+
+    @Benchmark
+    public void waitForPageLoad() {
+        waitHelper.waitForPageLoad();
+    }
+}
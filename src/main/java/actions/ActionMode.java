@@ -0,0 +1,74 @@
+package actions;
+
+import utils.ConfigReader;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * ActionMode - How action classes establish test preconditions
+ *
+ * Purpose: Let a test log in (or set up other state) through the UI, or
+ *          directly through the application's API and inject the result into
+ *          the browser, which skips the page interactions
+ *
+ * The mode comes from @SetupVia on the test method or class, else from
+ * action.mode. Tests of the UI flow itself (e.g. the login page) call the UI
+ * methods directly and are not affected.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public enum ActionMode {
+    UI,
+    API;
+
+    // Mode declared by the current thread's test (null = use config)
+    private static final ThreadLocal<ActionMode> declared = new ThreadLocal<>();
+
+    /**
+     * Mode from action.mode
+     * @return configured mode
+     */
+    public static ActionMode fromConfig() {
+        String mode = ConfigReader.getActionMode().trim().toUpperCase(Locale.ROOT);
+        try {
+            return valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid action.mode: " + ConfigReader.getActionMode() +
+                                            " (expected ui or api)");
+        }
+    }
+
+    /**
+     * Mode for the current thread's test
+     * @return mode declared by @SetupVia, else the configured mode
+     */
+    public static ActionMode current() {
+        ActionMode mode = declared.get();
+        return mode != null ? mode : fromConfig();
+    }
+
+    /**
+     * Apply the @SetupVia of a test method (or its class) to the current thread
+     * @param testMethod test about to run
+     */
+    public static void declareFor(Method testMethod) {
+        SetupVia setup = testMethod.getAnnotation(SetupVia.class);
+        if (setup == null) {
+            setup = testMethod.getDeclaringClass().getAnnotation(SetupVia.class);
+        }
+        if (setup != null) {
+            declared.set(setup.value());
+        } else {
+            declared.remove();
+        }
+    }
+
+    /**
+     * Forget the current thread's declared mode (call after each test)
+     */
+    public static void clear() {
+        declared.remove();
+    }
+}
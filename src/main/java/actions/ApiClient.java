@@ -0,0 +1,130 @@
+package actions;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ApiClient - Shared HTTP client for the application's API
+ *
+ * Purpose: Let action classes set up test state with direct API calls. All
+ *          tests and threads share one client (and its keep-alive connection
+ *          pool) per API URL instead of opening connections per call.
+ *
+ * Base URL is api.url; request paths are appended to it. Bodies are JSON.
+ * Clients are closed by shutdown() at suite end.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ApiClient {
+
+    private static final Json JSON = new Json();
+    private static final Map<URI, HttpClient> clients = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private ApiClient() {
+        throw new AssertionError("ApiClient class cannot be instantiated");
+    }
+
+    /**
+     * Check if an API URL is configured
+     * @return true if api.url is set
+     */
+    public static boolean isConfigured() {
+        return !ConfigReader.getApiUrl().trim().isEmpty();
+    }
+
+    /**
+     * POST a JSON body
+     * @param path path below api.url, e.g. /api/login
+     * @param body request body (serialized as JSON)
+     * @return response (any status)
+     */
+    public static HttpResponse post(String path, Map<String, Object> body) {
+        HttpRequest request = new HttpRequest(HttpMethod.POST, path);
+        request.addHeader("Content-Type", "application/json; charset=utf-8");
+        request.setContent(Contents.asJson(body));
+        return execute(request);
+    }
+
+    /**
+     * GET a path
+     * @param path path below api.url
+     * @return response (any status)
+     */
+    public static HttpResponse get(String path) {
+        return execute(new HttpRequest(HttpMethod.GET, path));
+    }
+
+    /**
+     * Response body as a JSON object
+     * @param response API response
+     * @return parsed object, empty if the body is empty or not an object
+     */
+    public static Map<String, Object> readJson(HttpResponse response) {
+        String text = Contents.string(response).trim();
+        if (text.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            Object value = JSON.toType(text, Object.class);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+            return map;
+        } catch (JsonException e) {
+            LogUtil.warn("API response is not JSON: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Close the shared clients (call once at suite end)
+     */
+    public static void shutdown() {
+        for (HttpClient client : clients.values()) {
+            try {
+                client.close();
+            } catch (RuntimeException e) {
+                LogUtil.debug("Could not close API client: " + e.getMessage());
+            }
+        }
+        clients.clear();
+    }
+
+    private static HttpResponse execute(HttpRequest request) {
+        if (!isConfigured()) {
+            throw new IllegalStateException("api.url is not set - cannot call " + request.getUri());
+        }
+        try {
+            return client().execute(request);
+        } catch (UncheckedIOException e) {
+            throw new IllegalStateException("API call " + request.getMethod() + " " + request.getUri() +
+                                            " failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static HttpClient client() {
+        String url = ConfigReader.getApiUrl().trim();
+        URI base = URI.create(url.endsWith("/") ? url.substring(0, url.length() - 1) : url);
+        return clients.computeIfAbsent(base, uri -> HttpClient.Factory.createDefault().createClient(
+            ClientConfig.defaultConfig()
+                .baseUri(uri)
+                .connectionTimeout(Duration.ofSeconds(ConfigReader.getApiTimeout()))
+                .readTimeout(Duration.ofSeconds(ConfigReader.getApiTimeout()))));
+    }
+}
@@ -0,0 +1,77 @@
+package actions;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.http.HttpResponse;
+import pages.HomePage;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ApiLogin - Log in through the application's API instead of the login page
+ *
+ * Purpose: Establish a logged-in browser for tests whose subject is not the
+ *          login itself: one HTTP call on the shared ApiClient, then the
+ *          session cookies are injected and the landing page opened
+ *
+ * Expects POST /api/login {"username", "password"} to answer 200 with
+ * {"cookies": {...}, "storage": {...}, "landing": "path"} and 401/403 for
+ * rejected credentials (see fake.FakeApiServer).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class ApiLogin {
+
+    static final String LOGIN_PATH = "/api/login";
+
+    private final WebDriver driver;
+
+    public ApiLogin(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Log in and open the landing page
+     * @param username user name
+     * @param password password
+     * @return true if the dashboard is displayed afterwards
+     */
+    @SuppressWarnings("unchecked")
+    public boolean login(String username, String password) {
+        LogUtil.info("Performing API login with username: " + username);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+
+        HttpResponse response = ApiClient.post(LOGIN_PATH, body);
+        int status = response.getStatus();
+        if (status == 401 || status == 403) {
+            LogUtil.info("API login rejected: " + ApiClient.readJson(response).get("error"));
+            return false;
+        }
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException("API login failed with HTTP " + status);
+        }
+
+        Map<String, Object> session = ApiClient.readJson(response);
+        Object cookies = session.get("cookies");
+        Object storage = session.get("storage");
+        BrowserState.inject(driver,
+                            cookies instanceof Map ? (Map<String, ?>) cookies : Collections.emptyMap(),
+                            storage instanceof Map ? (Map<String, ?>) storage : Collections.emptyMap());
+        Object landing = session.get("landing");
+        if (landing != null) {
+            driver.get(ConfigReader.getUrl() + landing);
+        } else {
+            driver.navigate().refresh();
+        }
+
+        boolean loginSuccess = new HomePage(driver).isDashboardDisplayed();
+        LogUtil.info("API login " + (loginSuccess ? "successful" : "failed"));
+        return loginSuccess;
+    }
+}
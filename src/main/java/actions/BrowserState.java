@@ -0,0 +1,58 @@
+package actions;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+
+import java.util.Map;
+
+/**
+ * BrowserState - Put state obtained through the API into the browser
+ *
+ * Purpose: Turn an API response (session cookies, local storage entries)
+ *          into the same browser state the UI flow would have produced
+ *
+ * Cookies and storage belong to an origin, so the browser is first moved to
+ * the application URL unless it is already there.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserState {
+
+    public static final String STORAGE_MARKER = "/* localStorage */";
+
+    private static final String SET_STORAGE = STORAGE_MARKER +
+        "var entries = arguments[0];" +
+        "Object.keys(entries).forEach(function (key) { window.localStorage.setItem(key, entries[key]); });";
+
+    // Private constructor to prevent instantiation
+    private BrowserState() {
+        throw new AssertionError("BrowserState class cannot be instantiated");
+    }
+
+    /**
+     * Add cookies and local storage entries for the application's origin
+     * @param driver browser to update
+     * @param cookies cookie name to value (may be empty)
+     * @param storage local storage key to value (may be empty)
+     */
+    public static void inject(WebDriver driver, Map<String, ?> cookies, Map<String, ?> storage) {
+        String appUrl = ConfigReader.getUrl();
+        String current = driver.getCurrentUrl();
+        if (current == null || !current.startsWith(originOf(appUrl))) {
+            driver.get(appUrl);
+        }
+        cookies.forEach((name, value) -> driver.manage().addCookie(new Cookie(name, String.valueOf(value))));
+        if (!storage.isEmpty() && driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeScript(SET_STORAGE, storage);
+        }
+    }
+
+    private static String originOf(String url) {
+        int scheme = url.indexOf("://");
+        int slash = scheme < 0 ? -1 : url.indexOf('/', scheme + 3);
+        return slash < 0 ? url : url.substring(0, slash);
+    }
+}
@@ -1,15 +1,22 @@
 package actions;
 
+import base.FillMode;
+import metrics.FrameworkMetrics;
 import org.openqa.selenium.WebDriver;
 import pages.*;
 import utils.LogUtil;
 
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * LoginAction - Business logic for login functionality
  * Combines multiple page actions into workflows
  */
 public class LoginAction {
     
+    private static final AtomicBoolean apiUnavailableWarned = new AtomicBoolean();
+    
     private WebDriver driver;
     private LoginPage loginPage;
     private HomePage homePage;
@@ -20,10 +27,42 @@ public class LoginAction {
         this.homePage = new HomePage(driver);
     }
     
+    /**
+     * Log in through the login page, typing the credentials like a user
+     * (tests of the login page itself)
+     * @return true if the dashboard is displayed afterwards
+     */
     public boolean performLogin(String username, String password) {
+        return loginThroughPage(username, password, FillMode.NATIVE);
+    }
+    
+    /**
+     * Log in as a test precondition - through the login page or the API,
+     * per ActionMode.current(). Tests of the login page itself use performLogin.
+     * @return true if the dashboard is displayed afterwards
+     */
+    public boolean login(String username, String password) {
+        ActionMode mode = ActionMode.current();
+        if (mode == ActionMode.API && !ApiClient.isConfigured()) {
+            if (apiUnavailableWarned.compareAndSet(false, true)) {
+                LogUtil.warn("API setup requested but api.url is not set - logging in through the UI");
+            }
+            mode = ActionMode.UI;
+        }
+        long start = System.nanoTime();
+        boolean loginSuccess = mode == ActionMode.API ? new ApiLogin(driver).login(username, password)
+                                                      : loginThroughPage(username, password, FillMode.fromConfig());
+        FrameworkMetrics.SETUP_ACTIONS.recordSince(start, "login", mode.name().toLowerCase(Locale.ROOT));
+        return loginSuccess;
+    }
+    
+    /**
+     * Fill and submit the login form
+     * @param mode how credentials are entered (script fill only for setup paths)
+     */
+    private boolean loginThroughPage(String username, String password, FillMode mode) {
         LogUtil.info("Performing login with username: " + username);
-        loginPage.enterUsername(username);
-        loginPage.enterPassword(password);
+        loginPage.enterCredentials(username, password, mode);
         loginPage.clickLoginButton();
         
         boolean loginSuccess = homePage.isDashboardDisplayed();
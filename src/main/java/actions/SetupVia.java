@@ -0,0 +1,23 @@
+package actions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * SetupVia - Choose how a test's preconditions are established
+ *
+ * On a test method or class; overrides action.mode for those tests:
+ *  @SetupVia(ActionMode.API)
+ *  public void testLogout() { new LoginAction(driver).login(user, password); ... }
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SetupVia {
+
+    ActionMode value();
+}
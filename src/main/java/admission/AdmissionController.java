@@ -0,0 +1,300 @@
+package admission;
+
+import metrics.FrameworkMetrics;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdmissionController - Adaptive limit on live drivers for local execution
+ *
+ * Purpose: Stop static thread counts from launching more browsers than the
+ *          machine can hold. DriverManager asks for admission before creating
+ *          a driver and blocks while the limit is reached. Remote execution
+ *          is not throttled (see isEnabled).
+ *
+ * Every admission.interval.ms the host is sampled (SystemSnapshot) and the
+ * limit adjusted, additive-increase / multiplicative-decrease:
+ *  - shrink by a quarter when available memory drops below
+ *    admission.memory.headroom.mb or load per core exceeds
+ *    admission.max.load.per.core
+ *  - grow by one when tests are waiting and memory for one more browser
+ *    (measured browser RSS per driver) plus headroom is available
+ * The limit stays within admission.min.drivers..admission.max.drivers.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class AdmissionController {
+
+    // Keep this many samples; older history is thinned to every second sample
+    private static final int MAX_HISTORY = 2000;
+
+    /**
+     * Controller state at one sampling point
+     */
+    public static final class Sample {
+        private final long timestamp;
+        private final int limit;
+        private final int active;
+        private final int waiting;
+        private final double loadPerCore;
+        private final long availableMemoryMb;
+        private final long browserRssMb;
+
+        private Sample(SystemSnapshot snapshot, int limit, int active, int waiting) {
+            this.timestamp = snapshot.getTimestamp();
+            this.limit = limit;
+            this.active = active;
+            this.waiting = waiting;
+            this.loadPerCore = snapshot.getLoadPerCore();
+            this.availableMemoryMb = snapshot.getAvailableMemoryMb();
+            this.browserRssMb = snapshot.getBrowserRssMb();
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getWaiting() {
+            return waiting;
+        }
+
+        public double getLoadPerCore() {
+            return loadPerCore;
+        }
+
+        public long getAvailableMemoryMb() {
+            return availableMemoryMb;
+        }
+
+        public long getBrowserRssMb() {
+            return browserRssMb;
+        }
+    }
+
+    private static final Object lock = new Object();
+    private static final List<Sample> history = new ArrayList<>();
+
+    private static volatile Boolean enabled;
+    private static ScheduledExecutorService sampler;
+    private static int limit;
+    private static int active;
+    private static int waiting;
+    private static long waitNanos;
+    private static double driverRssMb;
+
+    // Private constructor to prevent instantiation
+    private AdmissionController() {
+        throw new AssertionError("AdmissionController class cannot be instantiated");
+    }
+
+    /**
+     * Check if admission control is on (read once per run)
+     * Remote (Grid) sessions are never throttled: this host's CPU and memory
+     * say nothing about the Grid's capacity
+     * @return true if admission.enabled=true and browsers run locally
+     */
+    public static boolean isEnabled() {
+        Boolean value = enabled;
+        if (value == null) {
+            value = ConfigReader.isAdmissionEnabled();
+            if (value && ConfigReader.isRemoteExecution()) {
+                LogUtil.info("Admission control off for remote execution - the Grid limits its own sessions");
+                value = false;
+            }
+            enabled = value;
+        }
+        return value;
+    }
+
+    /**
+     * Block until another driver may be created
+     */
+    public static void acquire() {
+        if (!isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (lock) {
+            ensureStarted();
+            waiting++;
+            FrameworkMetrics.ADMISSION_WAITING.set(waiting);
+            try {
+                while (active >= limit) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for driver admission", e);
+            } finally {
+                waiting--;
+                FrameworkMetrics.ADMISSION_WAITING.set(waiting);
+            }
+            active++;
+            waitNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Take an admission only if one is free right now
+     * @return true if admitted (return it with release), false if the limit is reached
+     */
+    public static boolean tryAcquire() {
+        if (!isEnabled()) {
+            return true;
+        }
+        synchronized (lock) {
+            ensureStarted();
+            if (active >= limit) {
+                return false;
+            }
+            active++;
+            return true;
+        }
+    }
+
+    /**
+     * Return an admission taken by acquire or tryAcquire
+     */
+    public static void release() {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            if (active > 0) {
+                active--;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stop sampling (call once at suite end)
+     */
+    public static void stop() {
+        synchronized (lock) {
+            if (sampler != null) {
+                sampler.shutdownNow();
+                sampler = null;
+                LogUtil.info("Admission control stopped - final limit " + limit + ", total wait " +
+                             String.format(Locale.ROOT, "%.1f", waitNanos / 1_000_000_000.0) + "s");
+            }
+        }
+    }
+
+    public static int getLimit() {
+        synchronized (lock) {
+            return limit;
+        }
+    }
+
+    /**
+     * Total time tests spent waiting for admission
+     * @return wait time in milliseconds
+     */
+    public static long getTotalWaitMillis() {
+        synchronized (lock) {
+            return waitNanos / 1_000_000;
+        }
+    }
+
+    /**
+     * Limit, load and memory samples of this run
+     * @return copy of the history in time order
+     */
+    public static List<Sample> getHistory() {
+        synchronized (lock) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    // ==================== CONTROL LOOP ====================
+
+    private static void ensureStarted() {
+        if (sampler != null) {
+            return;
+        }
+        limit = ConfigReader.getAdmissionMinDrivers();
+        driverRssMb = ConfigReader.getAdmissionDriverMemory();
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "admission-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigReader.getAdmissionInterval();
+        sampler.scheduleWithFixedDelay(AdmissionController::sample, interval, interval,
+                                       TimeUnit.MILLISECONDS);
+        FrameworkMetrics.ADMISSION_LIMIT.set(limit);
+        LogUtil.info("Admission control started - initial limit " + limit + ", max " +
+                     ConfigReader.getAdmissionMaxDrivers());
+    }
+
+    private static void sample() {
+        try {
+            SystemSnapshot snapshot = SystemSnapshot.capture();
+            synchronized (lock) {
+                adjust(snapshot);
+            }
+        } catch (RuntimeException e) {
+            LogUtil.warn("Admission sampling failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * One control step (caller holds lock)
+     */
+    private static void adjust(SystemSnapshot snapshot) {
+        int min = ConfigReader.getAdmissionMinDrivers();
+        int max = ConfigReader.getAdmissionMaxDrivers();
+        long headroom = ConfigReader.getAdmissionMemoryHeadroom();
+        double maxLoad = ConfigReader.getAdmissionMaxLoadPerCore();
+
+        // Learn the real footprint per driver (smoothed)
+        if (snapshot.getBrowserRssMb() > 0 && active > 0) {
+            driverRssMb = 0.7 * driverRssMb + 0.3 * ((double) snapshot.getBrowserRssMb() / active);
+        }
+
+        long available = snapshot.getAvailableMemoryMb();
+        boolean memoryPressure = available >= 0 && available < headroom;
+        boolean cpuPressure = snapshot.getLoadPerCore() > maxLoad;
+        boolean roomForOneMore = available < 0 || available - headroom > driverRssMb;
+
+        int previous = limit;
+        if (memoryPressure || cpuPressure) {
+            limit = Math.max(min, Math.min(limit - 1, (int) Math.floor(limit * 0.75)));
+        } else if (waiting > 0 && roomForOneMore && snapshot.getLoadPerCore() < maxLoad * 0.8) {
+            limit = Math.min(max, limit + 1);
+        }
+
+        if (limit != previous) {
+            LogUtil.info(String.format(Locale.ROOT,
+                "Admission limit %d -> %d (active %d, waiting %d, load/core %.2f, available %d MB, " +
+                "browser RSS %d MB, ~%.0f MB/driver)", previous, limit, active, waiting,
+                snapshot.getLoadPerCore(), available, snapshot.getBrowserRssMb(), driverRssMb));
+            lock.notifyAll();
+        }
+        FrameworkMetrics.ADMISSION_LIMIT.set(limit);
+
+        if (history.size() >= MAX_HISTORY) {
+            for (int i = history.size() - 1; i > 0; i -= 2) {
+                history.remove(i);
+            }
+        }
+        history.add(new Sample(snapshot, limit, active, waiting));
+    }
+}
@@ -0,0 +1,98 @@
+package admission;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AdmissionReport - Concurrency-over-time chart for the Extent report
+ *
+ * Purpose: Show how the admission limit tracked load and memory, and how
+ *          long tests waited for a driver slot
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class AdmissionReport {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 160;
+
+    // Private constructor to prevent instantiation
+    private AdmissionReport() {
+        throw new AssertionError("AdmissionReport class cannot be instantiated");
+    }
+
+    /**
+     * Add the admission node to the report
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        List<AdmissionController.Sample> history = AdmissionController.getHistory();
+        if (extent == null || history.isEmpty()) {
+            return;
+        }
+
+        int maxDrivers = 1;
+        int minLimit = Integer.MAX_VALUE;
+        int maxLimit = 0;
+        double limitSum = 0;
+        for (AdmissionController.Sample sample : history) {
+            maxDrivers = Math.max(maxDrivers, Math.max(sample.getLimit(), sample.getActive()));
+            minLimit = Math.min(minLimit, sample.getLimit());
+            maxLimit = Math.max(maxLimit, sample.getLimit());
+            limitSum += sample.getLimit();
+        }
+        long start = history.get(0).getTimestamp();
+        long span = Math.max(1, history.get(history.size() - 1).getTimestamp() - start);
+
+        StringBuilder limitLine = new StringBuilder();
+        StringBuilder activeLine = new StringBuilder();
+        StringBuilder loadLine = new StringBuilder();
+        for (AdmissionController.Sample sample : history) {
+            double x = (sample.getTimestamp() - start) * (double) WIDTH / span;
+            limitLine.append(point(x, sample.getLimit(), maxDrivers));
+            activeLine.append(point(x, sample.getActive(), maxDrivers));
+            // Load per core drawn on the same axis, 1.0 = full height
+            loadLine.append(point(x, Math.min(1.0, sample.getLoadPerCore()) * maxDrivers, maxDrivers));
+        }
+
+        StringBuilder chart = new StringBuilder();
+        chart.append("<svg width='100%' viewBox='0 0 ").append(WIDTH).append(' ').append(HEIGHT)
+             .append("' preserveAspectRatio='none' style='background:#fafafa;border:1px solid #ddd'>")
+             .append(polyline(limitLine, "#29335c", 2))
+             .append(polyline(activeLine, "#a8c686", 2))
+             .append(polyline(loadLine, "#e4572e", 1))
+             .append("</svg>")
+             .append("<div style='font-size:11px'><span style='color:#29335c'>&#9632; limit</span> ")
+             .append("<span style='color:#a8c686'>&#9632; live drivers</span> ")
+             .append("<span style='color:#e4572e'>&#9632; load per core (top = 1.0)</span> ")
+             .append("&nbsp; y-axis max = ").append(maxDrivers).append(" drivers</div>");
+
+        AdmissionController.Sample last = history.get(history.size() - 1);
+        String summary = String.format(Locale.ROOT,
+            "Limit range %d-%d (mean %.1f), final %d. Tests waited %.1f s for admission. " +
+            "Last sample: load/core %.2f, available %d MB, browser RSS %d MB.",
+            minLimit, maxLimit, limitSum / history.size(), last.getLimit(),
+            AdmissionController.getTotalWaitMillis() / 1000.0, last.getLoadPerCore(),
+            last.getAvailableMemoryMb(), last.getBrowserRssMb());
+
+        ExtentTest node = extent.createTest("Admission Control",
+            "Adaptive driver concurrency over time");
+        node.assignCategory("Performance");
+        node.info(chart.toString());
+        node.info(summary);
+    }
+
+    private static String point(double x, double value, int max) {
+        double y = HEIGHT - 4 - value * (HEIGHT - 8) / max;
+        return String.format(Locale.ROOT, "%.1f,%.1f ", x, y);
+    }
+
+    private static String polyline(StringBuilder points, String color, int width) {
+        return "<polyline fill='none' stroke='" + color + "' stroke-width='" + width +
+               "' points='" + points.toString().trim() + "'/>";
+    }
+}
@@ -0,0 +1,178 @@
+package admission;
+
+import utils.LogUtil;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * SystemSnapshot - Point-in-time host load, memory and browser footprint
+ *
+ * On Linux everything comes from /proc: MemAvailable from /proc/meminfo,
+ * 1-minute load from /proc/loadavg and the resident set size of browser
+ * and driver processes from /proc/[pid]/status. Elsewhere the JVM's
+ * OperatingSystemMXBean is used and browser RSS is unknown (-1).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class SystemSnapshot {
+
+    // Process names (as in /proc/[pid]/status "Name:") counted as browser footprint
+    private static final String[] BROWSER_PROCESSES = {
+        "chrome", "chromedriver", "chrome_crashpad", "firefox", "firefox-bin", "geckodriver",
+        "GeckoMain", "Web Content", "WebExtensions", "Isolated Web Co", "msedge", "msedgedriver"
+    };
+
+    private static final Path PROC = Paths.get("/proc");
+
+    private final long timestamp;
+    private final int cores;
+    private final double loadAverage;
+    private final long availableMemoryMb;
+    private final long browserRssMb;
+    private final int browserProcesses;
+
+    private SystemSnapshot(int cores, double loadAverage, long availableMemoryMb,
+                           long browserRssMb, int browserProcesses) {
+        this.timestamp = System.currentTimeMillis();
+        this.cores = cores;
+        this.loadAverage = loadAverage;
+        this.availableMemoryMb = availableMemoryMb;
+        this.browserRssMb = browserRssMb;
+        this.browserProcesses = browserProcesses;
+    }
+
+    /**
+     * Sample the host now
+     * @return snapshot
+     */
+    public static SystemSnapshot capture() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (Files.isReadable(PROC.resolve("meminfo"))) {
+            try {
+                return captureProc(cores);
+            } catch (IOException | RuntimeException e) {
+                LogUtil.debug("Could not read /proc, using JVM metrics: " + e.getMessage());
+            }
+        }
+        return captureJvm(cores);
+    }
+
+    private static SystemSnapshot captureProc(int cores) throws IOException {
+        long availableKb = -1;
+        for (String line : Files.readAllLines(PROC.resolve("meminfo"), StandardCharsets.US_ASCII)) {
+            if (line.startsWith("MemAvailable:")) {
+                availableKb = parseKb(line);
+                break;
+            }
+        }
+        String loadavg = new String(Files.readAllBytes(PROC.resolve("loadavg")), StandardCharsets.US_ASCII);
+        double load = Double.parseDouble(loadavg.trim().split("\\s+")[0]);
+
+        long rssKb = 0;
+        int processes = 0;
+        try (DirectoryStream<Path> pids = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path pid : pids) {
+                long processRss = browserRssKb(pid.resolve("status"));
+                if (processRss >= 0) {
+                    rssKb += processRss;
+                    processes++;
+                }
+            }
+        }
+        return new SystemSnapshot(cores, load, availableKb / 1024, rssKb / 1024, processes);
+    }
+
+    /**
+     * RSS of a browser process
+     * @return RSS in kB, or -1 if the process is not a browser or has exited
+     */
+    private static long browserRssKb(Path status) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(status, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return -1; // process exited between listing and reading
+        }
+        if (lines.isEmpty() || !isBrowser(lines.get(0).substring("Name:".length()).trim())) {
+            return -1;
+        }
+        for (String line : lines) {
+            if (line.startsWith("VmRSS:")) {
+                return parseKb(line);
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isBrowser(String name) {
+        for (String browser : BROWSER_PROCESSES) {
+            if (name.equals(browser)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long parseKb(String line) {
+        String[] parts = line.trim().split("\\s+");
+        return Long.parseLong(parts[1]);
+    }
+
+    private static SystemSnapshot captureJvm(int cores) {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        long availableMb = -1;
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            availableMb = ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize() / (1024 * 1024);
+        }
+        return new SystemSnapshot(cores, os.getSystemLoadAverage(), availableMb, -1, 0);
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getCores() {
+        return cores;
+    }
+
+    /**
+     * 1-minute load average (negative if unavailable)
+     */
+    public double getLoadAverage() {
+        return loadAverage;
+    }
+
+    /**
+     * Load average divided by core count
+     */
+    public double getLoadPerCore() {
+        return loadAverage < 0 ? 0 : loadAverage / cores;
+    }
+
+    /**
+     * Memory available for new processes (-1 if unknown)
+     */
+    public long getAvailableMemoryMb() {
+        return availableMemoryMb;
+    }
+
+    /**
+     * Total RSS of browser and driver processes (-1 if unknown)
+     */
+    public long getBrowserRssMb() {
+        return browserRssMb;
+    }
+
+    public int getBrowserProcesses() {
+        return browserProcesses;
+    }
+}
@@ -1,9 +1,19 @@
 package base;
 
+import healing.LocatorHealer;
+import locators.Locator;
+import locators.LocatorCost;
+import metrics.FrameworkMetrics;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
+import utils.LogUtil;
 import utils.WaitHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 public class BasePage {
     
     protected WebDriver driver;
@@ -35,4 +45,89 @@ public class BasePage {
             return false;
         }
     }
+    
+    // Registered locators: same actions, with lookup time and failures recorded
+    // and broken locators healed (see LocatorHealer)
+    
+    protected void click(Locator locator) {
+        locator.lookup(() -> LocatorHealer.waitFor(driver, locator, WaitHelper::waitForElementClickable,
+                                                   waitHelper)).click();
+    }
+    
+    protected void type(Locator locator, String text) {
+        WebElement element = locator.lookup(() -> LocatorHealer.waitFor(driver, locator,
+                                                   WaitHelper::waitForElementVisible, waitHelper));
+        element.clear();
+        element.sendKeys(text);
+    }
+    
+    protected String getText(Locator locator) {
+        return locator.lookup(() -> LocatorHealer.waitFor(driver, locator, WaitHelper::waitForElementVisible,
+                                                          waitHelper)).getText();
+    }
+    
+    protected boolean isDisplayed(Locator locator) {
+        // Absence is an answer here, not a failed lookup - never healed
+        WebElement element = locator.lookup(() -> LocatorHealer.findNow(driver, locator));
+        return element != null && element.isDisplayed();
+    }
+    
+    /**
+     * Fill several fields, in one script call unless form.fill.mode=native
+     * @param values locator to value, in fill order (e.g. a LinkedHashMap)
+     */
+    protected void fillForm(Map<Locator, String> values) {
+        fillForm(values, FillMode.fromConfig());
+    }
+    
+    /**
+     * Fill several fields
+     * SCRIPT sets all values in one call and fires input/change events;
+     * fields it cannot set (missing, hidden, unsupported) are typed natively.
+     * NATIVE types every field (use when key events matter)
+     * @param values locator to value, in fill order (e.g. a LinkedHashMap)
+     * @param mode how to enter the values
+     */
+    protected void fillForm(Map<Locator, String> values, FillMode mode) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (mode == FillMode.NATIVE || !(driver instanceof JavascriptExecutor)) {
+            values.forEach(this::type);
+            FrameworkMetrics.FORM_FIELDS.add(values.size(), "native");
+            return;
+        }
+        
+        // One wait so the form is on the page before the script looks for fields
+        List<Locator> fields = new ArrayList<>(values.keySet());
+        Locator first = fields.get(0);
+        first.lookup(() -> LocatorHealer.waitFor(driver, first, WaitHelper::waitForElementVisible, waitHelper));
+        
+        List<List<String>> arguments = new ArrayList<>();
+        for (Locator field : fields) {
+            // Declared locator only; fields it misses are typed below, which can heal
+            String[] strategy = LocatorCost.strategy(field.by());
+            arguments.add(Arrays.asList(strategy[0], strategy[1], values.get(field)));
+        }
+        List<?> results;
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(FormScript.FILL, arguments);
+            results = result instanceof List ? (List<?>) result : null;
+        } catch (WebDriverException e) {
+            LogUtil.warn("Form fill script failed, typing fields instead: " + e.getMessage());
+            results = null;
+        }
+        
+        int fallbacks = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            Object failure = results != null && i < results.size() ? results.get(i) : "no result";
+            if (failure != null) {
+                LogUtil.debug("Typing " + fields.get(i).getKey() + " natively: " + failure);
+                type(fields.get(i), values.get(fields.get(i)));
+                fallbacks++;
+            }
+        }
+        FrameworkMetrics.FORM_FIELDS.add(fields.size() - fallbacks, "script");
+        FrameworkMetrics.FORM_FIELDS.add(fallbacks, "fallback");
+    }
 }
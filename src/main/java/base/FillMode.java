@@ -0,0 +1,26 @@
+package base;
+
+import utils.ConfigReader;
+
+/**
+ * FillMode - How BasePage.fillForm enters field values
+ *
+ * SCRIPT - all fields set in one script call, firing input and change events
+ *          (fields the script cannot set fall back to NATIVE)
+ * NATIVE - clear and sendKeys per field, real key events (full fidelity)
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public enum FillMode {
+    SCRIPT,
+    NATIVE;
+
+    /**
+     * Mode from form.fill.mode
+     * @return configured mode, SCRIPT if unknown
+     */
+    public static FillMode fromConfig() {
+        return "native".equalsIgnoreCase(ConfigReader.getFormFillMode()) ? NATIVE : SCRIPT;
+    }
+}
@@ -0,0 +1,63 @@
+package base;
+
+/**
+ * FormScript - Browser-side script behind BasePage.fillForm
+ *
+ * Argument: list of [strategy, selector, value] (W3C strategy names).
+ * Each field is located without waiting, and must be a visible, editable
+ * text-like input, textarea or select. Its value is set through the
+ * element prototype's native setter, so React's value tracking notices it.
+ * Bubbling input and change events are then dispatched.
+ * Returns one entry per field: null if set, otherwise why not
+ * (not found, not visible, not editable, unsupported element, no such
+ * option, invalid selector).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class FormScript {
+
+    public static final String FILL_MARKER = "/* fillForm */";
+
+    public static final String FILL = FILL_MARKER + "\n" + """
+        var fields = arguments[0], results = [];
+        var TEXT_TYPES = /^(text|password|email|search|tel|url|number|date|datetime-local|month|time|week|)$/i;
+        function find(using, selector) {
+          switch (using) {
+            case 'id': return document.getElementById(selector);
+            case 'name': return document.getElementsByName(selector)[0] || null;
+            case 'class name': return document.getElementsByClassName(selector)[0] || null;
+            case 'tag name': return document.getElementsByTagName(selector)[0] || null;
+            case 'css selector': return document.querySelector(selector);
+            case 'xpath':
+              return document.evaluate(selector, document, null,
+                                       XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            default: return null;
+          }
+        }
+        for (var i = 0; i < fields.length; i++) {
+          var el;
+          try { el = find(fields[i][0], fields[i][1]); } catch (e) { results.push('invalid selector'); continue; }
+          if (!el) { results.push('not found'); continue; }
+          if (!el.getClientRects().length) { results.push('not visible'); continue; }
+          if (el.disabled || el.readOnly) { results.push('not editable'); continue; }
+          var tag = el.tagName.toLowerCase(), proto = null;
+          if (tag === 'input' && TEXT_TYPES.test(el.getAttribute('type') || '')) proto = HTMLInputElement.prototype;
+          else if (tag === 'textarea') proto = HTMLTextAreaElement.prototype;
+          else if (tag === 'select') proto = HTMLSelectElement.prototype;
+          if (!proto) { results.push('unsupported element'); continue; }
+          el.focus();
+          Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, fields[i][2]);
+          if (tag === 'select' && el.value !== fields[i][2]) { results.push('no such option'); continue; }
+          el.dispatchEvent(new Event('input', {bubbles: true}));
+          el.dispatchEvent(new Event('change', {bubbles: true}));
+          results.push(null);
+        }
+        return results;
+        """;
+
+    // Private constructor to prevent instantiation
+    private FormScript() {
+        throw new AssertionError("FormScript class cannot be instantiated");
+    }
+}
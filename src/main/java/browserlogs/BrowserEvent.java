@@ -0,0 +1,127 @@
+package browserlogs;
+
+/**
+ * BrowserEvent - One console message, page error or network event of a session
+ *
+ * Only the fields the failure summary needs are kept (no headers or bodies),
+ * texts are truncated, so a full ring stays small.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserEvent {
+
+    /**
+     * Event kinds, in the order a request's events arrive
+     */
+    public enum Kind {
+        CONSOLE,
+        EXCEPTION,
+        LOG,
+        REQUEST,
+        RESPONSE,
+        FINISHED,
+        FAILED
+    }
+
+    static final int MAX_TEXT = 500;
+
+    private final Kind kind;
+    private final long time;
+    private final String requestId;
+    private final String level;
+    private final String method;
+    private final String url;
+    private final int status;
+    private final String text;
+    private final double monotonic;
+    private final long bytes;
+
+    // Position in the session's ring, set when published
+    volatile long sequence = -1;
+
+    BrowserEvent(Kind kind, long time, String requestId, String level, String method, String url, int status,
+                 String text, double monotonic, long bytes) {
+        this.kind = kind;
+        this.time = time;
+        this.requestId = requestId;
+        this.level = level;
+        this.method = method;
+        this.url = url;
+        this.status = status;
+        this.text = text == null || text.length() <= MAX_TEXT ? text : text.substring(0, MAX_TEXT) + "...";
+        this.monotonic = monotonic;
+        this.bytes = bytes;
+    }
+
+    static BrowserEvent console(Kind kind, String level, String text, String url) {
+        return new BrowserEvent(kind, System.currentTimeMillis(), null, level, null, url, 0, text, 0, 0);
+    }
+
+    static BrowserEvent network(Kind kind, String requestId, String method, String url, int status,
+                                String text, double monotonic, long bytes) {
+        return new BrowserEvent(kind, System.currentTimeMillis(), requestId, null, method, url, status, text,
+                                monotonic, bytes);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Time the event reached the framework (epoch millis)
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * CDP request id (network events only)
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Console or log level, e.g. error, warning (console events only)
+     */
+    public String getLevel() {
+        return level;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * HTTP status (responses only)
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Message, resource type (requests), status text (responses) or error text (failures)
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Browser monotonic clock in seconds (network events only)
+     */
+    public double getMonotonic() {
+        return monotonic;
+    }
+
+    /**
+     * Encoded bytes received (finished requests only)
+     */
+    public long getBytes() {
+        return bytes;
+    }
+}
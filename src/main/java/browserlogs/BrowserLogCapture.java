@@ -0,0 +1,224 @@
+package browserlogs;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * BrowserLogCapture - Console and network events of the current thread's session
+ *
+ * Purpose: Keep what the browser saw before a failure (console errors,
+ *          uncaught exceptions, failed or erroring requests) so the report
+ *          shows more than a screenshot and the Java stack trace
+ *
+ * DriverManager starts capture for new Chromium sessions when
+ * browser.logs.enabled=true: Runtime, Log and (browser.logs.network) Network
+ * events are subscribed through raw CDP commands, so no DevTools version
+ * binding is needed. Events arrive on the DevTools connection thread and go
+ * into a lock-free EventRing of browser.logs.capacity entries (one atomic
+ * increment per event, counted into metrics only at stop); test threads
+ * never wait on them. On failure summarize() turns the ring into a HarSummary;
+ * on quit the ring is simply dropped.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserLogCapture {
+
+    private static final Json JSON = new Json();
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP =
+        input -> input.read(Json.MAP_TYPE);
+
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+
+    /**
+     * Ring and DevTools connection of one driver
+     */
+    private static final class Session {
+        private final EventRing ring;
+        private final DevTools devTools;
+
+        private Session(EventRing ring, DevTools devTools) {
+            this.ring = ring;
+            this.devTools = devTools;
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private BrowserLogCapture() {
+        throw new AssertionError("BrowserLogCapture class cannot be instantiated");
+    }
+
+    /**
+     * Start capturing for the current thread's new driver
+     * No-op unless browser.logs.enabled=true and the driver speaks CDP
+     * @param driver undecorated driver (not a shared-browser context)
+     */
+    public static void start(WebDriver driver) {
+        stop();
+        if (!ConfigReader.isBrowserLogsEnabled()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            LogUtil.debug("Browser log capture needs a CDP session - not available for " +
+                          driver.getClass().getSimpleName());
+            return;
+        }
+        EventRing ring = new EventRing(ConfigReader.getBrowserLogsCapacity());
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            subscribe(devTools, ring, ConfigReader.isBrowserLogsNetwork());
+            current.set(new Session(ring, devTools));
+        } catch (WebDriverException e) {
+            LogUtil.warn("Could not start browser log capture: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Summary of the captured events (call when the test failed)
+     * @return summary, or null if nothing is being captured
+     */
+    public static HarSummary summarize() {
+        Session session = current.get();
+        return session == null ? null : HarSummary.of(session.ring.snapshot(), session.ring.getDropped());
+    }
+
+    /**
+     * Stop capturing and drop the events (call before quitting the driver)
+     */
+    public static void stop() {
+        Session session = current.get();
+        current.remove();
+        if (session == null) {
+            return;
+        }
+        long dropped = session.ring.getDropped();
+        FrameworkMetrics.BROWSER_EVENTS.add(session.ring.getRecorded() - dropped, "kept");
+        FrameworkMetrics.BROWSER_EVENTS.add(dropped, "dropped");
+        try {
+            session.devTools.clearListeners();
+            session.devTools.disconnectSession();
+        } catch (RuntimeException e) {
+            LogUtil.debug("Could not detach browser log capture: " + e.getMessage());
+        }
+    }
+
+    // ==================== CDP EVENTS ====================
+
+    private static void subscribe(DevTools devTools, EventRing ring, boolean network) {
+        devTools.send(new Command<>("Runtime.enable", Collections.emptyMap()));
+        devTools.send(new Command<>("Log.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<>("Runtime.consoleAPICalled", AS_MAP),
+                             params -> ring.offer(consoleEvent(params)));
+        devTools.addListener(new Event<>("Runtime.exceptionThrown", AS_MAP),
+                             params -> ring.offer(exceptionEvent(params)));
+        devTools.addListener(new Event<>("Log.entryAdded", AS_MAP),
+                             params -> ring.offer(logEvent(params)));
+        if (!network) {
+            return;
+        }
+        devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<>("Network.requestWillBeSent", AS_MAP), params -> {
+            Map<String, Object> request = map(params.get("request"));
+            ring.offer(BrowserEvent.network(BrowserEvent.Kind.REQUEST, string(params.get("requestId")),
+                string(request.get("method")), string(request.get("url")), 0, string(params.get("type")),
+                number(params.get("timestamp")), 0));
+        });
+        devTools.addListener(new Event<>("Network.responseReceived", AS_MAP), params -> {
+            Map<String, Object> response = map(params.get("response"));
+            ring.offer(BrowserEvent.network(BrowserEvent.Kind.RESPONSE, string(params.get("requestId")), null,
+                string(response.get("url")), (int) number(response.get("status")),
+                string(response.get("statusText")), number(params.get("timestamp")), 0));
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", AS_MAP), params ->
+            ring.offer(BrowserEvent.network(BrowserEvent.Kind.FINISHED, string(params.get("requestId")), null,
+                null, 0, null, number(params.get("timestamp")), (long) number(params.get("encodedDataLength")))));
+        devTools.addListener(new Event<>("Network.loadingFailed", AS_MAP), params ->
+            ring.offer(BrowserEvent.network(BrowserEvent.Kind.FAILED, string(params.get("requestId")), null,
+                null, 0, Boolean.TRUE.equals(params.get("canceled")) ? "canceled" : string(params.get("errorText")),
+                number(params.get("timestamp")), 0)));
+    }
+
+    /**
+     * Convert Runtime.consoleAPICalled parameters (public for benchmarks)
+     * @param params CDP event parameters
+     * @return console event
+     */
+    public static BrowserEvent consoleEvent(Map<String, Object> params) {
+        StringBuilder text = new StringBuilder();
+        Object args = params.get("args");
+        if (args instanceof List) {
+            for (Object arg : (List<?>) args) {
+                Map<String, Object> value = map(arg);
+                Object shown = value.containsKey("value") ? value.get("value") : value.get("description");
+                if (text.length() > 0) {
+                    text.append(' ');
+                }
+                // Objects arrive as previews in "description"; only nested values need JSON
+                text.append(shown instanceof Map || shown instanceof List ? JSON.toJson(shown) : shown);
+                if (text.length() > BrowserEvent.MAX_TEXT) {
+                    break;
+                }
+            }
+        }
+        return BrowserEvent.console(BrowserEvent.Kind.CONSOLE, level(string(params.get("type"))), text.toString(),
+                                    null);
+    }
+
+    static BrowserEvent exceptionEvent(Map<String, Object> params) {
+        Map<String, Object> details = map(params.get("exceptionDetails"));
+        Map<String, Object> exception = map(details.get("exception"));
+        String text = exception.get("description") != null ? string(exception.get("description"))
+                                                           : string(details.get("text"));
+        return BrowserEvent.console(BrowserEvent.Kind.EXCEPTION, "error", text, string(details.get("url")));
+    }
+
+    static BrowserEvent logEvent(Map<String, Object> params) {
+        Map<String, Object> entry = map(params.get("entry"));
+        return BrowserEvent.console(BrowserEvent.Kind.LOG, level(string(entry.get("level"))),
+                                    string(entry.get("text")), string(entry.get("url")));
+    }
+
+    /**
+     * Console API types (log, warning, assert...) as levels
+     */
+    private static String level(String type) {
+        switch (type) {
+            case "error":
+            case "assert":
+                return "error";
+            case "warning":
+            case "warn":
+                return "warning";
+            default:
+                return type.isEmpty() ? "info" : type;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
@@ -0,0 +1,84 @@
+package browserlogs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EventRing - Lock-free bounded buffer keeping a session's latest events
+ *
+ * Purpose: Let DevTools event threads record without locks or allocation
+ *          beyond the event itself; when full, the oldest events are
+ *          overwritten (the ones before a failure matter most)
+ * Thread-Safe: Yes (any number of writers; snapshot() while writing may miss
+ *          the events being written at that instant)
+ *
+ * A writer claims a sequence number with one atomic increment and publishes
+ * into slot (sequence mod capacity); capacity is rounded up to a power of two.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class EventRing {
+
+    private final AtomicReferenceArray<BrowserEvent> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * Create ring
+     * @param capacity minimum number of events kept
+     */
+    public EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Record an event, overwriting the oldest if the ring is full
+     * @param event event to record (not shared with another ring)
+     */
+    public void offer(BrowserEvent event) {
+        long sequence = next.getAndIncrement();
+        event.sequence = sequence;
+        slots.lazySet((int) (sequence & mask), event);
+    }
+
+    /**
+     * Events currently held, oldest first
+     * @return copy of the events
+     */
+    public List<BrowserEvent> snapshot() {
+        long end = next.get();
+        long start = Math.max(0, end - slots.length());
+        List<BrowserEvent> events = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            BrowserEvent event = slots.get((int) (sequence & mask));
+            // Skip slots not yet published or already overwritten by a later lap
+            if (event != null && event.sequence == sequence) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Events recorded since the ring was created
+     */
+    public long getRecorded() {
+        return next.get();
+    }
+
+    /**
+     * Events overwritten because the ring was full
+     */
+    public long getDropped() {
+        return Math.max(0, next.get() - slots.length());
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,240 @@
+package browserlogs;
+
+import constants.FrameworkConstants;
+import org.openqa.selenium.json.Json;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * HarSummary - Filtered, HAR-like view of a failed test's browser events
+ *
+ * Purpose: Show the requests that went wrong (HTTP 4xx/5xx, failed or
+ *          canceled loads) and the console errors and warnings before the
+ *          failure, as a report table and a JSON file
+ *
+ * The file follows HAR 1.2's log.entries shape (startedDateTime, time,
+ * request, response) with only the fields captured; console messages go to
+ * a "_console" array. browser.logs.filter=all keeps every request and
+ * message instead of the problems only.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class HarSummary {
+
+    private static final Json JSON = new Json();
+    private static final int HTML_ROWS = 20;
+
+    /**
+     * One request joined from its network events
+     */
+    private static final class Request {
+        private String method = "";
+        private String url = "";
+        private String type = "";
+        private int status;
+        private String statusText = "";
+        private String error;
+        private long startedAt;
+        private double start;
+        private double end;
+        private long bytes = -1;
+
+        private boolean isProblem() {
+            return status >= 400 || error != null;
+        }
+
+        private long millis() {
+            return start > 0 && end >= start ? Math.round((end - start) * 1000) : -1;
+        }
+    }
+
+    private final List<Request> requests;
+    private final List<BrowserEvent> console;
+    private final int requestCount;
+    private final long dropped;
+
+    private HarSummary(List<Request> requests, List<BrowserEvent> console, int requestCount, long dropped) {
+        this.requests = requests;
+        this.console = console;
+        this.requestCount = requestCount;
+        this.dropped = dropped;
+    }
+
+    /**
+     * Build the summary of a session's events
+     * @param events events, oldest first
+     * @param dropped events lost because the ring was full
+     * @return filtered summary
+     */
+    public static HarSummary of(List<BrowserEvent> events, long dropped) {
+        boolean all = "all".equalsIgnoreCase(ConfigReader.getBrowserLogsFilter());
+        Map<String, Request> byId = new LinkedHashMap<>();
+        List<BrowserEvent> console = new ArrayList<>();
+        for (BrowserEvent event : events) {
+            switch (event.getKind()) {
+                case REQUEST:
+                    Request request = byId.computeIfAbsent(event.getRequestId(), id -> new Request());
+                    request.method = event.getMethod();
+                    request.url = event.getUrl();
+                    request.type = event.getText();
+                    request.startedAt = event.getTime();
+                    request.start = event.getMonotonic();
+                    break;
+                case RESPONSE:
+                    Request responded = byId.computeIfAbsent(event.getRequestId(), id -> new Request());
+                    responded.status = event.getStatus();
+                    responded.statusText = event.getText();
+                    if (responded.url.isEmpty()) {
+                        responded.url = event.getUrl();
+                    }
+                    break;
+                case FINISHED:
+                    Request finished = byId.computeIfAbsent(event.getRequestId(), id -> new Request());
+                    finished.end = event.getMonotonic();
+                    finished.bytes = event.getBytes();
+                    break;
+                case FAILED:
+                    Request failed = byId.computeIfAbsent(event.getRequestId(), id -> new Request());
+                    failed.end = event.getMonotonic();
+                    failed.error = event.getText();
+                    break;
+                default:
+                    if (all || "error".equals(event.getLevel()) || "warning".equals(event.getLevel())) {
+                        console.add(event);
+                    }
+            }
+        }
+        List<Request> kept = new ArrayList<>();
+        for (Request request : byId.values()) {
+            if (all || request.isProblem()) {
+                kept.add(request);
+            }
+        }
+        return new HarSummary(kept, console, byId.size(), dropped);
+    }
+
+    /**
+     * Check if there is nothing worth reporting
+     * @return true if no request or message passed the filter
+     */
+    public boolean isEmpty() {
+        return requests.isEmpty() && console.isEmpty();
+    }
+
+    /**
+     * Write the summary as JSON
+     * @param testName name used for the file
+     * @return path of the file, or null if it could not be written
+     */
+    public String write(String testName) {
+        List<Object> entries = new ArrayList<>();
+        for (Request request : requests) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("startedDateTime", Instant.ofEpochMilli(request.startedAt).toString());
+            entry.put("time", request.millis());
+            Map<String, Object> httpRequest = new LinkedHashMap<>();
+            httpRequest.put("method", request.method);
+            httpRequest.put("url", request.url);
+            entry.put("request", httpRequest);
+            Map<String, Object> httpResponse = new LinkedHashMap<>();
+            httpResponse.put("status", request.status);
+            httpResponse.put("statusText", request.statusText);
+            httpResponse.put("bodySize", request.bytes);
+            entry.put("response", httpResponse);
+            entry.put("_resourceType", request.type);
+            if (request.error != null) {
+                entry.put("_error", request.error);
+            }
+            entries.add(entry);
+        }
+        List<Object> messages = new ArrayList<>();
+        for (BrowserEvent event : console) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("time", Instant.ofEpochMilli(event.getTime()).toString());
+            message.put("source", event.getKind().name().toLowerCase(Locale.ROOT));
+            message.put("level", event.getLevel());
+            message.put("text", event.getText());
+            if (event.getUrl() != null && !event.getUrl().isEmpty()) {
+                message.put("url", event.getUrl());
+            }
+            messages.add(message);
+        }
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Collections.singletonMap("name", "automation-framework"));
+        log.put("entries", entries);
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("log", log);
+        document.put("_console", messages);
+        document.put("_requestsSeen", requestCount);
+        document.put("_eventsDropped", dropped);
+
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        FrameworkConstants.createDirectoryIfNotExists(FrameworkConstants.BROWSER_LOGS_PATH);
+        File file = new File(FrameworkConstants.BROWSER_LOGS_PATH, testName + "_" + timestamp + ".har.json");
+        try {
+            Files.write(file.toPath(), JSON.toJson(document).getBytes(StandardCharsets.UTF_8));
+            return file.getPath();
+        } catch (IOException e) {
+            LogUtil.warn("Could not write browser log summary: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Report markup: problem requests and console messages (first rows of each)
+     * @return HTML tables
+     */
+    public String toHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<b>Browser logs</b>: ").append(requests.size()).append(" of ").append(requestCount)
+            .append(" request(s), ").append(console.size()).append(" console message(s)");
+        if (dropped > 0) {
+            html.append(", ").append(dropped).append(" older event(s) dropped");
+        }
+        if (!requests.isEmpty()) {
+            html.append("<table class='table table-sm'><thead><tr><th>Method</th><th>URL</th><th>Status</th>")
+                .append("<th>Time (ms)</th></tr></thead><tbody>");
+            for (Request request : requests.subList(Math.max(0, requests.size() - HTML_ROWS), requests.size())) {
+                html.append("<tr><td>").append(escape(request.method))
+                    .append("</td><td>").append(escape(request.url))
+                    .append("</td><td>").append(request.error != null ? escape(request.error)
+                                                                      : request.status + " " + escape(request.statusText))
+                    .append("</td><td>").append(request.millis() < 0 ? "" : String.valueOf(request.millis()))
+                    .append("</td></tr>");
+            }
+            html.append("</tbody></table>");
+        }
+        if (!console.isEmpty()) {
+            html.append("<table class='table table-sm'><thead><tr><th>Level</th><th>Source</th><th>Message</th>")
+                .append("</tr></thead><tbody>");
+            for (BrowserEvent event : console.subList(Math.max(0, console.size() - HTML_ROWS), console.size())) {
+                html.append("<tr><td>").append(escape(event.getLevel()))
+                    .append("</td><td>").append(event.getKind().name().toLowerCase(Locale.ROOT))
+                    .append("</td><td>").append(escape(event.getText()))
+                    .append("</td></tr>");
+            }
+            html.append("</tbody></table>");
+        }
+        return html.toString();
+    }
+
+    private static String escape(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
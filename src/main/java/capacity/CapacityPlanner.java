@@ -0,0 +1,253 @@
+package capacity;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import grid.GridHub;
+import grid.GridHubPool;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * CapacityPlanner - Sizes the Grid for a suite and checks it at run time
+ *
+ * Purpose: Tell how many nodes and sessions per node each browser needs to
+ *          finish in capacity.target.wall.sec, and warn when the suite's
+ *          parallelism exceeds what the Grid can actually run
+ *
+ * Expected durations come from DurationHistory. The required session count
+ * is the smallest one for which longest-first scheduling of the tests fits
+ * the target (or the longest test, if that alone exceeds it). Sessions are
+ * spread over nodes of at most capacity.node.max.sessions each.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class CapacityPlanner {
+
+    /**
+     * Tests and configured parallelism for one browser
+     */
+    public static final class Demand {
+        private final String browser;
+        private final List<String> tests = new ArrayList<>();
+        private int parallelism;
+
+        public Demand(String browser) {
+            this.browser = browser;
+        }
+
+        /**
+         * Add a test invocation
+         * @param testName Class.method
+         */
+        public void addTest(String testName) {
+            tests.add(testName);
+        }
+
+        /**
+         * Set the most sessions TestNG would open at once for this browser
+         * @param parallelism concurrent sessions
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public List<String> getTests() {
+            return tests;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+    }
+
+    private static volatile ScalingPlan lastPlan;
+
+    // Private constructor to prevent instantiation
+    private CapacityPlanner() {
+        throw new AssertionError("CapacityPlanner class cannot be instantiated");
+    }
+
+    /**
+     * Plan capacity with the configured target and node size
+     * @param demand tests per browser
+     * @return scaling plan (also kept for the report)
+     */
+    public static ScalingPlan plan(Map<String, Demand> demand) {
+        ScalingPlan plan = plan(demand, ConfigReader.getCapacityTargetWallTime() * 1000,
+                                ConfigReader.getCapacityNodeMaxSessions());
+        lastPlan = plan;
+        return plan;
+    }
+
+    /**
+     * Plan capacity
+     * @param demand tests per browser
+     * @param targetWallMillis time the suite should finish in
+     * @param maxSessionsPerNode most sessions one node should run
+     * @return scaling plan
+     */
+    public static ScalingPlan plan(Map<String, Demand> demand, long targetWallMillis, int maxSessionsPerNode) {
+        List<ScalingPlan.Entry> entries = new ArrayList<>();
+        for (Demand browserDemand : demand.values()) {
+            String browser = browserDemand.getBrowser();
+            List<Long> durations = new ArrayList<>();
+            int known = 0;
+            long work = 0;
+            for (String test : browserDemand.getTests()) {
+                long duration = DurationHistory.estimate(browser, test);
+                durations.add(duration);
+                work += duration;
+                if (DurationHistory.isKnown(browser, test)) {
+                    known++;
+                }
+            }
+            if (durations.isEmpty()) {
+                continue;
+            }
+            durations.sort(Collections.reverseOrder());
+            long longest = durations.get(0);
+
+            // Fewest sessions whose longest-first schedule fits the target
+            long target = Math.max(targetWallMillis, longest);
+            int sessions = (int) Math.max(1, Math.min(durations.size(), (work + target - 1) / target));
+            long makespan = makespan(durations, sessions);
+            while (makespan > target && sessions < durations.size()) {
+                sessions++;
+                makespan = makespan(durations, sessions);
+            }
+
+            int perNode = Math.max(1, maxSessionsPerNode);
+            int nodes = (sessions + perNode - 1) / perNode;
+            int sessionsPerNode = (sessions + nodes - 1) / nodes;
+            entries.add(new ScalingPlan.Entry(browser, durations.size(), known, work, longest, sessions,
+                                              nodes, sessionsPerNode, makespan, browserDemand.getParallelism()));
+        }
+        return new ScalingPlan(targetWallMillis, maxSessionsPerNode, entries);
+    }
+
+    /**
+     * Longest-first list scheduling on the given number of sessions
+     * @param durations durations sorted longest first
+     */
+    static long makespan(List<Long> durations, int sessions) {
+        PriorityQueue<Long> finish = new PriorityQueue<>();
+        for (int i = 0; i < sessions; i++) {
+            finish.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : durations) {
+            long end = finish.poll() + duration;
+            finish.add(end);
+            makespan = Math.max(makespan, end);
+        }
+        return makespan;
+    }
+
+    /**
+     * Compare the plan with the Grid's slots and warn about shortfalls
+     * (remote execution only)
+     * @param plan plan for this run
+     */
+    public static void checkGrid(ScalingPlan plan) {
+        if (!ConfigReader.isRemoteExecution()) {
+            return;
+        }
+        GridHubPool.checkHealth();
+        for (ScalingPlan.Entry entry : plan.getEntries()) {
+            int slots = 0;
+            for (GridHub hub : GridHubPool.getHubs()) {
+                int hubSlots = hub.isHealthy() ? hub.getSlots(entry.getBrowser()) : 0;
+                if (hubSlots < 0) {
+                    // Hub does not report nodes; capacity unknown
+                    slots = -1;
+                    break;
+                }
+                slots += hubSlots;
+            }
+            entry.setGridSlots(slots);
+            if (slots < 0) {
+                continue;
+            }
+            if (entry.getConfiguredParallelism() > slots) {
+                LogUtil.warn(String.format(Locale.ROOT,
+                    "Configured parallelism for %s is %d but the Grid offers %d slot(s) - %d session(s) " +
+                    "will queue. Scale with the generated grid-scale.env.",
+                    entry.getBrowser(), entry.getConfiguredParallelism(), slots,
+                    entry.getConfiguredParallelism() - slots));
+            }
+            if (entry.getRequiredSessions() > slots) {
+                LogUtil.warn(String.format(Locale.ROOT,
+                    "%s needs %d session(s) to finish in %d s but the Grid offers %d",
+                    entry.getBrowser(), entry.getRequiredSessions(), plan.getTargetWallMillis() / 1000, slots));
+            }
+        }
+    }
+
+    /**
+     * Plan of this run
+     * @return last plan, or null if none was made
+     */
+    public static ScalingPlan getLastPlan() {
+        return lastPlan;
+    }
+
+    /**
+     * Add the capacity node to the report
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        ScalingPlan plan = lastPlan;
+        if (extent == null || plan == null || plan.getEntries().isEmpty()) {
+            return;
+        }
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><thead><tr>")
+             .append("<th>Browser</th><th>Tests</th><th>Work (s)</th><th>Longest (s)</th>")
+             .append("<th>Sessions needed</th><th>Nodes x sessions</th><th>Est. wall (s)</th>")
+             .append("<th>Configured parallelism</th><th>Grid slots</th></tr></thead><tbody>");
+        boolean shortfall = false;
+        for (ScalingPlan.Entry entry : plan.getEntries()) {
+            int slots = entry.getGridSlots();
+            boolean shortOnSlots = slots >= 0 &&
+                Math.max(entry.getConfiguredParallelism(), entry.getRequiredSessions()) > slots;
+            shortfall |= shortOnSlots;
+            table.append("<tr><td>").append(entry.getBrowser()).append("</td>")
+                 .append("<td>").append(entry.getTests())
+                 .append(" (").append(entry.getKnownTests()).append(" with history)</td>")
+                 .append("<td>").append(seconds(entry.getWorkMillis())).append("</td>")
+                 .append("<td>").append(seconds(entry.getLongestMillis())).append("</td>")
+                 .append("<td>").append(entry.getRequiredSessions()).append("</td>")
+                 .append("<td>").append(entry.getNodes()).append(" x ").append(entry.getSessionsPerNode()).append("</td>")
+                 .append("<td>").append(seconds(entry.getEstimatedWallMillis())).append("</td>")
+                 .append("<td>").append(entry.getConfiguredParallelism()).append("</td>")
+                 .append("<td").append(shortOnSlots ? " style='color:#c00'>" : ">")
+                 .append(slots < 0 ? "-" : String.valueOf(slots)).append("</td></tr>");
+        }
+        table.append("</tbody></table>");
+
+        ExtentTest node = extent.createTest("Grid Capacity",
+            "Nodes needed to finish in " + plan.getTargetWallMillis() / 1000 + " s");
+        node.assignCategory("Performance");
+        node.info(table.toString());
+        if (shortfall) {
+            node.log(Status.WARNING, "Grid has fewer slots than the suite needs - apply grid-scale.env");
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.1f", millis / 1000.0);
+    }
+}
@@ -0,0 +1,139 @@
+package capacity;
+
+import constants.FrameworkConstants;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DurationHistory - Test durations carried over from previous runs
+ *
+ * Purpose: Let CapacityPlanner size the Grid from how long tests really take
+ *
+ * Durations are kept per browser and test ("chrome|LoginTest.testValidLogin")
+ * in FrameworkConstants.TEST_DURATIONS_PATH. Each run blends its observed
+ * duration into the stored value (exponential moving average, so one slow
+ * run does not dominate). Tests without history are estimated at
+ * capacity.default.test.sec.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class DurationHistory {
+
+    // Weight of the newest run in the stored average
+    private static final double NEW_RUN_WEIGHT = 0.5;
+
+    private static final Map<String, Long> observed = new ConcurrentHashMap<>();
+    private static volatile Properties history;
+
+    // Private constructor to prevent instantiation
+    private DurationHistory() {
+        throw new AssertionError("DurationHistory class cannot be instantiated");
+    }
+
+    /**
+     * Record a finished test of this run
+     * @param browser browser the test ran on
+     * @param testName Class.method
+     * @param millis duration
+     */
+    public static void record(String browser, String testName, long millis) {
+        observed.put(key(browser, testName), Math.max(0, millis));
+    }
+
+    /**
+     * Expected duration of a test
+     * @param browser browser
+     * @param testName Class.method
+     * @return duration from history, or the configured default
+     */
+    public static long estimate(String browser, String testName) {
+        String stored = load().getProperty(key(browser, testName));
+        if (stored != null) {
+            try {
+                return Long.parseLong(stored);
+            } catch (NumberFormatException e) {
+                LogUtil.debug("Ignoring bad duration history entry " + key(browser, testName));
+            }
+        }
+        return ConfigReader.getCapacityDefaultTestTime() * 1000;
+    }
+
+    /**
+     * Check if a test has recorded history
+     * @param browser browser
+     * @param testName Class.method
+     * @return true if known from previous runs
+     */
+    public static boolean isKnown(String browser, String testName) {
+        return load().getProperty(key(browser, testName)) != null;
+    }
+
+    /**
+     * Merge this run's durations into the history file (call once at suite end)
+     */
+    public static synchronized void save() {
+        if (observed.isEmpty()) {
+            return;
+        }
+        Properties merged = new Properties();
+        merged.putAll(load());
+        for (Map.Entry<String, Long> entry : observed.entrySet()) {
+            String previous = merged.getProperty(entry.getKey());
+            long value = entry.getValue();
+            if (previous != null) {
+                try {
+                    value = Math.round(NEW_RUN_WEIGHT * value + (1 - NEW_RUN_WEIGHT) * Long.parseLong(previous));
+                } catch (NumberFormatException e) {
+                    LogUtil.debug("Replacing bad duration history entry " + entry.getKey());
+                }
+            }
+            merged.setProperty(entry.getKey(), String.valueOf(value));
+        }
+
+        File file = new File(FrameworkConstants.TEST_DURATIONS_PATH);
+        FrameworkConstants.createDirectoryIfNotExists(file.getParent());
+        try (OutputStream out = new FileOutputStream(file)) {
+            merged.store(out, "Test durations in ms (browser|Class.method), used for Grid capacity planning");
+            history = merged;
+        } catch (IOException e) {
+            LogUtil.warn("Could not write test duration history: " + e.getMessage());
+        }
+    }
+
+    private static Properties load() {
+        Properties current = history;
+        if (current == null) {
+            synchronized (DurationHistory.class) {
+                current = history;
+                if (current == null) {
+                    current = new Properties();
+                    File file = new File(FrameworkConstants.TEST_DURATIONS_PATH);
+                    if (file.exists()) {
+                        try (InputStream in = new FileInputStream(file)) {
+                            current.load(in);
+                        } catch (IOException e) {
+                            LogUtil.warn("Could not read test duration history: " + e.getMessage());
+                        }
+                    }
+                    history = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String key(String browser, String testName) {
+        return browser + "|" + testName;
+    }
+}
@@ -0,0 +1,224 @@
+package capacity;
+
+import org.openqa.selenium.json.Json;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ScalingPlan - Grid node capacity needed to finish a suite in the target time
+ *
+ * One entry per browser. Written as:
+ *  - scaling-plan.json: full plan for a local orchestrator or CI script
+ *  - grid-scale.env: <BROWSER>_NODES / <BROWSER>_MAX_SESSIONS for
+ *    docker compose --env-file grid-scale.env up -d
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ScalingPlan {
+
+    // Browsers with a node service in docker-compose.yml
+    private static final String[] COMPOSE_BROWSERS = {"chrome", "firefox", "edge"};
+
+    /**
+     * Capacity for one browser
+     */
+    public static final class Entry {
+        private final String browser;
+        private final int tests;
+        private final int knownTests;
+        private final long workMillis;
+        private final long longestMillis;
+        private final int requiredSessions;
+        private final int nodes;
+        private final int sessionsPerNode;
+        private final long estimatedWallMillis;
+        private final int configuredParallelism;
+        private volatile int gridSlots = -1;
+
+        Entry(String browser, int tests, int knownTests, long workMillis, long longestMillis,
+              int requiredSessions, int nodes, int sessionsPerNode, long estimatedWallMillis,
+              int configuredParallelism) {
+            this.browser = browser;
+            this.tests = tests;
+            this.knownTests = knownTests;
+            this.workMillis = workMillis;
+            this.longestMillis = longestMillis;
+            this.requiredSessions = requiredSessions;
+            this.nodes = nodes;
+            this.sessionsPerNode = sessionsPerNode;
+            this.estimatedWallMillis = estimatedWallMillis;
+            this.configuredParallelism = configuredParallelism;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public int getTests() {
+            return tests;
+        }
+
+        /**
+         * Tests whose duration came from history rather than the default
+         */
+        public int getKnownTests() {
+            return knownTests;
+        }
+
+        /**
+         * Sum of expected test durations
+         */
+        public long getWorkMillis() {
+            return workMillis;
+        }
+
+        public long getLongestMillis() {
+            return longestMillis;
+        }
+
+        /**
+         * Concurrent sessions needed to meet the target wall time
+         */
+        public int getRequiredSessions() {
+            return requiredSessions;
+        }
+
+        public int getNodes() {
+            return nodes;
+        }
+
+        public int getSessionsPerNode() {
+            return sessionsPerNode;
+        }
+
+        /**
+         * Expected wall time with the required sessions
+         */
+        public long getEstimatedWallMillis() {
+            return estimatedWallMillis;
+        }
+
+        /**
+         * Most sessions the suite's TestNG settings would open at once
+         */
+        public int getConfiguredParallelism() {
+            return configuredParallelism;
+        }
+
+        /**
+         * Grid slots for this browser at suite start
+         * @return slots, or -1 if not checked / not reported
+         */
+        public int getGridSlots() {
+            return gridSlots;
+        }
+
+        void setGridSlots(int gridSlots) {
+            this.gridSlots = gridSlots;
+        }
+    }
+
+    private final long targetWallMillis;
+    private final int maxSessionsPerNode;
+    private final List<Entry> entries;
+
+    ScalingPlan(long targetWallMillis, int maxSessionsPerNode, List<Entry> entries) {
+        this.targetWallMillis = targetWallMillis;
+        this.maxSessionsPerNode = maxSessionsPerNode;
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    public long getTargetWallMillis() {
+        return targetWallMillis;
+    }
+
+    public int getMaxSessionsPerNode() {
+        return maxSessionsPerNode;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Compose variables for the browsers that have a node service
+     * @return env file content
+     */
+    public String toEnv() {
+        StringBuilder env = new StringBuilder();
+        env.append("# Generated by CapacityPlanner - apply with:\n")
+           .append("#   docker compose --env-file grid-scale.env up -d\n");
+        for (String browser : COMPOSE_BROWSERS) {
+            Entry entry = find(browser);
+            String prefix = browser.toUpperCase(Locale.ROOT);
+            env.append(prefix).append("_NODES=").append(entry == null ? 0 : entry.getNodes()).append('\n');
+            env.append(prefix).append("_MAX_SESSIONS=")
+               .append(entry == null ? 1 : entry.getSessionsPerNode()).append('\n');
+        }
+        return env.toString();
+    }
+
+    /**
+     * Full plan as JSON
+     * @return JSON document
+     */
+    public String toJson() {
+        List<Map<String, Object>> browsers = new ArrayList<>();
+        for (Entry entry : entries) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("browser", entry.getBrowser());
+            item.put("tests", entry.getTests());
+            item.put("testsWithHistory", entry.getKnownTests());
+            item.put("workSeconds", entry.getWorkMillis() / 1000.0);
+            item.put("longestTestSeconds", entry.getLongestMillis() / 1000.0);
+            item.put("requiredSessions", entry.getRequiredSessions());
+            item.put("nodes", entry.getNodes());
+            item.put("maxSessionsPerNode", entry.getSessionsPerNode());
+            item.put("estimatedWallSeconds", entry.getEstimatedWallMillis() / 1000.0);
+            item.put("configuredParallelism", entry.getConfiguredParallelism());
+            item.put("gridSlots", entry.getGridSlots());
+            browsers.add(item);
+        }
+        Map<String, Object> plan = new LinkedHashMap<>();
+        plan.put("targetWallSeconds", targetWallMillis / 1000.0);
+        plan.put("nodeMaxSessions", maxSessionsPerNode);
+        plan.put("browsers", browsers);
+        return new Json().toJson(plan);
+    }
+
+    /**
+     * Write scaling-plan.json and grid-scale.env
+     * @param directory output directory (created if missing)
+     */
+    public void write(String directory) {
+        File dir = new File(directory);
+        dir.mkdirs();
+        try {
+            Files.write(new File(dir, "scaling-plan.json").toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(new File(dir, "grid-scale.env").toPath(), toEnv().getBytes(StandardCharsets.UTF_8));
+            LogUtil.info("Grid scaling plan written to: " + dir.getPath());
+        } catch (IOException e) {
+            LogUtil.warn("Could not write Grid scaling plan: " + e.getMessage());
+        }
+    }
+
+    private Entry find(String browser) {
+        for (Entry entry : entries) {
+            if (entry.getBrowser().equals(browser)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
@@ -37,13 +37,32 @@ public final class FrameworkConstants {
     public static final String EXCEL_FILE_PATH = TEST_DATA_PATH + File.separator + "TestData.xlsx";
     public static final String JSON_FILE_PATH = TEST_DATA_PATH + File.separator + "TestData.json";
     
+    // ==================== BASELINE PATHS ====================
+    
+    public static final String BASELINE_PATH = RESOURCES_PATH + File.separator + "baseline";
+    public static final String PHASE_BASELINE_FILE = BASELINE_PATH + File.separator + "phase-timings.properties";
+    
     // ==================== OUTPUT PATHS ====================
     
-    public static final String OUTPUT_PATH = PROJECT_PATH + File.separator + "test-output";
+    // output.dir gives each forked worker JVM its own output tree (see launcher.ForkedLauncher)
+    public static final String OUTPUT_PATH = System.getProperty("output.dir", 
+                                                                PROJECT_PATH + File.separator + "test-output");
     public static final String SCREENSHOTS_PATH = OUTPUT_PATH + File.separator + "screenshots";
+    public static final String RECORDINGS_PATH = OUTPUT_PATH + File.separator + "recordings";
+    public static final String BROWSER_LOGS_PATH = OUTPUT_PATH + File.separator + "browser-logs";
+    public static final String RESULTS_PATH = OUTPUT_PATH + File.separator + "results";
+    public static final String WORKERS_PATH = OUTPUT_PATH + File.separator + "workers";
     public static final String REPORTS_PATH = OUTPUT_PATH + File.separator + "reports";
     public static final String EXTENT_REPORT_PATH = REPORTS_PATH + File.separator + "ExtentReport.html";
+    public static final String PHASE_TIMINGS_PATH = REPORTS_PATH + File.separator + "phase-timings.properties";
     public static final String LOGS_PATH = OUTPUT_PATH + File.separator + "logs";
+    public static final String METRICS_PATH = OUTPUT_PATH + File.separator + "metrics";
+    public static final String METRICS_FILE_PATH = METRICS_PATH + File.separator + "metrics.prom";
+    public static final String CAPACITY_PATH = OUTPUT_PATH + File.separator + "capacity";
+    public static final String TEST_DURATIONS_PATH = OUTPUT_PATH + File.separator + "history" + 
+                                                     File.separator + "test-durations.properties";
+    public static final String LOCATOR_HEALING_PATH = OUTPUT_PATH + File.separator + "history" + 
+                                                      File.separator + "locator-healing.json";
     
     // ==================== TIMEOUTS (in seconds) ====================
     
@@ -75,10 +94,44 @@ public final class FrameworkConstants {
     public static final boolean CAPTURE_SCREENSHOT_ON_PASS = false;
     public static final boolean CAPTURE_SCREENSHOT_ON_FAIL = true;
     
+    // ==================== FAILURE RECORDING SETTINGS ====================
+    
+    public static final boolean RECORDING_ENABLED = false;
+    public static final long RECORDING_INTERVAL_MS = 1000;
+    public static final int RECORDING_MAX_MB = 8; // per session
+    public static final double RECORDING_SCALE = 0.5;
+    
+    // ==================== BROWSER LOG SETTINGS ====================
+    
+    public static final boolean BROWSER_LOGS_ENABLED = false;
+    public static final int BROWSER_LOGS_CAPACITY = 1024; // events per session
+    public static final boolean BROWSER_LOGS_NETWORK = true;
+    public static final String BROWSER_LOGS_FILTER = "problems"; // problems or all
+    
+    // ==================== TEST LOG SETTINGS ====================
+    
+    public static final boolean TEST_LOG_ENABLED = true;
+    public static final int TEST_LOG_MAX_KB = 256; // per running test
+    
+    // ==================== SHARD RESULT SETTINGS ====================
+    
+    public static final String SHARD_ID = ""; // empty = host-pid
+    
+    // ==================== FORKED EXECUTION SETTINGS ====================
+    
+    public static final int FORK_WORKERS = 2;
+    public static final String FORK_WORKER_JVM_ARGS = "-Xmx512m";
+    public static final int FORK_TEST_TIMEOUT_SECONDS = 600; // worker silent longer = hung, restarted
+    public static final int FORK_MAX_ATTEMPTS = 2; // runs of a test whose worker crashed
+    public static final int FORK_MAX_RESTARTS = 3; // per worker slot
+    public static final boolean FORK_FAKE_GRID = false;
+    
     // ==================== LOGGING SETTINGS ====================
     
     public static final String LOG_FILE_NAME = "automation.log";
     public static final String LOG_FILE_PATH = LOGS_PATH + File.separator + LOG_FILE_NAME;
+    public static final String EVENT_LOG_FILE_NAME = "events.jsonl"; // written by log4j2.xml, see ExecutionEvents
+    public static final String EVENT_LOG_FILE_PATH = LOGS_PATH + File.separator + EVENT_LOG_FILE_NAME;
     
     // ==================== EXECUTION SETTINGS ====================
     
@@ -92,6 +145,92 @@ public final class FrameworkConstants {
     
     public static final String GRID_URL = "http://localhost:4444";
     public static final int PARALLEL_THREAD_COUNT = 5;
+    public static final String GRID_HUBS = ""; // url[;weight], empty = GRID_URL only
+    public static final String GRID_ROUTING = "least-loaded";
+    public static final long GRID_HEALTH_INTERVAL_SEC = 10;
+    public static final int GRID_BREAKER_FAILURES = 3;
+    public static final long GRID_BREAKER_OPEN_SEC = 30;
+    public static final boolean GRID_HTTP_POOLED = true;
+    public static final long GRID_HTTP_CONNECT_TIMEOUT_SEC = 10;
+    public static final long GRID_HTTP_READ_TIMEOUT_SEC = 180;
+    public static final boolean GRID_HTTP_GZIP = false;
+    
+    // ==================== BROWSER MATRIX SETTINGS ====================
+    
+    public static final boolean MATRIX_ENABLED = false;
+    public static final String MATRIX_BROWSERS = DEFAULT_BROWSER;
+    public static final String MATRIX_LIMITS = ""; // browser:limit, empty = unlimited
+    
+    // ==================== BROWSER ISOLATION SETTINGS ====================
+    
+    public static final String ISOLATION_MODE = "process"; // process or context
+    public static final int CONTEXTS_PER_BROWSER = 8;
+    
+    // ==================== ADMISSION CONTROL SETTINGS ====================
+    
+    public static final boolean ADMISSION_ENABLED = false;
+    public static final int ADMISSION_MIN_DRIVERS = 1;
+    public static final int ADMISSION_MAX_DRIVERS = 8;
+    public static final long ADMISSION_INTERVAL_MS = 2000;
+    public static final long ADMISSION_MEMORY_HEADROOM_MB = 1024;
+    public static final double ADMISSION_MAX_LOAD_PER_CORE = 1.5;
+    public static final long ADMISSION_DRIVER_MEMORY_MB = 400;
+    
+    // ==================== LEAK REAPER SETTINGS ====================
+    
+    public static final long REAPER_INTERVAL_SEC = 30;
+    public static final long REAPER_IDLE_TIMEOUT_SEC = 900;
+    
+    // ==================== BROWSER WARMUP SETTINGS ====================
+    
+    public static final int WARMUP_COUNT = 0;
+    public static final long WARMUP_STAGGER_MS = 500;
+    public static final long WARMUP_TIMEOUT_SEC = 120;
+    
+    // ==================== CAPACITY PLANNING SETTINGS ====================
+    
+    public static final long CAPACITY_TARGET_WALL_SEC = 600;
+    public static final long CAPACITY_DEFAULT_TEST_SEC = 30;
+    public static final int CAPACITY_NODE_MAX_SESSIONS = 4;
+    
+    // ==================== LOCATOR REGISTRY SETTINGS ====================
+    
+    public static final String LOCATOR_PACKAGES = "pages";
+    public static final boolean LOCATOR_PREFER_CSS = false;
+    public static final int LOCATOR_REPORT_TOP = 10;
+    
+    // ==================== ACTION SETUP SETTINGS ====================
+    
+    public static final String ACTION_MODE = "ui"; // ui or api
+    public static final String API_URL = "";
+    public static final long API_TIMEOUT_SEC = 10;
+    
+    // ==================== FORM FILL SETTINGS ====================
+    
+    public static final String FORM_FILL_MODE = "script"; // script or native
+    
+    // ==================== LOCATOR HEALING SETTINGS ====================
+    
+    public static final boolean HEALING_ENABLED = false;
+    public static final int HEALING_TIMEOUT_SEC = 3;
+    public static final double HEALING_MIN_SCORE = 0.7;
+    
+    // ==================== METRICS SETTINGS ====================
+    
+    public static final boolean METRICS_ENABLED = false;
+    public static final int METRICS_PORT = 9464;
+    public static final int METRICS_FILE_INTERVAL = 0; // seconds, 0 = disabled
+    public static final int PHASE_REGRESSION_THRESHOLD = 20; // percent over baseline mean
+    
+    // ==================== FAKE BROWSER SETTINGS ====================
+    
+    public static final long FAKE_LATENCY_MS = 0;
+    public static final long FAKE_LATENCY_JITTER_MS = 0;
+    public static final double FAKE_FAILURE_RATE = 0.0;
+    
+    // ==================== TEST DATA GENERATION SETTINGS ====================
+    
+    public static final String TESTDATA_SEED = ""; // empty = random seed per run (logged)
     
     // ==================== APPLICATION CONSTANTS ====================
     
@@ -100,6 +239,7 @@ public final class FrameworkConstants {
     public static final String CHROME = "chrome";
     public static final String FIREFOX = "firefox";
     public static final String EDGE = "edge";
+    public static final String FAKE = "fake";
     
     // ==================== UTILITY METHODS ====================
     
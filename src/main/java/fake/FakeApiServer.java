@@ -0,0 +1,169 @@
+package fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import utils.LogUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FakeApiServer - Local HTTP stand-in for the application's API
+ *
+ * Purpose: Exercise API-mode test setup (ActionMode.API) without the real
+ *          backend; accepts the same credentials as FakeApp's login form and
+ *          answers with the state a browser session needs
+ *
+ * Endpoints:
+ *  POST /api/login {"username": "...", "password": "..."}
+ *    200 {"cookies": {"session-username": "..."}, "storage": {}, "landing": "inventory.html"}
+ *    401 {"error": "Epic sadface: ..."}
+ *  GET /api/health
+ *    200 {"status": "ok", "requests": n}
+ *
+ * Standalone: java -cp ... fake.FakeApiServer 4600
+ * Then run the suite with -Dapi.url=http://localhost:4600
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeApiServer {
+
+    private static final Json JSON = new Json();
+
+    private final int port;
+    private final AtomicLong requests = new AtomicLong();
+    private HttpServer server;
+
+    /**
+     * Create server
+     * @param port port to listen on (0 = any free port)
+     */
+    public FakeApiServer(int port) {
+        this.port = port;
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4600;
+        new FakeApiServer(port).start();
+    }
+
+    /**
+     * Start listening
+     * @return this server
+     */
+    public FakeApiServer start() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start fake API server on port " + port, e);
+        }
+        server.createContext("/api/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "fake-api-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        LogUtil.info("Fake API server started: " + getUrl());
+        return this;
+    }
+
+    /**
+     * Stop listening
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Base URL to use as api.url
+     * @return e.g. http://localhost:4600
+     */
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Requests served so far (all endpoints)
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    // ==================== DISPATCH ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String endpoint = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        try {
+            switch (endpoint) {
+                case "POST /api/login":
+                    login(exchange, readBody(exchange));
+                    break;
+                case "GET /api/health":
+                    Map<String, Object> health = new LinkedHashMap<>();
+                    health.put("status", "ok");
+                    health.put("requests", requests.get());
+                    respond(exchange, 200, health);
+                    break;
+                default:
+                    respond(exchange, 404, Collections.singletonMap("error", "No endpoint " + endpoint));
+            }
+        } catch (JsonException | ClassCastException e) {
+            respond(exchange, 400, Collections.singletonMap("error", "Malformed request: " + e.getMessage()));
+        }
+    }
+
+    private static void login(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        String username = body.get("username") == null ? "" : String.valueOf(body.get("username"));
+        String password = body.get("password") == null ? "" : String.valueOf(body.get("password"));
+        String error = FakeApp.checkLogin(username, password);
+        if (error != null) {
+            respond(exchange, 401, Collections.singletonMap("error", error));
+            return;
+        }
+        Map<String, Object> session = new LinkedHashMap<>();
+        session.put("cookies", Collections.singletonMap(FakeApp.SESSION_COOKIE, username));
+        session.put("storage", Collections.emptyMap());
+        session.put("landing", FakeApp.getLandingPath());
+        respond(exchange, 200, session);
+    }
+
+    // ==================== HTTP HELPERS ====================
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (text.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return JSON.toType(text, Json.MAP_TYPE);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object payload) throws IOException {
+        byte[] bytes = JSON.toJson(payload).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
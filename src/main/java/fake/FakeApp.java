@@ -0,0 +1,214 @@
+package fake;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * FakeApp - Simulated application behind the fake browser
+ *
+ * Purpose: Serve element trees for the pages the suite visits and react to
+ *          clicks the way the application under test does. Ships with a
+ *          login and inventory page compatible with LoginPage and HomePage.
+ *
+ * Custom element trees can be registered per path:
+ *  FakeApp.definePage("cart.html", app -> FakeNode.of("html")...);
+ *
+ * One instance per fake browser session (holds URL, cookies, local storage,
+ * login state).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeApp {
+
+    public static final String SESSION_COOKIE = "session-username";
+
+    private static final String INVENTORY_PATH = "inventory.html";
+    private static final String PASSWORD = "secret_sauce";
+    private static final String[] USERS = {
+        "standard_user", "problem_user", "performance_glitch_user", "error_user", "visual_user"
+    };
+    private static final String LOCKED_USER = "locked_out_user";
+
+    private static final Map<String, Function<FakeApp, FakeNode>> pages = new ConcurrentHashMap<>();
+
+    static {
+        definePage("", FakeApp::buildLoginPage);
+        definePage(INVENTORY_PATH, FakeApp::buildInventoryPage);
+    }
+
+    private final Map<String, String> cookies = new ConcurrentHashMap<>();
+    private final Map<String, String> localStorage = new ConcurrentHashMap<>();
+    private volatile String url = "about:blank";
+    private volatile FakeNode document = FakeNode.of("html");
+    private String pendingError;
+
+    /**
+     * Register (or replace) the element tree served for a path
+     * @param path path after the origin, e.g. "" or "inventory.html"
+     * @param builder builds a fresh tree for each navigation
+     */
+    public static void definePage(String path, Function<FakeApp, FakeNode> builder) {
+        pages.put(path, builder);
+    }
+
+    // ==================== NAVIGATION ====================
+
+    public synchronized void navigate(String target) {
+        this.url = target;
+        String path = pathOf(target);
+
+        if (INVENTORY_PATH.equals(path) && !cookies.containsKey(SESSION_COOKIE)) {
+            pendingError = "Epic sadface: You can only access '/inventory.html' when you are logged in.";
+            this.url = originOf(target);
+            path = "";
+        }
+
+        Function<FakeApp, FakeNode> builder = pages.getOrDefault(path, pages.get(""));
+        this.document = builder.apply(this);
+        pendingError = null;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return "Swag Labs";
+    }
+
+    public FakeNode getDocument() {
+        return document;
+    }
+
+    public Map<String, String> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    // ==================== DEFAULT PAGES ====================
+
+    private FakeNode buildLoginPage() {
+        FakeNode username = FakeNode.of("input").attr("id", "user-name").attr("name", "user-name")
+            .attr("type", "text").attr("placeholder", "Username").attr("data-test", "username");
+        FakeNode password = FakeNode.of("input").attr("id", "password").attr("name", "password")
+            .attr("type", "password").attr("placeholder", "Password").attr("data-test", "password");
+
+        FakeNode errorContainer = FakeNode.of("div").attr("class", "error-message-container");
+        if (pendingError != null) {
+            showError(errorContainer, pendingError);
+        }
+
+        FakeNode loginButton = FakeNode.of("input").attr("id", "login-button").attr("name", "login-button")
+            .attr("type", "submit").attr("value", "Login").attr("class", "submit-button btn_action");
+        loginButton.onClick(() -> submitLogin(username.getValue(), password.getValue(), errorContainer));
+
+        return FakeNode.of("html").child(FakeNode.of("body").child(
+            FakeNode.of("div").attr("class", "login_wrapper")
+                .child(FakeNode.of("div").attr("class", "login_logo").text("Swag Labs"))
+                .child(FakeNode.of("form")
+                    .child(FakeNode.of("div").attr("class", "form_group").child(username))
+                    .child(FakeNode.of("div").attr("class", "form_group").child(password))
+                    .child(errorContainer)
+                    .child(loginButton))));
+    }
+
+    private FakeNode buildInventoryPage() {
+        FakeNode menu = FakeNode.of("nav").attr("class", "bm-item-list").hidden();
+        FakeNode logout = FakeNode.of("a").attr("id", "logout_sidebar_link")
+            .attr("class", "bm-item menu-item").attr("href", "#").text("Logout");
+        logout.onClick(() -> {
+            cookies.remove(SESSION_COOKIE);
+            navigate(originOf(url));
+        });
+        menu.child(FakeNode.of("a").attr("id", "inventory_sidebar_link").attr("href", "#")
+                       .text("All Items"))
+            .child(logout);
+
+        FakeNode burger = FakeNode.of("button").attr("id", "react-burger-menu-btn").text("Open Menu");
+        burger.onClick(() -> menu.setVisible(true));
+
+        return FakeNode.of("html").child(FakeNode.of("body").child(
+            FakeNode.of("div").attr("id", "page_wrapper").attr("class", "page_wrapper")
+                .child(FakeNode.of("div").attr("class", "primary_header")
+                    .child(FakeNode.of("div").attr("class", "bm-burger-button").child(burger))
+                    .child(FakeNode.of("div").attr("class", "app_logo").text("Swag Labs")))
+                .child(FakeNode.of("div").attr("class", "bm-menu-wrap").child(menu))
+                .child(FakeNode.of("div").attr("id", "inventory_container")
+                    .child(FakeNode.of("span").attr("class", "title").text("Products")))));
+    }
+
+    private void submitLogin(String username, String password, FakeNode errorContainer) {
+        String error = checkLogin(username, password);
+        if (error == null) {
+            cookies.put(SESSION_COOKIE, username);
+            navigate(originOf(url) + INVENTORY_PATH);
+        } else {
+            showError(errorContainer, error);
+        }
+    }
+
+    /**
+     * Validate credentials the way the login form does (also used by FakeApiServer)
+     * @return null if the login succeeds, else the error the page shows
+     */
+    static String checkLogin(String username, String password) {
+        if (username.isEmpty()) {
+            return "Epic sadface: Username is required";
+        } else if (password.isEmpty()) {
+            return "Epic sadface: Password is required";
+        } else if (LOCKED_USER.equals(username) && PASSWORD.equals(password)) {
+            return "Epic sadface: Sorry, this user has been locked out.";
+        } else if (isValidUser(username) && PASSWORD.equals(password)) {
+            return null;
+        }
+        return "Epic sadface: Username and password do not match any user in this service";
+    }
+
+    /**
+     * Page a logged-in user lands on, relative to the application URL
+     */
+    static String getLandingPath() {
+        return INVENTORY_PATH;
+    }
+
+    private static void showError(FakeNode container, String message) {
+        if (container.getChildren().isEmpty()) {
+            container.attr("class", "error-message-container error")
+                     .child(FakeNode.of("h3").attr("data-test", "error").text(message));
+        } else {
+            container.getChildren().get(0).text(message);
+        }
+    }
+
+    private static boolean isValidUser(String username) {
+        for (String user : USERS) {
+            if (user.equals(username)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== URL HELPERS ====================
+
+    private static String originOf(String target) {
+        int scheme = target.indexOf("://");
+        if (scheme < 0) {
+            return target;
+        }
+        int slash = target.indexOf('/', scheme + 3);
+        return slash < 0 ? target + "/" : target.substring(0, slash + 1);
+    }
+
+    private static String pathOf(String target) {
+        String origin = originOf(target);
+        String path = target.length() > origin.length() ? target.substring(origin.length()) : "";
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+}
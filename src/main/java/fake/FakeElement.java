@@ -0,0 +1,193 @@
+package fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * FakeElement - WebElement view of a FakeNode
+ *
+ * Every call goes through the owning driver's command simulation (latency,
+ * failure rate) and fails with StaleElementReferenceException once the node
+ * is no longer part of the current document.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeElement implements WebElement, WrapsDriver {
+
+    private final FakeWebDriver driver;
+    private final FakeNode node;
+
+    FakeElement(FakeWebDriver driver, FakeNode node) {
+        this.driver = driver;
+        this.node = node;
+    }
+
+    public FakeNode getNode() {
+        return node;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    private void command(String name) {
+        driver.command(name);
+        if (!node.isAttachedTo(driver.getApp().getDocument())) {
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM: " + node);
+        }
+    }
+
+    @Override
+    public void click() {
+        command("click");
+        if (!node.isDisplayed() || !node.isEnabled()) {
+            throw new ElementNotInteractableException("Element is not interactable: " + node);
+        }
+        node.click();
+    }
+
+    @Override
+    public void submit() {
+        command("submit");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        command("sendKeys");
+        if (!node.isDisplayed()) {
+            throw new ElementNotInteractableException("Element is not visible: " + node);
+        }
+        StringBuilder value = new StringBuilder(node.getValue());
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        node.setValue(value.toString());
+    }
+
+    @Override
+    public void clear() {
+        command("clear");
+        node.setValue("");
+    }
+
+    @Override
+    public String getTagName() {
+        command("getTagName");
+        return node.getTag();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        command("getAttribute");
+        return node.getAttribute(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        command("getDomAttribute");
+        return node.getAttributes().get(name);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        command("getDomProperty");
+        return node.getAttribute(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        command("isSelected");
+        return node.getAttribute("checked") != null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        command("isEnabled");
+        return node.isEnabled();
+    }
+
+    @Override
+    public String getText() {
+        command("getText");
+        return node.isDisplayed() ? node.getTextContent(true) : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command("findElements");
+        return driver.find(node, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command("findElement");
+        List<WebElement> elements = driver.find(node, by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        command("isDisplayed");
+        return node.isDisplayed();
+    }
+
+    @Override
+    public Point getLocation() {
+        command("getElementRect");
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        command("getElementRect");
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        command("getElementRect");
+        return new Rectangle(0, 0, 20, 100);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        command("getCssValue");
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return driver.getScreenshotAs(target);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FakeElement && ((FakeElement) other).node == node;
+    }
+
+    @Override
+    public int hashCode() {
+        return node.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[FakeElement " + node + "]";
+    }
+}
@@ -0,0 +1,206 @@
+package fake;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * FakeNode - Element in the in-memory DOM used by the fake browser
+ *
+ * Purpose: Minimal element tree (tag, attributes, text, children) that the
+ *          fake driver can query with the locators used by the page objects
+ *
+ * Usage:
+ *  FakeNode form = FakeNode.of("form")
+ *      .child(FakeNode.of("input").attr("id", "user-name"));
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeNode {
+
+    private final String id = UUID.randomUUID().toString();
+    private final String tag;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<FakeNode> children = new ArrayList<>();
+    private FakeNode parent;
+    private String text = "";
+    private String value = "";
+    private boolean visible = true;
+    private boolean enabled = true;
+    private Runnable onClick;
+
+    public FakeNode(String tag) {
+        this.tag = tag.toLowerCase();
+    }
+
+    public static FakeNode of(String tag) {
+        return new FakeNode(tag);
+    }
+
+    // ==================== BUILDER ====================
+
+    public FakeNode attr(String name, String attributeValue) {
+        attributes.put(name, attributeValue);
+        return this;
+    }
+
+    public FakeNode text(String nodeText) {
+        this.text = nodeText;
+        return this;
+    }
+
+    public FakeNode child(FakeNode node) {
+        node.parent = this;
+        children.add(node);
+        return this;
+    }
+
+    public FakeNode hidden() {
+        this.visible = false;
+        return this;
+    }
+
+    public FakeNode onClick(Runnable action) {
+        this.onClick = action;
+        return this;
+    }
+
+    // ==================== STATE ====================
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getAttribute(String name) {
+        if ("value".equals(name) && isFormControl()) {
+            return value;
+        }
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    public List<FakeNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public FakeNode getParent() {
+        return parent;
+    }
+
+    public String getOwnText() {
+        return text;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String newValue) {
+        this.value = newValue;
+    }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled && !attributes.containsKey("disabled");
+    }
+
+    /**
+     * Displayed when this node and all its ancestors are visible
+     */
+    public boolean isDisplayed() {
+        for (FakeNode node = this; node != null; node = node.parent) {
+            if (!node.visible) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isFormControl() {
+        return "input".equals(tag) || "textarea".equals(tag) || "select".equals(tag);
+    }
+
+    public void click() {
+        if (onClick != null) {
+            onClick.run();
+        }
+    }
+
+    /**
+     * Text content of this node and its descendants
+     * @param visibleOnly skip hidden subtrees (WebElement.getText semantics)
+     */
+    public String getTextContent(boolean visibleOnly) {
+        StringBuilder sb = new StringBuilder();
+        appendText(sb, visibleOnly);
+        return sb.toString().trim();
+    }
+
+    private void appendText(StringBuilder sb, boolean visibleOnly) {
+        if (visibleOnly && !visible) {
+            return;
+        }
+        if (!text.isEmpty()) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(text);
+        }
+        for (FakeNode child : children) {
+            child.appendText(sb, visibleOnly);
+        }
+    }
+
+    /**
+     * All descendants in document order (excluding this node)
+     */
+    public List<FakeNode> descendants() {
+        List<FakeNode> result = new ArrayList<>();
+        collect(result);
+        return result;
+    }
+
+    private void collect(List<FakeNode> result) {
+        for (FakeNode child : children) {
+            result.add(child);
+            child.collect(result);
+        }
+    }
+
+    /**
+     * Check whether this node is part of the tree rooted at root
+     */
+    public boolean isAttachedTo(FakeNode root) {
+        for (FakeNode node = this; node != null; node = node.parent) {
+            if (node == root) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("<").append(tag);
+        attributes.forEach((k, v) -> sb.append(' ').append(k).append("=\"").append(v).append('"'));
+        return sb.append('>').toString();
+    }
+}
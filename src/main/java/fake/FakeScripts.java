@@ -0,0 +1,274 @@
+package fake;
+
+import actions.BrowserState;
+import base.FormScript;
+import healing.HealingScripts;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.decorators.Decorated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * FakeScripts - Simulations of the framework's browser-side scripts
+ *
+ * Purpose: Run features built on executeScript (form fill, local storage,
+ *          locator healing) against the fake DOM; each handler mirrors its
+ *          script's documented result
+ *
+ * Registered with FakeWebDriver.registerScript by marker comment.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class FakeScripts {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][\\w-]*");
+    private static final Pattern BUTTON_TYPE = Pattern.compile("(?i)submit|button|reset");
+    private static final List<String> SELECTOR_ATTRIBUTES =
+        Arrays.asList("name", "data-test", "data-testid", "aria-label", "placeholder");
+
+    // Private constructor to prevent instantiation
+    private FakeScripts() {
+        throw new AssertionError("FakeScripts class cannot be instantiated");
+    }
+
+    static void registerAll() {
+        FakeWebDriver.registerScript(HealingScripts.FINGERPRINT_MARKER,
+            (driver, args) -> fingerprint(nodeOf(args[0])));
+        FakeWebDriver.registerScript(HealingScripts.HEAL_MARKER,
+            (driver, args) -> heal(driver.getApp().getDocument(), (Map<?, ?>) args[0],
+                                   ((Number) args[1]).doubleValue()));
+        FakeWebDriver.registerScript(FormScript.FILL_MARKER,
+            (driver, args) -> fillForm(driver.getApp().getDocument(), (List<?>) args[0]));
+        FakeWebDriver.registerScript(BrowserState.STORAGE_MARKER, (driver, args) -> {
+            ((Map<?, ?>) args[0]).forEach((key, value) ->
+                driver.getApp().getLocalStorage().put(String.valueOf(key), String.valueOf(value)));
+            return null;
+        });
+    }
+
+    /**
+     * Fake node behind a script argument (also through driver decorators)
+     */
+    static FakeNode nodeOf(Object element) {
+        Object current = element;
+        while (!(current instanceof FakeElement)) {
+            if (current instanceof Decorated) {
+                current = ((Decorated<?>) current).getOriginal();
+            } else if (current instanceof WrapsElement) {
+                current = ((WrapsElement) current).getWrappedElement();
+            } else {
+                throw new IllegalArgumentException("Not a fake element: " + element);
+            }
+        }
+        return ((FakeElement) current).getNode();
+    }
+
+    // ==================== FORM FILL ====================
+
+    static List<String> fillForm(FakeNode document, List<?> fields) {
+        List<String> results = new ArrayList<>();
+        for (Object field : fields) {
+            List<?> spec = (List<?>) field;
+            List<FakeNode> found;
+            try {
+                found = FakeSelector.find(document, String.valueOf(spec.get(0)), String.valueOf(spec.get(1)));
+            } catch (RuntimeException e) {
+                results.add("invalid selector");
+                continue;
+            }
+            if (found.isEmpty()) {
+                results.add("not found");
+            } else if (!found.get(0).isDisplayed()) {
+                results.add("not visible");
+            } else if (!found.get(0).isEnabled()) {
+                results.add("not editable");
+            } else if (!found.get(0).isFormControl()) {
+                results.add("unsupported element");
+            } else {
+                found.get(0).setValue(String.valueOf(spec.get(2)));
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    // ==================== LOCATOR HEALING ====================
+
+    static Map<String, Object> fingerprint(FakeNode node) {
+        Map<String, Object> fingerprint = new LinkedHashMap<>();
+        fingerprint.put("tag", node.getTag());
+        fingerprint.put("id", attribute(node, "id"));
+        fingerprint.put("name", attribute(node, "name"));
+        fingerprint.put("classes", classesOf(node));
+        fingerprint.put("text", textOf(node));
+        fingerprint.put("attributes", attributesOf(node));
+        fingerprint.put("path", pathOf(node));
+        return fingerprint;
+    }
+
+    static Map<String, Object> heal(FakeNode document, Map<?, ?> fingerprint, double minScore) {
+        String tag = String.valueOf(fingerprint.get("tag"));
+        List<FakeNode> candidates = new ArrayList<>();
+        if (document.getTag().equals(tag)) {
+            candidates.add(document);
+        }
+        for (FakeNode node : document.descendants()) {
+            if (node.getTag().equals(tag)) {
+                candidates.add(node);
+            }
+        }
+        FakeNode best = null;
+        double bestScore = 0;
+        for (FakeNode candidate : candidates) {
+            double score = score(candidate, fingerprint);
+            if (score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("score", bestScore);
+        result.put("selector", best != null && bestScore >= minScore ? selectorOf(document, best) : null);
+        return result;
+    }
+
+    private static double score(FakeNode node, Map<?, ?> fingerprint) {
+        double[] sums = new double[2];
+        String id = string(fingerprint.get("id"));
+        if (!id.isEmpty()) {
+            add(sums, 3, id.equals(attribute(node, "id")) ? 1 : 0);
+        }
+        String name = string(fingerprint.get("name"));
+        if (!name.isEmpty()) {
+            add(sums, 2, name.equals(attribute(node, "name")) ? 1 : 0);
+        }
+        String text = string(fingerprint.get("text"));
+        if (!text.isEmpty()) {
+            String own = textOf(node);
+            add(sums, 3, own.equals(text) ? 1
+                : !own.isEmpty() && (own.contains(text) || text.contains(own)) ? 0.5 : 0);
+        }
+        List<?> classes = fingerprint.get("classes") instanceof List ? (List<?>) fingerprint.get("classes")
+                                                                     : new ArrayList<>();
+        if (!classes.isEmpty()) {
+            List<String> own = classesOf(node);
+            int common = 0;
+            for (String c : own) {
+                if (classes.contains(c)) {
+                    common++;
+                }
+            }
+            add(sums, 2, (double) common / (own.size() + classes.size() - common));
+        }
+        if (fingerprint.get("attributes") instanceof Map) {
+            Map<String, String> own = attributesOf(node);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) fingerprint.get("attributes")).entrySet()) {
+                add(sums, 1, String.valueOf(entry.getValue()).equals(own.get(String.valueOf(entry.getKey()))) ? 1 : 0);
+            }
+        }
+        List<?> path = fingerprint.get("path") instanceof List ? (List<?>) fingerprint.get("path")
+                                                               : new ArrayList<>();
+        List<String> own = pathOf(node);
+        int shared = 0;
+        while (shared < own.size() && shared < path.size() &&
+               own.get(own.size() - 1 - shared).equals(String.valueOf(path.get(path.size() - 1 - shared)))) {
+            shared++;
+        }
+        add(sums, 2, (double) shared / Math.max(1, Math.max(own.size(), path.size())));
+        return sums[0] == 0 ? 0 : sums[1] / sums[0];
+    }
+
+    private static void add(double[] sums, double weight, double match) {
+        sums[0] += weight;
+        sums[1] += weight * match;
+    }
+
+    /**
+     * Unique selector the fake engine understands (no :nth-of-type, so
+     * class chains stand in for positions)
+     */
+    private static String selectorOf(FakeNode document, FakeNode node) {
+        String id = attribute(node, "id");
+        if (IDENTIFIER.matcher(id).matches() && unique(document, "#" + id)) {
+            return "#" + id;
+        }
+        for (String key : SELECTOR_ATTRIBUTES) {
+            String value = attribute(node, key);
+            String selector = node.getTag() + "[" + key + "='" + value + "']";
+            if (!value.isEmpty() && value.indexOf('\'') < 0 && unique(document, selector)) {
+                return selector;
+            }
+        }
+        List<String> parts = new ArrayList<>();
+        for (FakeNode current = node; current != null; current = current.getParent()) {
+            String currentId = attribute(current, "id");
+            if (current != node && IDENTIFIER.matcher(currentId).matches()) {
+                parts.add(0, "#" + currentId);
+                break;
+            }
+            StringBuilder part = new StringBuilder(current.getTag());
+            for (String c : classesOf(current)) {
+                if (IDENTIFIER.matcher(c).matches()) {
+                    part.append('.').append(c);
+                }
+            }
+            parts.add(0, part.toString());
+        }
+        String selector = String.join(" > ", parts);
+        return unique(document, selector) ? selector : null;
+    }
+
+    private static boolean unique(FakeNode document, String selector) {
+        return FakeSelector.find(document, "css selector", selector).size() == 1;
+    }
+
+    private static String textOf(FakeNode node) {
+        String text = node.getTextContent(true).replaceAll("\\s+", " ").trim();
+        return text.length() > 100 ? text.substring(0, 100) : text;
+    }
+
+    private static List<String> classesOf(FakeNode node) {
+        List<String> classes = new ArrayList<>();
+        for (String c : attribute(node, "class").trim().split("\\s+")) {
+            if (!c.isEmpty()) {
+                classes.add(c);
+            }
+        }
+        return classes;
+    }
+
+    private static List<String> pathOf(FakeNode node) {
+        List<String> path = new ArrayList<>();
+        for (FakeNode current = node; current != null; current = current.getParent()) {
+            path.add(0, current.getTag());
+        }
+        return path;
+    }
+
+    private static Map<String, String> attributesOf(FakeNode node) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        boolean buttonLike = BUTTON_TYPE.matcher(attribute(node, "type")).matches();
+        for (String name : HealingScripts.ATTRIBUTES) {
+            String value = attribute(node, name);
+            if (!value.isEmpty() && (!"value".equals(name) || buttonLike)) {
+                attributes.put(name, value);
+            }
+        }
+        return attributes;
+    }
+
+    private static String attribute(FakeNode node, String name) {
+        String value = node.getAttributes().get(name);
+        return value == null ? "" : value;
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,472 @@
+package fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FakeSelector - Locator engine for the fake DOM
+ *
+ * Supported strategies (W3C "using" names and legacy names):
+ *  - css selector: tag, *, #id, .class, [attr], [attr=v], [attr~=v], [attr*=v],
+ *                  [attr^=v], [attr$=v], descendant and child (&gt;) combinators,
+ *                  selector groups (a, b) and CSS escapes
+ *  - xpath: / and // steps, name or *, predicates [@a='v'], [text()='v'],
+ *           [contains(@a|text()|., 'v')], [@a], joined with "and"
+ *  - link text, partial link text, tag name, id, name, class name
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class FakeSelector {
+
+    // Private constructor to prevent instantiation
+    private FakeSelector() {
+        throw new AssertionError("FakeSelector class cannot be instantiated");
+    }
+
+    /**
+     * Translate a Selenium By into a (strategy, value) pair
+     * @param by locator
+     * @return array of {using, value}
+     */
+    public static String[] toStrategy(By by) {
+        String description = by.toString();
+        String[][] prefixes = {
+            {"By.id: ", "id"}, {"By.name: ", "name"}, {"By.className: ", "class name"},
+            {"By.tagName: ", "tag name"}, {"By.linkText: ", "link text"},
+            {"By.partialLinkText: ", "partial link text"}, {"By.cssSelector: ", "css selector"},
+            {"By.xpath: ", "xpath"}
+        };
+        for (String[] prefix : prefixes) {
+            if (description.startsWith(prefix[0])) {
+                return new String[]{prefix[1], description.substring(prefix[0].length())};
+            }
+        }
+        if (by instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+            return new String[]{parameters.using(), String.valueOf(parameters.value())};
+        }
+        throw new InvalidSelectorException("Unsupported locator for fake driver: " + by);
+    }
+
+    /**
+     * Find all matching nodes below the context node, in document order
+     * @param context search root (not itself a candidate, except for xpath ".")
+     * @param using strategy
+     * @param value selector value
+     * @return matching nodes
+     */
+    public static List<FakeNode> find(FakeNode context, String using, String value) {
+        switch (using) {
+            case "id":
+                return filter(context, n -> value.equals(n.getAttribute("id")));
+            case "name":
+                return filter(context, n -> value.equals(n.getAttribute("name")));
+            case "class name":
+                return filter(context, n -> hasWord(n.getAttribute("class"), value));
+            case "tag name":
+                return filter(context, n -> n.getTag().equalsIgnoreCase(value));
+            case "link text":
+                return filter(context, n -> "a".equals(n.getTag()) &&
+                                            value.equals(n.getTextContent(true)));
+            case "partial link text":
+                return filter(context, n -> "a".equals(n.getTag()) &&
+                                            n.getTextContent(true).contains(value));
+            case "css selector":
+                return css(context, value);
+            case "xpath":
+                return xpath(context, value);
+            default:
+                throw new InvalidSelectorException("Unsupported locator strategy: " + using);
+        }
+    }
+
+    private interface NodePredicate {
+        boolean test(FakeNode node);
+    }
+
+    private static List<FakeNode> filter(FakeNode context, NodePredicate predicate) {
+        List<FakeNode> result = new ArrayList<>();
+        for (FakeNode node : context.descendants()) {
+            if (predicate.test(node)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasWord(String attribute, String word) {
+        if (attribute == null) {
+            return false;
+        }
+        for (String part : attribute.trim().split("\\s+")) {
+            if (part.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== CSS ====================
+
+    /**
+     * One compound selector (tag + simple selectors) and the combinator that
+     * links it to the previous compound (' ' or '>')
+     */
+    private static final class Compound {
+        String tag = "*";
+        char combinator = ' ';
+        final List<String[]> conditions = new ArrayList<>(); // {kind, name, op, value}
+
+        boolean matches(FakeNode node) {
+            if (!"*".equals(tag) && !tag.equalsIgnoreCase(node.getTag())) {
+                return false;
+            }
+            for (String[] c : conditions) {
+                String actual = node.getAttribute(c[1]);
+                if ("id".equals(c[0]) && !c[3].equals(actual)) {
+                    return false;
+                }
+                if ("class".equals(c[0]) && !hasWord(actual, c[3])) {
+                    return false;
+                }
+                if ("attr".equals(c[0]) && !attributeMatches(actual, c[2], c[3])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static boolean attributeMatches(String actual, String op, String expected) {
+        if (actual == null) {
+            return false;
+        }
+        switch (op) {
+            case "":
+                return true;
+            case "=":
+                return actual.equals(expected);
+            case "~=":
+                return hasWord(actual, expected);
+            case "*=":
+                return actual.contains(expected);
+            case "^=":
+                return actual.startsWith(expected);
+            case "$=":
+                return actual.endsWith(expected);
+            default:
+                throw new InvalidSelectorException("Unsupported attribute operator: " + op);
+        }
+    }
+
+    private static List<FakeNode> css(FakeNode context, String selector) {
+        Set<FakeNode> matched = new LinkedHashSet<>();
+        List<List<Compound>> groups = parseCss(selector);
+        for (FakeNode node : context.descendants()) {
+            for (List<Compound> group : groups) {
+                if (matchesFromRight(node, group, group.size() - 1)) {
+                    matched.add(node);
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(matched);
+    }
+
+    private static boolean matchesFromRight(FakeNode node, List<Compound> chain, int index) {
+        Compound compound = chain.get(index);
+        if (!compound.matches(node)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        if (compound.combinator == '>') {
+            FakeNode parent = node.getParent();
+            return parent != null && matchesFromRight(parent, chain, index - 1);
+        }
+        for (FakeNode ancestor = node.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            if (matchesFromRight(ancestor, chain, index - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<List<Compound>> parseCss(String selector) {
+        List<List<Compound>> groups = new ArrayList<>();
+        List<Compound> chain = new ArrayList<>();
+        Compound current = null;
+        char pendingCombinator = ' ';
+        int i = 0;
+        int length = selector.length();
+
+        while (i < length) {
+            char c = selector.charAt(i);
+            if (Character.isWhitespace(c) || c == '>') {
+                if (c == '>') {
+                    pendingCombinator = '>';
+                }
+                if (current != null) {
+                    chain.add(current);
+                    current = null;
+                }
+                i++;
+                continue;
+            }
+            if (c == ',') {
+                if (current != null) {
+                    chain.add(current);
+                    current = null;
+                }
+                groups.add(chain);
+                chain = new ArrayList<>();
+                pendingCombinator = ' ';
+                i++;
+                continue;
+            }
+            if (current == null) {
+                current = new Compound();
+                current.combinator = pendingCombinator;
+                pendingCombinator = ' ';
+            }
+            if (c == '#' || c == '.') {
+                StringBuilder ident = new StringBuilder();
+                i = readIdent(selector, i + 1, ident);
+                current.conditions.add(new String[]{c == '#' ? "id" : "class",
+                                                    c == '#' ? "id" : "class", "=", ident.toString()});
+            } else if (c == '[') {
+                int end = selector.indexOf(']', i);
+                if (end < 0) {
+                    throw new InvalidSelectorException("Unclosed attribute selector: " + selector);
+                }
+                current.conditions.add(parseAttribute(selector.substring(i + 1, end)));
+                i = end + 1;
+            } else if (c == '*') {
+                current.tag = "*";
+                i++;
+            } else {
+                StringBuilder ident = new StringBuilder();
+                i = readIdent(selector, i, ident);
+                if (ident.length() == 0) {
+                    throw new InvalidSelectorException("Unsupported CSS selector: " + selector);
+                }
+                current.tag = ident.toString();
+            }
+        }
+        if (current != null) {
+            chain.add(current);
+        }
+        groups.add(chain);
+        for (List<Compound> group : groups) {
+            if (group.isEmpty()) {
+                throw new InvalidSelectorException("Empty CSS selector: " + selector);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Read a CSS identifier starting at index, resolving backslash escapes
+     * @return index after the identifier
+     */
+    private static int readIdent(String s, int index, StringBuilder out) {
+        int i = index;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                int hexEnd = i + 1;
+                while (hexEnd < s.length() && hexEnd < i + 7 &&
+                       Character.digit(s.charAt(hexEnd), 16) >= 0) {
+                    hexEnd++;
+                }
+                if (hexEnd > i + 1) {
+                    out.appendCodePoint(Integer.parseInt(s.substring(i + 1, hexEnd), 16));
+                    i = hexEnd;
+                    if (i < s.length() && s.charAt(i) == ' ') {
+                        i++;
+                    }
+                } else {
+                    out.append(s.charAt(i + 1));
+                    i += 2;
+                }
+            } else if (Character.isLetterOrDigit(c) || c == '-' || c == '_') {
+                out.append(c);
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static String[] parseAttribute(String body) {
+        String[] ops = {"~=", "*=", "^=", "$=", "="};
+        for (String op : ops) {
+            int at = body.indexOf(op);
+            if (at > 0) {
+                StringBuilder name = new StringBuilder();
+                readIdent(body.trim(), 0, name);
+                return new String[]{"attr", name.toString(), op, unquote(body.substring(at + op.length()).trim())};
+            }
+        }
+        StringBuilder name = new StringBuilder();
+        readIdent(body.trim(), 0, name);
+        return new String[]{"attr", name.toString(), "", ""};
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.charAt(0) == '\'' || value.charAt(0) == '"') &&
+            value.charAt(value.length() - 1) == value.charAt(0)) {
+            value = value.substring(1, value.length() - 1);
+        }
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                out.append(value.charAt(++i));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    // ==================== XPATH ====================
+
+    private static List<FakeNode> xpath(FakeNode context, String expression) {
+        String expr = expression.trim();
+        List<FakeNode> current = new ArrayList<>();
+        current.add(context);
+
+        if (expr.startsWith(".")) {
+            expr = expr.substring(1);
+        }
+        if (expr.isEmpty()) {
+            throw new InvalidSelectorException("Empty XPath: " + expression);
+        }
+
+        int i = 0;
+        while (i < expr.length()) {
+            boolean descendant;
+            if (expr.startsWith("//", i)) {
+                descendant = true;
+                i += 2;
+            } else if (expr.charAt(i) == '/') {
+                descendant = false;
+                i += 1;
+            } else if (i == 0) {
+                // relative path such as "div/h3"
+                descendant = false;
+            } else {
+                throw new InvalidSelectorException("Unsupported XPath: " + expression);
+            }
+
+            int stepEnd = findStepEnd(expr, i);
+            String step = expr.substring(i, stepEnd);
+            i = stepEnd;
+
+            String name = step;
+            List<String> predicates = new ArrayList<>();
+            int bracket = step.indexOf('[');
+            if (bracket >= 0) {
+                name = step.substring(0, bracket);
+                int depth = 0;
+                int start = -1;
+                for (int j = bracket; j < step.length(); j++) {
+                    char c = step.charAt(j);
+                    if (c == '[' && depth++ == 0) {
+                        start = j + 1;
+                    } else if (c == ']' && --depth == 0) {
+                        predicates.add(step.substring(start, j).trim());
+                    }
+                }
+            }
+
+            Set<FakeNode> next = new LinkedHashSet<>();
+            for (FakeNode node : current) {
+                List<FakeNode> candidates = descendant ? node.descendants() : node.getChildren();
+                for (FakeNode candidate : candidates) {
+                    if (("*".equals(name) || candidate.getTag().equalsIgnoreCase(name)) &&
+                        predicatesMatch(candidate, predicates, expression)) {
+                        next.add(candidate);
+                    }
+                }
+            }
+            current = new ArrayList<>(next);
+        }
+        return current;
+    }
+
+    private static int findStepEnd(String expr, int from) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = from; i < expr.length(); i++) {
+            char c = expr.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                return i;
+            }
+        }
+        return expr.length();
+    }
+
+    private static boolean predicatesMatch(FakeNode node, List<String> predicates, String expression) {
+        for (String predicate : predicates) {
+            for (String condition : predicate.split("\\s+and\\s+")) {
+                if (!conditionMatches(node, condition.trim(), expression)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean conditionMatches(FakeNode node, String condition, String expression) {
+        if (condition.startsWith("contains(") && condition.endsWith(")")) {
+            String args = condition.substring("contains(".length(), condition.length() - 1);
+            int comma = args.indexOf(',');
+            String subject = resolve(node, args.substring(0, comma).trim());
+            return subject != null && subject.contains(unquote(args.substring(comma + 1).trim()));
+        }
+        int eq = condition.indexOf('=');
+        if (eq > 0) {
+            String subject = resolve(node, condition.substring(0, eq).trim());
+            return unquote(condition.substring(eq + 1).trim()).equals(subject);
+        }
+        if (condition.startsWith("@")) {
+            return node.getAttribute(condition.substring(1)) != null;
+        }
+        throw new InvalidSelectorException("Unsupported XPath predicate [" + condition + "] in " +
+                                           expression);
+    }
+
+    private static String resolve(FakeNode node, String operand) {
+        if (operand.startsWith("@")) {
+            return node.getAttribute(operand.substring(1));
+        }
+        if ("text()".equals(operand)) {
+            return node.getOwnText();
+        }
+        if (".".equals(operand) || "normalize-space()".equals(operand) ||
+            "normalize-space(.)".equals(operand)) {
+            return node.getTextContent(false);
+        }
+        throw new InvalidSelectorException("Unsupported XPath operand: " + operand);
+    }
+}
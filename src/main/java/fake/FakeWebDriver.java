@@ -0,0 +1,419 @@
+package fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+import utils.ConfigReader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * FakeWebDriver - In-memory WebDriver for framework-level performance testing
+ *
+ * Purpose: Exercise BasePage, WaitHelper, actions, listeners and parallel
+ *          scheduling without launching a browser (browser=fake)
+ *
+ * Simulation settings (config.properties):
+ *  fake.latency.ms=0        fixed delay added to every command
+ *  fake.latency.jitter.ms=0 random extra delay (0..jitter) per command
+ *  fake.failure.rate=0.0    probability that a command throws WebDriverException
+ *
+ * The fake DOM is synchronous, so implicit waits are accepted but never needed.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    private static final Map<String, BiFunction<FakeWebDriver, Object[], Object>> scripts =
+        new ConcurrentHashMap<>();
+
+    private static final byte[] SCREENSHOT = renderScreenshot();
+
+    static {
+        FakeScripts.registerAll();
+    }
+
+    private final String sessionId = UUID.randomUUID().toString();
+    private final FakeApp app = new FakeApp();
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private volatile boolean quit;
+    private Dimension windowSize = new Dimension(1920, 1080);
+
+    /**
+     * Create fake driver using simulation settings from config
+     */
+    public FakeWebDriver() {
+        this(ConfigReader.getFakeLatency(), ConfigReader.getFakeLatencyJitter(),
+             ConfigReader.getFakeFailureRate());
+    }
+
+    /**
+     * Create fake driver with explicit simulation settings
+     * @param latencyMillis fixed delay per command
+     * @param jitterMillis random extra delay per command
+     * @param failureRate probability (0..1) that a command fails
+     */
+    public FakeWebDriver(long latencyMillis, long jitterMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+    }
+
+    /**
+     * Register a handler for scripts starting with the given marker
+     * (e.g. "/* fillForm *&#47;") so framework scripts can be simulated
+     * @param marker script prefix
+     * @param handler receives the driver and script arguments
+     */
+    public static void registerScript(String marker,
+                                      BiFunction<FakeWebDriver, Object[], Object> handler) {
+        scripts.put(marker, handler);
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public FakeApp getApp() {
+        return app;
+    }
+
+    /**
+     * Simulate command round-trip: check session, apply latency and failure rate
+     * @param name command name (used in the failure message)
+     */
+    void command(String name) {
+        if (quit) {
+            throw new NoSuchSessionException("Session " + sessionId + " was terminated");
+        }
+        long delay = latencyMillis;
+        if (jitterMillis > 0) {
+            delay += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted during " + name, e);
+            }
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new WebDriverException("Simulated failure in fake driver command: " + name);
+        }
+    }
+
+    // ==================== NAVIGATION ====================
+
+    @Override
+    public void get(String url) {
+        command("get");
+        app.navigate(url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command("getCurrentUrl");
+        return app.getUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        command("getTitle");
+        return app.getTitle();
+    }
+
+    @Override
+    public String getPageSource() {
+        command("getPageSource");
+        return app.getDocument().getTextContent(false);
+    }
+
+    // ==================== ELEMENTS ====================
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command("findElements");
+        return find(app.getDocument(), by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command("findElement");
+        List<WebElement> elements = find(app.getDocument(), by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return elements.get(0);
+    }
+
+    List<WebElement> find(FakeNode context, By by) {
+        String[] strategy = FakeSelector.toStrategy(by);
+        List<WebElement> elements = new ArrayList<>();
+        for (FakeNode node : FakeSelector.find(context, strategy[0], strategy[1])) {
+            elements.add(new FakeElement(this, node));
+        }
+        return elements;
+    }
+
+    // ==================== SCRIPTS & SCREENSHOTS ====================
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command("executeScript");
+        String trimmed = script.trim();
+        for (Map.Entry<String, BiFunction<FakeWebDriver, Object[], Object>> entry : scripts.entrySet()) {
+            if (trimmed.startsWith(entry.getKey())) {
+                return entry.getValue().apply(this, args);
+            }
+        }
+        if (trimmed.startsWith("/* isDisplayed */")) {
+            return ((WebElement) args[0]).isDisplayed();
+        }
+        if (trimmed.startsWith("/* getAttribute */")) {
+            return ((WebElement) args[0]).getAttribute(String.valueOf(args[1]));
+        }
+        if (trimmed.contains("document.readyState")) {
+            return "complete";
+        }
+        if (trimmed.contains("document.title")) {
+            return app.getTitle();
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command("getScreenshot");
+        return target.convertFromPngBytes(SCREENSHOT);
+    }
+
+    private static byte[] renderScreenshot() {
+        BufferedImage image = new BufferedImage(320, 180, BufferedImage.TYPE_INT_RGB);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== SESSION ====================
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        quit = true;
+    }
+
+    public boolean isQuit() {
+        return quit;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton(sessionId);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return sessionId;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("Frames and windows are not simulated by FakeWebDriver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new Navigation() {
+            @Override
+            public void back() {
+                command("back");
+            }
+
+            @Override
+            public void forward() {
+                command("forward");
+            }
+
+            @Override
+            public void to(String url) {
+                get(url);
+            }
+
+            @Override
+            public void to(URL url) {
+                get(url.toString());
+            }
+
+            @Override
+            public void refresh() {
+                get(app.getUrl());
+            }
+        };
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    /**
+     * Cookies, timeouts and window handling backed by the fake app
+     */
+    private class FakeOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            command("addCookie");
+            app.getCookies().put(cookie.getName(), cookie.getValue());
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command("deleteCookie");
+            app.getCookies().remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command("deleteAllCookies");
+            app.getCookies().clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command("getCookies");
+            Set<Cookie> cookies = new HashSet<>();
+            app.getCookies().forEach((name, value) -> cookies.add(new Cookie(name, value)));
+            return cookies;
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command("getCookie");
+            String value = app.getCookies().get(name);
+            return value == null ? null : new Cookie(name, value);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            // Selenium's Duration overloads delegate to these (still abstract) deprecated methods
+            return new Timeouts() {
+                @Deprecated
+                @Override
+                public Timeouts implicitlyWait(long time, TimeUnit unit) {
+                    command("setTimeouts");
+                    return this;
+                }
+
+                @Deprecated
+                @Override
+                public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+                    command("setTimeouts");
+                    return this;
+                }
+
+                @Deprecated
+                @Override
+                public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+                    command("setTimeouts");
+                    return this;
+                }
+            };
+        }
+
+        @Override
+        public Window window() {
+            return new Window() {
+                @Override
+                public Dimension getSize() {
+                    command("getWindowRect");
+                    return windowSize;
+                }
+
+                @Override
+                public void setSize(Dimension targetSize) {
+                    command("setWindowRect");
+                    windowSize = targetSize;
+                }
+
+                @Override
+                public Point getPosition() {
+                    command("getWindowRect");
+                    return new Point(0, 0);
+                }
+
+                @Override
+                public void setPosition(Point targetPosition) {
+                    command("setWindowRect");
+                }
+
+                @Override
+                public void maximize() {
+                    command("maximizeWindow");
+                }
+
+                @Override
+                public void minimize() {
+                    command("minimizeWindow");
+                }
+
+                @Override
+                public void fullscreen() {
+                    command("fullscreenWindow");
+                }
+            };
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("Logs are not simulated by FakeWebDriver");
+        }
+    }
+}
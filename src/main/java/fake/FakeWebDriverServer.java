@@ -0,0 +1,604 @@
+package fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FakeWebDriverServer - Local W3C WebDriver HTTP stand-in backed by FakeWebDriver
+ *
+ * Purpose: Run remote mode (execution.mode=remote) against a process-local
+ *          endpoint so RemoteWebDriver, HTTP overhead and Grid-facing code
+ *          can be load-tested without Selenium Grid or browsers
+ *
+ * Implements the subset of the W3C protocol the framework uses: sessions,
+ * navigation, timeouts, window, element lookup and interaction, scripts,
+ * screenshots and cookies. Paths are served with and without /wd/hub.
+ *
+ * withSlots() caps concurrent sessions and reports them in /status the way a
+ * Grid node does, so hub routing and failover can be tried with several
+ * local servers.
+ *
+ * Standalone: java -cp ... fake.FakeWebDriverServer 4444 [slots]
+ * Then run the suite with -Dexecution.mode=remote -Dgrid.url=http://localhost:4444
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class FakeWebDriverServer {
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+    private static final Json JSON = new Json();
+
+    private final int port;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private volatile int slots;
+    private volatile boolean rejectSessions;
+
+    /**
+     * Per-session state: the fake driver and the elements handed out to the client
+     */
+    private static final class Session {
+        private final FakeWebDriver driver;
+        private final Map<String, FakeElement> elements = new ConcurrentHashMap<>();
+
+        private Session(FakeWebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    /**
+     * Create server with simulation settings from config
+     * @param port port to listen on (0 = any free port)
+     */
+    public FakeWebDriverServer(int port) {
+        this(port, ConfigReader.getFakeLatency(), ConfigReader.getFakeLatencyJitter(),
+             ConfigReader.getFakeFailureRate());
+    }
+
+    /**
+     * Create server with explicit simulation settings
+     * @param port port to listen on (0 = any free port)
+     * @param latencyMillis fixed delay per command
+     * @param jitterMillis random extra delay per command
+     * @param failureRate probability (0..1) that a command fails
+     */
+    public FakeWebDriverServer(int port, long latencyMillis, long jitterMillis, double failureRate) {
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4444;
+        int slots = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        new FakeWebDriverServer(port).withSlots(slots).start();
+    }
+
+    /**
+     * Limit concurrent sessions like a Grid with one node of N slots
+     * /status then reports the node and its slots; new sessions beyond the
+     * limit fail with "session not created"
+     * @param slots maximum sessions (0 = unlimited, no nodes in /status)
+     * @return this server
+     */
+    public FakeWebDriverServer withSlots(int slots) {
+        this.slots = slots;
+        return this;
+    }
+
+    /**
+     * Make every new session request fail (simulates a broken hub that still
+     * answers /status)
+     * @param reject true to reject new sessions
+     */
+    public void setRejectSessions(boolean reject) {
+        this.rejectSessions = reject;
+    }
+
+    /**
+     * Start listening
+     * @return this server
+     */
+    public FakeWebDriverServer start() {
+        // Headers and body are written separately; without TCP_NODELAY every
+        // response stalls on delayed ACKs and keep-alive reuse becomes unreliable
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start fake WebDriver server on port " + port, e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "fake-webdriver-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        LogUtil.info("Fake WebDriver server started: " + getUrl());
+        return this;
+    }
+
+    /**
+     * Stop listening and drop all sessions
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        sessions.clear();
+    }
+
+    /**
+     * Base URL to use as grid.url
+     * @return e.g. http://localhost:4444
+     */
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    // ==================== DISPATCH ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.startsWith("/wd/hub")) {
+            path = path.substring("/wd/hub".length());
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+
+        String method = exchange.getRequestMethod();
+        Map<String, Object> body = readBody(exchange);
+
+        try {
+            Object value = route(method, segments, body);
+            respond(exchange, 200, Collections.singletonMap("value", value));
+        } catch (SessionNotCreatedException e) {
+            error(exchange, 500, "session not created", e);
+        } catch (NoSuchSessionException e) {
+            error(exchange, 404, "invalid session id", e);
+        } catch (NoSuchElementException e) {
+            error(exchange, 404, "no such element", e);
+        } catch (StaleElementReferenceException e) {
+            error(exchange, 404, "stale element reference", e);
+        } catch (ElementNotInteractableException e) {
+            error(exchange, 400, "element not interactable", e);
+        } catch (InvalidSelectorException e) {
+            error(exchange, 400, "invalid selector", e);
+        } catch (UnsupportedOperationException e) {
+            error(exchange, 404, "unknown command", e);
+        } catch (RuntimeException e) {
+            error(exchange, 500, "unknown error", e);
+        }
+    }
+
+    private Object route(String method, List<String> s, Map<String, Object> body) {
+        if (s.size() == 1 && "status".equals(s.get(0))) {
+            return status();
+        }
+        if (s.isEmpty() || !"session".equals(s.get(0))) {
+            throw new UnsupportedOperationException(method + " /" + String.join("/", s));
+        }
+        if (s.size() == 1 && "POST".equals(method)) {
+            return newSession(body);
+        }
+
+        Session session = sessions.get(s.get(1));
+        if (session == null) {
+            throw new NoSuchSessionException("No active session with id " + s.get(1));
+        }
+        FakeWebDriver driver = session.driver;
+        String command = s.size() > 2 ? s.get(2) : "";
+        String endpoint = method + " " + command;
+
+        switch (endpoint) {
+            case "DELETE ":
+                driver.quit();
+                sessions.remove(s.get(1));
+                return null;
+            case "POST url":
+                driver.get(String.valueOf(body.get("url")));
+                return null;
+            case "GET url":
+                return driver.getCurrentUrl();
+            case "GET title":
+                return driver.getTitle();
+            case "GET source":
+                return driver.getPageSource();
+            case "POST timeouts":
+                driver.manage().timeouts();
+                return null;
+            case "GET timeouts":
+                Map<String, Object> timeouts = new LinkedHashMap<>();
+                timeouts.put("implicit", 0);
+                timeouts.put("pageLoad", 300000);
+                timeouts.put("script", 30000);
+                return timeouts;
+            case "GET window":
+                return driver.getWindowHandle();
+            case "POST window":
+            case "DELETE window":
+                return driver.getWindowHandle();
+            case "GET screenshot":
+                return driver.getScreenshotAs(OutputType.BASE64);
+            case "POST execute":
+                return executeScript(session, body);
+            case "POST element":
+                if (s.size() == 3) {
+                    return reference(session, find(session, driver.getApp().getDocument(), body, true).get(0));
+                }
+                return elementCommand(session, method, s, body);
+            case "POST elements":
+                return references(session, find(session, driver.getApp().getDocument(), body, false));
+            case "GET element":
+                return elementCommand(session, method, s, body);
+            case "GET cookie":
+                return cookies(driver, s);
+            case "POST cookie":
+                Map<?, ?> cookie = (Map<?, ?>) body.get("cookie");
+                driver.manage().addCookie(new Cookie(String.valueOf(cookie.get("name")),
+                                                     String.valueOf(cookie.get("value"))));
+                return null;
+            case "DELETE cookie":
+                if (s.size() > 3) {
+                    driver.manage().deleteCookieNamed(s.get(3));
+                } else {
+                    driver.manage().deleteAllCookies();
+                }
+                return null;
+            default:
+                break;
+        }
+
+        if ("window".equals(command) && s.size() > 3) {
+            return windowCommand(driver, method, s.get(3), body);
+        }
+        throw new UnsupportedOperationException(method + " /" + String.join("/", s));
+    }
+
+    // ==================== SESSIONS ====================
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", true);
+        status.put("message", "Fake WebDriver server ready");
+        int limit = slots;
+        if (limit > 0) {
+            // Grid 4 layout: one UP node whose slots carry the running sessions
+            List<Map<String, Object>> slotList = new ArrayList<>();
+            List<String> running = new ArrayList<>(sessions.keySet());
+            for (int i = 0; i < limit; i++) {
+                Map<String, Object> slot = new LinkedHashMap<>();
+                slot.put("id", "slot-" + i);
+                slot.put("session", i < running.size() ? Collections.singletonMap("sessionId", running.get(i)) : null);
+                slotList.add(slot);
+            }
+            Map<String, Object> node = new LinkedHashMap<>();
+            node.put("id", "fake-node");
+            node.put("availability", "UP");
+            node.put("maxSessions", limit);
+            node.put("slots", slotList);
+            status.put("nodes", Collections.singletonList(node));
+        }
+        return status;
+    }
+
+    private synchronized Map<String, Object> newSession(Map<String, Object> body) {
+        if (rejectSessions) {
+            throw new SessionNotCreatedException("Fake hub is rejecting new sessions");
+        }
+        if (slots > 0 && sessions.size() >= slots) {
+            throw new SessionNotCreatedException("All " + slots + " slots of the fake hub are busy");
+        }
+        FakeWebDriver driver = new FakeWebDriver(latencyMillis, jitterMillis, failureRate);
+        sessions.put(driver.getSessionId(), new Session(driver));
+
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        capabilities.put("browserName", requestedBrowser(body));
+        capabilities.put("browserVersion", "fake");
+        capabilities.put("platformName", "linux");
+        capabilities.put("acceptInsecureCerts", false);
+        capabilities.put("setWindowRect", true);
+
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("sessionId", driver.getSessionId());
+        value.put("capabilities", capabilities);
+        return value;
+    }
+
+    private static String requestedBrowser(Map<String, Object> body) {
+        Object capabilities = body.get("capabilities");
+        if (capabilities instanceof Map) {
+            Object always = ((Map<?, ?>) capabilities).get("alwaysMatch");
+            if (always instanceof Map && ((Map<?, ?>) always).get("browserName") != null) {
+                return String.valueOf(((Map<?, ?>) always).get("browserName"));
+            }
+            Object first = ((Map<?, ?>) capabilities).get("firstMatch");
+            if (first instanceof List && !((List<?>) first).isEmpty()) {
+                Object browser = ((Map<?, ?>) ((List<?>) first).get(0)).get("browserName");
+                if (browser != null) {
+                    return String.valueOf(browser);
+                }
+            }
+        }
+        return "fake";
+    }
+
+    // ==================== ELEMENTS ====================
+
+    private List<FakeElement> find(Session session, FakeNode context, Map<String, Object> body,
+                                   boolean single) {
+        String using = String.valueOf(body.get("using"));
+        String value = String.valueOf(body.get("value"));
+        session.driver.command(single ? "findElement" : "findElements");
+        List<FakeElement> elements = new ArrayList<>();
+        for (FakeNode node : FakeSelector.find(context, using, value)) {
+            elements.add(new FakeElement(session.driver, node));
+        }
+        if (single && elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + using + "=" + value);
+        }
+        return elements;
+    }
+
+    private Object elementCommand(Session session, String method, List<String> s,
+                                  Map<String, Object> body) {
+        FakeElement element = session.elements.get(s.get(3));
+        if (element == null) {
+            throw new StaleElementReferenceException("Unknown element reference " + s.get(3));
+        }
+        String action = s.size() > 4 ? s.get(4) : "";
+
+        switch (method + " " + action) {
+            case "POST element":
+                return reference(session, find(session, element.getNode(), body, true).get(0));
+            case "POST elements":
+                return references(session, find(session, element.getNode(), body, false));
+            case "POST click":
+                element.click();
+                return null;
+            case "POST clear":
+                element.clear();
+                return null;
+            case "POST value":
+                element.sendKeys(String.valueOf(body.get("text")));
+                return null;
+            case "GET text":
+                return element.getText();
+            case "GET name":
+                return element.getTagName();
+            case "GET enabled":
+                return element.isEnabled();
+            case "GET selected":
+                return element.isSelected();
+            case "GET displayed":
+                return element.isDisplayed();
+            case "GET attribute":
+                return element.getAttribute(s.get(5));
+            case "GET property":
+                return element.getDomProperty(s.get(5));
+            case "GET css":
+                return element.getCssValue(s.get(5));
+            case "GET rect":
+                Map<String, Object> rect = new LinkedHashMap<>();
+                rect.put("x", 0);
+                rect.put("y", 0);
+                rect.put("width", 100);
+                rect.put("height", 20);
+                return rect;
+            case "GET screenshot":
+                return element.getScreenshotAs(OutputType.BASE64);
+            default:
+                throw new UnsupportedOperationException(method + " /" + String.join("/", s));
+        }
+    }
+
+    private Map<String, Object> reference(Session session, FakeElement element) {
+        session.elements.put(element.getNode().getId(), element);
+        return Collections.singletonMap(ELEMENT_KEY, element.getNode().getId());
+    }
+
+    private List<Object> references(Session session, List<FakeElement> elements) {
+        List<Object> references = new ArrayList<>();
+        for (FakeElement element : elements) {
+            references.add(reference(session, element));
+        }
+        return references;
+    }
+
+    // ==================== SCRIPTS, WINDOW, COOKIES ====================
+
+    private Object executeScript(Session session, Map<String, Object> body) {
+        Object rawArgs = body.get("args");
+        List<Object> args = new ArrayList<>();
+        if (rawArgs instanceof Collection) {
+            for (Object arg : (Collection<?>) rawArgs) {
+                args.add(resolveArgument(session, arg));
+            }
+        }
+        Object result = session.driver.executeScript(String.valueOf(body.get("script")), args.toArray());
+        return toWire(session, result);
+    }
+
+    private Object resolveArgument(Session session, Object arg) {
+        if (arg instanceof Map && ((Map<?, ?>) arg).containsKey(ELEMENT_KEY)) {
+            FakeElement element = session.elements.get(String.valueOf(((Map<?, ?>) arg).get(ELEMENT_KEY)));
+            if (element == null) {
+                throw new StaleElementReferenceException("Unknown element reference in script arguments");
+            }
+            return element;
+        }
+        if (arg instanceof Collection) {
+            List<Object> resolved = new ArrayList<>();
+            for (Object item : (Collection<?>) arg) {
+                resolved.add(resolveArgument(session, item));
+            }
+            return resolved;
+        }
+        return arg;
+    }
+
+    private Object toWire(Session session, Object result) {
+        if (result instanceof FakeElement) {
+            return reference(session, (FakeElement) result);
+        }
+        if (result instanceof WebElement) {
+            throw new WebDriverException("Script returned a non-fake element");
+        }
+        if (result instanceof Collection) {
+            List<Object> converted = new ArrayList<>();
+            for (Object item : (Collection<?>) result) {
+                converted.add(toWire(session, item));
+            }
+            return converted;
+        }
+        return result;
+    }
+
+    private Object windowCommand(FakeWebDriver driver, String method, String action,
+                                 Map<String, Object> body) {
+        switch (method + " " + action) {
+            case "POST maximize":
+                driver.manage().window().maximize();
+                break;
+            case "POST minimize":
+                driver.manage().window().minimize();
+                break;
+            case "POST fullscreen":
+                driver.manage().window().fullscreen();
+                break;
+            case "POST rect":
+                if (body.get("width") != null && body.get("height") != null) {
+                    driver.manage().window().setSize(new Dimension(
+                        ((Number) body.get("width")).intValue(), ((Number) body.get("height")).intValue()));
+                }
+                break;
+            case "GET rect":
+                break;
+            case "GET handles":
+                return new ArrayList<>(driver.getWindowHandles());
+            default:
+                throw new UnsupportedOperationException(method + " window/" + action);
+        }
+        Dimension size = driver.manage().window().getSize();
+        Map<String, Object> rect = new LinkedHashMap<>();
+        rect.put("x", 0);
+        rect.put("y", 0);
+        rect.put("width", size.getWidth());
+        rect.put("height", size.getHeight());
+        return rect;
+    }
+
+    private Object cookies(FakeWebDriver driver, List<String> s) {
+        if (s.size() > 3) {
+            Cookie cookie = driver.manage().getCookieNamed(s.get(3));
+            if (cookie == null) {
+                throw new NoSuchElementException("No cookie named " + s.get(3));
+            }
+            return cookieToWire(cookie);
+        }
+        List<Object> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(cookieToWire(cookie));
+        }
+        return cookies;
+    }
+
+    private static Map<String, Object> cookieToWire(Cookie cookie) {
+        Map<String, Object> wire = new LinkedHashMap<>();
+        wire.put("name", cookie.getName());
+        wire.put("value", cookie.getValue());
+        wire.put("path", "/");
+        return wire;
+    }
+
+    // ==================== HTTP HELPERS ====================
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (text.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return JSON.toType(text, Json.MAP_TYPE);
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String error, Exception e)
+            throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("error", error);
+        value.put("message", String.valueOf(e.getMessage()));
+        value.put("stacktrace", "");
+        respond(exchange, status, Collections.singletonMap("value", value));
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object payload) throws IOException {
+        byte[] bytes = JSON.toJson(payload).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        // Behave like a compressing proxy in front of Grid when the client asks for it
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            bytes = gzip(bytes);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+}
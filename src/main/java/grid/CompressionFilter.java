@@ -0,0 +1,62 @@
+package grid;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * CompressionFilter - Requests gzip for screenshot responses and decodes them
+ *
+ * Screenshots are the only large WebDriver responses (base64 PNG, hundreds of
+ * KB per call). Grid does not compress on its own, but a compressing proxy in
+ * front of it (or FakeWebDriverServer) answers Accept-Encoding: gzip. Other
+ * commands are left alone; their bodies are too small to benefit.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class CompressionFilter implements Filter {
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            if (request.getMethod() != HttpMethod.GET || !request.getUri().endsWith("/screenshot")) {
+                return next.execute(request);
+            }
+            request.setHeader("Accept-Encoding", "gzip");
+            HttpResponse response = next.execute(request);
+
+            byte[] wire = Contents.bytes(response.getContent());
+            FrameworkMetrics.GRID_RESPONSE_BYTES.add(wire.length, "wire");
+            if (!"gzip".equalsIgnoreCase(response.getHeader("Content-Encoding"))) {
+                FrameworkMetrics.GRID_RESPONSE_BYTES.add(wire.length, "decoded");
+                response.setContent(Contents.bytes(wire));
+                return response;
+            }
+
+            byte[] decoded = gunzip(wire);
+            FrameworkMetrics.GRID_RESPONSE_BYTES.add(decoded.length, "decoded");
+            response.removeHeader("Content-Encoding");
+            response.setHeader("Content-Length", String.valueOf(decoded.length));
+            response.setContent(Contents.bytes(decoded));
+            return response;
+        };
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode gzip response", e);
+        }
+    }
+}
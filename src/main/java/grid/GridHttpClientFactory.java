@@ -0,0 +1,177 @@
+package grid;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GridHttpClientFactory - HTTP clients for RemoteWebDriver sessions
+ *
+ * Purpose: By default every RemoteWebDriver gets its own HTTP client, i.e. a
+ *          new connection pool and thread pool per session, so each session
+ *          starts with fresh TCP connections to the hub. With pooling on,
+ *          all sessions to the same hub share one client and its keep-alive
+ *          connections.
+ *
+ * Sessions get a lease on the shared client; quit() closes the lease, not
+ * the client. Shared clients are closed by shutdown() at suite end.
+ * Timeouts and screenshot compression come from the grid.http.* settings
+ * (see clientConfig).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class GridHttpClientFactory implements HttpClient.Factory {
+
+    private static volatile GridHttpClientFactory instance;
+
+    private final HttpClient.Factory delegate;
+    private final boolean pooled;
+    private final Map<URI, HttpClient> shared = new ConcurrentHashMap<>();
+
+    /**
+     * Create factory on top of Selenium's default HTTP client
+     * @param pooled true to share one client per hub, false for one per session
+     */
+    public GridHttpClientFactory(boolean pooled) {
+        this(HttpClient.Factory.createDefault(), pooled);
+    }
+
+    GridHttpClientFactory(HttpClient.Factory delegate, boolean pooled) {
+        this.delegate = delegate;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Factory used by DriverManager (pooling from grid.http.pooled)
+     * @return run-wide factory
+     */
+    public static GridHttpClientFactory getInstance() {
+        GridHttpClientFactory factory = instance;
+        if (factory == null) {
+            synchronized (GridHttpClientFactory.class) {
+                factory = instance;
+                if (factory == null) {
+                    factory = new GridHttpClientFactory(ConfigReader.isGridHttpPooled());
+                    instance = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Close the shared clients of the run-wide factory (call once at suite end)
+     */
+    public static void shutdown() {
+        GridHttpClientFactory factory = instance;
+        if (factory != null) {
+            factory.closeAll();
+        }
+    }
+
+    /**
+     * Client settings for a hub from grid.http.* configuration
+     * @param hubUrl hub endpoint, e.g. http://localhost:4444/wd/hub
+     * @return client config with timeouts and optional screenshot compression
+     */
+    public static ClientConfig clientConfig(URL hubUrl) {
+        ClientConfig config = ClientConfig.defaultConfig()
+            .baseUrl(hubUrl)
+            .connectionTimeout(Duration.ofSeconds(ConfigReader.getGridHttpConnectTimeout()))
+            .readTimeout(Duration.ofSeconds(ConfigReader.getGridHttpReadTimeout()));
+        if (ConfigReader.isGridHttpGzip()) {
+            config = config.withFilter(new CompressionFilter());
+        }
+        return config;
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        String hub = config.baseUri().getAuthority();
+        if (!pooled) {
+            FrameworkMetrics.GRID_HTTP_CLIENTS.inc(hub, "new");
+            return new MeteredClient(delegate.createClient(config), hub, true);
+        }
+
+        boolean[] created = new boolean[1];
+        HttpClient client = shared.computeIfAbsent(config.baseUri(), uri -> {
+            created[0] = true;
+            LogUtil.debug("Opening shared HTTP client for " + uri);
+            return delegate.createClient(config);
+        });
+        FrameworkMetrics.GRID_HTTP_CLIENTS.inc(hub, created[0] ? "new" : "reused");
+        return new MeteredClient(client, hub, false);
+    }
+
+    /**
+     * Close all shared clients
+     */
+    public void closeAll() {
+        List<HttpClient> clients = new ArrayList<>(shared.values());
+        shared.clear();
+        for (HttpClient client : clients) {
+            try {
+                client.close();
+            } catch (RuntimeException e) {
+                LogUtil.debug("Closing shared HTTP client failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void cleanupIdleClients() {
+        delegate.cleanupIdleClients();
+    }
+
+    /**
+     * Times every command; closes the underlying client only if it owns it
+     */
+    private static final class MeteredClient implements HttpClient {
+
+        private final HttpClient client;
+        private final String hub;
+        private final boolean owned;
+
+        private MeteredClient(HttpClient client, String hub, boolean owned) {
+            this.client = client;
+            this.hub = hub;
+            this.owned = owned;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            long start = System.nanoTime();
+            try {
+                return client.execute(request);
+            } finally {
+                FrameworkMetrics.GRID_COMMAND.recordSince(start, hub);
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return client.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            if (owned) {
+                client.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package grid;
+
+import utils.LogUtil;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GridHub - One Grid endpoint with its health, load and circuit breaker
+ *
+ * Health and slot usage come from the hub's /status (Grid 4 format: nodes
+ * with availability and slots). The circuit breaker counts consecutive
+ * session-creation failures:
+ *  CLOSED    - sessions allowed
+ *  OPEN      - after grid.breaker.failures failures in a row; no sessions
+ *              for grid.breaker.open.sec
+ *  HALF_OPEN - then one trial session; success closes, failure reopens
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class GridHub {
+
+    /**
+     * Circuit breaker states
+     */
+    public enum Breaker {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String url;
+    private final URL hubUrl;
+    private final int weight;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger createdSinceCheck = new AtomicInteger();
+
+    private volatile boolean healthy = true;
+    private volatile int totalSlots = -1;
+    private volatile int busySlots;
+    private volatile Map<String, Integer> slotsByBrowser = Collections.emptyMap();
+
+    // Breaker and weighted round-robin state, guarded by this
+    private Breaker breaker = Breaker.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+    int currentWeight;
+
+    GridHub(String url, int weight) {
+        this.url = url;
+        this.weight = weight;
+        try {
+            this.hubUrl = URI.create(url + "/wd/hub").toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            LogUtil.error("Invalid Grid URL: " + url, e);
+            throw new RuntimeException("Invalid Grid URL: " + url, e);
+        }
+    }
+
+    // ==================== LOAD ====================
+
+    /**
+     * Fraction of capacity in use, counting sessions being created and
+     * sessions created since the last status check
+     * @return load relative to capacity, scaled down by weight
+     */
+    double getLoad() {
+        int inUse = busySlots + pending.get() + createdSinceCheck.get();
+        int capacity = totalSlots > 0 ? totalSlots : 1;
+        return (double) inUse / ((double) capacity * weight);
+    }
+
+    /**
+     * Check if every reported slot is taken (Grid would queue the session)
+     * @return true if the hub reports slots and none is free
+     */
+    boolean isFull() {
+        return totalSlots > 0 && busySlots + pending.get() + createdSinceCheck.get() >= totalSlots;
+    }
+
+    /**
+     * Update health and slot usage from a /status payload
+     * @param value "value" object of the response (null if the hub did not answer)
+     */
+    @SuppressWarnings("unchecked")
+    void updateStatus(Map<String, Object> value) {
+        boolean ready = value != null && Boolean.TRUE.equals(value.get("ready"));
+        int total = -1;
+        int busy = 0;
+        Map<String, Integer> byBrowser = new HashMap<>();
+        if (value != null && value.get("nodes") instanceof List) {
+            total = 0;
+            for (Object node : (List<Object>) value.get("nodes")) {
+                if (!(node instanceof Map) || !"UP".equals(((Map<String, Object>) node).get("availability"))) {
+                    continue;
+                }
+                Object slots = ((Map<String, Object>) node).get("slots");
+                if (slots instanceof List) {
+                    for (Object slot : (List<Object>) slots) {
+                        total++;
+                        if (!(slot instanceof Map)) {
+                            continue;
+                        }
+                        if (((Map<String, Object>) slot).get("session") != null) {
+                            busy++;
+                        }
+                        byBrowser.merge(stereotypeBrowser((Map<String, Object>) slot), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        if (healthy != ready) {
+            LogUtil.info("Grid hub " + url + (ready ? " is healthy again" : " failed health check"));
+        }
+        healthy = ready;
+        totalSlots = total;
+        busySlots = busy;
+        slotsByBrowser = byBrowser;
+        createdSinceCheck.set(0);
+    }
+
+    /**
+     * Browser a slot serves, "*" if its stereotype does not say
+     */
+    @SuppressWarnings("unchecked")
+    private static String stereotypeBrowser(Map<String, Object> slot) {
+        Object stereotype = slot.get("stereotype");
+        if (stereotype instanceof Map && ((Map<String, Object>) stereotype).get("browserName") != null) {
+            return String.valueOf(((Map<String, Object>) stereotype).get("browserName"));
+        }
+        return "*";
+    }
+
+    // ==================== CIRCUIT BREAKER ====================
+
+    /**
+     * Check whether a session may be created on this hub now
+     * @param openMillis how long an open breaker rejects sessions
+     * @return true if allowed (an OPEN breaker past its timeout admits one trial)
+     */
+    synchronized boolean allowsSession(long openMillis) {
+        switch (breaker) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                breaker = Breaker.HALF_OPEN;
+                trialInFlight = false;
+                return true;
+            default:
+                return !trialInFlight;
+        }
+    }
+
+    void beginCreation() {
+        synchronized (this) {
+            if (breaker == Breaker.HALF_OPEN) {
+                trialInFlight = true;
+            }
+        }
+        pending.incrementAndGet();
+    }
+
+    void creationSucceeded() {
+        pending.decrementAndGet();
+        createdSinceCheck.incrementAndGet();
+        synchronized (this) {
+            if (breaker != Breaker.CLOSED) {
+                LogUtil.info("Grid hub " + url + " circuit closed after successful trial session");
+            }
+            breaker = Breaker.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+    }
+
+    void creationFailed(int failureThreshold) {
+        pending.decrementAndGet();
+        synchronized (this) {
+            consecutiveFailures++;
+            trialInFlight = false;
+            if (breaker == Breaker.HALF_OPEN ||
+                (breaker == Breaker.CLOSED && consecutiveFailures >= failureThreshold)) {
+                breaker = Breaker.OPEN;
+                openedAt = System.currentTimeMillis();
+                LogUtil.warn("Grid hub " + url + " circuit opened after " + consecutiveFailures +
+                             " consecutive session failures");
+            }
+        }
+    }
+
+    // ==================== ACCESSORS ====================
+
+    /**
+     * Base URL as configured
+     * @return e.g. http://hub-a:4444
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Endpoint for RemoteWebDriver
+     * @return base URL + /wd/hub
+     */
+    public URL getHubUrl() {
+        return hubUrl;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Slots on UP nodes at the last status check
+     * @return slot count, or -1 if the hub does not report nodes
+     */
+    public int getTotalSlots() {
+        return totalSlots;
+    }
+
+    public int getBusySlots() {
+        return busySlots;
+    }
+
+    /**
+     * Slots on UP nodes that can run the browser
+     * @param browser browser name, e.g. chrome
+     * @return slot count, or -1 if the hub does not report nodes
+     */
+    public int getSlots(String browser) {
+        if (totalSlots < 0) {
+            return -1;
+        }
+        Map<String, Integer> current = slotsByBrowser;
+        return current.getOrDefault(browser, 0) + current.getOrDefault("*", 0);
+    }
+
+    public synchronized Breaker getBreaker() {
+        return breaker;
+    }
+
+    @Override
+    public String toString() {
+        return url;
+    }
+}
@@ -0,0 +1,292 @@
+package grid;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GridHubPool - Routes new remote sessions across one or more Grid hubs
+ *
+ * Purpose: Keep a run going when one hub is overloaded or down
+ *
+ * Hubs come from grid.hubs ("url[;weight]", comma-separated), or grid.url
+ * alone. A background check polls every hub's /status each
+ * grid.health.interval.sec. acquire() picks among healthy hubs whose
+ * circuit breaker allows sessions:
+ *  - least-loaded: lowest (busy slots + sessions being created) / (slots * weight),
+ *                  hubs with a free slot first
+ *  - weighted:     smooth weighted round-robin
+ * DriverManager reports every creation back (recordSuccess / recordFailure)
+ * and fails over to the next hub when one rejects the session. If no hub is
+ * healthy, the least-loaded untried hub is used anyway rather than failing
+ * the test outright.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class GridHubPool {
+
+    public static final String LEAST_LOADED = "least-loaded";
+    public static final String WEIGHTED = "weighted";
+
+    private static final Json JSON = new Json();
+
+    private static volatile List<GridHub> hubs;
+    private static ScheduledExecutorService healthCheck;
+
+    // Private constructor to prevent instantiation
+    private GridHubPool() {
+        throw new AssertionError("GridHubPool class cannot be instantiated");
+    }
+
+    /**
+     * Configured hubs (parsed once per run)
+     * @return hubs in declaration order
+     */
+    public static List<GridHub> getHubs() {
+        List<GridHub> current = hubs;
+        if (current == null) {
+            synchronized (GridHubPool.class) {
+                current = hubs;
+                if (current == null) {
+                    current = Collections.unmodifiableList(parseHubs(ConfigReader.getGridHubs(),
+                                                                     ConfigReader.getGridUrl()));
+                    hubs = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Parse a hub list
+     * @param spec e.g. "http://hub-a:4444;3, http://hub-b:4444" (weight defaults to 1)
+     * @param fallbackUrl hub used when spec is empty
+     * @return hubs in declaration order
+     */
+    public static List<GridHub> parseHubs(String spec, String fallbackUrl) {
+        List<GridHub> parsed = new ArrayList<>();
+        if (spec != null) {
+            for (String entry : spec.split(",")) {
+                String trimmed = entry.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                String[] parts = trimmed.split(";");
+                int weight = parts.length > 1 ? Math.max(1, Integer.parseInt(parts[1].trim())) : 1;
+                parsed.add(new GridHub(stripSlash(parts[0].trim()), weight));
+            }
+        }
+        if (parsed.isEmpty()) {
+            parsed.add(new GridHub(stripSlash(fallbackUrl.trim()), 1));
+        }
+        return parsed;
+    }
+
+    // ==================== ROUTING ====================
+
+    /**
+     * Pick a hub for a new session and count the creation as in flight
+     * @param exclude hubs already tried for this session
+     * @return hub, or null if every hub was tried
+     */
+    public static GridHub acquire(Set<GridHub> exclude) {
+        List<GridHub> all = getHubs();
+        ensureStarted();
+        long openMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getGridBreakerOpenTime());
+
+        GridHub chosen;
+        synchronized (GridHubPool.class) {
+            List<GridHub> candidates = new ArrayList<>();
+            List<GridHub> untried = new ArrayList<>();
+            for (GridHub hub : all) {
+                if (exclude.contains(hub)) {
+                    continue;
+                }
+                untried.add(hub);
+                if (hub.isHealthy() && hub.allowsSession(openMillis)) {
+                    candidates.add(hub);
+                }
+            }
+            if (untried.isEmpty()) {
+                return null;
+            }
+            if (candidates.isEmpty()) {
+                chosen = leastLoaded(untried);
+                if (all.size() > 1) {
+                    LogUtil.warn("No healthy Grid hub available - trying " + chosen + " anyway");
+                }
+            } else if (WEIGHTED.equalsIgnoreCase(ConfigReader.getGridRouting())) {
+                chosen = weighted(candidates);
+            } else {
+                chosen = leastLoaded(candidates);
+            }
+            chosen.beginCreation();
+        }
+        return chosen;
+    }
+
+    /**
+     * Record a session created on the hub
+     * @param hub hub returned by acquire
+     */
+    public static void recordSuccess(GridHub hub) {
+        hub.creationSucceeded();
+        FrameworkMetrics.GRID_HUB_SESSIONS.inc(label(hub), "created");
+        publishAvailability(hub);
+    }
+
+    /**
+     * Record a failed session creation on the hub
+     * @param hub hub returned by acquire
+     * @param error failure from RemoteWebDriver
+     */
+    public static void recordFailure(GridHub hub, Exception error) {
+        hub.creationFailed(ConfigReader.getGridBreakerFailures());
+        FrameworkMetrics.GRID_HUB_SESSIONS.inc(label(hub), "failed");
+        publishAvailability(hub);
+        LogUtil.warn("Session creation on Grid hub " + hub + " failed: " + firstLine(error.getMessage()));
+    }
+
+    /**
+     * Lowest load, preferring hubs with a free slot over heavily weighted full ones
+     */
+    private static GridHub leastLoaded(List<GridHub> candidates) {
+        GridHub best = candidates.get(0);
+        for (GridHub hub : candidates) {
+            if (hub.isFull() != best.isFull() ? best.isFull() : hub.getLoad() < best.getLoad()) {
+                best = hub;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Smooth weighted round-robin (caller holds the class lock)
+     */
+    private static GridHub weighted(List<GridHub> candidates) {
+        int total = 0;
+        GridHub best = null;
+        for (GridHub hub : candidates) {
+            hub.currentWeight += hub.getWeight();
+            total += hub.getWeight();
+            if (best == null || hub.currentWeight > best.currentWeight) {
+                best = hub;
+            }
+        }
+        best.currentWeight -= total;
+        return best;
+    }
+
+    // ==================== HEALTH CHECKS ====================
+
+    /**
+     * Poll /status of every hub now
+     * @return number of healthy hubs
+     */
+    public static int checkHealth() {
+        int healthy = 0;
+        for (GridHub hub : getHubs()) {
+            hub.updateStatus(fetchStatus(hub));
+            publishAvailability(hub);
+            if (hub.isHealthy()) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Stop background health checks (call once at suite end)
+     */
+    public static synchronized void stop() {
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+            healthCheck = null;
+        }
+    }
+
+    /**
+     * Stop health checks and forget the parsed hubs, so the next call reads
+     * grid.hubs again (unit tests)
+     */
+    static synchronized void reset() {
+        stop();
+        hubs = null;
+    }
+
+    private static synchronized void ensureStarted() {
+        if (healthCheck != null) {
+            return;
+        }
+        healthCheck = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "grid-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigReader.getGridHealthInterval();
+        healthCheck.scheduleWithFixedDelay(() -> {
+            try {
+                checkHealth();
+            } catch (RuntimeException e) {
+                LogUtil.warn("Grid health check failed: " + e.getMessage());
+            }
+        }, 0, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Status through the shared client, so checks also keep its connections warm
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> fetchStatus(GridHub hub) {
+        try (HttpClient client = GridHttpClientFactory.getInstance()
+                                     .createClient(GridHttpClientFactory.clientConfig(hub.getHubUrl()))) {
+            HttpResponse response = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            if (!response.isSuccessful()) {
+                return null;
+            }
+            Map<String, Object> body = JSON.toType(Contents.string(response), Json.MAP_TYPE);
+            Object value = body.get("value");
+            return value instanceof Map ? (Map<String, Object>) value : null;
+        } catch (RuntimeException e) {
+            LogUtil.debug("Status of Grid hub " + hub + " unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void publishAvailability(GridHub hub) {
+        boolean available = hub.isHealthy() && hub.getBreaker() == GridHub.Breaker.CLOSED;
+        FrameworkMetrics.GRID_HUB_UP.set(available ? 1 : 0, label(hub));
+    }
+
+    private static String label(GridHub hub) {
+        return hub.getHubUrl().getAuthority();
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
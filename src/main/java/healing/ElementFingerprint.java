@@ -0,0 +1,126 @@
+package healing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ElementFingerprint - What an element looked like when its locator last worked
+ *
+ * Purpose: Let LocatorHealer recognise the element after its locator breaks
+ *
+ * Captured in the browser by HealingScripts.FINGERPRINT: tag, id, name,
+ * classes, visible text (first 100 characters), a few stable attributes
+ * (see HealingScripts.ATTRIBUTES) and the tag path from html down to the
+ * element. Stored as a plain map so it round-trips through JSON.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ElementFingerprint {
+
+    private final String tag;
+    private final String id;
+    private final String name;
+    private final List<String> classes;
+    private final String text;
+    private final Map<String, String> attributes;
+    private final List<String> path;
+
+    private ElementFingerprint(String tag, String id, String name, List<String> classes, String text,
+                               Map<String, String> attributes, List<String> path) {
+        this.tag = tag;
+        this.id = id;
+        this.name = name;
+        this.classes = classes;
+        this.text = text;
+        this.attributes = attributes;
+        this.path = path;
+    }
+
+    /**
+     * Build from the map returned by the fingerprint script or read from disk
+     * @param map fingerprint fields
+     * @return fingerprint, or null if the map has no tag
+     */
+    public static ElementFingerprint fromMap(Map<?, ?> map) {
+        if (map == null || map.get("tag") == null) {
+            return null;
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (map.get("attributes") instanceof Map) {
+            ((Map<?, ?>) map.get("attributes")).forEach((key, value) -> {
+                if (value != null) {
+                    attributes.put(String.valueOf(key), String.valueOf(value));
+                }
+            });
+        }
+        return new ElementFingerprint(String.valueOf(map.get("tag")), string(map.get("id")),
+                                      string(map.get("name")), strings(map.get("classes")),
+                                      string(map.get("text")), Collections.unmodifiableMap(attributes),
+                                      strings(map.get("path")));
+    }
+
+    /**
+     * Fields as a map (script argument and JSON form)
+     * @return ordered map
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("tag", tag);
+        map.put("id", id);
+        map.put("name", name);
+        map.put("classes", classes);
+        map.put("text", text);
+        map.put("attributes", attributes);
+        map.put("path", path);
+        return map;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getClasses() {
+        return classes;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Tag names from html down to the element
+     */
+    public List<String> getPath() {
+        return path;
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static List<String> strings(Object value) {
+        List<String> list = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                list.add(String.valueOf(item));
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
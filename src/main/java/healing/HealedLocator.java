@@ -0,0 +1,120 @@
+package healing;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HealedLocator - CSS selector that replaced a broken page object locator
+ *
+ * Only valid while the page object still declares the same locator: once the
+ * page object is fixed (declared changes) the entry is ignored and dropped.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class HealedLocator {
+
+    private final String key;
+    private final String declared;
+    private final String selector;
+    private final double score;
+    private final long healedAt;
+    private final String url;
+    private final boolean fromHistory;
+    private final AtomicInteger uses = new AtomicInteger();
+
+    HealedLocator(String key, String declared, String selector, double score, long healedAt, String url,
+                  boolean fromHistory) {
+        this.key = key;
+        this.declared = declared;
+        this.selector = selector;
+        this.score = score;
+        this.healedAt = healedAt;
+        this.url = url;
+        this.fromHistory = fromHistory;
+    }
+
+    static HealedLocator fromMap(String key, Map<?, ?> map) {
+        if (map.get("declared") == null || map.get("selector") == null) {
+            return null;
+        }
+        return new HealedLocator(key, String.valueOf(map.get("declared")), String.valueOf(map.get("selector")),
+                                 number(map.get("score")), (long) number(map.get("healedAt")),
+                                 map.get("url") == null ? "" : String.valueOf(map.get("url")), true);
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("declared", declared);
+        map.put("selector", selector);
+        map.put("score", score);
+        map.put("healedAt", healedAt);
+        map.put("url", url);
+        return map;
+    }
+
+    void used() {
+        uses.incrementAndGet();
+    }
+
+    /**
+     * Registry key of the healed locator (Page.name)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Broken locator as declared, e.g. "By.id: login-button"
+     */
+    public String getDeclared() {
+        return declared;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public By getBy() {
+        return By.cssSelector(selector);
+    }
+
+    /**
+     * Match score of the healed element, 0..1
+     */
+    public double getScore() {
+        return score;
+    }
+
+    public long getHealedAt() {
+        return healedAt;
+    }
+
+    /**
+     * Page the locator was healed on
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * True if loaded from a previous run, false if healed in this one
+     */
+    public boolean isFromHistory() {
+        return fromHistory;
+    }
+
+    /**
+     * Lookups that used the healed selector in this run
+     */
+    public int getUses() {
+        return uses.get();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package healing;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * HealingReport - Suite-end list of healed locators
+ *
+ * Purpose: Tell which page object locators are broken and what they were
+ *          healed to, so the page objects can be fixed
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class HealingReport {
+
+    // Private constructor to prevent instantiation
+    private HealingReport() {
+        throw new AssertionError("HealingReport class cannot be instantiated");
+    }
+
+    /**
+     * Add the healed locators node to the report
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        List<HealedLocator> heals = HealingStore.getHealed();
+        if (extent == null || heals.isEmpty()) {
+            return;
+        }
+        ExtentTest node = extent.createTest("Healed Locators",
+            "Broken page object locators replaced by a matching element's CSS selector");
+        node.assignCategory("Performance");
+        node.log(Status.WARNING, heals.size() + " locator(s) are broken - update the page objects");
+
+        SimpleDateFormat time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><thead><tr>")
+             .append("<th>Locator</th><th>Declared</th><th>Healed to</th><th>Score</th>")
+             .append("<th>Healed</th><th>Page</th><th>Uses this run</th></tr></thead><tbody>");
+        for (HealedLocator heal : heals) {
+            table.append("<tr><td>").append(heal.getKey())
+                 .append("</td><td>").append(escape(heal.getDeclared()))
+                 .append("</td><td><code>").append(escape(heal.getSelector())).append("</code>")
+                 .append("</td><td>").append(String.format(Locale.ROOT, "%.2f", heal.getScore()))
+                 .append("</td><td>").append(time.format(new Date(heal.getHealedAt())))
+                 .append(heal.isFromHistory() ? " (earlier run)" : "")
+                 .append("</td><td>").append(escape(heal.getUrl()))
+                 .append("</td><td>").append(heal.getUses())
+                 .append("</td></tr>");
+        }
+        table.append("</tbody></table>");
+        node.info(table.toString());
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
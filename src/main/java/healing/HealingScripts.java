@@ -0,0 +1,144 @@
+package healing;
+
+/**
+ * HealingScripts - Browser-side scripts of the self-healing locator engine
+ *
+ * FINGERPRINT (argument: element) returns the element's fingerprint map.
+ *
+ * HEAL (arguments: fingerprint map, minimum score) scores every element with
+ * the fingerprint's tag in one pass and returns the best as
+ * {score, selector}; selector is null when the best score is below the
+ * minimum or no unique CSS selector could be built. Score is the matched
+ * fraction of these weights (only features present in the fingerprint count):
+ *  id 3, name 2, text 3 (half if one contains the other), classes 2
+ *  (Jaccard), each fingerprint attribute 1, DOM path 2 (shared suffix / length)
+ *
+ * The selector is #id, tag[attr='v'] for name and test attributes, or a
+ * child path of tag:nth-of-type() up to the nearest ancestor with an id -
+ * whichever is unique first. The fake driver simulates both scripts by
+ * their leading marker comment.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class HealingScripts {
+
+    public static final String FINGERPRINT_MARKER = "/* fingerprint */";
+    public static final String HEAL_MARKER = "/* heal */";
+
+    /**
+     * Attributes recorded in a fingerprint (value only for button-like inputs)
+     */
+    public static final String[] ATTRIBUTES = {
+        "type", "placeholder", "data-test", "data-testid", "aria-label", "title", "role", "href", "value"
+    };
+
+    private static final String COMMON = """
+        var ATTRIBUTES = ['type', 'placeholder', 'data-test', 'data-testid', 'aria-label',
+                          'title', 'role', 'href', 'value'];
+        function textOf(el) {
+          return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim().substring(0, 100);
+        }
+        function classesOf(el) {
+          return (el.getAttribute('class') || '').trim().split(/\\s+/).filter(function (c) { return c; });
+        }
+        function pathOf(el) {
+          var path = [];
+          for (var e = el; e && e.nodeType === 1; e = e.parentElement) {
+            path.unshift(e.tagName.toLowerCase());
+          }
+          return path;
+        }
+        function attributesOf(el) {
+          var attributes = {};
+          var buttonLike = /^(submit|button|reset)$/i.test(el.getAttribute('type') || '');
+          ATTRIBUTES.forEach(function (a) {
+            var v = el.getAttribute(a);
+            if (v !== null && v !== '' && (a !== 'value' || buttonLike)) {
+              attributes[a] = v;
+            }
+          });
+          return attributes;
+        }
+        """;
+
+    /**
+     * Fingerprint of arguments[0]
+     */
+    public static final String FINGERPRINT = FINGERPRINT_MARKER + "\n" + COMMON + """
+        var el = arguments[0];
+        return {tag: el.tagName.toLowerCase(), id: el.id || '', name: el.getAttribute('name') || '',
+                classes: classesOf(el), text: textOf(el), attributes: attributesOf(el), path: pathOf(el)};
+        """;
+
+    /**
+     * Best match for fingerprint arguments[0] scoring at least arguments[1]
+     */
+    public static final String HEAL = HEAL_MARKER + "\n" + COMMON + """
+        var fp = arguments[0], minScore = arguments[1];
+        function score(el) {
+          var total = 0, got = 0;
+          function add(weight, match) {
+            total += weight;
+            got += weight * (match === true ? 1 : (match || 0));
+          }
+          if (fp.id) add(3, el.id === fp.id);
+          if (fp.name) add(2, el.getAttribute('name') === fp.name);
+          if (fp.text) {
+            var t = textOf(el);
+            add(3, t === fp.text ? 1 : (t && (t.indexOf(fp.text) >= 0 || fp.text.indexOf(t) >= 0)) ? 0.5 : 0);
+          }
+          if (fp.classes.length) {
+            var c = classesOf(el), common = 0;
+            c.forEach(function (x) { if (fp.classes.indexOf(x) >= 0) common++; });
+            add(2, common / (c.length + fp.classes.length - common));
+          }
+          var attributes = attributesOf(el);
+          Object.keys(fp.attributes).forEach(function (a) { add(1, attributes[a] === fp.attributes[a]); });
+          var p = pathOf(el), shared = 0;
+          while (shared < p.length && shared < fp.path.length &&
+                 p[p.length - 1 - shared] === fp.path[fp.path.length - 1 - shared]) {
+            shared++;
+          }
+          add(2, shared / Math.max(p.length, fp.path.length, 1));
+          return total ? got / total : 0;
+        }
+        function unique(selector) {
+          try { return document.querySelectorAll(selector).length === 1; } catch (e) { return false; }
+        }
+        function quote(v) {
+          return "'" + v.replace(/\\\\/g, '\\\\\\\\').replace(/'/g, "\\\\'") + "'";
+        }
+        function selectorOf(el) {
+          var tag = el.tagName.toLowerCase();
+          if (el.id && unique('#' + CSS.escape(el.id))) return '#' + CSS.escape(el.id);
+          var keys = ['name', 'data-test', 'data-testid', 'aria-label', 'placeholder'];
+          for (var i = 0; i < keys.length; i++) {
+            var v = el.getAttribute(keys[i]);
+            if (v && unique(tag + '[' + keys[i] + '=' + quote(v) + ']')) return tag + '[' + keys[i] + '=' + quote(v) + ']';
+          }
+          var parts = [];
+          for (var e = el; e && e.nodeType === 1; e = e.parentElement) {
+            if (e !== el && e.id) { parts.unshift('#' + CSS.escape(e.id)); break; }
+            var n = 1;
+            for (var s = e.previousElementSibling; s; s = s.previousElementSibling) {
+              if (s.tagName === e.tagName) n++;
+            }
+            parts.unshift(e.tagName.toLowerCase() + ':nth-of-type(' + n + ')');
+          }
+          var path = parts.join(' > ');
+          return unique(path) ? path : null;
+        }
+        var best = null, bestScore = 0, candidates = document.getElementsByTagName(fp.tag);
+        for (var i = 0; i < candidates.length; i++) {
+          var s = score(candidates[i]);
+          if (s > bestScore) { best = candidates[i]; bestScore = s; }
+        }
+        return {score: bestScore, selector: best && bestScore >= minScore ? selectorOf(best) : null};
+        """;
+
+    // Private constructor to prevent instantiation
+    private HealingScripts() {
+        throw new AssertionError("HealingScripts class cannot be instantiated");
+    }
+}
@@ -0,0 +1,169 @@
+package healing;
+
+import constants.FrameworkConstants;
+import locators.Locator;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * HealingStore - Element fingerprints and healed locators kept across runs
+ *
+ * Purpose: Heal a broken locator once, then reuse the healed selector in
+ *          later lookups, retries and runs without waiting or rescoring
+ *
+ * Stored as JSON in FrameworkConstants.LOCATOR_HEALING_PATH:
+ *  {"fingerprints": {"LoginPage.loginButton": {...}},
+ *   "healed": {"LoginPage.loginButton": {"declared": "By.id: login-button",
+ *              "selector": "input[name='login-button']", "score": 0.82, ...}}}
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class HealingStore {
+
+    private static final Json JSON = new Json();
+
+    private static final Map<String, ElementFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private static final Map<String, HealedLocator> healed = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    // Private constructor to prevent instantiation
+    private HealingStore() {
+        throw new AssertionError("HealingStore class cannot be instantiated");
+    }
+
+    /**
+     * Last known fingerprint of a locator's element
+     * @param key locator key
+     * @return fingerprint, or null if the element was never found
+     */
+    public static ElementFingerprint getFingerprint(String key) {
+        load();
+        return fingerprints.get(key);
+    }
+
+    static void putFingerprint(String key, ElementFingerprint fingerprint) {
+        load();
+        fingerprints.put(key, fingerprint);
+    }
+
+    /**
+     * Healed selector for a locator, if the page object still declares the broken one
+     * @param locator registered locator
+     * @return healed locator, or null
+     */
+    public static HealedLocator getHealed(Locator locator) {
+        load();
+        HealedLocator entry = healed.get(locator.getKey());
+        if (entry != null && !entry.getDeclared().equals(locator.getDeclaredBy().toString())) {
+            // Page object was fixed since the heal
+            healed.remove(locator.getKey(), entry);
+            LogUtil.info("Dropped healed selector for " + locator.getKey() + " - locator was updated");
+            return null;
+        }
+        return entry;
+    }
+
+    static void putHealed(HealedLocator entry) {
+        load();
+        healed.put(entry.getKey(), entry);
+    }
+
+    static void removeHealed(HealedLocator entry) {
+        healed.remove(entry.getKey(), entry);
+    }
+
+    /**
+     * Healed locators known in this run (new and from history)
+     * @return heals, newest first
+     */
+    public static List<HealedLocator> getHealed() {
+        load();
+        List<HealedLocator> all = new ArrayList<>(healed.values());
+        all.sort(Comparator.comparingLong(HealedLocator::getHealedAt).reversed());
+        return all;
+    }
+
+    /**
+     * Write fingerprints and heals to disk (call once at suite end)
+     */
+    public static synchronized void save() {
+        if (!loaded) {
+            return;
+        }
+        Map<String, Object> fingerprintMaps = new TreeMap<>();
+        fingerprints.forEach((key, fingerprint) -> fingerprintMaps.put(key, fingerprint.toMap()));
+        Map<String, Object> healedMaps = new TreeMap<>();
+        healed.forEach((key, entry) -> healedMaps.put(key, entry.toMap()));
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("fingerprints", fingerprintMaps);
+        document.put("healed", healedMaps);
+
+        File file = new File(FrameworkConstants.LOCATOR_HEALING_PATH);
+        FrameworkConstants.createDirectoryIfNotExists(file.getParent());
+        try {
+            Files.write(file.toPath(), JSON.toJson(document).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LogUtil.warn("Could not write locator healing cache: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (HealingStore.class) {
+            if (loaded) {
+                return;
+            }
+            File file = new File(FrameworkConstants.LOCATOR_HEALING_PATH);
+            if (file.exists()) {
+                try {
+                    Map<String, Object> document = JSON.toType(
+                        new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                    readSection(document.get("fingerprints"), (key, map) -> {
+                        ElementFingerprint fingerprint = ElementFingerprint.fromMap(map);
+                        if (fingerprint != null) {
+                            fingerprints.put(key, fingerprint);
+                        }
+                    });
+                    readSection(document.get("healed"), (key, map) -> {
+                        HealedLocator entry = HealedLocator.fromMap(key, map);
+                        if (entry != null) {
+                            healed.put(key, entry);
+                        }
+                    });
+                    LogUtil.debug("Loaded " + fingerprints.size() + " fingerprints and " + healed.size() +
+                                  " healed locators");
+                } catch (IOException | JsonException e) {
+                    LogUtil.warn("Could not read locator healing cache: " + e.getMessage());
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private static void readSection(Object section, BiConsumer<String, Map<?, ?>> reader) {
+        if (section instanceof Map) {
+            ((Map<?, ?>) section).forEach((key, value) -> {
+                if (value instanceof Map) {
+                    reader.accept(String.valueOf(key), (Map<?, ?>) value);
+                }
+            });
+        }
+    }
+}
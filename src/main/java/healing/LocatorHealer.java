@@ -0,0 +1,217 @@
+package healing;
+
+import locators.Locator;
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import utils.ConfigReader;
+import utils.LogUtil;
+import utils.WaitHelper;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * LocatorHealer - Finds elements of registered locators, healing broken ones
+ *
+ * Purpose: Keep a test going when a page object locator no longer matches,
+ *          instead of waiting the full explicit wait (on every retry) and failing
+ *
+ * The first successful lookup of a locator in a run records the element's
+ * fingerprint (HealingStore). Once a locator has a fingerprint, its waits
+ * try the declared locator for healing.timeout.sec; if the element does not
+ * show up, a cached heal (saved by an earlier lookup or run) is tried.
+ * Without one, the lookup keeps waiting for the declared locator for the
+ * rest of the explicit wait - a slow element is not a broken locator. Only
+ * when the declared locator still fails after the full explicit wait does
+ * one browser-side script score all elements of the same tag against the
+ * fingerprint; a match scoring at least healing.min.score that meets the
+ * wait's condition is used through a CSS selector and cached. The declared
+ * locator always comes first, and a heal is dropped as soon as it matches again.
+ * Presence checks (findNow) never heal. Every heal is logged and reported so
+ * the page object can be fixed. Off by default (healing.enabled).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LocatorHealer {
+
+    // How long a cached or new heal gets once the declared locator has timed out
+    private static final int HEAL_WAIT_SECONDS = 1;
+
+    // Locators fingerprinted in this run (once each)
+    private static final Set<String> fingerprinted = ConcurrentHashMap.newKeySet();
+
+    // Private constructor to prevent instantiation
+    private LocatorHealer() {
+        throw new AssertionError("LocatorHealer class cannot be instantiated");
+    }
+
+    /**
+     * Wait for a locator's element, healing the locator if it is broken
+     * @param driver driver of the page
+     * @param locator registered locator
+     * @param condition wait to apply, e.g. WaitHelper::waitForElementClickable
+     * @param wait page's wait helper (explicit wait)
+     * @return element
+     */
+    public static WebElement waitFor(WebDriver driver, Locator locator,
+                                     BiFunction<WaitHelper, By, WebElement> condition, WaitHelper wait) {
+        if (!ConfigReader.isHealingEnabled()) {
+            return condition.apply(wait, locator.by());
+        }
+        ElementFingerprint fingerprint = HealingStore.getFingerprint(locator.getKey());
+        HealedLocator cached = HealingStore.getHealed(locator);
+        if (fingerprint == null) {
+            WebElement element = condition.apply(wait, locator.by());
+            remember(driver, locator, element);
+            return element;
+        }
+
+        int explicitWait = ConfigReader.getExplicitWait();
+        int healingWait = Math.min(ConfigReader.getHealingTimeout(), explicitWait);
+        try {
+            // Declared locator first, always: a heal is only a fallback
+            WebElement element = condition.apply(new WaitHelper(driver, Duration.ofSeconds(healingWait)),
+                                                 locator.by());
+            if (cached != null) {
+                HealingStore.removeHealed(cached);
+                LogUtil.info("Dropped healed selector for " + locator.getKey() + " - declared locator matches again");
+            }
+            remember(driver, locator, element);
+            return element;
+        } catch (TimeoutException e) {
+            if (cached != null) {
+                try {
+                    WebElement element = condition.apply(
+                        new WaitHelper(driver, Duration.ofSeconds(HEAL_WAIT_SECONDS)), cached.getBy());
+                    cached.used();
+                    return element;
+                } catch (TimeoutException stale) {
+                    // Healed selector broke too; heal again from the fingerprint
+                    HealingStore.removeHealed(cached);
+                }
+            }
+            // Not found yet is not broken: give the declared locator the rest of the wait
+            WaitHelper remaining = new WaitHelper(driver, Duration.ofSeconds(Math.max(1, explicitWait - healingWait)));
+            try {
+                WebElement element = condition.apply(remaining, locator.by());
+                remember(driver, locator, element);
+                return element;
+            } catch (TimeoutException broken) {
+                HealedLocator healed = heal(driver, locator, fingerprint);
+                if (healed == null) {
+                    throw broken;
+                }
+                WebElement element = condition.apply(new WaitHelper(driver, Duration.ofSeconds(HEAL_WAIT_SECONDS)),
+                                                     healed.getBy());
+                HealingStore.putHealed(healed);
+                healed.used();
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Find a locator's element without waiting (absence is a valid answer)
+     * Never heals and never uses a cached heal: a look-alike element must not
+     * turn "is it there?" into true (e.g. a dashboard check after a failed login)
+     * @param driver driver of the page
+     * @param locator registered locator
+     * @return element, or null if the declared locator finds nothing
+     */
+    public static WebElement findNow(WebDriver driver, Locator locator) {
+        WebElement element = findOrNull(driver, locator.by());
+        if (element != null && ConfigReader.isHealingEnabled()) {
+            remember(driver, locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Score candidates in the browser for the best match
+     * The caller caches it (HealingStore.putHealed) once it meets the wait's condition
+     * @return healed locator, or null if nothing matched well enough
+     */
+    @SuppressWarnings("unchecked")
+    static HealedLocator heal(WebDriver driver, Locator locator, ElementFingerprint fingerprint) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeScript(HealingScripts.HEAL, fingerprint.toMap(),
+                                                                 ConfigReader.getHealingMinScore());
+        } catch (WebDriverException e) {
+            LogUtil.warn("Healing script failed for " + locator.getKey() + ": " + e.getMessage());
+            return null;
+        }
+        Map<String, Object> match = result instanceof Map ? (Map<String, Object>) result : null;
+        double score = match != null && match.get("score") instanceof Number
+            ? ((Number) match.get("score")).doubleValue() : 0;
+        Object selector = match != null ? match.get("selector") : null;
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        if (selector == null) {
+            FrameworkMetrics.LOCATOR_HEALS.inc(locator.getKey(), "failed");
+            LogUtil.warn(String.format(Locale.ROOT, "Could not heal locator %s - best match scored %.2f (%d ms)",
+                                       locator.getKey(), score, millis));
+            return null;
+        }
+        HealedLocator healed = new HealedLocator(locator.getKey(), locator.getDeclaredBy().toString(),
+                                                 String.valueOf(selector), score, System.currentTimeMillis(),
+                                                 currentUrl(driver), false);
+        FrameworkMetrics.LOCATOR_HEALS.inc(locator.getKey(), "healed");
+        LogUtil.warn(String.format(Locale.ROOT,
+            "Healed locator %s: %s -> By.cssSelector: %s (score %.2f, %d ms) - update the page object",
+            locator.getKey(), locator.getDeclaredBy(), selector, score, millis));
+        return healed;
+    }
+
+    /**
+     * Record the element's fingerprint, once per locator and run
+     */
+    @SuppressWarnings("unchecked")
+    private static void remember(WebDriver driver, Locator locator, WebElement element) {
+        if (!(driver instanceof JavascriptExecutor) || !fingerprinted.add(locator.getKey())) {
+            return;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(HealingScripts.FINGERPRINT, element);
+            ElementFingerprint fingerprint = result instanceof Map
+                ? ElementFingerprint.fromMap((Map<String, Object>) result) : null;
+            if (fingerprint != null) {
+                HealingStore.putFingerprint(locator.getKey(), fingerprint);
+            }
+        } catch (WebDriverException e) {
+            fingerprinted.remove(locator.getKey());
+            LogUtil.debug("Could not fingerprint " + locator.getKey() + ": " + e.getMessage());
+        }
+    }
+
+    private static WebElement findOrNull(WebDriver driver, By by) {
+        try {
+            return driver.findElement(by);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private static String currentUrl(WebDriver driver) {
+        try {
+            return driver.getCurrentUrl();
+        } catch (WebDriverException e) {
+            return "";
+        }
+    }
+}
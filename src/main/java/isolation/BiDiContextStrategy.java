@@ -0,0 +1,56 @@
+package isolation;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Command;
+import org.openqa.selenium.bidi.HasBiDi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BiDiContextStrategy - Isolation through WebDriver BiDi user contexts
+ *
+ * Uses browser.createUserContext / browsingContext.create /
+ * browser.removeUserContext. The browsing context id doubles as the
+ * WebDriver window handle. Requires the session to be created with
+ * webSocketUrl=true (DriverManager sets it in context isolation mode).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class BiDiContextStrategy implements ContextStrategy {
+
+    private final BiDi bidi;
+
+    BiDiContextStrategy(WebDriver driver) {
+        this.bidi = ((HasBiDi) driver).getBiDi();
+    }
+
+    @Override
+    public String getName() {
+        return "bidi";
+    }
+
+    @Override
+    public IsolatedContext open(WebDriver host) {
+        Map<?, ?> userContext = bidi.send(
+            new Command<>("browser.createUserContext", new HashMap<>(), Map.class));
+        String contextId = String.valueOf(userContext.get("userContext"));
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("type", "window");
+        params.put("userContext", contextId);
+        Map<?, ?> browsingContext = bidi.send(
+            new Command<>("browsingContext.create", params, Map.class));
+
+        return new IsolatedContext(contextId, String.valueOf(browsingContext.get("context")));
+    }
+
+    @Override
+    public void close(WebDriver host, IsolatedContext context) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userContext", context.getContextId());
+        bidi.send(new Command<>("browser.removeUserContext", params, Map.class));
+    }
+}
@@ -0,0 +1,152 @@
+package isolation;
+
+import matrix.BrowserTarget;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * BrowserContextPool - Hands out isolated contexts in shared browser processes
+ *
+ * Purpose: Run many tests per browser process (isolation.mode=context) so a
+ *          node hosts far more concurrent tests for the same memory
+ *
+ * Each test gets its own BiDi user context or CDP browser context (separate
+ * cookies, storage and cache) in a browser shared with up to
+ * isolation.contexts.per.browser other tests. A new browser is launched when
+ * all shared browsers are full. Browsers that support neither protocol are
+ * remembered per target and fall back to one process per test.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserContextPool {
+
+    private static final Map<BrowserTarget, List<SharedBrowser>> browsers = new ConcurrentHashMap<>();
+    private static final Set<BrowserTarget> unsupported = ConcurrentHashMap.newKeySet();
+
+    // Private constructor to prevent instantiation
+    private BrowserContextPool() {
+        throw new AssertionError("BrowserContextPool class cannot be instantiated");
+    }
+
+    /**
+     * Open an isolated context for the target
+     * @param target browser target
+     * @param factory starts a new browser process when all shared ones are full
+     * @return WebDriver bound to a fresh context, or null to fall back to
+     *         per-process isolation
+     */
+    public static WebDriver acquire(BrowserTarget target, Supplier<WebDriver> factory) {
+        if (unsupported.contains(target)) {
+            return null;
+        }
+
+        List<SharedBrowser> pool = browsers.computeIfAbsent(target, key -> new ArrayList<>());
+        SharedBrowser browser;
+        synchronized (pool) {
+            // Another thread may have found the target unsupported meanwhile
+            if (unsupported.contains(target)) {
+                return null;
+            }
+            browser = reserveSlot(pool);
+            if (browser == null) {
+                browser = launch(target, factory);
+                if (browser == null) {
+                    return null;
+                }
+                browser.reserve();
+                pool.add(browser);
+            }
+        }
+
+        try {
+            IsolatedContext context = browser.open();
+            SharedBrowser owner = browser;
+            LogUtil.info("Opened " + browser.getStrategyName() + " context " + context +
+                         " for " + target.getLabel());
+            return new ContextDriverDecorator(browser, context, () -> release(pool, owner))
+                .decorate(browser.getHost());
+        } catch (WebDriverException e) {
+            release(pool, browser);
+            throw e;
+        }
+    }
+
+    /**
+     * Quit all shared browsers (call once at suite end)
+     */
+    public static void shutdown() {
+        for (List<SharedBrowser> pool : browsers.values()) {
+            synchronized (pool) {
+                for (SharedBrowser browser : pool) {
+                    browser.quit();
+                }
+                pool.clear();
+            }
+        }
+        browsers.clear();
+    }
+
+    /**
+     * Number of shared browser processes currently running
+     * @return process count
+     */
+    public static int getBrowserCount() {
+        int count = 0;
+        for (List<SharedBrowser> pool : browsers.values()) {
+            synchronized (pool) {
+                count += pool.size();
+            }
+        }
+        return count;
+    }
+
+    private static SharedBrowser reserveSlot(List<SharedBrowser> pool) {
+        int limit = ConfigReader.getContextsPerBrowser();
+        SharedBrowser best = null;
+        for (SharedBrowser candidate : pool) {
+            // Fill the least busy browser first to spread command serialization
+            if (candidate.getReserved() < limit &&
+                (best == null || candidate.getReserved() < best.getReserved())) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            best.reserve();
+        }
+        return best;
+    }
+
+    private static SharedBrowser launch(BrowserTarget target, Supplier<WebDriver> factory) {
+        WebDriver host = factory.get();
+        SharedBrowser browser = SharedBrowser.launch(host);
+        if (browser == null) {
+            LogUtil.warn("Browser " + target.getLabel() + " supports neither BiDi user contexts nor " +
+                         "CDP browser contexts. Falling back to one browser per test.");
+            unsupported.add(target);
+            try {
+                host.quit();
+            } catch (WebDriverException e) {
+                LogUtil.debug("Error while quitting probe browser: " + e.getMessage());
+            }
+        } else {
+            LogUtil.info("Started shared browser for " + target.getLabel());
+        }
+        return browser;
+    }
+
+    private static void release(List<SharedBrowser> pool, SharedBrowser browser) {
+        synchronized (pool) {
+            browser.unreserve();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package isolation;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CdpContextStrategy - Isolation through Chrome DevTools browser contexts
+ *
+ * Uses Target.createBrowserContext / Target.createTarget /
+ * Target.disposeBrowserContext (Chrome and Edge). ChromeDriver exposes the
+ * new target id as a WebDriver window handle.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class CdpContextStrategy implements ContextStrategy {
+
+    private final HasCdp cdp;
+
+    CdpContextStrategy(WebDriver driver) {
+        this.cdp = (HasCdp) driver;
+    }
+
+    @Override
+    public String getName() {
+        return "cdp";
+    }
+
+    @Override
+    public IsolatedContext open(WebDriver host) {
+        Map<String, Object> contextParams = new HashMap<>();
+        contextParams.put("disposeOnDetach", false);
+        String contextId = String.valueOf(
+            cdp.executeCdpCommand("Target.createBrowserContext", contextParams).get("browserContextId"));
+
+        Map<String, Object> targetParams = new HashMap<>();
+        targetParams.put("url", "about:blank");
+        targetParams.put("browserContextId", contextId);
+        String targetId = String.valueOf(
+            cdp.executeCdpCommand("Target.createTarget", targetParams).get("targetId"));
+
+        return new IsolatedContext(contextId, targetId);
+    }
+
+    @Override
+    public void close(WebDriver host, IsolatedContext context) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("browserContextId", context.getContextId());
+        cdp.executeCdpCommand("Target.disposeBrowserContext", params);
+    }
+}
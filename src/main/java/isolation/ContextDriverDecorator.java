@@ -0,0 +1,59 @@
+package isolation;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+
+/**
+ * ContextDriverDecorator - Per-test WebDriver view of one isolated context
+ *
+ * Every call (driver, elements, options, navigation) is routed through the
+ * shared browser's lock after switching to this context's window.
+ * quit() / close() dispose the context instead of the shared browser.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+class ContextDriverDecorator extends WebDriverDecorator<WebDriver> {
+
+    private final SharedBrowser browser;
+    private final IsolatedContext context;
+    private final Runnable onClose;
+    private volatile boolean closed;
+
+    ContextDriverDecorator(SharedBrowser browser, IsolatedContext context, Runnable onClose) {
+        this.browser = browser;
+        this.context = context;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        boolean driverCall = target.getOriginal() == browser.getHost();
+
+        if (driverCall && ("quit".equals(name) || "close".equals(name))) {
+            closeContext();
+            return null;
+        }
+        if (closed) {
+            throw new NoSuchSessionException("Browser context " + context + " was closed");
+        }
+        return browser.execute(context, () -> super.call(target, method, args));
+    }
+
+    private void closeContext() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            browser.close(context);
+        } finally {
+            onClose.run();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package isolation;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * ContextStrategy - Protocol used to open isolated browser contexts
+ *
+ * Purpose: Hide whether a shared browser isolates tests through WebDriver
+ *          BiDi user contexts or Chrome DevTools browser contexts
+ *
+ * Each context has its own cookies, storage and cache and is driven through
+ * a top-level window whose handle is a regular WebDriver window handle.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public interface ContextStrategy {
+
+    /**
+     * Protocol name for logs and reports
+     * @return e.g. "bidi" or "cdp"
+     */
+    String getName();
+
+    /**
+     * Create a new isolated context with one window in it
+     * @param host shared browser session
+     * @return the opened context
+     */
+    IsolatedContext open(WebDriver host);
+
+    /**
+     * Dispose a context and all windows in it
+     * @param host shared browser session
+     * @param context context returned by open
+     */
+    void close(WebDriver host, IsolatedContext context);
+
+    /**
+     * Pick the strategies the host could support, BiDi first
+     * Remote sessions are augmented so Grid nodes expose BiDi / CDP as well
+     *
+     * @param host shared browser session
+     * @return candidate strategies in preference order (may be empty)
+     */
+    static ContextStrategy[] candidates(WebDriver host) {
+        WebDriver driver = host instanceof RemoteWebDriver && !(host instanceof HasBiDi)
+            ? new Augmenter().augment(host) : host;
+
+        boolean bidi = driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent();
+        boolean cdp = driver instanceof HasCdp;
+
+        if (bidi && cdp) {
+            return new ContextStrategy[] {new BiDiContextStrategy(driver), new CdpContextStrategy(driver)};
+        } else if (bidi) {
+            return new ContextStrategy[] {new BiDiContextStrategy(driver)};
+        } else if (cdp) {
+            return new ContextStrategy[] {new CdpContextStrategy(driver)};
+        }
+        return new ContextStrategy[0];
+    }
+}
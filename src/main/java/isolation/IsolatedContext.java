@@ -0,0 +1,39 @@
+package isolation;
+
+/**
+ * IsolatedContext - One browser context opened inside a shared browser
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class IsolatedContext {
+
+    private final String contextId;
+    private final String windowHandle;
+
+    public IsolatedContext(String contextId, String windowHandle) {
+        this.contextId = contextId;
+        this.windowHandle = windowHandle;
+    }
+
+    /**
+     * Protocol-level id (BiDi user context / CDP browserContextId)
+     * @return context id
+     */
+    public String getContextId() {
+        return contextId;
+    }
+
+    /**
+     * WebDriver window handle of the context's window
+     * @return window handle
+     */
+    public String getWindowHandle() {
+        return windowHandle;
+    }
+
+    @Override
+    public String toString() {
+        return contextId + "/" + windowHandle;
+    }
+}
@@ -0,0 +1,119 @@
+package isolation;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import utils.LogUtil;
+
+/**
+ * SharedBrowser - One browser session hosting many isolated contexts
+ *
+ * A WebDriver session has a single "current window", so every command from
+ * a context runs under this object's lock after switching to the context's
+ * window. Commands therefore serialize per browser process; tests still
+ * overlap their think time, page loads and explicit-wait sleeps.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class SharedBrowser {
+
+    /**
+     * A WebDriver call executed on behalf of one context
+     */
+    interface Call {
+        Object run() throws Throwable;
+    }
+
+    private final WebDriver host;
+    private final ContextStrategy strategy;
+    private final String anchorHandle;
+    private String currentHandle;
+    private int reserved;
+
+    private SharedBrowser(WebDriver host, ContextStrategy strategy, IsolatedContext probe) {
+        this.host = host;
+        this.strategy = strategy;
+        this.anchorHandle = host.getWindowHandle();
+        this.currentHandle = anchorHandle;
+        strategy.close(host, probe);
+    }
+
+    /**
+     * Wrap a freshly started browser, picking the first strategy that can
+     * actually open a context
+     *
+     * @param host browser session
+     * @return shared browser, or null if the browser supports no context isolation
+     */
+    static SharedBrowser launch(WebDriver host) {
+        for (ContextStrategy strategy : ContextStrategy.candidates(host)) {
+            try {
+                IsolatedContext probe = strategy.open(host);
+                LogUtil.info("Context isolation available via " + strategy.getName());
+                return new SharedBrowser(host, strategy, probe);
+            } catch (WebDriverException | ClassCastException e) {
+                LogUtil.debug("Context isolation via " + strategy.getName() + " failed: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    WebDriver getHost() {
+        return host;
+    }
+
+    String getStrategyName() {
+        return strategy.getName();
+    }
+
+    // ==================== SLOT ACCOUNTING (guarded by BrowserContextPool) ====================
+
+    int getReserved() {
+        return reserved;
+    }
+
+    void reserve() {
+        reserved++;
+    }
+
+    void unreserve() {
+        reserved--;
+    }
+
+    // ==================== CONTEXT LIFECYCLE ====================
+
+    synchronized IsolatedContext open() {
+        IsolatedContext context = strategy.open(host);
+        host.switchTo().window(context.getWindowHandle());
+        currentHandle = context.getWindowHandle();
+        return context;
+    }
+
+    synchronized void close(IsolatedContext context) {
+        try {
+            strategy.close(host, context);
+        } finally {
+            host.switchTo().window(anchorHandle);
+            currentHandle = anchorHandle;
+        }
+    }
+
+    /**
+     * Run a call with the session pointed at the context's window
+     */
+    synchronized Object execute(IsolatedContext context, Call call) throws Throwable {
+        if (!context.getWindowHandle().equals(currentHandle)) {
+            host.switchTo().window(context.getWindowHandle());
+            currentHandle = context.getWindowHandle();
+        }
+        return call.run();
+    }
+
+    void quit() {
+        try {
+            host.quit();
+        } catch (WebDriverException e) {
+            LogUtil.warn("Error while quitting shared browser: " + e.getMessage());
+        }
+    }
+}
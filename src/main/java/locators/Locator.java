@@ -0,0 +1,174 @@
+package locators;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.By;
+import utils.ConfigReader;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Locator - A page object locator declared once in the LocatorRegistry
+ *
+ * Purpose: Give every locator a name, a lookup cost and run-time statistics
+ * Usage: private static final Locator LOGIN_BUTTON =
+ *            Locator.of(LoginPage.class, "loginButton", By.id("login-button"));
+ *
+ * BasePage times each lookup through lookup(), so the report can list the
+ * slowest and most failing locators. With locator.prefer.css=true, XPath
+ * locators that have an exact CSS equivalent are looked up with it.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class Locator {
+
+    private final String page;
+    private final String name;
+    private final By by;
+    private final String using;
+    private final String value;
+    private final int cost;
+    private final String suggestedCss;
+    private final By cssBy;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    Locator(String page, String name, By by) {
+        this.page = page;
+        this.name = name;
+        this.by = by;
+        String[] strategy = LocatorCost.strategy(by);
+        this.using = strategy[0];
+        this.value = strategy[1];
+        this.cost = LocatorCost.score(using, value);
+        this.suggestedCss = LocatorCost.suggestCss(using, value);
+        this.cssBy = suggestedCss != null ? By.cssSelector(suggestedCss) : null;
+    }
+
+    /**
+     * Declare and register a locator
+     * @param page page object class
+     * @param name field name, unique within the page
+     * @param by Selenium locator
+     * @return registered locator
+     */
+    public static Locator of(Class<?> page, String name, By by) {
+        return LocatorRegistry.register(new Locator(page.getSimpleName(), name, by));
+    }
+
+    /**
+     * Locator to look up with (the CSS equivalent if preferred and available)
+     * @return Selenium locator
+     */
+    public By by() {
+        return cssBy != null && ConfigReader.isLocatorPreferCss() ? cssBy : by;
+    }
+
+    /**
+     * Run a lookup and record its time and outcome
+     * @param action wait or find using by()
+     * @return action result
+     */
+    public <T> T lookup(Supplier<T> action) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            record(System.nanoTime() - start, failed);
+        }
+    }
+
+    private void record(long nanos, boolean failed) {
+        lookups.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        FrameworkMetrics.LOCATOR_LOOKUP.record(nanos, getKey());
+        if (failed) {
+            failures.increment();
+            FrameworkMetrics.LOCATOR_FAILURES.inc(getKey());
+        }
+    }
+
+    /**
+     * Registry key
+     * @return Page.name, e.g. LoginPage.loginButton
+     */
+    public String getKey() {
+        return page + "." + name;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Locator as declared in the page object
+     */
+    public By getDeclaredBy() {
+        return by;
+    }
+
+    /**
+     * W3C strategy, e.g. css selector, xpath
+     */
+    public String getStrategy() {
+        return using;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Estimated lookup cost, 1 (cheapest) to LocatorCost.MAX_COST
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Exact CSS equivalent of an XPath locator
+     * @return CSS selector, or null if there is none
+     */
+    public String getSuggestedCss() {
+        return suggestedCss;
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Mean lookup time
+     * @return milliseconds, 0 if never looked up
+     */
+    public double getMeanMillis() {
+        long count = lookups.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return getKey() + " (" + by + ")";
+    }
+}
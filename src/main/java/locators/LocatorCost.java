@@ -0,0 +1,434 @@
+package locators;
+
+import org.openqa.selenium.By;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorCost - Static analysis of Selenium locators
+ *
+ * Purpose: Rank how expensive a locator is to look up, check it is well
+ *          formed, and translate simple XPath into an equivalent CSS selector
+ *
+ * Cost is 1 (cheapest) to 10. Drivers resolve id, name and CSS natively in
+ * the browser's selector engine; link text and XPath are evaluated by
+ * injected scripts, and XPath gets slower with document-wide scans (//),
+ * text() matching, substring functions, reverse axes and positions.
+ *
+ * CSS suggestions are only made when the translation is exact: steps of
+ * tag or *, joined by / or //, with predicates @a, @a='v', contains(@a,'v'),
+ * starts-with(@a,'v') and the contains(concat(' ', normalize-space(@class),
+ * ' '), ' c ') idiom, combined with "and".
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LocatorCost {
+
+    public static final int MAX_COST = 10;
+
+    private static final String[][] STRATEGIES = {
+        {"By.id: ", "id"}, {"By.name: ", "name"}, {"By.className: ", "class name"},
+        {"By.tagName: ", "tag name"}, {"By.linkText: ", "link text"},
+        {"By.partialLinkText: ", "partial link text"}, {"By.cssSelector: ", "css selector"},
+        {"By.xpath: ", "xpath"}
+    };
+
+    private static final String QUOTED = "(?:'([^']*)'|\"([^\"]*)\")";
+    private static final Pattern STEP_NAME = Pattern.compile("\\*|[A-Za-z][\\w-]*");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][\\w-]*");
+    private static final Pattern HAS_ATTRIBUTE = Pattern.compile("@([A-Za-z][\\w-]*)");
+    private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile(
+        "@([A-Za-z][\\w-]*)\\s*=\\s*" + QUOTED);
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile(
+        "(contains|starts-with)\\(\\s*@([A-Za-z][\\w-]*)\\s*,\\s*" + QUOTED + "\\s*\\)");
+    private static final Pattern CLASS_WORD = Pattern.compile(
+        "contains\\(\\s*concat\\(\\s*' '\\s*,\\s*normalize-space\\(\\s*@class\\s*\\)\\s*,\\s*' '\\s*\\)" +
+        "\\s*,\\s*' ([A-Za-z_][\\w-]*) '\\s*\\)");
+    private static final Pattern POSITION = Pattern.compile("\\[\\s*(\\d+|last\\(\\))");
+
+    // Private constructor to prevent instantiation
+    private LocatorCost() {
+        throw new AssertionError("LocatorCost class cannot be instantiated");
+    }
+
+    /**
+     * Split a locator into its W3C strategy and value
+     * @param by locator
+     * @return {using, value}; using is "other" for chained or custom locators
+     */
+    public static String[] strategy(By by) {
+        String description = by.toString();
+        for (String[] strategy : STRATEGIES) {
+            if (description.startsWith(strategy[0])) {
+                return new String[]{strategy[1], description.substring(strategy[0].length())};
+            }
+        }
+        return new String[]{"other", description};
+    }
+
+    /**
+     * Estimated lookup cost
+     * @param using strategy
+     * @param value selector
+     * @return 1 (cheapest) to MAX_COST
+     */
+    public static int score(String using, String value) {
+        int cost;
+        switch (using) {
+            case "id":
+                cost = 1;
+                break;
+            case "name":
+                cost = 2;
+                break;
+            case "css selector":
+                cost = 2;
+                if (value.startsWith("[") || value.startsWith("*")) {
+                    cost++;
+                }
+                if (value.contains("*=") || value.contains("~=") || value.contains(":not(")) {
+                    cost++;
+                }
+                break;
+            case "class name":
+            case "tag name":
+                cost = 3;
+                break;
+            case "link text":
+                cost = 5;
+                break;
+            case "partial link text":
+                cost = 6;
+                break;
+            case "xpath":
+                cost = 5;
+                if (value.startsWith("//") || value.startsWith("(//")) {
+                    cost++;
+                }
+                if (value.contains("text()") || value.contains("normalize-space(")) {
+                    cost += 2;
+                }
+                if (value.contains("contains(") || value.contains("starts-with(")) {
+                    cost++;
+                }
+                if (value.contains("ancestor") || value.contains("preceding") || value.contains("following")) {
+                    cost += 2;
+                }
+                if (POSITION.matcher(value).find()) {
+                    cost++;
+                }
+                break;
+            default:
+                cost = MAX_COST;
+        }
+        return Math.min(cost, MAX_COST);
+    }
+
+    /**
+     * Human-readable cost band
+     * @param cost score from score()
+     * @return fast, moderate or slow
+     */
+    public static String band(int cost) {
+        if (cost <= 2) {
+            return "fast";
+        }
+        return cost <= 4 ? "moderate" : "slow";
+    }
+
+    /**
+     * Check a locator is well formed
+     * @param using strategy
+     * @param value selector
+     * @return problem description, or null if valid
+     */
+    public static String validate(String using, String value) {
+        if ("other".equals(using)) {
+            return null;
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return "empty " + using;
+        }
+        switch (using) {
+            case "class name":
+                return value.trim().contains(" ")
+                    ? "compound class name '" + value + "' is not allowed; use a CSS selector" : null;
+            case "xpath":
+                try {
+                    XPathFactory.newInstance().newXPath().compile(value);
+                    return null;
+                } catch (XPathExpressionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    return "invalid XPath: " + cause.getMessage();
+                }
+            case "css selector":
+                return checkBalanced(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Exact CSS equivalent of a locator, where a faster one exists
+     * @param using strategy
+     * @param value selector
+     * @return CSS selector, or null if there is none (or no gain)
+     */
+    public static String suggestCss(String using, String value) {
+        if (!"xpath".equals(using)) {
+            return null;
+        }
+        String xpath = value.trim();
+        if (!xpath.startsWith("//")) {
+            // Relative and root-anchored paths have no simple CSS form
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        String combinator = "";
+        int start = 2;
+        while (true) {
+            int end = stepEnd(xpath, start);
+            String step = convertStep(xpath.substring(start, end));
+            if (step == null) {
+                return null;
+            }
+            css.append(combinator).append(step);
+            if (end >= xpath.length()) {
+                return css.toString();
+            }
+            if (xpath.startsWith("//", end)) {
+                combinator = " ";
+                start = end + 2;
+            } else {
+                combinator = " > ";
+                start = end + 1;
+            }
+        }
+    }
+
+    /**
+     * Index of the '/' ending the step at start (outside predicates and quotes)
+     */
+    private static int stepEnd(String xpath, int start) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = start; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                return i;
+            }
+        }
+        return xpath.length();
+    }
+
+    /**
+     * Convert one step (name plus predicates), or null if it has no CSS form
+     */
+    private static String convertStep(String step) {
+        int bracket = step.indexOf('[');
+        String name = (bracket < 0 ? step : step.substring(0, bracket)).trim();
+        if (!STEP_NAME.matcher(name).matches()) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder("*".equals(name) ? "" : name);
+        String id = null;
+        for (String predicate : predicates(bracket < 0 ? "" : step.substring(bracket))) {
+            if (predicate == null) {
+                return null;
+            }
+            for (String condition : splitAnd(predicate)) {
+                String converted = convertCondition(condition.trim());
+                if (converted == null) {
+                    return null;
+                }
+                if (converted.startsWith("#")) {
+                    if (id != null) {
+                        return null;
+                    }
+                    id = converted;
+                } else {
+                    css.append(converted);
+                }
+            }
+        }
+        if (id != null) {
+            css.insert("*".equals(name) ? 0 : name.length(), id);
+        }
+        return css.length() == 0 ? "*" : css.toString();
+    }
+
+    /**
+     * Contents of each [..] predicate; a null entry marks unparseable input
+     */
+    private static List<String> predicates(String text) {
+        List<String> predicates = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) != '[') {
+                predicates.add(null);
+                return predicates;
+            }
+            int depth = 0;
+            char quote = 0;
+            int j = i;
+            for (; j < text.length(); j++) {
+                char c = text.charAt(j);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']' && --depth == 0) {
+                    break;
+                }
+            }
+            if (j >= text.length()) {
+                predicates.add(null);
+                return predicates;
+            }
+            predicates.add(text.substring(i + 1, j));
+            i = j + 1;
+        }
+        return predicates;
+    }
+
+    /**
+     * Split a predicate on "and" outside quotes and parentheses
+     */
+    private static List<String> splitAnd(String predicate) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < predicate.length(); i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && predicate.startsWith(" and ", i)) {
+                parts.add(predicate.substring(start, i));
+                start = i + 5;
+                i += 4;
+            }
+        }
+        parts.add(predicate.substring(start));
+        return parts;
+    }
+
+    private static String convertCondition(String condition) {
+        Matcher matcher = ATTRIBUTE_EQUALS.matcher(condition);
+        if (matcher.matches()) {
+            String attribute = matcher.group(1);
+            String value = quotedValue(matcher, 2);
+            if ("id".equals(attribute) && IDENTIFIER.matcher(value).matches()) {
+                return "#" + value;
+            }
+            return attributeSelector(attribute, "=", value);
+        }
+        matcher = ATTRIBUTE_FUNCTION.matcher(condition);
+        if (matcher.matches()) {
+            String value = quotedValue(matcher, 3);
+            if (value.isEmpty()) {
+                // contains(@a, '') is true even without the attribute
+                return null;
+            }
+            return attributeSelector(matcher.group(2), "contains".equals(matcher.group(1)) ? "*=" : "^=", value);
+        }
+        matcher = CLASS_WORD.matcher(condition);
+        if (matcher.matches()) {
+            return "." + matcher.group(1);
+        }
+        matcher = HAS_ATTRIBUTE.matcher(condition);
+        if (matcher.matches()) {
+            return "[" + matcher.group(1) + "]";
+        }
+        return null;
+    }
+
+    private static String quotedValue(Matcher matcher, int group) {
+        return matcher.group(group) != null ? matcher.group(group) : matcher.group(group + 1);
+    }
+
+    private static String attributeSelector(String attribute, String operator, String value) {
+        if (value.indexOf('\\') >= 0 || value.indexOf('\n') >= 0) {
+            return null;
+        }
+        if (value.indexOf('\'') < 0) {
+            return "[" + attribute + operator + "'" + value + "']";
+        }
+        return value.indexOf('"') < 0 ? "[" + attribute + operator + "\"" + value + "\"]" : null;
+    }
+
+    private static String checkBalanced(String css) {
+        int brackets = 0;
+        int parentheses = 0;
+        char quote = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\\':
+                    i++;
+                    break;
+                case '\'':
+                case '"':
+                    quote = c;
+                    break;
+                case '[':
+                    brackets++;
+                    break;
+                case ']':
+                    brackets--;
+                    break;
+                case '(':
+                    parentheses++;
+                    break;
+                case ')':
+                    parentheses--;
+                    break;
+                default:
+                    break;
+            }
+            if (brackets < 0 || parentheses < 0) {
+                return "unbalanced '" + c + "' in CSS selector";
+            }
+        }
+        if (quote != 0) {
+            return "unterminated string in CSS selector";
+        }
+        return brackets != 0 || parentheses != 0 ? "unclosed [ or ( in CSS selector" : null;
+    }
+}
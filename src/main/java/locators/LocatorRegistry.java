@@ -0,0 +1,219 @@
+package locators;
+
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * LocatorRegistry - Every locator declared by the page objects
+ *
+ * Purpose: Audit and validate locators in one place instead of per page
+ *
+ * Page objects register their locators through Locator.of() when the class
+ * is initialised. validate() loads every class in locator.packages at suite
+ * start, so all locators are checked before the first test:
+ *  - malformed locators (bad XPath, unbalanced CSS, compound class names)
+ *    fail the suite
+ *  - the same element declared under two names is logged as a warning
+ *  - slow locators are logged with their CSS equivalent when there is one
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LocatorRegistry {
+
+    private static final Map<String, Locator> locators = new ConcurrentHashMap<>();
+    private static final List<String> problems = Collections.synchronizedList(new ArrayList<>());
+
+    // Private constructor to prevent instantiation
+    private LocatorRegistry() {
+        throw new AssertionError("LocatorRegistry class cannot be instantiated");
+    }
+
+    /**
+     * Register a locator (called by Locator.of)
+     * @param locator new locator
+     * @return registered instance
+     */
+    static Locator register(Locator locator) {
+        Locator existing = locators.putIfAbsent(locator.getKey(), locator);
+        if (existing == null) {
+            return locator;
+        }
+        if (!existing.getDeclaredBy().equals(locator.getDeclaredBy())) {
+            throw new IllegalStateException("Locator " + locator.getKey() + " declared twice: " +
+                                            existing.getDeclaredBy() + " and " + locator.getDeclaredBy());
+        }
+        return existing;
+    }
+
+    /**
+     * Load the page objects and validate all their locators (call once at suite start)
+     * @throws IllegalStateException if any locator is malformed
+     */
+    public static void validate() {
+        for (String packageName : ConfigReader.getLocatorPackages().split(",")) {
+            if (!packageName.trim().isEmpty()) {
+                loadPackage(packageName.trim());
+            }
+        }
+
+        List<String> invalid = new ArrayList<>();
+        Map<String, Locator> byValue = new HashMap<>();
+        int[] bands = new int[3];
+        int suggestions = 0;
+        for (Locator locator : getAll()) {
+            String problem = LocatorCost.validate(locator.getStrategy(), locator.getValue());
+            if (problem != null) {
+                invalid.add(locator.getKey() + ": " + problem);
+                continue;
+            }
+            Locator twin = byValue.putIfAbsent(locator.getDeclaredBy().toString(), locator);
+            if (twin != null) {
+                addProblem("Locators " + twin.getKey() + " and " + locator.getKey() +
+                           " find the same element (" + locator.getDeclaredBy() + ")");
+            }
+            String band = LocatorCost.band(locator.getCost());
+            bands["fast".equals(band) ? 0 : "moderate".equals(band) ? 1 : 2]++;
+            if (locator.getSuggestedCss() != null) {
+                suggestions++;
+                LogUtil.info("Locator " + locator.getKey() + " uses " + locator.getStrategy() + " (cost " +
+                             locator.getCost() + ") - CSS equivalent: " + locator.getSuggestedCss());
+            }
+        }
+
+        LogUtil.info("Validated " + locators.size() + " locators in " + pages().size() + " page objects: " +
+                     bands[0] + " fast, " + bands[1] + " moderate, " + bands[2] + " slow, " +
+                     suggestions + " with a CSS equivalent");
+        if (!invalid.isEmpty()) {
+            for (String problem : invalid) {
+                addProblem("Invalid locator " + problem);
+            }
+            throw new IllegalStateException("Invalid locators: " + String.join("; ", invalid));
+        }
+    }
+
+    /**
+     * All registered locators
+     * @return locators sorted by key
+     */
+    public static List<Locator> getAll() {
+        List<Locator> all = new ArrayList<>(locators.values());
+        all.sort(Comparator.comparing(Locator::getKey));
+        return all;
+    }
+
+    /**
+     * Registered locator by key
+     * @param key Page.name
+     * @return locator, or null if not registered
+     */
+    public static Locator get(String key) {
+        return locators.get(key);
+    }
+
+    /**
+     * Locators with the highest mean lookup time in this run
+     * @param limit most locators to return
+     * @return looked-up locators, slowest first
+     */
+    public static List<Locator> getSlowest(int limit) {
+        List<Locator> used = new ArrayList<>();
+        for (Locator locator : locators.values()) {
+            if (locator.getLookups() > 0) {
+                used.add(locator);
+            }
+        }
+        used.sort(Comparator.comparingDouble(Locator::getMeanMillis).reversed());
+        return used.subList(0, Math.min(limit, used.size()));
+    }
+
+    /**
+     * Problems found by validate()
+     * @return invalid and duplicate locator messages
+     */
+    public static List<String> getProblems() {
+        synchronized (problems) {
+            return new ArrayList<>(problems);
+        }
+    }
+
+    private static void addProblem(String problem) {
+        LogUtil.warn(problem);
+        problems.add(problem);
+    }
+
+    /**
+     * Initialise every top-level class of a package so its locators register
+     */
+    private static void loadPackage(String packageName) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        String path = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> roots = loader.getResources(path);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("jar".equals(root.getProtocol())) {
+                    JarFile jar = ((JarURLConnection) root.openConnection()).getJarFile();
+                    for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                        addClassName(classNames, entries.nextElement().getName(), path);
+                    }
+                } else if ("file".equals(root.getProtocol())) {
+                    Path directory = Paths.get(root.toURI());
+                    try (Stream<Path> files = Files.walk(directory)) {
+                        files.forEach(file -> addClassName(classNames,
+                            path + "/" + directory.relativize(file).toString().replace('\\', '/'), path));
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            LogUtil.warn("Could not scan package " + packageName + " for page objects: " + e.getMessage());
+        }
+
+        if (classNames.isEmpty()) {
+            LogUtil.warn("No classes found in locator package " + packageName);
+        }
+        for (String className : classNames) {
+            try {
+                Class.forName(className, true, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                LogUtil.warn("Could not load page object " + className + ": " + e);
+            }
+        }
+    }
+
+    private static void addClassName(Set<String> classNames, String entry, String path) {
+        if (entry.startsWith(path + "/") && entry.endsWith(".class") && !entry.contains("$")) {
+            classNames.add(entry.substring(0, entry.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+
+    private static Set<String> pages() {
+        Set<String> pages = new TreeSet<>();
+        for (Locator locator : locators.values()) {
+            pages.add(locator.getPage());
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,103 @@
+package locators;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * LocatorReport - Suite-end locator audit
+ *
+ * Purpose: Show the slowest locators of the run and the costly ones that
+ *          have a faster CSS equivalent
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LocatorReport {
+
+    // Private constructor to prevent instantiation
+    private LocatorReport() {
+        throw new AssertionError("LocatorReport class cannot be instantiated");
+    }
+
+    /**
+     * Add the locators node to the report
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        List<Locator> all = LocatorRegistry.getAll();
+        if (extent == null || all.isEmpty()) {
+            return;
+        }
+        ExtentTest node = extent.createTest("Locators",
+            "Slowest lookups of this run and costly locators of " + all.size() + " registered");
+        node.assignCategory("Performance");
+        for (String problem : LocatorRegistry.getProblems()) {
+            node.log(Status.WARNING, problem);
+        }
+
+        List<Locator> slowest = LocatorRegistry.getSlowest(ConfigReader.getLocatorReportTop());
+        if (!slowest.isEmpty()) {
+            StringBuilder table = new StringBuilder();
+            table.append("<b>Slowest locators</b><table class='table table-sm'><thead><tr>")
+                 .append("<th>Locator</th><th>Strategy</th><th>Cost</th><th>Lookups</th><th>Failures</th>")
+                 .append("<th>Mean (ms)</th><th>Max (ms)</th><th>CSS equivalent</th></tr></thead><tbody>");
+            for (Locator locator : slowest) {
+                table.append("<tr><td>").append(locator.getKey())
+                     .append("</td><td>").append(escape(locator.getStrategy() + ": " + locator.getValue()))
+                     .append("</td><td>").append(locator.getCost())
+                     .append("</td><td>").append(locator.getLookups())
+                     .append("</td><td").append(locator.getFailures() > 0 ? " style='color:#c00'>" : ">")
+                     .append(locator.getFailures())
+                     .append("</td><td>").append(millis(locator.getMeanMillis()))
+                     .append("</td><td>").append(millis(locator.getMaxMillis()))
+                     .append("</td><td>").append(suggestion(locator))
+                     .append("</td></tr>");
+            }
+            table.append("</tbody></table>");
+            node.info(table.toString());
+        }
+
+        List<Locator> costly = new ArrayList<>();
+        for (Locator locator : all) {
+            if ("slow".equals(LocatorCost.band(locator.getCost()))) {
+                costly.add(locator);
+            }
+        }
+        if (!costly.isEmpty()) {
+            costly.sort(Comparator.comparingInt(Locator::getCost).reversed());
+            StringBuilder table = new StringBuilder();
+            table.append("<b>Costly locators</b><table class='table table-sm'><thead><tr>")
+                 .append("<th>Locator</th><th>Strategy</th><th>Cost</th><th>CSS equivalent</th>")
+                 .append("</tr></thead><tbody>");
+            for (Locator locator : costly) {
+                table.append("<tr><td>").append(locator.getKey())
+                     .append("</td><td>").append(escape(locator.getStrategy() + ": " + locator.getValue()))
+                     .append("</td><td>").append(locator.getCost())
+                     .append("</td><td>").append(suggestion(locator))
+                     .append("</td></tr>");
+            }
+            table.append("</tbody></table>");
+            node.info(table.toString());
+        }
+    }
+
+    private static String suggestion(Locator locator) {
+        return locator.getSuggestedCss() == null ? "-"
+            : "<code>" + escape(locator.getSuggestedCss()) + "</code>";
+    }
+
+    private static String millis(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,168 @@
+package matrix;
+
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * BrowserMatrix - Matrix definition and per-browser concurrency limits
+ *
+ * Purpose:
+ *  - Parse the matrix (matrix.browsers) into BrowserTargets
+ *  - Cap concurrent sessions per browser (matrix.limits), e.g. when a Grid
+ *    has fewer Firefox than Chrome slots
+ *
+ * Limits apply to every driver created through DriverManager, in or out of
+ * matrix mode. Browsers without a limit are not throttled.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserMatrix {
+
+    // TestNG parameter names carrying the target into BaseTest
+    public static final String BROWSER_PARAM = "browser";
+    public static final String VERSION_PARAM = "browserVersion";
+    public static final String VIEWPORT_PARAM = "viewport";
+
+    private static final Map<String, Semaphore> limits = new ConcurrentHashMap<>();
+    private static volatile Map<String, Integer> configuredLimits;
+
+    // Private constructor to prevent instantiation
+    private BrowserMatrix() {
+        throw new AssertionError("BrowserMatrix class cannot be instantiated");
+    }
+
+    /**
+     * Targets configured in matrix.browsers
+     * @return targets in declaration order, duplicates removed
+     */
+    public static List<BrowserTarget> getTargets() {
+        return parseTargets(ConfigReader.getMatrixBrowsers());
+    }
+
+    /**
+     * Parse a comma-separated matrix definition
+     * @param spec e.g. "chrome, firefox:128, edge::1366x768"
+     * @return targets in declaration order, duplicates removed
+     */
+    public static List<BrowserTarget> parseTargets(String spec) {
+        List<BrowserTarget> targets = new ArrayList<>();
+        if (spec == null) {
+            return targets;
+        }
+        for (String entry : spec.split(",")) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            BrowserTarget target = BrowserTarget.parse(entry);
+            if (!targets.contains(target)) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    // ==================== CONCURRENCY LIMITS ====================
+
+    /**
+     * Block until a session slot for the browser is free
+     * @param browser browser name
+     */
+    public static void acquire(String browser) {
+        Semaphore limit = limitFor(browser);
+        if (limit == null) {
+            return;
+        }
+        if (!limit.tryAcquire()) {
+            LogUtil.info("Waiting for a free " + browser + " slot (limit " +
+                         getLimit(browser) + ")");
+            try {
+                limit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a " + browser + " slot", e);
+            }
+        }
+    }
+
+    /**
+     * Take a session slot for the browser only if one is free right now
+     * @param browser browser name
+     * @return true if a slot was taken (return it with release)
+     */
+    public static boolean tryAcquire(String browser) {
+        Semaphore limit = limitFor(browser);
+        return limit == null || limit.tryAcquire();
+    }
+
+    /**
+     * Return a session slot taken by acquire or tryAcquire
+     * @param browser browser name
+     */
+    public static void release(String browser) {
+        Semaphore limit = limitFor(browser);
+        if (limit != null) {
+            limit.release();
+        }
+    }
+
+    /**
+     * Configured concurrency limit for a browser
+     * @param browser browser name
+     * @return limit, or 0 when unlimited
+     */
+    public static int getLimit(String browser) {
+        Integer limit = getConfiguredLimits().get(browser.toLowerCase(Locale.ROOT));
+        return limit == null ? 0 : limit;
+    }
+
+    private static Semaphore limitFor(String browser) {
+        int limit = getLimit(browser);
+        if (limit <= 0) {
+            return null;
+        }
+        return limits.computeIfAbsent(browser.toLowerCase(Locale.ROOT),
+                                      key -> new Semaphore(limit, true));
+    }
+
+    private static Map<String, Integer> getConfiguredLimits() {
+        Map<String, Integer> parsed = configuredLimits;
+        if (parsed == null) {
+            parsed = parseLimits(ConfigReader.getMatrixLimits());
+            configuredLimits = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Parse per-browser limits
+     * @param spec e.g. "chrome:4, firefox:2"
+     * @return browser to limit
+     */
+    static Map<String, Integer> parseLimits(String spec) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (spec == null) {
+            return parsed;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                if (!entry.trim().isEmpty()) {
+                    LogUtil.warn("Ignoring invalid matrix limit: " + entry);
+                }
+                continue;
+            }
+            parsed.put(parts[0].trim().toLowerCase(Locale.ROOT), Integer.parseInt(parts[1].trim()));
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
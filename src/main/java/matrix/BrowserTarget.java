@@ -0,0 +1,160 @@
+package matrix;
+
+import utils.ConfigReader;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * BrowserTarget - One cell of the browser matrix (browser, version, viewport)
+ *
+ * Purpose: Carry the browser selection for a test explicitly from the suite
+ *          definition to DriverManager instead of through global system
+ *          properties, which are shared by every parallel thread
+ *
+ * Spec format: browser[:version[:WIDTHxHEIGHT]]
+ *  chrome                 - default version and window size
+ *  firefox:128            - specific version
+ *  edge::1366x768         - any version, fixed viewport
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserTarget {
+
+    private final String browser;
+    private final String version;
+    private final int width;
+    private final int height;
+
+    private BrowserTarget(String browser, String version, int width, int height) {
+        this.browser = browser.trim().toLowerCase(Locale.ROOT);
+        this.version = version == null ? "" : version.trim();
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Build a target from separate values
+     * @param browser browser name (falls back to config when empty)
+     * @param version browser version (empty = any)
+     * @param viewport WIDTHxHEIGHT (empty = framework default)
+     * @return browser target
+     */
+    public static BrowserTarget of(String browser, String version, String viewport) {
+        if (browser == null || browser.trim().isEmpty()) {
+            browser = ConfigReader.getBrowser();
+        }
+        int width = 0;
+        int height = 0;
+        if (viewport != null && !viewport.trim().isEmpty()) {
+            String[] size = viewport.trim().toLowerCase(Locale.ROOT).split("x");
+            if (size.length != 2) {
+                throw new IllegalArgumentException("Invalid viewport '" + viewport +
+                                                   "', expected WIDTHxHEIGHT");
+            }
+            width = Integer.parseInt(size[0].trim());
+            height = Integer.parseInt(size[1].trim());
+        }
+        return new BrowserTarget(browser, version, width, height);
+    }
+
+    /**
+     * Parse a matrix entry
+     * @param spec browser[:version[:WIDTHxHEIGHT]]
+     * @return browser target
+     */
+    public static BrowserTarget parse(String spec) {
+        String[] parts = spec.trim().split(":", -1);
+        return of(parts[0],
+                  parts.length > 1 ? parts[1] : "",
+                  parts.length > 2 ? parts[2] : "");
+    }
+
+    /**
+     * Target from the browser configured in config.properties / -Dbrowser
+     * @return browser target
+     */
+    public static BrowserTarget fromConfig() {
+        return of(ConfigReader.getBrowser(), "", "");
+    }
+
+    /**
+     * Target from TestNG parameters (browser, browserVersion, viewport)
+     * @param parameters test parameters
+     * @return browser target
+     */
+    public static BrowserTarget fromParameters(Map<String, String> parameters) {
+        return of(parameters.get(BrowserMatrix.BROWSER_PARAM),
+                  parameters.get(BrowserMatrix.VERSION_PARAM),
+                  parameters.get(BrowserMatrix.VIEWPORT_PARAM));
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean hasVersion() {
+        return !version.isEmpty();
+    }
+
+    public boolean hasViewport() {
+        return width > 0 && height > 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Viewport as WIDTHxHEIGHT
+     * @return viewport or empty string when not set
+     */
+    public String getViewport() {
+        return hasViewport() ? width + "x" + height : "";
+    }
+
+    /**
+     * Short label for reports, e.g. "chrome 120 1366x768"
+     * @return label
+     */
+    public String getLabel() {
+        StringBuilder label = new StringBuilder(browser);
+        if (hasVersion()) {
+            label.append(' ').append(version);
+        }
+        if (hasViewport()) {
+            label.append(' ').append(getViewport());
+        }
+        return label.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof BrowserTarget)) {
+            return false;
+        }
+        BrowserTarget that = (BrowserTarget) other;
+        return browser.equals(that.browser) && version.equals(that.version) &&
+               width == that.width && height == that.height;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(browser, version, width, height);
+    }
+
+    @Override
+    public String toString() {
+        return getLabel();
+    }
+}
@@ -0,0 +1,156 @@
+package matrix;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import utils.LogUtil;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MatrixResults - Test outcomes aggregated per browser matrix target
+ *
+ * Purpose:
+ *  - Pass/fail/skip counts and duration per target
+ *  - Test x target grid so a failure on one browser only stands out
+ *
+ * A retried test keeps the outcome of its last attempt.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class MatrixResults {
+
+    public static final String PASS = "PASS";
+    public static final String FAIL = "FAIL";
+    public static final String SKIP = "SKIP";
+
+    private static final Set<String> targets = new LinkedHashSet<>();
+    private static final Map<String, Map<String, String>> outcomes = new LinkedHashMap<>();
+    private static final Map<String, Long> durations = new LinkedHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private MatrixResults() {
+        throw new AssertionError("MatrixResults class cannot be instantiated");
+    }
+
+    /**
+     * Record the outcome of one test on one target
+     * @param target matrix target
+     * @param testName test name
+     * @param status PASS, FAIL or SKIP
+     * @param durationMillis test duration
+     */
+    public static synchronized void record(BrowserTarget target, String testName,
+                                           String status, long durationMillis) {
+        String label = target.getLabel();
+        targets.add(label);
+        outcomes.computeIfAbsent(testName, key -> new LinkedHashMap<>()).put(label, status);
+        durations.merge(label, durationMillis, Long::sum);
+    }
+
+    /**
+     * Number of distinct targets seen so far
+     * @return target count
+     */
+    public static synchronized int getTargetCount() {
+        return targets.size();
+    }
+
+    /**
+     * Count outcomes with the given status for a target
+     * @param label target label
+     * @param status PASS, FAIL or SKIP
+     * @return count
+     */
+    public static synchronized int count(String label, String status) {
+        int count = 0;
+        for (Map<String, String> byTarget : outcomes.values()) {
+            if (status.equals(byTarget.get(label))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Add the matrix summary node to the report (only when more than one target ran)
+     * @param extent report to attach to (may be null)
+     */
+    public static synchronized void attachTo(ExtentReports extent) {
+        if (targets.size() < 2) {
+            return;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append("<table class='table table-sm'><thead><tr>")
+               .append("<th>Target</th><th>Passed</th><th>Failed</th><th>Skipped</th>")
+               .append("<th>Duration (s)</th></tr></thead><tbody>");
+        int failedTargets = 0;
+        for (String label : targets) {
+            int failed = count(label, FAIL);
+            if (failed > 0) {
+                failedTargets++;
+            }
+            summary.append("<tr><td>").append(label)
+                   .append("</td><td>").append(count(label, PASS))
+                   .append("</td><td>").append(failed)
+                   .append("</td><td>").append(count(label, SKIP))
+                   .append("</td><td>").append(String.format(Locale.ROOT, "%.1f",
+                                                   durations.getOrDefault(label, 0L) / 1000.0))
+                   .append("</td></tr>");
+            LogUtil.info("Matrix " + label + ": passed=" + count(label, PASS) +
+                         ", failed=" + failed + ", skipped=" + count(label, SKIP));
+        }
+        summary.append("</tbody></table>");
+
+        StringBuilder grid = new StringBuilder();
+        grid.append("<table class='table table-sm'><thead><tr><th>Test</th>");
+        for (String label : targets) {
+            grid.append("<th>").append(label).append("</th>");
+        }
+        grid.append("</tr></thead><tbody>");
+        for (Map.Entry<String, Map<String, String>> entry : outcomes.entrySet()) {
+            grid.append("<tr><td>").append(entry.getKey()).append("</td>");
+            for (String label : targets) {
+                String status = entry.getValue().getOrDefault(label, "-");
+                grid.append("<td style='color:").append(colorOf(status)).append("'>")
+                    .append(status).append("</td>");
+            }
+            grid.append("</tr>");
+        }
+        grid.append("</tbody></table>");
+
+        if (extent == null) {
+            return;
+        }
+        ExtentTest node = extent.createTest("Browser Matrix",
+            "Results per browser / version / viewport across " + targets.size() + " targets");
+        node.assignCategory("Matrix");
+        node.info(summary.toString());
+        node.info(grid.toString());
+        if (failedTargets > 0) {
+            node.log(Status.WARNING, "Failures on " + failedTargets + " of " +
+                     targets.size() + " targets");
+        } else {
+            node.pass("All targets passed");
+        }
+    }
+
+    private static String colorOf(String status) {
+        switch (status) {
+            case PASS:
+                return "#2e7d32";
+            case FAIL:
+                return "#e4572e";
+            case SKIP:
+                return "#f3a712";
+            default:
+                return "inherit";
+        }
+    }
+}
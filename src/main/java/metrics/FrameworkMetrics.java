@@ -0,0 +1,136 @@
+package metrics;
+
+/**
+ * FrameworkMetrics - Metrics published by the framework during a run
+ *
+ * Purpose: Single place where every framework metric is declared, so
+ *          listeners and utilities update the same instances
+ * Usage: FrameworkMetrics.TESTS_STARTED.inc()
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class FrameworkMetrics {
+
+    // Private constructor to prevent instantiation
+    private FrameworkMetrics() {
+        throw new AssertionError("FrameworkMetrics class cannot be instantiated");
+    }
+
+    // ==================== TEST EXECUTION ====================
+
+    public static final MetricsRegistry.Counter TESTS_STARTED = MetricsRegistry.counter(
+        "automation_tests_started_total", "Test methods started");
+
+    public static final MetricsRegistry.Counter TESTS_PASSED = MetricsRegistry.counter(
+        "automation_tests_passed_total", "Test methods passed");
+
+    public static final MetricsRegistry.Counter TESTS_FAILED = MetricsRegistry.counter(
+        "automation_tests_failed_total", "Test methods failed");
+
+    public static final MetricsRegistry.Counter TESTS_SKIPPED = MetricsRegistry.counter(
+        "automation_tests_skipped_total", "Test methods skipped");
+
+    public static final MetricsRegistry.Counter TESTS_RETRIED = MetricsRegistry.counter(
+        "automation_tests_retried_total", "Test method retries scheduled by RetryAnalyzer");
+
+    // ==================== DRIVER SESSIONS ====================
+
+    public static final MetricsRegistry.Gauge ACTIVE_SESSIONS = MetricsRegistry.gauge(
+        "automation_active_sessions", "WebDriver sessions currently alive");
+
+    public static final MetricsRegistry.Timer SESSION_CREATION = MetricsRegistry.timer(
+        "automation_session_creation_seconds", "Time spent creating WebDriver sessions",
+        "browser");
+
+    public static final MetricsRegistry.Timer DRIVER_ACQUISITION = MetricsRegistry.timer(
+        "automation_driver_acquisition_seconds",
+        "Time for a test to get a ready driver (warm = pre-launched, cold = launched on demand)",
+        "source");
+
+    public static final MetricsRegistry.Gauge ADMISSION_LIMIT = MetricsRegistry.gauge(
+        "automation_admission_limit", "Live drivers currently allowed by admission control");
+
+    public static final MetricsRegistry.Gauge ADMISSION_WAITING = MetricsRegistry.gauge(
+        "automation_admission_waiting", "Tests waiting for driver admission");
+
+    public static final MetricsRegistry.Counter SESSIONS_REAPED = MetricsRegistry.counter(
+        "automation_sessions_reaped_total", "Driver sessions cleaned up by the leak reaper",
+        "state");
+
+    // ==================== GRID HTTP ====================
+
+    public static final MetricsRegistry.Counter GRID_HTTP_CLIENTS = MetricsRegistry.counter(
+        "automation_grid_http_clients_total",
+        "Remote sessions by HTTP client used (new = own connection pool, reused = shared pool)",
+        "hub", "pool");
+
+    public static final MetricsRegistry.Counter GRID_HUB_SESSIONS = MetricsRegistry.counter(
+        "automation_grid_hub_sessions_total", "Session creations per Grid hub", "hub", "outcome");
+
+    public static final MetricsRegistry.Gauge GRID_HUB_UP = MetricsRegistry.gauge(
+        "automation_grid_hub_up", "1 if the hub is healthy and its circuit breaker closed", "hub");
+
+    public static final MetricsRegistry.Timer GRID_COMMAND = MetricsRegistry.timer(
+        "automation_grid_command_seconds", "Round-trip time of WebDriver commands sent to the Grid",
+        "hub");
+
+    public static final MetricsRegistry.Counter GRID_RESPONSE_BYTES = MetricsRegistry.counter(
+        "automation_grid_response_bytes_total",
+        "Compressible Grid response bytes (wire = as received, decoded = after gunzip)",
+        "form");
+
+    // ==================== LOCATORS ====================
+
+    public static final MetricsRegistry.Timer LOCATOR_LOOKUP = MetricsRegistry.timer(
+        "automation_locator_lookup_seconds", "Time to find a registered locator, waits included",
+        "locator");
+
+    public static final MetricsRegistry.Counter LOCATOR_FAILURES = MetricsRegistry.counter(
+        "automation_locator_failures_total", "Lookups of a registered locator that failed", "locator");
+
+    public static final MetricsRegistry.Counter LOCATOR_HEALS = MetricsRegistry.counter(
+        "automation_locator_heals_total", "Attempts to heal a broken locator from its fingerprint",
+        "locator", "outcome");
+
+    public static final MetricsRegistry.Counter FORM_FIELDS = MetricsRegistry.counter(
+        "automation_form_fields_total",
+        "Fields filled by BasePage.fillForm (script = one call per form, fallback = script could not, then sendKeys)",
+        "mode");
+
+    // ==================== TEST SETUP ====================
+
+    public static final MetricsRegistry.Timer SETUP_ACTIONS = MetricsRegistry.timer(
+        "automation_setup_action_seconds",
+        "Time to establish a precondition (ui = through the pages, api = HTTP call + injected state)",
+        "action", "mode");
+
+    // ==================== WAITS & SCREENSHOTS ====================
+
+    public static final MetricsRegistry.Timer WAIT_TIME = MetricsRegistry.timer(
+        "automation_wait_seconds", "Time spent in WaitHelper explicit waits", "condition");
+
+    public static final MetricsRegistry.Counter RECORDED_FRAMES = MetricsRegistry.counter(
+        "automation_recorded_frames_total",
+        "Failure replay frames (captured, evicted = over the session budget, encoded = written for a failure)",
+        "fate");
+
+    public static final MetricsRegistry.Gauge RECORDING_BUFFER_BYTES = MetricsRegistry.gauge(
+        "automation_recording_buffer_bytes", "Screenshot bytes held in failure replay buffers");
+
+    public static final MetricsRegistry.Counter TEST_LOG_LINES = MetricsRegistry.counter(
+        "automation_test_log_lines_total",
+        "Log lines routed to per-test buffers (dropped = over test.log.max.kb, attached = reported for a failure)",
+        "fate");
+
+    public static final MetricsRegistry.Gauge TEST_LOG_BUFFER_CHARS = MetricsRegistry.gauge(
+        "automation_test_log_buffer_chars", "Log text held in per-test buffers of running tests");
+
+    public static final MetricsRegistry.Counter BROWSER_EVENTS = MetricsRegistry.counter(
+        "automation_browser_events_total",
+        "Console and network events captured from browser sessions (dropped = overwritten in a full buffer)",
+        "fate");
+
+    public static final MetricsRegistry.Counter SCREENSHOT_BYTES = MetricsRegistry.counter(
+        "automation_screenshot_bytes_total", "Screenshot bytes written to disk");
+}
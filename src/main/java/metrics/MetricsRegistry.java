@@ -0,0 +1,273 @@
+package metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsRegistry - Minimal in-process metrics registry
+ *
+ * Purpose: Hold counters, gauges and timers for the running suite and
+ *          render them in Prometheus text exposition format
+ * Thread-Safe: Yes (lock-free adders, concurrent label maps)
+ *
+ * Every metric family may declare label names; values for a labelled
+ * child are passed in the same order on each call.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class MetricsRegistry {
+
+    private static final List<Metric> metrics = new CopyOnWriteArrayList<>();
+
+    // Private constructor to prevent instantiation
+    private MetricsRegistry() {
+        throw new AssertionError("MetricsRegistry class cannot be instantiated");
+    }
+
+    /**
+     * Register a monotonically increasing counter
+     * @param name metric name (should end with _total)
+     * @param help description shown in the exposition
+     * @param labelNames optional label names
+     * @return Counter instance
+     */
+    public static Counter counter(String name, String help, String... labelNames) {
+        return register(new Counter(name, help, labelNames));
+    }
+
+    /**
+     * Register a gauge (value that can go up and down)
+     * @param name metric name
+     * @param help description shown in the exposition
+     * @param labelNames optional label names
+     * @return Gauge instance
+     */
+    public static Gauge gauge(String name, String help, String... labelNames) {
+        return register(new Gauge(name, help, labelNames));
+    }
+
+    /**
+     * Register a timer exposed as a Prometheus summary (_count and _sum in seconds)
+     * @param name metric name (should end with _seconds)
+     * @param help description shown in the exposition
+     * @param labelNames optional label names
+     * @return Timer instance
+     */
+    public static Timer timer(String name, String help, String... labelNames) {
+        return register(new Timer(name, help, labelNames));
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        metrics.add(metric);
+        return metric;
+    }
+
+    /**
+     * Render all registered metrics in Prometheus text format (version 0.0.4)
+     * @return exposition text
+     */
+    public static String scrape() {
+        StringBuilder sb = new StringBuilder(2048);
+        for (Metric metric : metrics) {
+            metric.render(sb);
+        }
+        return sb.toString();
+    }
+
+    // ==================== METRIC TYPES ====================
+
+    /**
+     * Base class for a metric family
+     */
+    public abstract static class Metric {
+
+        protected final String name;
+        protected final String help;
+        protected final String[] labelNames;
+
+        Metric(String name, String help, String[] labelNames) {
+            this.name = name;
+            this.help = help;
+            this.labelNames = labelNames;
+        }
+
+        /**
+         * Build the label key for a child, e.g. browser="chrome"
+         */
+        protected String labelKey(String[] labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException("Metric " + name + " expects " +
+                        labelNames.length + " label value(s), got " + labelValues.length);
+            }
+            if (labelNames.length == 0) {
+                return "";
+            }
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(labelNames[i]).append("=\"")
+                  .append(escape(labelValues[i])).append('"');
+            }
+            return sb.append('}').toString();
+        }
+
+        protected void header(StringBuilder sb, String type) {
+            sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+
+        abstract void render(StringBuilder sb);
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+    }
+
+    /**
+     * Counter - monotonically increasing value
+     */
+    public static final class Counter extends Metric {
+
+        private final Map<String, LongAdder> children = new ConcurrentHashMap<>();
+
+        Counter(String name, String help, String[] labelNames) {
+            super(name, help, labelNames);
+        }
+
+        public void inc(String... labelValues) {
+            add(1, labelValues);
+        }
+
+        public void add(long amount, String... labelValues) {
+            children.computeIfAbsent(labelKey(labelValues), k -> new LongAdder()).add(amount);
+        }
+
+        public long get(String... labelValues) {
+            LongAdder adder = children.get(labelKey(labelValues));
+            return adder == null ? 0 : adder.sum();
+        }
+
+        @Override
+        void render(StringBuilder sb) {
+            header(sb, "counter");
+            if (children.isEmpty() && labelNames.length == 0) {
+                sb.append(name).append(" 0\n");
+            }
+            children.forEach((labels, value) ->
+                sb.append(name).append(labels).append(' ').append(value.sum()).append('\n'));
+        }
+    }
+
+    /**
+     * Gauge - value that can go up and down
+     */
+    public static final class Gauge extends Metric {
+
+        private final Map<String, AtomicLong> children = new ConcurrentHashMap<>();
+
+        Gauge(String name, String help, String[] labelNames) {
+            super(name, help, labelNames);
+        }
+
+        private AtomicLong child(String[] labelValues) {
+            return children.computeIfAbsent(labelKey(labelValues), k -> new AtomicLong());
+        }
+
+        public void inc(String... labelValues) {
+            child(labelValues).incrementAndGet();
+        }
+
+        public void dec(String... labelValues) {
+            child(labelValues).decrementAndGet();
+        }
+
+        public void set(long value, String... labelValues) {
+            child(labelValues).set(value);
+        }
+
+        public long get(String... labelValues) {
+            AtomicLong value = children.get(labelKey(labelValues));
+            return value == null ? 0 : value.get();
+        }
+
+        @Override
+        void render(StringBuilder sb) {
+            header(sb, "gauge");
+            if (children.isEmpty() && labelNames.length == 0) {
+                sb.append(name).append(" 0\n");
+            }
+            children.forEach((labels, value) ->
+                sb.append(name).append(labels).append(' ').append(value.get()).append('\n'));
+        }
+    }
+
+    /**
+     * Timer - records durations, exposed as summary count and sum (seconds)
+     */
+    public static final class Timer extends Metric {
+
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        private final Map<String, DoubleAdder> sums = new ConcurrentHashMap<>();
+
+        Timer(String name, String help, String[] labelNames) {
+            super(name, help, labelNames);
+        }
+
+        /**
+         * Record a duration
+         * @param nanos elapsed time in nanoseconds
+         * @param labelValues label values
+         */
+        public void record(long nanos, String... labelValues) {
+            String key = labelKey(labelValues);
+            // Sum first so a scrape never sees a count without its sum
+            sums.computeIfAbsent(key, k -> new DoubleAdder()).add(nanos / 1_000_000_000.0);
+            counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+
+        /**
+         * Record time elapsed since a System.nanoTime() start mark
+         * @param startNanos start mark
+         * @param labelValues label values
+         */
+        public void recordSince(long startNanos, String... labelValues) {
+            record(System.nanoTime() - startNanos, labelValues);
+        }
+
+        public long count(String... labelValues) {
+            LongAdder count = counts.get(labelKey(labelValues));
+            return count == null ? 0 : count.sum();
+        }
+
+        public double totalSeconds(String... labelValues) {
+            DoubleAdder sum = sums.get(labelKey(labelValues));
+            return sum == null ? 0 : sum.sum();
+        }
+
+        @Override
+        void render(StringBuilder sb) {
+            header(sb, "summary");
+            if (counts.isEmpty() && labelNames.length == 0) {
+                sb.append(name).append("_count 0\n");
+                sb.append(name).append("_sum 0.0\n");
+            }
+            counts.forEach((labels, count) -> {
+                sb.append(name).append("_count").append(labels).append(' ')
+                  .append(count.sum()).append('\n');
+                sb.append(name).append("_sum").append(labels).append(' ')
+                  .append(sums.get(labels).sum()).append('\n');
+            });
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import constants.FrameworkConstants;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MetricsServer - Exposes framework metrics while the suite is running
+ *
+ * Purpose: Live telemetry for long runs
+ *  - Embedded HTTP endpoint: GET http://localhost:{metrics.port}/metrics
+ *  - Optional periodic dump to test-output/metrics/metrics.prom
+ *
+ * Configuration (config.properties):
+ *  metrics.enabled=true|false
+ *  metrics.port=9464
+ *  metrics.file.interval=15   (seconds, 0 disables the file writer)
+ *
+ * Local check during a run: curl -s http://localhost:9464/metrics
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class MetricsServer {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+    private static ScheduledExecutorService fileWriter;
+    private static final Object lock = new Object();
+
+    // Private constructor to prevent instantiation
+    private MetricsServer() {
+        throw new AssertionError("MetricsServer class cannot be instantiated");
+    }
+
+    /**
+     * Start the HTTP endpoint and file writer if metrics are enabled.
+     * Safe to call more than once.
+     */
+    public static void start() {
+        if (!ConfigReader.isMetricsEnabled()) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (server != null) {
+                return;
+            }
+
+            int port = ConfigReader.getMetricsPort();
+            try {
+                server = HttpServer.create(new InetSocketAddress(port), 0);
+                server.createContext("/metrics", exchange -> {
+                    byte[] body = MetricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(body);
+                    }
+                });
+                server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "metrics-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+                server.start();
+                LogUtil.info("Metrics endpoint started: http://localhost:" + port + "/metrics");
+            } catch (IOException e) {
+                server = null;
+                LogUtil.warn("Could not start metrics endpoint on port " + port + ": " +
+                             e.getMessage());
+            }
+
+            int interval = ConfigReader.getMetricsFileInterval();
+            if (interval > 0) {
+                fileWriter = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "metrics-file");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                fileWriter.scheduleAtFixedRate(MetricsServer::writeFile,
+                    interval, interval, TimeUnit.SECONDS);
+                LogUtil.info("Metrics file writer started: " +
+                             FrameworkConstants.METRICS_FILE_PATH + " every " + interval + "s");
+            }
+        }
+    }
+
+    /**
+     * Stop the endpoint and write a final snapshot to file (if enabled)
+     */
+    public static void stop() {
+        synchronized (lock) {
+            if (fileWriter != null) {
+                fileWriter.shutdownNow();
+                fileWriter = null;
+                writeFile();
+            }
+            if (server != null) {
+                server.stop(0);
+                server = null;
+                LogUtil.info("Metrics endpoint stopped");
+            }
+        }
+    }
+
+    /**
+     * Write the current exposition atomically (temp file + move) so a reader
+     * never sees a half-written snapshot
+     */
+    private static void writeFile() {
+        try {
+            Path target = Paths.get(FrameworkConstants.METRICS_FILE_PATH);
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(temp, MetricsRegistry.scrape().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LogUtil.warn("Failed to write metrics file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package metrics;
+
+import utils.ExecutionEvents;
+import utils.LogUtil;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PhaseTimer - Phase-level timing for every test invocation
+ *
+ * Purpose: Split test time into driver acquisition, navigation, test body,
+ *          screenshot and teardown so slowness can be attributed
+ * Thread-Safe: Yes (per-thread current test, lock-free suite aggregates)
+ *
+ * Usage:
+ *  long start = PhaseTimer.start();
+ *  DriverManager.initializeDriver();
+ *  PhaseTimer.record(PhaseTimer.Phase.DRIVER, start);
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class PhaseTimer {
+
+    /**
+     * Phases of a single test invocation, in execution order
+     */
+    public enum Phase {
+        DRIVER("Driver acquisition"),
+        NAVIGATION("Navigation"),
+        TEST_BODY("Test body"),
+        SCREENSHOT("Screenshot"),
+        TEARDOWN("Teardown");
+
+        private final String displayName;
+        private final String key;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+            this.key = name().toLowerCase();
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Lower-case name used as metric label and event field
+         */
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final MetricsRegistry.Timer PHASE_TIME = MetricsRegistry.timer(
+        "automation_phase_seconds", "Time spent per test phase", "phase");
+
+    private static final Map<Phase, LongAdder> counts = new EnumMap<>(Phase.class);
+    private static final Map<Phase, LongAdder> totals = new EnumMap<>(Phase.class);
+    private static final Map<Phase, AtomicLong> maxima = new EnumMap<>(Phase.class);
+
+    static {
+        for (Phase phase : Phase.values()) {
+            counts.put(phase, new LongAdder());
+            totals.put(phase, new LongAdder());
+            maxima.put(phase, new AtomicLong());
+        }
+    }
+
+    private static final ThreadLocal<Map<Phase, Long>> currentTest =
+        ThreadLocal.withInitial(() -> new EnumMap<>(Phase.class));
+
+    // Private constructor to prevent instantiation
+    private PhaseTimer() {
+        throw new AssertionError("PhaseTimer class cannot be instantiated");
+    }
+
+    /**
+     * Start mark for a phase
+     * @return System.nanoTime()
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a phase that started at the given mark and ends now
+     * @param phase phase
+     * @param startNanos value returned by start()
+     */
+    public static void record(Phase phase, long startNanos) {
+        recordNanos(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record a phase duration measured elsewhere (e.g. TestNG result times)
+     * @param phase phase
+     * @param millis duration in milliseconds
+     */
+    public static void recordMillis(Phase phase, long millis) {
+        recordNanos(phase, millis * 1_000_000L);
+    }
+
+    private static void recordNanos(Phase phase, long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        counts.get(phase).increment();
+        totals.get(phase).add(nanos);
+        maxima.get(phase).accumulateAndGet(nanos, Math::max);
+        PHASE_TIME.record(nanos, phase.getKey());
+        currentTest.get().merge(phase, nanos, Long::sum);
+        ExecutionEvents.phase(phase.getKey(), nanos);
+    }
+
+    /**
+     * Finish the current thread's test: log its breakdown and reset.
+     * Call once teardown has been recorded.
+     * @param testName test name for the log line
+     */
+    public static void completeTest(String testName) {
+        Map<Phase, Long> phases = currentTest.get();
+        if (!phases.isEmpty()) {
+            StringBuilder sb = new StringBuilder("Phase timings for ").append(testName).append(':');
+            phases.forEach((phase, nanos) ->
+                sb.append(' ').append(phase.name().toLowerCase()).append('=')
+                  .append(nanos / 1_000_000).append("ms"));
+            LogUtil.debug(sb.toString());
+        }
+        currentTest.remove();
+    }
+
+    /**
+     * Get durations recorded so far for the current thread's test
+     * @return copy of phase -> nanoseconds
+     */
+    public static Map<Phase, Long> getCurrentTestPhases() {
+        return new EnumMap<>(currentTest.get());
+    }
+
+    // ==================== SUITE AGGREGATES ====================
+
+    public static long getCount(Phase phase) {
+        return counts.get(phase).sum();
+    }
+
+    public static long getTotalNanos(Phase phase) {
+        return totals.get(phase).sum();
+    }
+
+    public static long getMaxNanos(Phase phase) {
+        return maxima.get(phase).get();
+    }
+
+    /**
+     * Mean duration of a phase in milliseconds
+     * @param phase phase
+     * @return mean in ms, 0 if never recorded
+     */
+    public static double getMeanMillis(Phase phase) {
+        long count = getCount(phase);
+        return count == 0 ? 0 : getTotalNanos(phase) / 1_000_000.0 / count;
+    }
+}
@@ -0,0 +1,186 @@
+package metrics;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import constants.FrameworkConstants;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * PhaseTimingReport - Suite-level phase breakdown for the Extent report
+ *
+ * Purpose:
+ *  - Breakdown table (count, mean, max, total, share) per phase
+ *  - Flame-style stacked bar showing where suite time went
+ *  - Comparison of mean phase time against a stored baseline
+ *
+ * The current run is written to test-output/reports/phase-timings.properties;
+ * copy it over the baseline file (phase.baseline.file) to accept new numbers.
+ * No baseline ships with the framework - timings depend on browser, machine
+ * and execution mode - so until one is created a warning is logged and
+ * regressions are not checked.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class PhaseTimingReport {
+
+    // Ignore regressions smaller than this, whatever the percentage
+    private static final double MIN_REGRESSION_MS = 50;
+
+    private static final String[] COLORS = {
+        "#e4572e", "#f3a712", "#29335c", "#669bbc", "#a8c686"
+    };
+
+    // Private constructor to prevent instantiation
+    private PhaseTimingReport() {
+        throw new AssertionError("PhaseTimingReport class cannot be instantiated");
+    }
+
+    /**
+     * Add the phase breakdown node to the report and persist current timings
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        if (PhaseTimer.getCount(PhaseTimer.Phase.DRIVER) == 0 &&
+            PhaseTimer.getCount(PhaseTimer.Phase.TEST_BODY) == 0) {
+            return;
+        }
+
+        Properties baseline = loadBaseline();
+        double threshold = ConfigReader.getPhaseRegressionThreshold();
+        int regressions = 0;
+
+        long suiteTotal = 0;
+        for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+            suiteTotal += PhaseTimer.getTotalNanos(phase);
+        }
+
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><thead><tr>")
+             .append("<th>Phase</th><th>Count</th><th>Mean (ms)</th><th>Max (ms)</th>")
+             .append("<th>Total (s)</th><th>Share</th><th>Baseline mean (ms)</th><th>Change</th>")
+             .append("</tr></thead><tbody>");
+
+        StringBuilder flame = new StringBuilder();
+        flame.append("<div style='display:flex;width:100%;height:28px;border-radius:4px;")
+             .append("overflow:hidden;margin:8px 0'>");
+
+        int colorIndex = 0;
+        for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+            long total = PhaseTimer.getTotalNanos(phase);
+            double mean = PhaseTimer.getMeanMillis(phase);
+            double share = suiteTotal == 0 ? 0 : total * 100.0 / suiteTotal;
+            String key = phase.name().toLowerCase();
+
+            String baselineCell = "-";
+            String changeCell = "-";
+            String baselineValue = baseline.getProperty(key + ".mean.ms");
+            if (baselineValue != null && PhaseTimer.getCount(phase) > 0) {
+                double baselineMean = Double.parseDouble(baselineValue);
+                double change = baselineMean == 0 ? 0 : (mean - baselineMean) * 100.0 / baselineMean;
+                baselineCell = format(baselineMean);
+                changeCell = String.format(Locale.ROOT, "%+.1f%%", change);
+                if (change > threshold && mean - baselineMean > MIN_REGRESSION_MS) {
+                    changeCell = "<span style='color:#e4572e;font-weight:bold'>" + changeCell +
+                                 " REGRESSION</span>";
+                    regressions++;
+                    LogUtil.warn("Phase regression: " + phase.getDisplayName() + " mean " +
+                                 format(mean) + "ms vs baseline " + format(baselineMean) + "ms");
+                }
+            }
+
+            table.append("<tr><td>").append(phase.getDisplayName())
+                 .append("</td><td>").append(PhaseTimer.getCount(phase))
+                 .append("</td><td>").append(format(mean))
+                 .append("</td><td>").append(format(PhaseTimer.getMaxNanos(phase) / 1_000_000.0))
+                 .append("</td><td>").append(format(total / 1_000_000_000.0))
+                 .append("</td><td>").append(format(share)).append('%')
+                 .append("</td><td>").append(baselineCell)
+                 .append("</td><td>").append(changeCell)
+                 .append("</td></tr>");
+
+            String color = COLORS[colorIndex++ % COLORS.length];
+            if (share > 0) {
+                flame.append("<div title='").append(phase.getDisplayName()).append(": ")
+                     .append(format(share)).append("%' style='width:").append(format(share))
+                     .append("%;background:").append(color)
+                     .append(";color:#fff;font-size:11px;line-height:28px;padding-left:4px;")
+                     .append("white-space:nowrap;overflow:hidden'>")
+                     .append(phase.getDisplayName()).append("</div>");
+            }
+        }
+        table.append("</tbody></table>");
+        flame.append("</div>");
+
+        writeCurrent();
+
+        if (extent == null) {
+            return;
+        }
+        ExtentTest node = extent.createTest("Phase Timing Breakdown",
+            "Suite time by test phase (driver, navigation, body, screenshot, teardown)");
+        node.assignCategory("Performance");
+        node.info(flame.toString());
+        node.info(table.toString());
+        if (baseline.isEmpty()) {
+            node.log(Status.WARNING, "No phase baseline at " + ConfigReader.getPhaseBaselineFile() +
+                     " - regressions are not checked. Copy " + FrameworkConstants.PHASE_TIMINGS_PATH +
+                     " from a representative run there to create one.");
+        } else if (regressions > 0) {
+            node.log(Status.WARNING, regressions + " phase(s) regressed more than " +
+                     format(threshold) + "% against baseline");
+        } else {
+            node.pass("No phase regressions against baseline");
+        }
+    }
+
+    private static Properties loadBaseline() {
+        Properties baseline = new Properties();
+        File file = new File(ConfigReader.getPhaseBaselineFile());
+        if (!file.exists()) {
+            LogUtil.warn("No phase baseline at " + file.getPath() + " - phase regressions are not checked. " +
+                         "Copy " + FrameworkConstants.PHASE_TIMINGS_PATH + " from a representative run " +
+                         "(same browser and execution mode) to that path to create one.");
+            return baseline;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            baseline.load(in);
+        } catch (IOException e) {
+            LogUtil.warn("Could not read phase baseline: " + e.getMessage());
+        }
+        return baseline;
+    }
+
+    private static void writeCurrent() {
+        Properties current = new Properties();
+        for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+            String key = phase.name().toLowerCase();
+            current.setProperty(key + ".count", String.valueOf(PhaseTimer.getCount(phase)));
+            current.setProperty(key + ".mean.ms", format(PhaseTimer.getMeanMillis(phase)));
+            current.setProperty(key + ".max.ms",
+                format(PhaseTimer.getMaxNanos(phase) / 1_000_000.0));
+        }
+        FrameworkConstants.createDirectoryIfNotExists(FrameworkConstants.REPORTS_PATH);
+        try (OutputStream out = new FileOutputStream(FrameworkConstants.PHASE_TIMINGS_PATH)) {
+            current.store(out, "Phase timings - copy to phase.baseline.file to accept as baseline");
+            LogUtil.info("Phase timings written to: " + FrameworkConstants.PHASE_TIMINGS_PATH);
+        } catch (IOException e) {
+            LogUtil.warn("Could not write phase timings: " + e.getMessage());
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -1,28 +1,32 @@
 package pages;
 
 import base.BasePage;
+import locators.Locator;
 import org.openqa.selenium.*;
 
 public class HomePage extends BasePage {
     
-    private By dashboardHeader = By.xpath("//div[@class='app_logo']");
-    private By userDropdown = By.id("react-burger-menu-btn");
-    private By logoutLink = By.linkText("Logout");
+    private static final Locator DASHBOARD_HEADER = Locator.of(HomePage.class, "dashboardHeader",
+        By.xpath("//div[@class='app_logo']"));
+    private static final Locator USER_DROPDOWN = Locator.of(HomePage.class, "userDropdown",
+        By.id("react-burger-menu-btn"));
+    private static final Locator LOGOUT_LINK = Locator.of(HomePage.class, "logoutLink",
+        By.linkText("Logout"));
     
     public HomePage(WebDriver driver) {
         super(driver);
     }
     
     public boolean isDashboardDisplayed() {
-        return isDisplayed(dashboardHeader);
+        return isDisplayed(DASHBOARD_HEADER);
     }
     
     public String getDashboardHeaderText() {
-        return getText(dashboardHeader);
+        return getText(DASHBOARD_HEADER);
     }
     
     public void logout() {
-        click(userDropdown);
-        click(logoutLink);
+        click(USER_DROPDOWN);
+        click(LOGOUT_LINK);
     }
 }
@@ -1,9 +1,14 @@
 package pages;
 
 import base.BasePage;
+import base.FillMode;
+import locators.Locator;
 import org.openqa.selenium.*;
 import utils.LogUtil;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * LoginPage - Page Object for Login functionality
  * Contains all locators and methods for login page
@@ -11,35 +16,55 @@ import utils.LogUtil;
 public class LoginPage extends BasePage {
     
     // Locators
-    private By usernameField = By.id("user-name");
-    private By passwordField = By.id("password");
-    private By loginButton = By.id("login-button");
-    private By errorMessage = By.xpath("//div[@class='error-message-container error']/h3");
+    private static final Locator USERNAME_FIELD = Locator.of(LoginPage.class, "usernameField",
+        By.id("user-name"));
+    private static final Locator PASSWORD_FIELD = Locator.of(LoginPage.class, "passwordField",
+        By.id("password"));
+    private static final Locator LOGIN_BUTTON = Locator.of(LoginPage.class, "loginButton",
+        By.id("login-button"));
+    private static final Locator ERROR_MESSAGE = Locator.of(LoginPage.class, "errorMessage",
+        By.xpath("//div[@class='error-message-container error']/h3"));
     
     public LoginPage(WebDriver driver) {
         super(driver);
     }
     
     public void enterUsername(String username) {
-        type(usernameField, username);
+        type(USERNAME_FIELD, username);
         LogUtil.info("Entered username: " + username);
     }
     
     public void enterPassword(String password) {
-        type(passwordField, password);
+        type(PASSWORD_FIELD, password);
         LogUtil.info("Entered password");
     }
     
+    public void enterCredentials(String username, String password) {
+        enterCredentials(username, password, FillMode.fromConfig());
+    }
+    
+    /**
+     * Enter username and password
+     * @param mode NATIVE to type them (tests of the login form), SCRIPT for setup
+     */
+    public void enterCredentials(String username, String password, FillMode mode) {
+        Map<Locator, String> credentials = new LinkedHashMap<>();
+        credentials.put(USERNAME_FIELD, username);
+        credentials.put(PASSWORD_FIELD, password);
+        fillForm(credentials, mode);
+        LogUtil.info("Entered credentials for username: " + username);
+    }
+    
     public void clickLoginButton() {
-        click(loginButton);
+        click(LOGIN_BUTTON);
         LogUtil.info("Clicked login button");
     }
     
     public boolean isErrorMessageDisplayed() {
-        return isDisplayed(errorMessage);
+        return isDisplayed(ERROR_MESSAGE);
     }
     
     public String getErrorMessage() {
-        return getText(errorMessage);
+        return getText(ERROR_MESSAGE);
     }
 }
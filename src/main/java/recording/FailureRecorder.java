@@ -0,0 +1,224 @@
+package recording;
+
+import constants.FrameworkConstants;
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FailureRecorder - Rolling screenshot buffer per session, replayed on failure
+ *
+ * Purpose: Show what led up to a failure, not only its final state, without
+ *          recording video for every test. Frames are captured in the
+ *          background into a FrameRing capped at recording.max.mb; a passing
+ *          test just drops them, a failing one gets an animated GIF.
+ *
+ * Chromium sessions capture JPEG frames through DevTools (a fraction of the
+ * PNG size, so more history fits the budget); others use PNG screenshots.
+ * Capture runs on a small shared scheduler, never on the test thread; the
+ * test only pays for encoding, and only when it failed.
+ *
+ * Lifecycle (all on the test thread):
+ *  start(driver) after the driver is created, saveFailure(name) from the
+ *  failure listener, stop() before the driver quits.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class FailureRecorder {
+
+    private static final int JPEG_QUALITY = 60;
+    private static final int MAX_CAPTURE_ERRORS = 3;
+
+    private static final ThreadLocal<Recording> current = new ThreadLocal<>();
+    private static final AtomicLong bufferedBytes = new AtomicLong();
+    private static volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Frames and capture task of one session
+     */
+    private static final class Recording {
+        private final WebDriver driver;
+        private final FrameRing ring;
+        private ScheduledFuture<?> task;
+        private boolean stopped;
+        private int errors;
+
+        private Recording(WebDriver driver, FrameRing ring) {
+            this.driver = driver;
+            this.ring = ring;
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private FailureRecorder() {
+        throw new AssertionError("FailureRecorder class cannot be instantiated");
+    }
+
+    /**
+     * Start buffering frames of the current thread's driver (no-op unless recording.enabled=true)
+     * @param driver session to record
+     */
+    public static void start(WebDriver driver) {
+        stop();
+        if (!ConfigReader.isRecordingEnabled() || !(driver instanceof TakesScreenshot)) {
+            return;
+        }
+        Recording recording = new Recording(driver,
+            new FrameRing(ConfigReader.getRecordingMaxMb() * 1024L * 1024L));
+        long interval = Math.max(100, ConfigReader.getRecordingInterval());
+        recording.task = scheduler().scheduleWithFixedDelay(() -> capture(recording), 0, interval,
+                                                            TimeUnit.MILLISECONDS);
+        current.set(recording);
+    }
+
+    /**
+     * Write the buffered frames of the current thread's session as a GIF
+     * Capture stops; one last frame of the failure state is added.
+     * @param testName name used for the file
+     * @return path of the GIF, or null if nothing was recorded
+     */
+    public static String saveFailure(String testName) {
+        Recording recording = current.get();
+        if (recording == null) {
+            return null;
+        }
+        recording.task.cancel(false);
+        capture(recording);
+        List<FrameRing.Frame> frames = recording.ring.snapshot();
+        if (frames.isEmpty()) {
+            return null;
+        }
+
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        FrameworkConstants.createDirectoryIfNotExists(FrameworkConstants.RECORDINGS_PATH);
+        File target = new File(FrameworkConstants.RECORDINGS_PATH, testName + "_" + timestamp + ".gif");
+        long start = System.nanoTime();
+        try {
+            int written = GifEncoder.encode(frames, ConfigReader.getRecordingScale(), target);
+            if (written == 0) {
+                return null;
+            }
+            FrameworkMetrics.RECORDED_FRAMES.add(written, "encoded");
+            long seconds = (frames.get(frames.size() - 1).getTimestamp() - frames.get(0).getTimestamp()) / 1000;
+            LogUtil.info("Failure replay saved: " + target.getName() + " (" + written + " frames, " + seconds +
+                         " s, " + target.length() / 1024 + " KB, encoded in " +
+                         (System.nanoTime() - start) / 1_000_000 + " ms)");
+            return target.getPath();
+        } catch (IOException | RuntimeException e) {
+            LogUtil.warn("Could not write failure replay: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stop capturing and drop the current thread's frames (call before quitting the driver)
+     */
+    public static void stop() {
+        Recording recording = current.get();
+        current.remove();
+        if (recording == null) {
+            return;
+        }
+        recording.task.cancel(false);
+        synchronized (recording) {
+            recording.stopped = true;
+            release(recording.ring.clear());
+        }
+    }
+
+    /**
+     * Stop the capture threads (call once at suite end)
+     */
+    public static synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static void capture(Recording recording) {
+        byte[] image;
+        try {
+            image = screenshot(recording.driver);
+        } catch (WebDriverException e) {
+            synchronized (recording) {
+                if (!recording.stopped && ++recording.errors >= MAX_CAPTURE_ERRORS) {
+                    recording.task.cancel(false);
+                    LogUtil.debug("Failure recording stopped after " + recording.errors + " capture errors: " +
+                                  e.getMessage());
+                }
+            }
+            return;
+        }
+        synchronized (recording) {
+            if (recording.stopped) {
+                return;
+            }
+            recording.errors = 0;
+            long before = recording.ring.getBytes();
+            int evicted = recording.ring.add(System.currentTimeMillis(), image);
+            bufferedBytes.addAndGet(recording.ring.getBytes() - before);
+            FrameworkMetrics.RECORDING_BUFFER_BYTES.set(bufferedBytes.get());
+            FrameworkMetrics.RECORDED_FRAMES.inc("captured");
+            if (evicted > 0) {
+                FrameworkMetrics.RECORDED_FRAMES.add(evicted, "evicted");
+            }
+        }
+    }
+
+    private static byte[] screenshot(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("format", "jpeg");
+            params.put("quality", JPEG_QUALITY);
+            Object data = ((HasCdp) driver).executeCdpCommand("Page.captureScreenshot", params).get("data");
+            if (data != null) {
+                return Base64.getDecoder().decode(String.valueOf(data));
+            }
+        }
+        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    }
+
+    private static void release(long bytes) {
+        FrameworkMetrics.RECORDING_BUFFER_BYTES.set(bufferedBytes.addAndGet(-bytes));
+    }
+
+    private static ScheduledExecutorService scheduler() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            synchronized (FailureRecorder.class) {
+                executor = scheduler;
+                if (executor == null) {
+                    int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+                    executor = Executors.newScheduledThreadPool(threads, r -> {
+                        Thread thread = new Thread(r, "failure-recorder");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler = executor;
+                }
+            }
+        }
+        return executor;
+    }
+}
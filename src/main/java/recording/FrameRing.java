@@ -0,0 +1,122 @@
+package recording;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * FrameRing - Most recent screenshots of one session, bounded by bytes
+ *
+ * Purpose: Keep the last seconds before a failure without letting a long
+ *          test grow memory; adding a frame evicts the oldest ones until the
+ *          ring fits its byte budget again
+ * Thread-Safe: Yes (capture thread adds, test thread snapshots / clears)
+ *
+ * Frames are kept encoded (PNG or JPEG as captured); decoding happens only
+ * when a failure is recorded.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class FrameRing {
+
+    /**
+     * One captured screenshot
+     */
+    public static final class Frame {
+        private final long timestamp;
+        private final byte[] image;
+
+        Frame(long timestamp, byte[] image) {
+            this.timestamp = timestamp;
+            this.image = image;
+        }
+
+        /**
+         * Capture time (epoch millis)
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Encoded image as captured
+         */
+        public byte[] getImage() {
+            return image;
+        }
+    }
+
+    private final long maxBytes;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private long bytes;
+    private long evicted;
+
+    /**
+     * Create ring
+     * @param maxBytes byte budget for all frames
+     */
+    public FrameRing(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Add a frame, evicting the oldest frames beyond the budget
+     * @param timestamp capture time (epoch millis)
+     * @param image encoded image
+     * @return frames evicted to make room
+     */
+    public synchronized int add(long timestamp, byte[] image) {
+        if (image.length > maxBytes) {
+            evicted++;
+            return 1;
+        }
+        frames.addLast(new Frame(timestamp, image));
+        bytes += image.length;
+        int dropped = 0;
+        while (bytes > maxBytes) {
+            bytes -= frames.removeFirst().getImage().length;
+            dropped++;
+        }
+        evicted += dropped;
+        return dropped;
+    }
+
+    /**
+     * Frames currently held, oldest first
+     * @return copy of the frame list
+     */
+    public synchronized List<Frame> snapshot() {
+        return new ArrayList<>(frames);
+    }
+
+    /**
+     * Drop all frames
+     * @return bytes released
+     */
+    public synchronized long clear() {
+        long released = bytes;
+        frames.clear();
+        bytes = 0;
+        return released;
+    }
+
+    public synchronized int size() {
+        return frames.size();
+    }
+
+    /**
+     * Bytes held by the current frames
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Frames evicted since the ring was created
+     */
+    public synchronized long getEvicted() {
+        return evicted;
+    }
+}
@@ -0,0 +1,140 @@
+package recording;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * GifEncoder - Turns buffered frames into a looping animated GIF
+ *
+ * Purpose: Give a failed test a compact replay of its last seconds that
+ *          plays inline in the HTML report (no video codec needed)
+ *
+ * Frames are scaled down, stamped with their time before the failure and
+ * shown for as long as they were on screen (capped at 2 s).
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class GifEncoder {
+
+    private static final int MAX_DELAY_CENTIS = 200;
+
+    // Private constructor to prevent instantiation
+    private GifEncoder() {
+        throw new AssertionError("GifEncoder class cannot be instantiated");
+    }
+
+    /**
+     * Write frames as an animated GIF
+     * @param frames frames, oldest first (unreadable frames are skipped)
+     * @param scale size factor, e.g. 0.5 for half width and height
+     * @param target file to write
+     * @return frames written
+     * @throws IOException if the file cannot be written
+     */
+    public static int encode(List<FrameRing.Frame> frames, double scale, File target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("gif");
+        if (!writers.hasNext() || frames.isEmpty()) {
+            return 0;
+        }
+        ImageWriter writer = writers.next();
+        long end = frames.get(frames.size() - 1).getTimestamp();
+        int written = 0;
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target)) {
+            writer.setOutput(out);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < frames.size(); i++) {
+                FrameRing.Frame frame = frames.get(i);
+                BufferedImage source = ImageIO.read(new ByteArrayInputStream(frame.getImage()));
+                if (source == null) {
+                    continue;
+                }
+                long shownFor = i + 1 < frames.size() ? frames.get(i + 1).getTimestamp() - frame.getTimestamp()
+                                                      : 1000;
+                BufferedImage image = render(source, scale, (frame.getTimestamp() - end) / 1000.0);
+                IIOMetadata metadata = writer.getDefaultImageMetadata(
+                    ImageTypeSpecifier.createFromRenderedImage(image), null);
+                configure(metadata, (int) Math.min(MAX_DELAY_CENTIS, Math.max(10, shownFor / 10)),
+                          written == 0);
+                writer.writeToSequence(new IIOImage(image, null, metadata), null);
+                written++;
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return written;
+    }
+
+    private static BufferedImage render(BufferedImage source, double scale, double secondsBefore) {
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+            String label = String.format(Locale.ROOT, "%.1fs", secondsBefore);
+            g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
+            int labelWidth = g.getFontMetrics().stringWidth(label) + 8;
+            g.setColor(Color.BLACK);
+            g.fillRect(0, height - 18, labelWidth, 18);
+            g.setColor(Color.WHITE);
+            g.drawString(label, 4, height - 5);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Set frame delay (1/100 s) and, on the first frame, loop forever
+     */
+    private static void configure(IIOMetadata metadata, int delayCentis, boolean first) throws IOException {
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", String.valueOf(delayCentis));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (first) {
+            IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+            extension.setAttribute("applicationID", "NETSCAPE");
+            extension.setAttribute("authenticationCode", "2.0");
+            extension.setUserObject(new byte[] {1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(extension);
+        }
+        metadata.setFromTree(format, root);
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+}
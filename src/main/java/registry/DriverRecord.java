@@ -0,0 +1,170 @@
+package registry;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DriverRecord - Bookkeeping for one driver created by DriverManager
+ *
+ * Holds what is needed to find and clean up the session if the owning test
+ * never quits it: session id, owner thread, creation and last-activity time,
+ * and (for local drivers) the driver service process and its browser
+ * processes.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class DriverRecord {
+
+    /**
+     * Lifecycle of a tracked driver
+     */
+    public enum State {
+        ACTIVE,      // in use by a test
+        QUIT,        // quit normally by DriverManager
+        QUIT_FAILED, // quit threw; processes were killed
+        REAPED,      // cleaned up by the reaper (idle or owner thread died)
+        LEAKED       // still alive at suite end / JVM shutdown, cleaned up then
+    }
+
+    private final long id;
+    private final WebDriver driver;
+    private final String sessionId;
+    private final String browser;
+    private final Thread owner;
+    private final String ownerName;
+    private final long createdAt;
+    private final ProcessHandle driverProcess;
+    private final Runnable onFinish;
+    private volatile long lastActivity;
+    private volatile State state = State.ACTIVE;
+    private volatile String reason = "";
+    private volatile List<Long> killedPids = Collections.emptyList();
+
+    DriverRecord(long id, WebDriver driver, String sessionId, String browser,
+                 ProcessHandle driverProcess, Runnable onFinish) {
+        this.id = id;
+        this.driver = driver;
+        this.sessionId = sessionId;
+        this.browser = browser;
+        this.owner = Thread.currentThread();
+        this.ownerName = owner.getName();
+        this.createdAt = System.currentTimeMillis();
+        this.lastActivity = createdAt;
+        this.driverProcess = driverProcess;
+        this.onFinish = onFinish;
+    }
+
+    void touch() {
+        lastActivity = System.currentTimeMillis();
+    }
+
+    /**
+     * Move from ACTIVE to a final state (first caller wins) and release the
+     * slots the driver held
+     * @return true if this call changed the state
+     */
+    boolean finish(State newState, String why) {
+        synchronized (this) {
+            if (state != State.ACTIVE) {
+                return false;
+            }
+            state = newState;
+            reason = why;
+        }
+        onFinish.run();
+        return true;
+    }
+
+    /**
+     * Forcibly kill the browser processes and the driver service
+     * @return true if any process was killed
+     */
+    boolean killProcesses() {
+        if (driverProcess == null || !driverProcess.isAlive()) {
+            return false;
+        }
+        List<Long> pids = new ArrayList<>();
+        driverProcess.descendants().forEach(process -> {
+            if (process.destroyForcibly()) {
+                pids.add(process.pid());
+            }
+        });
+        if (driverProcess.destroyForcibly()) {
+            pids.add(driverProcess.pid());
+        }
+        killedPids = pids;
+        return !pids.isEmpty();
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    boolean isOwnerAlive() {
+        return owner.isAlive();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLastActivity() {
+        return lastActivity;
+    }
+
+    public long getIdleMillis() {
+        return System.currentTimeMillis() - lastActivity;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * PID of the local driver service (chromedriver, geckodriver, msedgedriver)
+     * @return PID, or -1 for remote / in-memory drivers
+     */
+    public long getDriverPid() {
+        return driverProcess == null ? -1 : driverProcess.pid();
+    }
+
+    /**
+     * PIDs of browser processes started by the driver service
+     * @return PIDs (empty for remote / in-memory drivers or once exited)
+     */
+    public List<Long> getBrowserPids() {
+        List<Long> pids = new ArrayList<>();
+        if (driverProcess != null) {
+            driverProcess.children().forEach(process -> pids.add(process.pid()));
+        }
+        return pids;
+    }
+
+    public List<Long> getKilledPids() {
+        return killedPids;
+    }
+}
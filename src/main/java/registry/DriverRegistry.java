@@ -0,0 +1,273 @@
+package registry;
+
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DriverRegistry - Tracks every driver DriverManager creates and reaps leaks
+ *
+ * Purpose: Stop orphaned chromedriver / browser processes from piling up
+ *          when a test thread dies or quit() fails
+ *
+ * - register() records session id, owner thread, creation time and, for
+ *   local drivers, the driver service PID (matched by its --port argument)
+ *   and returns a driver that updates last-activity on every call
+ * - a reaper (every reaper.interval.sec) quits sessions idle longer than
+ *   reaper.idle.timeout.sec or whose owner thread has died, killing the
+ *   processes if quit does not succeed
+ * - quit failures kill the processes immediately
+ * - cleanupAll() (suite end and JVM shutdown hook) disposes whatever is left
+ *   and marks it LEAKED for LeakReport
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class DriverRegistry {
+
+    // Give up on a hanging quit() after this long and kill the processes
+    private static final long QUIT_TIMEOUT_SECONDS = 10;
+
+    private static final Map<WebDriver, DriverRecord> records =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final List<DriverRecord> finished = Collections.synchronizedList(new ArrayList<>());
+    private static final AtomicLong ids = new AtomicLong();
+    private static ScheduledExecutorService reaper;
+
+    // Private constructor to prevent instantiation
+    private DriverRegistry() {
+        throw new AssertionError("DriverRegistry class cannot be instantiated");
+    }
+
+    /**
+     * Track a newly created driver
+     * @param driver driver just created
+     * @param browser browser label for the report
+     * @param onFinish releases what the driver holds (slots, gauges); runs
+     *                 exactly once, whether the driver is quit or reaped
+     * @return driver to hand to the test (records activity on every call)
+     */
+    public static WebDriver register(WebDriver driver, String browser, Runnable onFinish) {
+        ensureStarted();
+        TrackingDecorator decorator = new TrackingDecorator();
+        WebDriver tracked = decorator.decorate(driver);
+        DriverRecord record = new DriverRecord(ids.incrementAndGet(), driver, sessionIdOf(driver),
+                                               browser, driverProcessOf(driver), onFinish);
+        decorator.record = record;
+        records.put(tracked, record);
+        LogUtil.debug("Registered driver #" + record.getId() + " session " + record.getSessionId() +
+                      (record.getDriverPid() > 0 ? " (driver pid " + record.getDriverPid() + ")" : ""));
+        return tracked;
+    }
+
+    /**
+     * Mark a driver as quit normally
+     * @param driver driver returned by register
+     */
+    public static void markQuit(WebDriver driver) {
+        DriverRecord record = records.remove(driver);
+        if (record != null) {
+            record.finish(DriverRecord.State.QUIT, "");
+        }
+    }
+
+    /**
+     * Record a failed quit and kill the driver's processes
+     * @param driver driver returned by register
+     * @param error failure from quit()
+     */
+    public static void markQuitFailed(WebDriver driver, Exception error) {
+        DriverRecord record = records.remove(driver);
+        if (record != null && record.finish(DriverRecord.State.QUIT_FAILED, "quit failed: " + error.getMessage())) {
+            record.killProcesses();
+            finished.add(record);
+            FrameworkMetrics.SESSIONS_REAPED.inc("quit_failed");
+            LogUtil.warn("Killed processes " + record.getKilledPids() + " of driver #" + record.getId() +
+                         " after failed quit");
+        }
+    }
+
+    /**
+     * Clean up all drivers still registered and mark them leaked
+     * @param when context for logs ("suite end", "JVM shutdown")
+     * @return number of leaked drivers cleaned up
+     */
+    public static int cleanupAll(String when) {
+        List<DriverRecord> remaining;
+        synchronized (records) {
+            remaining = new ArrayList<>(records.values());
+            records.clear();
+        }
+        int leaked = 0;
+        for (DriverRecord record : remaining) {
+            if (dispose(record, DriverRecord.State.LEAKED, "still open at " + when)) {
+                leaked++;
+            }
+        }
+        if (leaked > 0) {
+            LogUtil.warn(leaked + " driver(s) were still open at " + when + " and have been cleaned up");
+        }
+        return leaked;
+    }
+
+    /**
+     * Drivers that had to be reaped, killed or cleaned up
+     * @return copy of problem records in order of detection
+     */
+    public static List<DriverRecord> getLeaks() {
+        synchronized (finished) {
+            return new ArrayList<>(finished);
+        }
+    }
+
+    /**
+     * Drivers registered since the start of the run
+     * @return total number of drivers created
+     */
+    public static long getRegisteredCount() {
+        return ids.get();
+    }
+
+    /**
+     * Drivers currently registered
+     * @return number of active drivers
+     */
+    public static int getActiveCount() {
+        return records.size();
+    }
+
+    // ==================== REAPER ====================
+
+    private static synchronized void ensureStarted() {
+        if (reaper != null) {
+            return;
+        }
+        reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "driver-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigReader.getReaperInterval();
+        reaper.scheduleWithFixedDelay(DriverRegistry::reap, interval, interval, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(() -> cleanupAll("JVM shutdown"), "driver-registry-shutdown"));
+    }
+
+    private static void reap() {
+        long idleLimit = TimeUnit.SECONDS.toMillis(ConfigReader.getReaperIdleTimeout());
+        List<DriverRecord> candidates;
+        synchronized (records) {
+            candidates = new ArrayList<>(records.values());
+        }
+        for (DriverRecord record : candidates) {
+            String reason = null;
+            if (!record.isOwnerAlive()) {
+                reason = "owner thread " + record.getOwnerName() + " died";
+            } else if (idleLimit > 0 && record.getIdleMillis() > idleLimit) {
+                reason = "idle for " + record.getIdleMillis() / 1000 + "s";
+            }
+            if (reason != null) {
+                records.values().remove(record);
+                dispose(record, DriverRecord.State.REAPED, reason);
+            }
+        }
+    }
+
+    /**
+     * Quit (bounded in time) and kill whatever survives
+     */
+    private static boolean dispose(DriverRecord record, DriverRecord.State state, String reason) {
+        if (!record.finish(state, reason)) {
+            return false;
+        }
+        LogUtil.warn("Reaping driver #" + record.getId() + " (session " + record.getSessionId() +
+                     ", owner " + record.getOwnerName() + "): " + reason);
+        try {
+            CompletableFuture.runAsync(() -> record.getDriver().quit())
+                             .get(QUIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LogUtil.debug("Quit during reap failed: " + e.getMessage());
+        }
+        record.killProcesses();
+        finished.add(record);
+        FrameworkMetrics.SESSIONS_REAPED.inc(state.name().toLowerCase());
+        return true;
+    }
+
+    // ==================== DRIVER INTROSPECTION ====================
+
+    private static String sessionIdOf(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            SessionId sessionId = ((RemoteWebDriver) driver).getSessionId();
+            return sessionId == null ? "-" : sessionId.toString();
+        }
+        try {
+            Method getter = driver.getClass().getMethod("getSessionId");
+            return String.valueOf(getter.invoke(driver));
+        } catch (ReflectiveOperationException e) {
+            return driver.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(driver));
+        }
+    }
+
+    /**
+     * Find the local driver service among this JVM's child processes by the
+     * --port it was started with
+     */
+    private static ProcessHandle driverProcessOf(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)) {
+            return null;
+        }
+        CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) {
+            return null;
+        }
+        String host = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getHost();
+        if (!"localhost".equals(host) && !host.startsWith("127.")) {
+            return null;
+        }
+        String portArgument = "--port=" + ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort();
+        Optional<ProcessHandle> service = ProcessHandle.current().children()
+            .filter(process -> process.info().arguments()
+                .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                .orElse(false))
+            .findFirst();
+        return service.orElse(null);
+    }
+
+    /**
+     * Updates the record's last activity on every driver / element call
+     */
+    private static final class TrackingDecorator extends WebDriverDecorator<WebDriver> {
+
+        private volatile DriverRecord record;
+
+        @Override
+        public void beforeCall(Decorated<?> target, Method method, Object[] args) {
+            DriverRecord current = record;
+            if (current != null) {
+                current.touch();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package registry;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * LeakReport - Suite-end list of driver sessions that were not quit cleanly
+ *
+ * Purpose: Show which tests left browsers behind (reaped while idle or after
+ *          their thread died, failed quit, or still open at suite end)
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LeakReport {
+
+    // Private constructor to prevent instantiation
+    private LeakReport() {
+        throw new AssertionError("LeakReport class cannot be instantiated");
+    }
+
+    /**
+     * Add the leaked sessions node to the report
+     * @param extent report to attach to (may be null)
+     */
+    public static void attachTo(ExtentReports extent) {
+        if (extent == null || DriverRegistry.getRegisteredCount() == 0) {
+            return;
+        }
+        List<DriverRecord> leaks = DriverRegistry.getLeaks();
+        ExtentTest node = extent.createTest("Driver Leaks",
+            "Sessions reaped, killed after a failed quit, or still open at suite end");
+        node.assignCategory("Performance");
+
+        if (leaks.isEmpty()) {
+            node.pass("All " + DriverRegistry.getRegisteredCount() + " driver sessions were quit cleanly");
+            return;
+        }
+
+        SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss");
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><thead><tr>")
+             .append("<th>#</th><th>Session</th><th>Browser</th><th>Owner thread</th>")
+             .append("<th>Created</th><th>Last activity</th><th>State</th><th>Reason</th>")
+             .append("<th>Driver PID</th><th>Killed PIDs</th></tr></thead><tbody>");
+        for (DriverRecord record : leaks) {
+            table.append("<tr><td>").append(record.getId())
+                 .append("</td><td>").append(record.getSessionId())
+                 .append("</td><td>").append(record.getBrowser())
+                 .append("</td><td>").append(record.getOwnerName())
+                 .append("</td><td>").append(time.format(new Date(record.getCreatedAt())))
+                 .append("</td><td>").append(time.format(new Date(record.getLastActivity())))
+                 .append("</td><td>").append(record.getState())
+                 .append("</td><td>").append(record.getReason())
+                 .append("</td><td>").append(record.getDriverPid() > 0 ? String.valueOf(record.getDriverPid()) : "-")
+                 .append("</td><td>").append(record.getKilledPids().isEmpty() ? "-" : record.getKilledPids().toString())
+                 .append("</td></tr>");
+        }
+        table.append("</tbody></table>");
+
+        node.log(Status.WARNING, leaks.size() + " of " + DriverRegistry.getRegisteredCount() +
+                 " driver sessions were not quit cleanly");
+        node.info(table.toString());
+    }
+}
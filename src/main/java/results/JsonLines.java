@@ -0,0 +1,102 @@
+package results;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * JsonLines - One compact JSON object per line
+ *
+ * Purpose: Read and write the shard result files a line at a time, so
+ *          neither side ever holds a whole file
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class JsonLines {
+
+    private static final Json JSON = new Json();
+
+    // Private constructor to prevent instantiation
+    private JsonLines() {
+        throw new AssertionError("JsonLines class cannot be instantiated");
+    }
+
+    /**
+     * Write an object as one line
+     * @param writer target
+     * @param object JSON object of strings, numbers and booleans
+     */
+    static void write(Writer writer, Map<String, Object> object) throws IOException {
+        // Written by hand: a JsonOutput per line costs more than the rest of a merge together
+        StringBuilder line = new StringBuilder(256).append('{');
+        for (Map.Entry<String, Object> entry : object.entrySet()) {
+            if (line.length() > 1) {
+                line.append(',');
+            }
+            appendString(line, entry.getKey());
+            line.append(':');
+            Object value = entry.getValue();
+            if (value == null) {
+                line.append("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                line.append(value);
+            } else {
+                appendString(line, String.valueOf(value));
+            }
+        }
+        writer.write(line.append("}\n").toString());
+    }
+
+    /**
+     * Parse one line
+     * @param line JSON object text
+     * @return parsed object
+     * @throws IllegalArgumentException if the line is not a JSON object
+     */
+    static Map<String, Object> read(String line) {
+        try {
+            Map<String, Object> object = JSON.toType(line, Json.MAP_TYPE);
+            if (object == null) {
+                throw new IllegalArgumentException("Empty result line");
+            }
+            return object;
+        } catch (JsonException | ClassCastException e) {
+            throw new IllegalArgumentException("Malformed result line: " + e.getMessage(), e);
+        }
+    }
+
+    private static void appendString(StringBuilder line, String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+}
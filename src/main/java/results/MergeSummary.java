@@ -0,0 +1,344 @@
+package results;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * MergeSummary - Totals, timings and flaky tests of merged shard results
+ *
+ * Purpose: Summarize a merge of any size in constant memory: counters, a
+ *          fixed-bucket duration histogram for percentiles, and capped lists
+ *          (slowest tests, flaky and failed examples); only the per-shard
+ *          lines grow, with the number of shards
+ *
+ * A test (ResultRecord key) counts once, with the outcome of its latest
+ * attempt. It is flaky when it both passed and failed (a failed or retried
+ * attempt) anywhere in the merged shards.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class MergeSummary {
+
+    private static final long[] BUCKETS_MS = {100, 250, 500, 1000, 2500, 5000, 10_000, 20_000, 30_000,
+                                              60_000, 120_000, 300_000, 600_000};
+    private static final int SLOWEST = 10;
+    private static final int EXAMPLES = 100;
+
+    /**
+     * Header of one shard file
+     */
+    static final class Shard {
+        private final String id;
+        private final String host;
+        private final String file;
+        private final long started;
+        private final long finished;
+        private long records;
+
+        Shard(String id, String host, String file, long started, long finished) {
+            this.id = id;
+            this.host = host;
+            this.file = file;
+            this.started = started;
+            this.finished = finished;
+        }
+
+        long getStarted() {
+            return started;
+        }
+
+        long getFinished() {
+            return finished;
+        }
+    }
+
+    /**
+     * All attempts of one test, folded while the merge passes over them
+     */
+    static final class TestGroup {
+        private ResultRecord latest;
+        private int attempts;
+        private boolean passed;
+        private boolean failed;
+
+        void add(ResultRecord record) {
+            // Records of a key arrive in start order, so the last one added is the latest attempt
+            latest = record;
+            attempts++;
+            passed |= "PASS".equals(record.getStatus());
+            failed |= "FAIL".equals(record.getStatus()) || record.isRetried();
+        }
+
+        boolean isEmpty() {
+            return attempts == 0;
+        }
+
+        boolean isFlaky() {
+            return passed && failed;
+        }
+
+        ResultRecord getLatest() {
+            return latest;
+        }
+
+        int getAttempts() {
+            return attempts;
+        }
+    }
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final long[] histogram = new long[BUCKETS_MS.length + 1];
+    private final PriorityQueue<ResultRecord> slowest =
+        new PriorityQueue<>(Comparator.comparingLong(ResultRecord::getDurationMillis));
+    private final List<String> flakyExamples = new ArrayList<>();
+    private final List<ResultRecord> failedExamples = new ArrayList<>();
+    private long attempts;
+    private long tests;
+    private long passed;
+    private long failed;
+    private long skipped;
+    private long flaky;
+    private long totalMillis;
+    private long maxMillis;
+
+    void addShard(Shard shard) {
+        shards.add(shard);
+    }
+
+    void countAttempt(Shard shard) {
+        attempts++;
+        shard.records++;
+    }
+
+    void addTest(TestGroup group) {
+        ResultRecord latest = group.getLatest();
+        tests++;
+        switch (latest.getStatus()) {
+            case "PASS":
+                passed++;
+                break;
+            case "FAIL":
+                failed++;
+                if (failedExamples.size() < EXAMPLES) {
+                    failedExamples.add(latest);
+                }
+                break;
+            default:
+                skipped++;
+        }
+        if (group.isFlaky()) {
+            flaky++;
+            if (flakyExamples.size() < EXAMPLES) {
+                flakyExamples.add(latest.getKey());
+            }
+        }
+        if ("SKIP".equals(latest.getStatus())) {
+            return;
+        }
+        long millis = latest.getDurationMillis();
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+        int bucket = 0;
+        while (bucket < BUCKETS_MS.length && millis > BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket]++;
+        slowest.add(latest);
+        if (slowest.size() > SLOWEST) {
+            slowest.poll();
+        }
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getTests() {
+        return tests;
+    }
+
+    public long getPassed() {
+        return passed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFlaky() {
+        return flaky;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Duration percentile of the timed (not skipped) tests
+     * @param percentile 0-100
+     * @return upper bound of the histogram bucket holding it, in ms
+     */
+    public long getPercentileMillis(double percentile) {
+        long timed = passed + failed;
+        if (timed == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(timed * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i < BUCKETS_MS.length ? Math.min(BUCKETS_MS[i], maxMillis) : maxMillis;
+            }
+        }
+        return maxMillis;
+    }
+
+    /**
+     * Summary as a JSON object (summary.json)
+     * @return map for the JSON writer
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("shards", shards.size());
+        summary.put("attempts", attempts);
+        summary.put("tests", tests);
+        summary.put("passed", passed);
+        summary.put("failed", failed);
+        summary.put("skipped", skipped);
+        summary.put("flaky", flaky);
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("totalTestMs", totalMillis);
+        timings.put("meanMs", passed + failed == 0 ? 0 : totalMillis / (passed + failed));
+        timings.put("p50Ms", getPercentileMillis(50));
+        timings.put("p95Ms", getPercentileMillis(95));
+        timings.put("maxMs", maxMillis);
+        timings.put("wallMs", getWallMillis());
+        summary.put("timings", timings);
+
+        List<Object> slow = new ArrayList<>();
+        for (ResultRecord record : getSlowest()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("test", record.getKey());
+            entry.put("durationMs", record.getDurationMillis());
+            entry.put("shard", record.getShard());
+            slow.add(entry);
+        }
+        summary.put("slowest", slow);
+        summary.put("flakyTests", flakyExamples);
+        List<Object> failures = new ArrayList<>();
+        for (ResultRecord record : failedExamples) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("test", record.getKey());
+            entry.put("shard", record.getShard());
+            entry.put("error", record.getError());
+            failures.add(entry);
+        }
+        summary.put("failedTests", failures);
+
+        List<Object> shardList = new ArrayList<>();
+        for (Shard shard : shards) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("shard", shard.id);
+            entry.put("host", shard.host);
+            entry.put("file", shard.file);
+            entry.put("records", shard.records);
+            entry.put("wallMs", Math.max(0, shard.finished - shard.started));
+            shardList.add(entry);
+        }
+        summary.put("shardFiles", shardList);
+        return summary;
+    }
+
+    /**
+     * Report markup: totals, timings, slowest and flaky tests, shards
+     * @return HTML
+     */
+    public String toHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<h2>Summary</h2><table class='table table-sm'><tbody>")
+            .append(row("Shards", shards.size()))
+            .append(row("Tests", tests + " (" + attempts + " attempts)"))
+            .append(row("Passed", passed))
+            .append(row("Failed", failed))
+            .append(row("Skipped", skipped))
+            .append(row("Flaky", flaky))
+            .append(row("Test time", totalMillis / 1000 + " s"))
+            .append(row("Wall time", getWallMillis() / 1000 + " s"))
+            .append(row("Duration p50 / p95 / max", "&le; " + getPercentileMillis(50) + " ms / &le; " +
+                                                    getPercentileMillis(95) + " ms / " + maxMillis + " ms"))
+            .append("</tbody></table>");
+
+        List<ResultRecord> slow = getSlowest();
+        if (!slow.isEmpty()) {
+            html.append("<h3>Slowest tests</h3><table class='table table-sm'><thead><tr><th>Test</th>")
+                .append("<th>Duration (ms)</th><th>Shard</th></tr></thead><tbody>");
+            for (ResultRecord record : slow) {
+                html.append("<tr><td>").append(escape(record.getKey())).append("</td><td>")
+                    .append(record.getDurationMillis()).append("</td><td>").append(escape(record.getShard()))
+                    .append("</td></tr>");
+            }
+            html.append("</tbody></table>");
+        }
+        if (!flakyExamples.isEmpty()) {
+            html.append("<h3>Flaky tests</h3><ul>");
+            for (String key : flakyExamples) {
+                html.append("<li>").append(escape(key)).append("</li>");
+            }
+            html.append("</ul>");
+            if (flaky > flakyExamples.size()) {
+                html.append("<p>").append(flaky - flakyExamples.size()).append(" more</p>");
+            }
+        }
+        html.append("<h3>Shards</h3><table class='table table-sm'><thead><tr><th>Shard</th><th>Host</th>")
+            .append("<th>Attempts</th><th>Wall time (s)</th></tr></thead><tbody>");
+        for (Shard shard : shards) {
+            html.append("<tr><td>").append(escape(shard.id)).append("</td><td>").append(escape(shard.host))
+                .append("</td><td>").append(shard.records).append("</td><td>")
+                .append(Math.max(0, shard.finished - shard.started) / 1000).append("</td></tr>");
+        }
+        return html.append("</tbody></table>").toString();
+    }
+
+    /**
+     * Slowest timed tests, slowest first
+     */
+    private List<ResultRecord> getSlowest() {
+        List<ResultRecord> slow = new ArrayList<>(slowest);
+        slow.sort(Comparator.comparingLong(ResultRecord::getDurationMillis).reversed());
+        return slow;
+    }
+
+    /**
+     * First shard start to last shard finish
+     */
+    private long getWallMillis() {
+        long start = Long.MAX_VALUE;
+        long end = 0;
+        for (Shard shard : shards) {
+            if (shard.started > 0) {
+                start = Math.min(start, shard.started);
+            }
+            end = Math.max(end, shard.finished);
+        }
+        return start == Long.MAX_VALUE ? 0 : Math.max(0, end - start);
+    }
+
+    private static String row(String name, Object value) {
+        return "<tr><td>" + name + "</td><td>" + value + "</td></tr>";
+    }
+
+    static String escape(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
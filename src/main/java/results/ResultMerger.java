@@ -0,0 +1,348 @@
+package results;
+
+import org.openqa.selenium.json.Json;
+import utils.LogUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * ResultMerger - Streams any number of shard result files into one report
+ *
+ * Purpose: Combine runs split across JVMs or CI machines into one report and
+ *          summary, for hundreds of thousands of results, without loading
+ *          them: each shard file is already sorted (ShardResults), so a
+ *          k-way merge reads one record per file at a time
+ *
+ * Outputs (in the output directory):
+ *  merged.results.jsonl  every attempt, in order - itself a valid shard file,
+ *                        so merges can be merged again (per machine, then all)
+ *  summary.json          MergeSummary: counts, timings, flaky and failed tests
+ *  merged-report.html    summary plus one row per test (latest attempt)
+ *
+ * A shard file cut short by a crashed JVM is merged as far as it goes: an
+ * empty file or one without a complete header is skipped, and an unreadable
+ * last line is dropped, each with a warning. Malformed or unsorted records
+ * anywhere else fail the merge.
+ *
+ * Memory: one buffered reader and record per input, plus MergeSummary's
+ * fixed-size state. The report's test rows go to a temporary file first, so
+ * the summary can open the page.
+ *
+ * Usage:
+ *  java -cp ... results.ResultMerger <output-dir> <shard file or directory>...
+ *  (directories contribute their *.results.jsonl files)
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ResultMerger {
+
+    public static final String MERGED_FILE = "merged" + ShardResults.FILE_SUFFIX;
+    public static final String SUMMARY_FILE = "summary.json";
+    public static final String REPORT_FILE = "merged-report.html";
+
+    private static final Json JSON = new Json();
+
+    /**
+     * Read position in one shard file
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final File file;
+        private final BufferedReader reader;
+        private final MergeSummary.Shard shard;
+        private final String shardId;
+        private final long expected;
+        private ResultRecord current;
+        private long line = 1;
+        private long read;
+
+        private Cursor(File file, BufferedReader reader, MergeSummary.Shard shard, String shardId, long expected) {
+            this.file = file;
+            this.reader = reader;
+            this.shard = shard;
+            this.shardId = shardId;
+            this.expected = expected;
+        }
+
+        /**
+         * Move to the next record; false at end of file
+         */
+        private boolean advance() throws IOException {
+            ResultRecord previous = current;
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    current = null;
+                    if (expected >= 0 && read != expected) {
+                        LogUtil.warn(file + " holds " + read + " of the " + expected + " results its header " +
+                                     "announces - the file is incomplete");
+                    }
+                    return false;
+                }
+            } while (text.trim().isEmpty());
+            try {
+                current = ResultRecord.fromMap(JsonLines.read(text), shardId);
+            } catch (IllegalArgumentException e) {
+                if (reader.readLine() == null) {
+                    // Last line cut off mid-write (JVM crashed while writing)
+                    LogUtil.warn(file + ":" + line + ": truncated last result skipped");
+                    current = null;
+                    return false;
+                }
+                throw new IllegalStateException(file + ":" + line + ": " + e.getMessage(), e);
+            }
+            read++;
+            if (previous != null && ResultRecord.ORDER.compare(previous, current) > 0) {
+                throw new IllegalStateException(file + ":" + line + ": records are not sorted - " +
+                                                "shard files must be written by ShardResults");
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int order = ResultRecord.ORDER.compare(current, other.current);
+            return order != 0 ? order : shardId.compareTo(other.shardId);
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private ResultMerger() {
+        throw new AssertionError("ResultMerger class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultMerger <output-dir> <shard file or directory>...");
+            System.exit(2);
+        }
+        List<File> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(new File(args[i]));
+        }
+        MergeSummary summary = merge(inputs, new File(args[0]));
+        System.out.println("Merged " + summary.getAttempts() + " results of " + summary.getTests() + " tests from " +
+                           summary.getShardCount() + " shards: " + summary.getPassed() + " passed, " +
+                           summary.getFailed() + " failed, " + summary.getSkipped() + " skipped, " +
+                           summary.getFlaky() + " flaky");
+    }
+
+    /**
+     * Merge shard files
+     * @param inputs shard files, or directories holding *.results.jsonl files
+     * @param outputDir directory for the merged outputs (created if needed)
+     * @return summary of the merge
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalStateException if an input is not a sorted shard file
+     */
+    public static MergeSummary merge(List<File> inputs, File outputDir) throws IOException {
+        List<File> files = expand(inputs, outputDir);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+        MergeSummary summary = new MergeSummary();
+        List<Cursor> cursors = new ArrayList<>();
+        File rows = new File(outputDir, REPORT_FILE + ".rows.tmp");
+        try (Writer merged = Files.newBufferedWriter(new File(outputDir, MERGED_FILE).toPath(), StandardCharsets.UTF_8);
+             Writer rowWriter = Files.newBufferedWriter(rows.toPath(), StandardCharsets.UTF_8)) {
+            PriorityQueue<Cursor> queue = new PriorityQueue<>();
+            for (File file : files) {
+                Cursor cursor = open(file, summary);
+                if (cursor == null) {
+                    continue;
+                }
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            writeMergedHeader(merged, cursors);
+
+            MergeSummary.TestGroup group = new MergeSummary.TestGroup();
+            while (!queue.isEmpty()) {
+                Cursor cursor = queue.poll();
+                ResultRecord record = cursor.current;
+                if (!group.isEmpty() && !group.getLatest().getKey().equals(record.getKey())) {
+                    finishGroup(group, summary, rowWriter);
+                    group = new MergeSummary.TestGroup();
+                }
+                group.add(record);
+                summary.countAttempt(cursor.shard);
+                JsonLines.write(merged, record.toMap());
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            if (!group.isEmpty()) {
+                finishGroup(group, summary, rowWriter);
+            }
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.reader.close();
+            }
+        }
+
+        Files.write(new File(outputDir, SUMMARY_FILE).toPath(),
+                    JSON.toJson(summary.toMap()).getBytes(StandardCharsets.UTF_8));
+        writeReport(new File(outputDir, REPORT_FILE), summary, rows);
+        Files.deleteIfExists(rows.toPath());
+        LogUtil.info("Merged " + summary.getAttempts() + " results from " + files.size() + " shard files into " +
+                     outputDir.getPath());
+        return summary;
+    }
+
+    // ==================== INPUT ====================
+
+    /**
+     * Shard files named by the inputs (directories expanded, merge output skipped)
+     */
+    private static List<File> expand(List<File> inputs, File outputDir) throws IOException {
+        File mergedOutput = new File(outputDir, MERGED_FILE).getCanonicalFile();
+        List<File> files = new ArrayList<>();
+        for (File input : inputs) {
+            if (input.isDirectory()) {
+                File[] found = input.listFiles((dir, name) -> name.endsWith(ShardResults.FILE_SUFFIX));
+                if (found != null) {
+                    Arrays.sort(found);
+                    for (File file : found) {
+                        if (!file.getCanonicalFile().equals(mergedOutput)) {
+                            files.add(file);
+                        }
+                    }
+                }
+            } else if (input.isFile()) {
+                files.add(input);
+            } else {
+                throw new IOException("No such shard file or directory: " + input);
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IOException("No shard result files (*" + ShardResults.FILE_SUFFIX + ") in " + inputs);
+        }
+        return files;
+    }
+
+    /**
+     * Open a shard file after its header
+     * @return cursor before the first record, or null if the file is empty or
+     *         ends inside its header
+     */
+    private static Cursor open(File file, MergeSummary summary) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+        try {
+            Map<String, Object> header = readHeader(reader.readLine());
+            if (header == null && reader.readLine() == null) {
+                LogUtil.warn(file + " is empty or truncated inside its header - skipped");
+                reader.close();
+                return null;
+            }
+            if (header == null || !ShardResults.FORMAT.equals(header.get("format"))) {
+                throw new IllegalStateException(file + " is not a shard result file (no " + ShardResults.FORMAT +
+                                                " header)");
+            }
+            Object version = header.get("version");
+            if (!(version instanceof Number) || ((Number) version).intValue() > ShardResults.VERSION) {
+                throw new IllegalStateException(file + " has unsupported format version " + version);
+            }
+            String shardId = header.get("shard") == null ? file.getName() : String.valueOf(header.get("shard"));
+            MergeSummary.Shard shard = new MergeSummary.Shard(shardId, string(header.get("host")), file.getPath(),
+                                                              number(header.get("started")),
+                                                              number(header.get("finished")));
+            summary.addShard(shard);
+            // Merged files announce no record count
+            Object records = header.get("records");
+            long expected = records instanceof Number ? ((Number) records).longValue() : -1;
+            return new Cursor(file, reader, shard, shardId, expected);
+        } catch (RuntimeException | IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> readHeader(String first) {
+        if (first == null) {
+            return null;
+        }
+        try {
+            return JsonLines.read(first);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ==================== OUTPUT ====================
+
+    private static void writeMergedHeader(Writer merged, List<Cursor> cursors) throws IOException {
+        long started = Long.MAX_VALUE;
+        long finished = 0;
+        for (Cursor cursor : cursors) {
+            if (cursor.shard.getStarted() > 0) {
+                started = Math.min(started, cursor.shard.getStarted());
+            }
+            finished = Math.max(finished, cursor.shard.getFinished());
+        }
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("format", ShardResults.FORMAT);
+        header.put("version", ShardResults.VERSION);
+        header.put("shard", "merged");
+        header.put("host", "");
+        header.put("started", started == Long.MAX_VALUE ? 0 : started);
+        header.put("finished", finished);
+        header.put("shards", cursors.size());
+        JsonLines.write(merged, header);
+    }
+
+    private static void finishGroup(MergeSummary.TestGroup group, MergeSummary summary, Writer rows)
+            throws IOException {
+        summary.addTest(group);
+        ResultRecord latest = group.getLatest();
+        rows.write("<tr class='" + latest.getStatus().toLowerCase(Locale.ROOT) + "'><td>" + MergeSummary.escape(latest.getTest()) +
+                   "</td><td>" + MergeSummary.escape(latest.getParams()) +
+                   "</td><td>" + MergeSummary.escape(latest.getBrowser()) +
+                   "</td><td>" + latest.getStatus() + (group.isFlaky() ? " (flaky)" : "") +
+                   "</td><td>" + group.getAttempts() +
+                   "</td><td>" + latest.getDurationMillis() +
+                   "</td><td>" + MergeSummary.escape(latest.getShard()) +
+                   "</td><td>" + MergeSummary.escape(latest.getError()) + "</td></tr>\n");
+    }
+
+    private static void writeReport(File report, MergeSummary summary, File rows) throws IOException {
+        try (Writer html = Files.newBufferedWriter(report.toPath(), StandardCharsets.UTF_8);
+             Reader rowReader = Files.newBufferedReader(rows.toPath(), StandardCharsets.UTF_8)) {
+            html.write("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Merged Test Report</title>" +
+                       "<style>body{font-family:sans-serif;margin:1em}table{border-collapse:collapse}" +
+                       "td,th{border:1px solid #ccc;padding:2px 6px;text-align:left}" +
+                       "tr.fail td{background:#fdd}tr.skip td{background:#ffd}</style></head><body>" +
+                       "<h1>Merged Test Report</h1>\n");
+            html.write(summary.toHtml());
+            html.write("\n<h2>Tests</h2><table class='table table-sm'><thead><tr><th>Test</th><th>Params</th>" +
+                       "<th>Browser</th><th>Status</th><th>Attempts</th><th>Duration (ms)</th><th>Shard</th>" +
+                       "<th>Error</th></tr></thead><tbody>\n");
+            rowReader.transferTo(html);
+            html.write("</tbody></table></body></html>\n");
+        }
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
@@ -0,0 +1,166 @@
+package results;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ResultRecord - One test attempt in the shard result interchange format
+ *
+ * Purpose: Carry what a merged report needs about an attempt (identity,
+ *          outcome, timing, first error line) and nothing else, so shard
+ *          files stay small and records can be streamed one line at a time
+ *
+ * A test is identified by its key: test id, parameter values and browser.
+ * Shard files hold records sorted by key, then start time (ORDER), which is
+ * what lets ResultMerger merge any number of them in one pass.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ResultRecord {
+
+    private static final int MAX_PARAMS = 120;
+    private static final int MAX_ERROR = 300;
+
+    public static final Comparator<ResultRecord> ORDER = Comparator.comparing(ResultRecord::getKey)
+        .thenComparingLong(ResultRecord::getStartMillis);
+
+    private final String test;
+    private final String params;
+    private final String browser;
+    private final String status;
+    private final boolean retried;
+    private final long startMillis;
+    private final long durationMillis;
+    private final String shard;
+    private final String error;
+    private final String key;
+
+    /**
+     * Create record
+     * @param test Class.method
+     * @param params parameter values of data-driven tests, empty otherwise
+     * @param browser browser label
+     * @param status PASS, FAIL or SKIP
+     * @param retried true if the attempt failed and was retried
+     * @param startMillis start time (epoch millis)
+     * @param durationMillis duration
+     * @param shard shard that ran the attempt
+     * @param error first line of the failure, empty if none
+     */
+    public ResultRecord(String test, String params, String browser, String status, boolean retried,
+                        long startMillis, long durationMillis, String shard, String error) {
+        this.test = nonNull(test);
+        this.params = truncate(nonNull(params), MAX_PARAMS);
+        this.browser = nonNull(browser);
+        this.status = nonNull(status);
+        this.retried = retried;
+        this.startMillis = startMillis;
+        this.durationMillis = Math.max(0, durationMillis);
+        this.shard = nonNull(shard);
+        this.error = firstLine(error);
+        this.key = this.test + '|' + this.params + '|' + this.browser;
+    }
+
+    /**
+     * Record as a JSON object (field order fixed for readable files)
+     * @return map for the JSON writer
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("test", test);
+        map.put("params", params);
+        map.put("browser", browser);
+        map.put("status", status);
+        map.put("retried", retried);
+        map.put("start", startMillis);
+        map.put("durationMs", durationMillis);
+        map.put("shard", shard);
+        map.put("error", error);
+        return map;
+    }
+
+    /**
+     * Read a record from its JSON object
+     * @param map parsed JSON object
+     * @param shard shard to use when the record does not name one
+     * @return record
+     */
+    public static ResultRecord fromMap(Map<String, Object> map, String shard) {
+        Object recordShard = map.get("shard");
+        return new ResultRecord(string(map.get("test")), string(map.get("params")), string(map.get("browser")),
+                                string(map.get("status")), Boolean.TRUE.equals(map.get("retried")),
+                                number(map.get("start")), number(map.get("durationMs")),
+                                recordShard == null || "".equals(recordShard) ? shard : string(recordShard),
+                                string(map.get("error")));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getTest() {
+        return test;
+    }
+
+    public String getParams() {
+        return params;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isRetried() {
+        return retried;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getShard() {
+        return shard;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    private static String firstLine(String text) {
+        if (text == null) {
+            return "";
+        }
+        String line = text.trim();
+        int end = line.indexOf('\n');
+        if (end >= 0) {
+            line = line.substring(0, end).trim();
+        }
+        return truncate(line, MAX_ERROR);
+    }
+
+    private static String truncate(String text, int max) {
+        return text.length() > max ? text.substring(0, max) : text;
+    }
+
+    private static String nonNull(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
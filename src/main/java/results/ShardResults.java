@@ -0,0 +1,146 @@
+package results;
+
+import constants.FrameworkConstants;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ShardResults - This JVM's test results in the shard interchange format
+ *
+ * Purpose: Let runs split across JVMs or CI machines be combined: every JVM
+ *          writes its attempts to test-output/results/<shard>.results.jsonl,
+ *          and ResultMerger merges any number of those files into one report
+ *
+ * File layout (JSON lines, UTF-8):
+ *  line 1   header {"format":"automation-results","version":1,"shard":...,
+ *           "host":...,"started":...,"finished":...,"records":n}
+ *  line 2.. one ResultRecord per attempt, sorted by ResultRecord.ORDER
+ *
+ * The shard id is shard.id, or host-pid when unset, so parallel JVMs on one
+ * machine never overwrite each other's file.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ShardResults {
+
+    public static final String FORMAT = "automation-results";
+    public static final int VERSION = 1;
+    public static final String FILE_SUFFIX = ".results.jsonl";
+
+    private static final Queue<ResultRecord> records = new ConcurrentLinkedQueue<>();
+    private static final long started = System.currentTimeMillis();
+    private static volatile String shardId;
+
+    // Private constructor to prevent instantiation
+    private ShardResults() {
+        throw new AssertionError("ShardResults class cannot be instantiated");
+    }
+
+    /**
+     * Record a finished attempt of this JVM
+     * @param test Class.method
+     * @param params parameter values of data-driven tests, empty otherwise
+     * @param browser browser label
+     * @param status PASS, FAIL or SKIP
+     * @param retried true if the attempt failed and was retried
+     * @param startMillis start time (epoch millis)
+     * @param durationMillis duration
+     * @param error failure message, or null
+     */
+    public static void record(String test, String params, String browser, String status, boolean retried,
+                              long startMillis, long durationMillis, String error) {
+        records.add(new ResultRecord(test, params, browser, status, retried, startMillis, durationMillis,
+                                     getShardId(), error));
+    }
+
+    /**
+     * Write this JVM's shard file (call once at suite end)
+     * @return path of the file, or null if there was nothing to write or it failed
+     */
+    public static synchronized String write() {
+        if (records.isEmpty()) {
+            return null;
+        }
+        List<ResultRecord> sorted = new ArrayList<>(records);
+        sorted.sort(ResultRecord.ORDER);
+
+        FrameworkConstants.createDirectoryIfNotExists(FrameworkConstants.RESULTS_PATH);
+        File file = new File(FrameworkConstants.RESULTS_PATH, fileName(getShardId()));
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("format", FORMAT);
+            header.put("version", VERSION);
+            header.put("shard", getShardId());
+            header.put("host", hostName());
+            header.put("started", firstStart(sorted));
+            header.put("finished", System.currentTimeMillis());
+            header.put("records", sorted.size());
+            JsonLines.write(writer, header);
+            for (ResultRecord record : sorted) {
+                JsonLines.write(writer, record.toMap());
+            }
+        } catch (IOException e) {
+            LogUtil.warn("Could not write shard results: " + e.getMessage());
+            return null;
+        }
+        LogUtil.info("Shard results written: " + file.getPath() + " (" + sorted.size() + " results)");
+        return file.getPath();
+    }
+
+    /**
+     * Earliest attempt start (the class may load after the first test began)
+     */
+    private static long firstStart(List<ResultRecord> sorted) {
+        long first = started;
+        for (ResultRecord record : sorted) {
+            first = Math.min(first, record.getStartMillis());
+        }
+        return first;
+    }
+
+    /**
+     * Id of this JVM's shard
+     * @return shard.id, or host-pid
+     */
+    public static String getShardId() {
+        String id = shardId;
+        if (id == null) {
+            id = ConfigReader.getShardId();
+            if (id.isEmpty()) {
+                id = hostName() + "-" + ProcessHandle.current().pid();
+            }
+            shardId = id;
+        }
+        return id;
+    }
+
+    /**
+     * Shard file name for an id (characters unsafe in file names replaced)
+     */
+    static String fileName(String shard) {
+        return shard.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package testdata;
+
+import java.util.Arrays;
+
+/**
+ * DataRow - One generated row, readable by field name
+ *
+ * Purpose: Give constraints and derived fields named access to the values of
+ *          a row while it is generated; tests receive toArray()
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class DataRow {
+
+    private final DataSchema schema;
+    private final Object[] values;
+    private final long index;
+
+    DataRow(DataSchema schema, Object[] values, long index) {
+        this.schema = schema;
+        this.values = values;
+        this.index = index;
+    }
+
+    /**
+     * Value of a field
+     * @param field field name
+     * @return value (null for a derived field not computed yet)
+     * @throws IllegalArgumentException if the schema has no such field
+     */
+    public Object get(String field) {
+        return values[schema.indexOf(field)];
+    }
+
+    /**
+     * Value of a field as text
+     * @param field field name
+     * @return String.valueOf(value)
+     */
+    public String getString(String field) {
+        return String.valueOf(get(field));
+    }
+
+    /**
+     * Row index within its generator run (0-based)
+     * @return index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Values in field order, as TestNG passes them to the test method
+     * @return values (the row's own array)
+     */
+    public Object[] toArray() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " " + Arrays.toString(values);
+    }
+}
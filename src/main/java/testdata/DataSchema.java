@@ -0,0 +1,137 @@
+package testdata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * DataSchema - Fields, derived fields and constraints of generated test data
+ *
+ * Purpose: Replace a hand-maintained sheet with a definition the rows are
+ *          generated from; parameters of the test method follow field order
+ *          (generated fields first, then derived fields)
+ *
+ * Example:
+ *  new DataSchema("login")
+ *      .field("username", Values.oneOf("standard_user", "locked_out_user"))
+ *      .field("password", Values.oneOf("secret_sauce", Values.alphanumeric(6, 12)))
+ *      .derive("expectSuccess", row -> "standard_user".equals(row.get("username"))
+ *                                       && "secret_sauce".equals(row.get("password")))
+ *      .where(row -> ...);
+ *
+ * The name keeps each schema's rows independent of the others: adding a
+ * schema does not change the rows another one generates from the same seed.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class DataSchema {
+
+    private final String name;
+    private final List<String> fields = new ArrayList<>();
+    private final List<Values> values = new ArrayList<>();
+    private final List<Function<DataRow, Object>> rules = new ArrayList<>();
+    private final List<Predicate<DataRow>> constraints = new ArrayList<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * Create schema
+     * @param name schema name (part of the row seed)
+     */
+    public DataSchema(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add a generated field
+     * @param field field name
+     * @param fieldValues where its values come from
+     * @return this schema
+     */
+    public DataSchema field(String field, Values fieldValues) {
+        if (!rules.isEmpty()) {
+            throw new IllegalStateException("Field " + field + " must be declared before derived fields");
+        }
+        add(field);
+        values.add(fieldValues);
+        return this;
+    }
+
+    /**
+     * Add a field computed from the fields before it (e.g. the expected outcome)
+     * @param field field name
+     * @param rule computes the value from the row
+     * @return this schema
+     */
+    public DataSchema derive(String field, Function<DataRow, Object> rule) {
+        add(field);
+        rules.add(rule);
+        return this;
+    }
+
+    /**
+     * Only generate rows that satisfy a constraint
+     * @param constraint test on the complete row
+     * @return this schema
+     */
+    public DataSchema where(Predicate<DataRow> constraint) {
+        constraints.add(constraint);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Field names in parameter order
+     * @return field names
+     */
+    public List<String> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    int indexOf(String field) {
+        Integer index = indexes.get(field);
+        if (index == null) {
+            throw new IllegalArgumentException("Schema " + name + " has no field " + field);
+        }
+        return index;
+    }
+
+    int generatedCount() {
+        return values.size();
+    }
+
+    Values getValues(int field) {
+        return values.get(field);
+    }
+
+    /**
+     * Complete a row whose generated fields are set: compute derived fields
+     * @return true if the row satisfies all constraints
+     */
+    boolean complete(DataRow row) {
+        Object[] array = row.toArray();
+        for (int i = 0; i < rules.size(); i++) {
+            array[values.size() + i] = rules.get(i).apply(row);
+        }
+        for (Predicate<DataRow> constraint : constraints) {
+            if (!constraint.test(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String field) {
+        if (indexes.putIfAbsent(field, fields.size()) != null) {
+            throw new IllegalArgumentException("Schema " + name + " already has a field " + field);
+        }
+        fields.add(field);
+    }
+}
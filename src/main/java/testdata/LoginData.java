@@ -0,0 +1,13 @@
+package testdata;
+
+/**
+ * LoginData - One row of the login sheet (TestData.xlsx, Sheet1)
+ *
+ * Purpose: Typed data-provider row for login tests, read with
+ *          ExcelReader.getRecordData("TestData.xlsx", "Sheet1", LoginData.class)
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public record LoginData(String username, String password) {
+}
@@ -0,0 +1,203 @@
+package testdata;
+
+import utils.LogUtil;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * PairwiseIterator - Lazy pairwise (all-pairs) coverage of finite fields
+ *
+ * Purpose: Cover every value pair of any two finite fields in few rows,
+ *          building each row only when it is asked for
+ *
+ * Greedy, one row at a time (AETG style): take the first uncovered pair,
+ * build candidate rows around it - remaining fields in random order, each
+ * set to the value completing the most uncovered pairs - and return the
+ * valid candidate covering the most. When constraints reject every candidate
+ * for a pair, the pair is counted as infeasible and dropped, so generation
+ * always ends. Memory is one bit per value pair.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class PairwiseIterator extends TestDataGenerator.RowIterator {
+
+    private static final int CANDIDATES = 20;
+
+    private final TestDataGenerator generator;
+    private final int[] finite;
+    private final int[] sizes;
+    private final int[][] pairOf;
+    private final BitSet[] covered;
+    private final SplittableRandom random;
+    private long uncovered;
+    private long totalPairs;
+    private long infeasible;
+    private long rows;
+
+    PairwiseIterator(TestDataGenerator generator, int[] finite, SplittableRandom random) {
+        this.generator = generator;
+        this.finite = finite;
+        this.random = random;
+        DataSchema schema = generator.getSchema();
+        sizes = new int[finite.length];
+        for (int i = 0; i < finite.length; i++) {
+            sizes[i] = schema.getValues(finite[i]).choices().size();
+        }
+        pairOf = new int[finite.length][finite.length];
+        covered = new BitSet[finite.length * (finite.length - 1) / 2];
+        int pair = 0;
+        for (int i = 0; i < finite.length; i++) {
+            for (int j = i + 1; j < finite.length; j++) {
+                pairOf[i][j] = pair;
+                covered[pair++] = new BitSet(sizes[i] * sizes[j]);
+                totalPairs += (long) sizes[i] * sizes[j];
+            }
+        }
+        uncovered = totalPairs;
+    }
+
+    @Override
+    Object[] computeNext() {
+        while (uncovered > 0) {
+            int[] target = firstUncovered();
+            DataRow best = null;
+            int[] bestChoice = null;
+            int bestGain = 0;
+            for (int candidate = 0; candidate < CANDIDATES; candidate++) {
+                int[] choice = candidate(target);
+                DataRow row = generator.materialize(expand(choice), random.split(), rows);
+                if (row == null) {
+                    continue;
+                }
+                int gain = gain(choice);
+                if (gain > bestGain) {
+                    best = row;
+                    bestChoice = choice;
+                    bestGain = gain;
+                }
+            }
+            if (best != null) {
+                cover(bestChoice);
+                rows++;
+                return best.toArray();
+            }
+            // Constraints rule the pair out - drop it instead of searching forever
+            covered[pairOf[target[0]][target[1]]].set(target[2] * sizes[target[1]] + target[3]);
+            uncovered--;
+            infeasible++;
+        }
+        LogUtil.info("Test data '" + generator.getSchema().getName() + "': " + rows + " pairwise rows cover " +
+                     (totalPairs - infeasible) + " value pairs" +
+                     (infeasible > 0 ? " (" + infeasible + " excluded by constraints)" : ""));
+        return null;
+    }
+
+    /**
+     * First uncovered pair as {field i, field j, value of i, value of j}
+     */
+    private int[] firstUncovered() {
+        for (int i = 0; i < finite.length; i++) {
+            for (int j = i + 1; j < finite.length; j++) {
+                int bit = covered[pairOf[i][j]].nextClearBit(0);
+                if (bit < sizes[i] * sizes[j]) {
+                    return new int[] {i, j, bit / sizes[j], bit % sizes[j]};
+                }
+            }
+        }
+        throw new IllegalStateException("No uncovered pair left");
+    }
+
+    /**
+     * Candidate row (value index per finite field) around the target pair
+     */
+    private int[] candidate(int[] target) {
+        int[] choice = new int[finite.length];
+        Arrays.fill(choice, -1);
+        choice[target[0]] = target[2];
+        choice[target[1]] = target[3];
+
+        int[] order = new int[finite.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            int field = order[i];
+            order[i] = order[swap];
+            order[swap] = field;
+        }
+        for (int field : order) {
+            if (choice[field] >= 0) {
+                continue;
+            }
+            int bestValue = 0;
+            int bestGain = -1;
+            int ties = 0;
+            for (int value = 0; value < sizes[field]; value++) {
+                int gain = 0;
+                for (int other = 0; other < finite.length; other++) {
+                    if (other != field && choice[other] >= 0 && !isCovered(field, value, other, choice[other])) {
+                        gain++;
+                    }
+                }
+                if (gain > bestGain) {
+                    bestValue = value;
+                    bestGain = gain;
+                    ties = 1;
+                } else if (gain == bestGain && random.nextInt(++ties) == 0) {
+                    bestValue = value;
+                }
+            }
+            choice[field] = bestValue;
+        }
+        return choice;
+    }
+
+    /**
+     * Uncovered pairs a complete candidate would cover
+     */
+    private int gain(int[] choice) {
+        int gain = 0;
+        for (int i = 0; i < finite.length; i++) {
+            for (int j = i + 1; j < finite.length; j++) {
+                if (!isCovered(i, choice[i], j, choice[j])) {
+                    gain++;
+                }
+            }
+        }
+        return gain;
+    }
+
+    private void cover(int[] choice) {
+        for (int i = 0; i < finite.length; i++) {
+            for (int j = i + 1; j < finite.length; j++) {
+                BitSet pairs = covered[pairOf[i][j]];
+                int bit = choice[i] * sizes[j] + choice[j];
+                if (!pairs.get(bit)) {
+                    pairs.set(bit);
+                    uncovered--;
+                }
+            }
+        }
+    }
+
+    private boolean isCovered(int field, int value, int other, int otherValue) {
+        return field < other ? covered[pairOf[field][other]].get(value * sizes[other] + otherValue)
+                             : covered[pairOf[other][field]].get(otherValue * sizes[field] + value);
+    }
+
+    /**
+     * Choice per generated field (-1 for fields drawn randomly)
+     */
+    private int[] expand(int[] choice) {
+        int[] expanded = new int[generator.getSchema().generatedCount()];
+        Arrays.fill(expanded, -1);
+        for (int i = 0; i < finite.length; i++) {
+            expanded[finite[i]] = choice[i];
+        }
+        return expanded;
+    }
+}
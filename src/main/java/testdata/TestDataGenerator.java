@@ -0,0 +1,298 @@
+package testdata;
+
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * TestDataGenerator - Seeded, lazy test data from a DataSchema
+ *
+ * Purpose: Data-driven tests without hand-maintained sheets - rows are
+ *          generated one at a time as TestNG asks for them (no Object[][]),
+ *          so large sets for load-style runs cost no memory, and the same
+ *          seed always gives the same rows, so a failing row can be replayed
+ *
+ * Modes:
+ *  random(n)     n rows, each drawn independently from the row's own seed
+ *  pairwise()    every pair of values of any two finite fields in at least
+ *                one row, in far fewer rows than all combinations
+ *  exhaustive()  every combination of the finite fields
+ * Fields that are not finite (ranges, random text) get random values in
+ * every mode; rows rejected by a constraint are never returned.
+ *
+ * Seed: testdata.seed, or a random seed per run (logged, so a failed run is
+ * replayed with -Dtestdata.seed=<seed>).
+ *
+ * Usage as a TestNG data provider (alongside ExcelReader):
+ *  @DataProvider(name = "users")
+ *  public Iterator<Object[]> users() {
+ *      return TestDataGenerator.of(USER_SCHEMA).pairwise();
+ *  }
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class TestDataGenerator {
+
+    private static final int MAX_REJECTED_ROWS = 1000;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static volatile Long runSeed;
+
+    private final DataSchema schema;
+    private long seed;
+
+    private TestDataGenerator(DataSchema schema, long seed) {
+        this.schema = schema;
+        this.seed = seed;
+    }
+
+    /**
+     * Generator for a schema, seeded with this run's seed
+     * @param schema schema
+     * @return generator
+     */
+    public static TestDataGenerator of(DataSchema schema) {
+        return new TestDataGenerator(schema, getRunSeed());
+    }
+
+    /**
+     * Use an explicit seed instead of the run's
+     * @param seed seed
+     * @return this generator
+     */
+    public TestDataGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Seed of this run: testdata.seed, or a random seed chosen (and logged) once
+     * @return seed
+     */
+    public static long getRunSeed() {
+        Long value = runSeed;
+        if (value == null) {
+            synchronized (TestDataGenerator.class) {
+                value = runSeed;
+                if (value == null) {
+                    String configured = ConfigReader.getTestDataSeed();
+                    value = configured.isEmpty() ? new SplittableRandom().nextLong() : Long.parseLong(configured);
+                    LogUtil.info("Test data seed: " + value + " (replay with -Dtestdata.seed=" + value + ")");
+                    runSeed = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Forget the run's seed, so the next getRunSeed() reads testdata.seed again
+     * (unit tests)
+     */
+    static synchronized void resetRunSeed() {
+        runSeed = null;
+    }
+
+    // ==================== MODES ====================
+
+    /**
+     * Independent random rows
+     * @param count number of rows
+     * @return lazy rows
+     */
+    public Iterator<Object[]> random(long count) {
+        log("random, " + count + " rows");
+        long base = baseSeed();
+        return new RowIterator() {
+            private long index;
+
+            @Override
+            Object[] computeNext() {
+                if (index >= count) {
+                    return null;
+                }
+                SplittableRandom random = new SplittableRandom(mix(base + index * GOLDEN_GAMMA));
+                for (int attempt = 0; attempt < MAX_REJECTED_ROWS; attempt++) {
+                    DataRow row = materialize(null, random, index);
+                    if (row != null) {
+                        index++;
+                        return row.toArray();
+                    }
+                }
+                throw new IllegalStateException("Test data '" + schema.getName() + "': constraints rejected " +
+                                                MAX_REJECTED_ROWS + " rows in a row");
+            }
+        };
+    }
+
+    /**
+     * Rows covering every value pair of the finite fields
+     * @return lazy rows
+     */
+    public Iterator<Object[]> pairwise() {
+        int[] finite = finiteFields();
+        if (finite.length < 2) {
+            return exhaustive();
+        }
+        log("pairwise");
+        return new PairwiseIterator(this, finite, new SplittableRandom(baseSeed()));
+    }
+
+    /**
+     * Rows for every combination of the finite fields
+     * @return lazy rows
+     */
+    public Iterator<Object[]> exhaustive() {
+        int[] finite = finiteFields();
+        log("exhaustive");
+        long base = baseSeed();
+        return new RowIterator() {
+            private final int[] choice = initialChoice(finite);
+            private long combination;
+            private boolean done;
+
+            @Override
+            Object[] computeNext() {
+                while (!done) {
+                    SplittableRandom random = new SplittableRandom(mix(base + combination * GOLDEN_GAMMA));
+                    DataRow row = materialize(choice, random, combination);
+                    combination++;
+                    done = !increment(choice, finite);
+                    if (row != null) {
+                        return row.toArray();
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    // ==================== ROWS ====================
+
+    /**
+     * Generate one row
+     * @param choice choice index per generated field (-1 or null: draw randomly)
+     * @param random random source of the row
+     * @param index row index
+     * @return row, or null if a constraint rejects it
+     */
+    DataRow materialize(int[] choice, SplittableRandom random, long index) {
+        Object[] values = new Object[schema.getFields().size()];
+        for (int field = 0; field < schema.generatedCount(); field++) {
+            Values fieldValues = schema.getValues(field);
+            if (choice != null && choice[field] >= 0) {
+                values[field] = Values.resolve(fieldValues.choices().get(choice[field]), random, index);
+            } else {
+                values[field] = fieldValues.next(random, index);
+            }
+        }
+        DataRow row = new DataRow(schema, values, index);
+        if (!schema.complete(row)) {
+            return null;
+        }
+        return row;
+    }
+
+    DataSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Generated fields with a finite domain
+     */
+    private int[] finiteFields() {
+        int count = 0;
+        int[] fields = new int[schema.generatedCount()];
+        for (int field = 0; field < schema.generatedCount(); field++) {
+            if (schema.getValues(field).choices() != null) {
+                fields[count++] = field;
+            }
+        }
+        return Arrays.copyOf(fields, count);
+    }
+
+    private int[] initialChoice(int[] finite) {
+        int[] choice = new int[schema.generatedCount()];
+        Arrays.fill(choice, -1);
+        for (int field : finite) {
+            choice[field] = 0;
+        }
+        return choice;
+    }
+
+    /**
+     * Advance the finite fields' choices like an odometer
+     * @return false after the last combination
+     */
+    private boolean increment(int[] choice, int[] finite) {
+        for (int i = finite.length - 1; i >= 0; i--) {
+            int field = finite[i];
+            List<Object> choices = schema.getValues(field).choices();
+            if (++choice[field] < choices.size()) {
+                return true;
+            }
+            choice[field] = 0;
+        }
+        return false;
+    }
+
+    private long baseSeed() {
+        return mix(seed ^ mix(schema.getName().hashCode()));
+    }
+
+    private void log(String mode) {
+        LogUtil.info("Test data '" + schema.getName() + "' (" + mode + "), seed " + seed);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads neighbouring seeds over the whole range
+     */
+    static long mix(long value) {
+        long z = value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Iterator computing one row ahead
+     */
+    abstract static class RowIterator implements Iterator<Object[]> {
+        private Object[] next;
+        private boolean finished;
+
+        /**
+         * @return next row, or null at the end
+         */
+        abstract Object[] computeNext();
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null && !finished) {
+                next = computeNext();
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public final Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+    }
+}
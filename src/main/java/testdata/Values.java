@@ -0,0 +1,151 @@
+package testdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Values - Where the values of one generated test data field come from
+ *
+ * Purpose: Describe a field's domain once, so TestDataGenerator can draw
+ *          random values from it or cover it combinatorially
+ *
+ * A domain is finite when it has choices() (oneOf, bool, boundaries); only
+ * finite fields take part in pairwise and exhaustive coverage. A choice may
+ * itself be a Values, e.g. oneOf("standard_user", alphanumeric(6, 12)) covers
+ * "a known user" and "some unknown user" as two equivalence classes.
+ *
+ * Values must be pure functions of the random source and row index, so the
+ * same seed always produces the same rows.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Values {
+
+    /**
+     * Draw a value
+     * @param random random source of the row
+     * @param row row index (0-based)
+     * @return value
+     */
+    Object next(SplittableRandom random, long row);
+
+    /**
+     * Choices of a finite domain
+     * @return choices (a choice may be a Values), or null if the domain is not finite
+     */
+    default List<Object> choices() {
+        return null;
+    }
+
+    /**
+     * One of fixed choices (finite)
+     * @param choices values, or Values drawn when chosen
+     * @return values
+     */
+    static Values oneOf(Object... choices) {
+        if (choices.length == 0) {
+            throw new IllegalArgumentException("oneOf needs at least one choice");
+        }
+        List<Object> list = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(choices)));
+        return new Values() {
+            @Override
+            public Object next(SplittableRandom random, long row) {
+                return resolve(list.get(random.nextInt(list.size())), random, row);
+            }
+
+            @Override
+            public List<Object> choices() {
+                return list;
+            }
+        };
+    }
+
+    /**
+     * true or false (finite)
+     * @return values
+     */
+    static Values bool() {
+        return oneOf(true, false);
+    }
+
+    /**
+     * Boundary values of an integer range: min, min + 1, max - 1, max (finite)
+     * @param min smallest valid value
+     * @param max largest valid value
+     * @return values
+     */
+    static Values boundaries(int min, int max) {
+        List<Object> values = new ArrayList<>();
+        for (int value : new int[] {min, min + 1, max - 1, max}) {
+            if (value >= min && value <= max && !values.contains(value)) {
+                values.add(value);
+            }
+        }
+        return oneOf(values.toArray());
+    }
+
+    /**
+     * Any integer of a range
+     * @param min smallest value
+     * @param max largest value (inclusive)
+     * @return values
+     */
+    static Values intRange(int min, int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("intRange: max " + max + " < min " + min);
+        }
+        return (random, row) -> (int) random.nextLong(min, (long) max + 1);
+    }
+
+    /**
+     * Random letters and digits
+     * @param minLength shortest length
+     * @param maxLength longest length (inclusive)
+     * @return values
+     */
+    static Values alphanumeric(int minLength, int maxLength) {
+        String alphabet = "abcdefghijklmnopqrstuvwxyz0123456789";
+        return (random, row) -> {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            return text.toString();
+        };
+    }
+
+    /**
+     * Random address in the reserved example.test domain
+     * @return values
+     */
+    static Values email() {
+        Values local = alphanumeric(5, 12);
+        return (random, row) -> local.next(random, row) + "@example.test";
+    }
+
+    /**
+     * Unique value per row: prefix + row index
+     * @param prefix e.g. "user-"
+     * @return values
+     */
+    static Values sequence(String prefix) {
+        return (random, row) -> prefix + row;
+    }
+
+    /**
+     * Value of a choice (drawn if the choice is itself a Values)
+     * @param choice choice
+     * @param random random source of the row
+     * @param row row index
+     * @return value
+     */
+    static Object resolve(Object choice, SplittableRandom random, long row) {
+        return choice instanceof Values ? ((Values) choice).next(random, row) : choice;
+    }
+}
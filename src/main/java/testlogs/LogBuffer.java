@@ -0,0 +1,109 @@
+package testlogs;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * LogBuffer - Byte-bounded buffer of one test invocation's log lines
+ *
+ * Purpose: Hold the formatted log of a running test in memory so it can be
+ *          attached to the report if the test fails; when over its budget
+ *          the oldest lines are dropped (the ones before a failure matter most)
+ * Thread-Safe: Yes (written by the logging thread, read by the test thread)
+ *
+ * Sizes count chars, not encoded bytes - close enough for a memory cap.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class LogBuffer {
+
+    private static final int HTML_MAX_CHARS = 200_000;
+
+    private final long maxChars;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private long chars;
+    private long added;
+    private long dropped;
+
+    /**
+     * Create buffer
+     * @param maxChars size budget
+     */
+    public LogBuffer(long maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Append a formatted line, dropping the oldest lines while over budget
+     * @param line formatted log line (with line separator)
+     * @return change in buffered chars
+     */
+    public synchronized long add(String line) {
+        long before = chars;
+        lines.addLast(line);
+        chars += line.length();
+        added++;
+        while (chars > maxChars && lines.size() > 1) {
+            chars -= lines.removeFirst().length();
+            dropped++;
+        }
+        return chars - before;
+    }
+
+    /**
+     * Drop all lines
+     * @return chars released
+     */
+    public synchronized long clear() {
+        long released = chars;
+        lines.clear();
+        chars = 0;
+        return released;
+    }
+
+    public synchronized long getChars() {
+        return chars;
+    }
+
+    public synchronized long getAdded() {
+        return added;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Buffered lines as one text
+     * @return log text, oldest first
+     */
+    public synchronized String getText() {
+        StringBuilder text = new StringBuilder((int) chars);
+        lines.forEach(text::append);
+        return text.toString();
+    }
+
+    /**
+     * Report markup: collapsible block with the buffered lines
+     * @return HTML
+     */
+    public String toHtml() {
+        String text = getText();
+        long droppedLines = getDropped();
+        StringBuilder html = new StringBuilder("<details><summary><b>Test log</b>: ")
+            .append(getAdded() - droppedLines).append(" line(s)");
+        if (droppedLines > 0) {
+            html.append(", ").append(droppedLines).append(" earlier line(s) dropped");
+        }
+        if (text.length() > HTML_MAX_CHARS) {
+            text = text.substring(text.length() - HTML_MAX_CHARS);
+            html.append(", last ").append(HTML_MAX_CHARS / 1000).append("K chars shown");
+        }
+        return html.append("</summary><pre>").append(escape(text)).append("</pre></details>").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
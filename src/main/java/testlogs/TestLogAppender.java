@@ -0,0 +1,88 @@
+package testlogs;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import utils.ExecutionEvents;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestLogAppender - Log4j appender routing lines into per-test buffers
+ *
+ * Purpose: Copy each log line of a running test into its TestLogs buffer,
+ *          selected by the event's correlation id (ThreadContext "cid");
+ *          lines without an open id are ignored
+ *
+ * Usage in log4j2.xml (and reference it from the loggers to capture, plus
+ * the testlogs.flush logger):
+ *  <TestLog name="TestLogAppender">
+ *      <PatternLayout pattern="%d{HH:mm:ss.SSS} %-5level %logger{1} - %msg%n"/>
+ *  </TestLog>
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+@Plugin(name = "TestLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class TestLogAppender extends AbstractAppender {
+
+    private TestLogAppender(String name, Filter filter, Layout<? extends Serializable> layout) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    }
+
+    /**
+     * Plugin factory used by the log4j configuration
+     * @param name appender name
+     * @param layout line layout (default: pattern layout)
+     * @param filter optional filter
+     * @return appender
+     */
+    @PluginFactory
+    public static TestLogAppender createAppender(@PluginAttribute("name") String name,
+                                                 @PluginElement("Layout") Layout<? extends Serializable> layout,
+                                                 @PluginElement("Filter") Filter filter) {
+        return new TestLogAppender(name == null ? "TestLog" : name, filter,
+                                   layout == null ? PatternLayout.createDefaultLayout() : layout);
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        TestLogs.appenderStarted();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        TestLogs.appenderStopped();
+        return super.stop(timeout, timeUnit);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        if (!TestLogs.isBuffering()) {
+            return;
+        }
+        String cid = event.getContextData().getValue(ExecutionEvents.CORRELATION_KEY);
+        if (cid == null) {
+            return;
+        }
+        if (TestLogs.FLUSH_LOGGER.equals(event.getLoggerName())) {
+            TestLogs.flushed(cid);
+            return;
+        }
+        Serializable line = getLayout().toSerializable(event);
+        TestLogs.append(cid, line instanceof String ? (String) line
+                                                    : new String(getLayout().toByteArray(event), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package testlogs;
+
+import metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utils.ConfigReader;
+import utils.ExecutionEvents;
+import utils.LogUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TestLogs - Per-test log buffers, kept only for failed tests
+ *
+ * Purpose: Give a failed test its own log in the report instead of making
+ *          readers untangle the interleaved automation.log of a parallel run,
+ *          without keeping or writing anything for passing tests
+ *
+ * Lines are routed by correlation id: ExecutionEvents puts the invocation's
+ * id in the log4j ThreadContext, and TestLogAppender (log4j2.xml) copies
+ * every line carrying an open id into that invocation's LogBuffer, capped at
+ * test.log.max.kb (oldest lines dropped first).
+ *
+ * Loggers are async, so the appender runs on the logging thread and may lag
+ * the test. collect() logs a flush marker to "testlogs.flush" and waits for
+ * the appender to reach it; the ring buffer is processed in order, so every
+ * earlier line of the test is in the buffer by then.
+ *
+ * Lifecycle (all on the test thread, inside ExecutionEvents.begin/end):
+ *  open() in setup, collect() from the failure listener, close() in teardown.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class TestLogs {
+
+    public static final String FLUSH_LOGGER = "testlogs.flush";
+
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+    private static final Logger FLUSH = LogManager.getLogger(FLUSH_LOGGER);
+
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private static final AtomicLong bufferedChars = new AtomicLong();
+    private static volatile int appenders;
+
+    /**
+     * Buffer and pending flush of one invocation
+     */
+    private static final class Session {
+        private final LogBuffer buffer;
+        private volatile CountDownLatch flushed;
+
+        private Session(LogBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private TestLogs() {
+        throw new AssertionError("TestLogs class cannot be instantiated");
+    }
+
+    /**
+     * Start buffering the current invocation's log lines
+     * No-op unless test.log.enabled=true and a TestLog appender is configured
+     */
+    public static void open() {
+        String cid = ExecutionEvents.getCorrelationId();
+        if (cid == null || appenders == 0 || !ConfigReader.isTestLogEnabled()) {
+            return;
+        }
+        sessions.put(cid, new Session(new LogBuffer(ConfigReader.getTestLogMaxKb() * 1024L)));
+    }
+
+    /**
+     * Buffered log of the current invocation, up to now (call when the test failed)
+     * @return buffer, or null if nothing is buffered
+     */
+    public static LogBuffer collect() {
+        String cid = ExecutionEvents.getCorrelationId();
+        Session session = cid == null ? null : sessions.get(cid);
+        if (session == null) {
+            return null;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        session.flushed = latch;
+        FLUSH.info("flush");
+        try {
+            if (!latch.await(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LogUtil.debug("Test log not flushed within " + FLUSH_TIMEOUT_MS + " ms - latest lines may be missing");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        FrameworkMetrics.TEST_LOG_LINES.add(session.buffer.getAdded() - session.buffer.getDropped(), "attached");
+        return session.buffer;
+    }
+
+    /**
+     * Stop buffering and drop the current invocation's lines (call in teardown)
+     */
+    public static void close() {
+        String cid = ExecutionEvents.getCorrelationId();
+        Session session = cid == null ? null : sessions.remove(cid);
+        if (session == null) {
+            return;
+        }
+        FrameworkMetrics.TEST_LOG_LINES.add(session.buffer.getAdded(), "buffered");
+        FrameworkMetrics.TEST_LOG_LINES.add(session.buffer.getDropped(), "dropped");
+        release(session.buffer.clear());
+    }
+
+    // ==================== APPENDER SIDE ====================
+
+    /**
+     * Buffer a formatted line for an invocation (logging thread)
+     * @param cid correlation id of the log event
+     * @param line formatted line
+     */
+    static void append(String cid, String line) {
+        Session session = sessions.get(cid);
+        if (session != null) {
+            release(-session.buffer.add(line));
+        }
+    }
+
+    /**
+     * The appender reached an invocation's flush marker (logging thread)
+     * @param cid correlation id of the marker
+     */
+    static void flushed(String cid) {
+        Session session = sessions.get(cid);
+        CountDownLatch latch = session == null ? null : session.flushed;
+        if (latch != null) {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Check if any invocation is being buffered (appender fast path)
+     */
+    static boolean isBuffering() {
+        return !sessions.isEmpty();
+    }
+
+    static synchronized void appenderStarted() {
+        appenders++;
+    }
+
+    static synchronized void appenderStopped() {
+        appenders = Math.max(0, appenders - 1);
+    }
+
+    private static void release(long chars) {
+        FrameworkMetrics.TEST_LOG_BUFFER_CHARS.set(bufferedChars.addAndGet(-chars));
+    }
+}
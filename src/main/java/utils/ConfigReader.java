@@ -70,19 +70,12 @@ public final class ConfigReader {
     }
     
     /**
-     * Get property value by key
+     * Get property value by key, warning when it is missing
      * @param key property key
      * @return property value or null if not found
      */
     private static String getProperty(String key) {
-        // First check system property (command line override)
-        String systemValue = System.getProperty(key);
-        if (systemValue != null && !systemValue.isEmpty()) {
-            return systemValue;
-        }
-        
-        // Then check properties file
-        String value = properties.getProperty(key);
+        String value = lookup(key);
         if (value == null || value.isEmpty()) {
             LogUtil.warn("Property '" + key + "' not found in config file");
         }
@@ -91,15 +84,28 @@ public final class ConfigReader {
     
     /**
      * Get property with default value
+     * No warning when the key is missing or empty: the default is the intended value
+     * (e.g. an empty api.url or grid.hubs), and getters run on every test
      * @param key property key
      * @param defaultValue default value if key not found
      * @return property value or default
      */
     private static String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
+        String value = lookup(key);
         return (value != null && !value.isEmpty()) ? value : defaultValue;
     }
     
+    private static String lookup(String key) {
+        // First check system property (command line override)
+        String systemValue = System.getProperty(key);
+        if (systemValue != null && !systemValue.isEmpty()) {
+            return systemValue;
+        }
+        
+        // Then check properties file
+        return properties.getProperty(key);
+    }
+    
     // ==================== APPLICATION URL ====================
     
     /**
@@ -138,6 +144,43 @@ public final class ConfigReader {
                String.valueOf(FrameworkConstants.HEADLESS_MODE)));
     }
     
+    /**
+     * Get fixed per-command latency simulated by the fake browser
+     * @return latency in milliseconds
+     */
+    public static long getFakeLatency() {
+        return Long.parseLong(getProperty("fake.latency.ms", 
+               String.valueOf(FrameworkConstants.FAKE_LATENCY_MS)));
+    }
+    
+    /**
+     * Get random extra per-command latency simulated by the fake browser
+     * @return maximum jitter in milliseconds
+     */
+    public static long getFakeLatencyJitter() {
+        return Long.parseLong(getProperty("fake.latency.jitter.ms", 
+               String.valueOf(FrameworkConstants.FAKE_LATENCY_JITTER_MS)));
+    }
+    
+    /**
+     * Get probability that a fake browser command fails
+     * @return failure rate between 0.0 and 1.0
+     */
+    public static double getFakeFailureRate() {
+        return Double.parseDouble(getProperty("fake.failure.rate", 
+               String.valueOf(FrameworkConstants.FAKE_FAILURE_RATE)));
+    }
+    
+    // ==================== TEST DATA GENERATION ====================
+    
+    /**
+     * Get seed for generated test data (testdata.TestDataGenerator)
+     * @return seed, empty for a random seed per run
+     */
+    public static String getTestDataSeed() {
+        return getProperty("testdata.seed", FrameworkConstants.TESTDATA_SEED).trim();
+    }
+    
     // ==================== ENVIRONMENT CONFIGURATION ====================
     
     /**
@@ -174,6 +217,85 @@ public final class ConfigReader {
         return getProperty("grid.url", FrameworkConstants.GRID_URL);
     }
     
+    /**
+     * Get Grid hubs for load balancing and failover
+     * @return comma-separated url[;weight] list (empty = grid.url only)
+     */
+    public static String getGridHubs() {
+        return getProperty("grid.hubs", FrameworkConstants.GRID_HUBS);
+    }
+    
+    /**
+     * Get routing strategy across Grid hubs
+     * @return least-loaded or weighted
+     */
+    public static String getGridRouting() {
+        return getProperty("grid.routing", FrameworkConstants.GRID_ROUTING);
+    }
+    
+    /**
+     * Get interval between Grid hub health checks
+     * @return interval in seconds
+     */
+    public static long getGridHealthInterval() {
+        return Long.parseLong(getProperty("grid.health.interval.sec", 
+               String.valueOf(FrameworkConstants.GRID_HEALTH_INTERVAL_SEC)));
+    }
+    
+    /**
+     * Get consecutive session failures that open a hub's circuit breaker
+     * @return failure threshold
+     */
+    public static int getGridBreakerFailures() {
+        return Integer.parseInt(getProperty("grid.breaker.failures", 
+               String.valueOf(FrameworkConstants.GRID_BREAKER_FAILURES)));
+    }
+    
+    /**
+     * Get how long an open circuit breaker keeps sessions away from a hub
+     * @return open time in seconds
+     */
+    public static long getGridBreakerOpenTime() {
+        return Long.parseLong(getProperty("grid.breaker.open.sec", 
+               String.valueOf(FrameworkConstants.GRID_BREAKER_OPEN_SEC)));
+    }
+    
+    /**
+     * Check if remote sessions to the same hub share one HTTP client
+     * @return true if pooled
+     */
+    public static boolean isGridHttpPooled() {
+        return Boolean.parseBoolean(getProperty("grid.http.pooled", 
+               String.valueOf(FrameworkConstants.GRID_HTTP_POOLED)));
+    }
+    
+    /**
+     * Get connect timeout for Grid HTTP connections
+     * @return timeout in seconds
+     */
+    public static long getGridHttpConnectTimeout() {
+        return Long.parseLong(getProperty("grid.http.connect.timeout.sec", 
+               String.valueOf(FrameworkConstants.GRID_HTTP_CONNECT_TIMEOUT_SEC)));
+    }
+    
+    /**
+     * Get read timeout for Grid commands (must exceed the slowest command, e.g. page loads)
+     * @return timeout in seconds
+     */
+    public static long getGridHttpReadTimeout() {
+        return Long.parseLong(getProperty("grid.http.read.timeout.sec", 
+               String.valueOf(FrameworkConstants.GRID_HTTP_READ_TIMEOUT_SEC)));
+    }
+    
+    /**
+     * Check if screenshot responses are requested gzip-compressed
+     * @return true if enabled
+     */
+    public static boolean isGridHttpGzip() {
+        return Boolean.parseBoolean(getProperty("grid.http.gzip", 
+               String.valueOf(FrameworkConstants.GRID_HTTP_GZIP)));
+    }
+    
     // ==================== TIMEOUT CONFIGURATION ====================
     
     /**
@@ -239,6 +361,101 @@ public final class ConfigReader {
                String.valueOf(FrameworkConstants.CAPTURE_SCREENSHOT_ON_FAIL)));
     }
     
+    // ==================== FAILURE RECORDING ====================
+    
+    /**
+     * Check if sessions keep a rolling screenshot buffer for failure replays
+     * @return true if enabled
+     */
+    public static boolean isRecordingEnabled() {
+        return Boolean.parseBoolean(getProperty("recording.enabled", 
+               String.valueOf(FrameworkConstants.RECORDING_ENABLED)));
+    }
+    
+    /**
+     * Get delay between recorded frames
+     * @return interval in milliseconds
+     */
+    public static long getRecordingInterval() {
+        return Long.parseLong(getProperty("recording.interval.ms", 
+               String.valueOf(FrameworkConstants.RECORDING_INTERVAL_MS)));
+    }
+    
+    /**
+     * Get memory budget of one session's frame buffer
+     * @return megabytes
+     */
+    public static int getRecordingMaxMb() {
+        return Integer.parseInt(getProperty("recording.max.mb", 
+               String.valueOf(FrameworkConstants.RECORDING_MAX_MB)));
+    }
+    
+    /**
+     * Get size factor of replay frames
+     * @return scale, e.g. 0.5 for half width and height
+     */
+    public static double getRecordingScale() {
+        return Double.parseDouble(getProperty("recording.scale", 
+               String.valueOf(FrameworkConstants.RECORDING_SCALE)));
+    }
+    
+    // ==================== BROWSER LOGS ====================
+    
+    /**
+     * Check if console and network events are captured for failure reports
+     * @return true if enabled
+     */
+    public static boolean isBrowserLogsEnabled() {
+        return Boolean.parseBoolean(getProperty("browser.logs.enabled", 
+               String.valueOf(FrameworkConstants.BROWSER_LOGS_ENABLED)));
+    }
+    
+    /**
+     * Get number of browser events kept per session (latest win)
+     * @return event count
+     */
+    public static int getBrowserLogsCapacity() {
+        return Integer.parseInt(getProperty("browser.logs.capacity", 
+               String.valueOf(FrameworkConstants.BROWSER_LOGS_CAPACITY)));
+    }
+    
+    /**
+     * Check if network events are captured besides console messages
+     * @return true if enabled
+     */
+    public static boolean isBrowserLogsNetwork() {
+        return Boolean.parseBoolean(getProperty("browser.logs.network", 
+               String.valueOf(FrameworkConstants.BROWSER_LOGS_NETWORK)));
+    }
+    
+    /**
+     * Get which browser events a failure summary keeps
+     * @return problems (4xx/5xx, failed loads, errors and warnings) or all
+     */
+    public static String getBrowserLogsFilter() {
+        return getProperty("browser.logs.filter", FrameworkConstants.BROWSER_LOGS_FILTER);
+    }
+    
+    // ==================== TEST LOGS ====================
+    
+    /**
+     * Check if each test's log lines are buffered for its failure report
+     * @return true if enabled
+     */
+    public static boolean isTestLogEnabled() {
+        return Boolean.parseBoolean(getProperty("test.log.enabled", 
+               String.valueOf(FrameworkConstants.TEST_LOG_ENABLED)));
+    }
+    
+    /**
+     * Get per-test log buffer budget (latest lines win)
+     * @return kilobytes
+     */
+    public static int getTestLogMaxKb() {
+        return Integer.parseInt(getProperty("test.log.max.kb", 
+               String.valueOf(FrameworkConstants.TEST_LOG_MAX_KB)));
+    }
+    
     // ==================== PARALLEL EXECUTION ====================
     
     /**
@@ -250,6 +467,399 @@ public final class ConfigReader {
                String.valueOf(FrameworkConstants.PARALLEL_THREAD_COUNT)));
     }
     
+    /**
+     * Get shard id used to name this JVM's result file
+     * @return shard id, empty for host-pid
+     */
+    public static String getShardId() {
+        return getProperty("shard.id", FrameworkConstants.SHARD_ID).trim();
+    }
+    
+    // ==================== FORKED EXECUTION ====================
+    
+    /**
+     * Get number of worker JVMs forked by the launcher
+     * @return worker count
+     */
+    public static int getForkWorkers() {
+        return Integer.parseInt(getProperty("fork.workers", 
+               String.valueOf(FrameworkConstants.FORK_WORKERS)));
+    }
+    
+    /**
+     * Get extra JVM arguments for worker JVMs
+     * @return whitespace-separated arguments
+     */
+    public static String getForkWorkerJvmArgs() {
+        return getProperty("fork.worker.jvm.args", FrameworkConstants.FORK_WORKER_JVM_ARGS).trim();
+    }
+    
+    /**
+     * Get time a worker may run one test method before it counts as hung
+     * @return timeout in seconds
+     */
+    public static int getForkTestTimeout() {
+        return Integer.parseInt(getProperty("fork.test.timeout.seconds", 
+               String.valueOf(FrameworkConstants.FORK_TEST_TIMEOUT_SECONDS)));
+    }
+    
+    /**
+     * Get how often a test is run when its worker crashes
+     * @return maximum runs
+     */
+    public static int getForkMaxAttempts() {
+        return Integer.parseInt(getProperty("fork.max.attempts", 
+               String.valueOf(FrameworkConstants.FORK_MAX_ATTEMPTS)));
+    }
+    
+    /**
+     * Get how often a worker slot restarts its JVM before it is given up
+     * @return maximum restarts
+     */
+    public static int getForkMaxRestarts() {
+        return Integer.parseInt(getProperty("fork.max.restarts", 
+               String.valueOf(FrameworkConstants.FORK_MAX_RESTARTS)));
+    }
+    
+    /**
+     * Check if the launcher starts a local FakeWebDriverServer for its workers
+     * @return true if enabled
+     */
+    public static boolean isForkFakeGrid() {
+        return Boolean.parseBoolean(getProperty("fork.fake.grid", 
+               String.valueOf(FrameworkConstants.FORK_FAKE_GRID)));
+    }
+    
+    // ==================== BROWSER MATRIX ====================
+    
+    /**
+     * Check if matrix mode is enabled (each test fans out across matrix.browsers)
+     * @return true if enabled
+     */
+    public static boolean isMatrixEnabled() {
+        return Boolean.parseBoolean(getProperty("matrix.enabled", 
+               String.valueOf(FrameworkConstants.MATRIX_ENABLED)));
+    }
+    
+    /**
+     * Get browser matrix definition
+     * @return comma-separated browser[:version[:WIDTHxHEIGHT]] entries
+     */
+    public static String getMatrixBrowsers() {
+        return getProperty("matrix.browsers", FrameworkConstants.MATRIX_BROWSERS);
+    }
+    
+    /**
+     * Get per-browser concurrent session limits
+     * @return comma-separated browser:limit entries
+     */
+    public static String getMatrixLimits() {
+        return getProperty("matrix.limits", FrameworkConstants.MATRIX_LIMITS);
+    }
+    
+    // ==================== BROWSER ISOLATION ====================
+    
+    /**
+     * Check if tests share browser processes through isolated contexts
+     * @return true if isolation.mode=context
+     */
+    public static boolean isContextIsolation() {
+        return "context".equalsIgnoreCase(getProperty("isolation.mode", 
+               FrameworkConstants.ISOLATION_MODE));
+    }
+    
+    /**
+     * Get maximum number of test contexts hosted by one browser process
+     * @return contexts per browser
+     */
+    public static int getContextsPerBrowser() {
+        return Integer.parseInt(getProperty("isolation.contexts.per.browser", 
+               String.valueOf(FrameworkConstants.CONTEXTS_PER_BROWSER)));
+    }
+    
+    // ==================== ADMISSION CONTROL ====================
+    
+    /**
+     * Check if adaptive driver admission control is enabled
+     * @return true if enabled
+     */
+    public static boolean isAdmissionEnabled() {
+        return Boolean.parseBoolean(getProperty("admission.enabled", 
+               String.valueOf(FrameworkConstants.ADMISSION_ENABLED)));
+    }
+    
+    /**
+     * Get lower bound (and starting value) of the live driver limit
+     * @return minimum drivers
+     */
+    public static int getAdmissionMinDrivers() {
+        return Integer.parseInt(getProperty("admission.min.drivers", 
+               String.valueOf(FrameworkConstants.ADMISSION_MIN_DRIVERS)));
+    }
+    
+    /**
+     * Get upper bound of the live driver limit
+     * @return maximum drivers
+     */
+    public static int getAdmissionMaxDrivers() {
+        return Integer.parseInt(getProperty("admission.max.drivers", 
+               String.valueOf(FrameworkConstants.ADMISSION_MAX_DRIVERS)));
+    }
+    
+    /**
+     * Get host sampling interval
+     * @return interval in milliseconds
+     */
+    public static long getAdmissionInterval() {
+        return Long.parseLong(getProperty("admission.interval.ms", 
+               String.valueOf(FrameworkConstants.ADMISSION_INTERVAL_MS)));
+    }
+    
+    /**
+     * Get memory that must stay available for the OS and the JVM
+     * @return headroom in MB
+     */
+    public static long getAdmissionMemoryHeadroom() {
+        return Long.parseLong(getProperty("admission.memory.headroom.mb", 
+               String.valueOf(FrameworkConstants.ADMISSION_MEMORY_HEADROOM_MB)));
+    }
+    
+    /**
+     * Get load average per core above which the limit shrinks
+     * @return load per core
+     */
+    public static double getAdmissionMaxLoadPerCore() {
+        return Double.parseDouble(getProperty("admission.max.load.per.core", 
+               String.valueOf(FrameworkConstants.ADMISSION_MAX_LOAD_PER_CORE)));
+    }
+    
+    /**
+     * Get initial estimate of memory per driver (refined from measured RSS)
+     * @return memory per driver in MB
+     */
+    public static long getAdmissionDriverMemory() {
+        return Long.parseLong(getProperty("admission.driver.memory.mb", 
+               String.valueOf(FrameworkConstants.ADMISSION_DRIVER_MEMORY_MB)));
+    }
+    
+    // ==================== LEAK REAPER ====================
+    
+    /**
+     * Get interval between leak reaper runs
+     * @return interval in seconds
+     */
+    public static long getReaperInterval() {
+        return Long.parseLong(getProperty("reaper.interval.sec", 
+               String.valueOf(FrameworkConstants.REAPER_INTERVAL_SEC)));
+    }
+    
+    /**
+     * Get idle time after which an unused driver is reaped
+     * @return idle timeout in seconds (0 = only reap drivers of dead threads)
+     */
+    public static long getReaperIdleTimeout() {
+        return Long.parseLong(getProperty("reaper.idle.timeout.sec", 
+               String.valueOf(FrameworkConstants.REAPER_IDLE_TIMEOUT_SEC)));
+    }
+    
+    // ==================== BROWSER WARMUP ====================
+    
+    /**
+     * Get number of browsers to pre-launch at suite start
+     * @return warm browser count (0 = no warmup)
+     */
+    public static int getWarmupCount() {
+        return Integer.parseInt(getProperty("warmup.count", 
+               String.valueOf(FrameworkConstants.WARMUP_COUNT)));
+    }
+    
+    /**
+     * Get delay between successive warmup launches
+     * @return stagger in milliseconds
+     */
+    public static long getWarmupStagger() {
+        return Long.parseLong(getProperty("warmup.stagger.ms", 
+               String.valueOf(FrameworkConstants.WARMUP_STAGGER_MS)));
+    }
+    
+    /**
+     * Get maximum time suite setup waits for warmup to finish
+     * @return timeout in seconds
+     */
+    public static long getWarmupTimeout() {
+        return Long.parseLong(getProperty("warmup.timeout.sec", 
+               String.valueOf(FrameworkConstants.WARMUP_TIMEOUT_SEC)));
+    }
+    
+    // ==================== CAPACITY PLANNING ====================
+    
+    /**
+     * Get wall time the suite should finish in (Grid capacity is planned for it)
+     * @return target in seconds
+     */
+    public static long getCapacityTargetWallTime() {
+        return Long.parseLong(getProperty("capacity.target.wall.sec", 
+               String.valueOf(FrameworkConstants.CAPACITY_TARGET_WALL_SEC)));
+    }
+    
+    /**
+     * Get assumed duration of tests without recorded history
+     * @return duration in seconds
+     */
+    public static long getCapacityDefaultTestTime() {
+        return Long.parseLong(getProperty("capacity.default.test.sec", 
+               String.valueOf(FrameworkConstants.CAPACITY_DEFAULT_TEST_SEC)));
+    }
+    
+    /**
+     * Get most sessions to plan per Grid node
+     * @return sessions per node
+     */
+    public static int getCapacityNodeMaxSessions() {
+        return Integer.parseInt(getProperty("capacity.node.max.sessions", 
+               String.valueOf(FrameworkConstants.CAPACITY_NODE_MAX_SESSIONS)));
+    }
+    
+    // ==================== LOCATOR REGISTRY ====================
+    
+    /**
+     * Get packages scanned for page objects at startup
+     * @return comma-separated package names
+     */
+    public static String getLocatorPackages() {
+        return getProperty("locator.packages", FrameworkConstants.LOCATOR_PACKAGES);
+    }
+    
+    /**
+     * Check if XPath locators should be looked up with their CSS equivalent
+     * @return true to use suggested CSS selectors
+     */
+    public static boolean isLocatorPreferCss() {
+        return Boolean.parseBoolean(getProperty("locator.prefer.css", 
+               String.valueOf(FrameworkConstants.LOCATOR_PREFER_CSS)));
+    }
+    
+    /**
+     * Get number of slowest locators listed in the report
+     * @return locator count
+     */
+    public static int getLocatorReportTop() {
+        return Integer.parseInt(getProperty("locator.report.top", 
+               String.valueOf(FrameworkConstants.LOCATOR_REPORT_TOP)));
+    }
+    
+    // ==================== ACTION SETUP ====================
+    
+    /**
+     * Get how action classes establish preconditions (overridden by @SetupVia)
+     * @return ui (through the pages) or api (direct HTTP calls)
+     */
+    public static String getActionMode() {
+        return getProperty("action.mode", FrameworkConstants.ACTION_MODE);
+    }
+    
+    /**
+     * Get base URL of the application's API
+     * @return API URL, empty if the application has none
+     */
+    public static String getApiUrl() {
+        return getProperty("api.url", FrameworkConstants.API_URL);
+    }
+    
+    /**
+     * Get connect and read timeout for API calls
+     * @return timeout in seconds
+     */
+    public static long getApiTimeout() {
+        return Long.parseLong(getProperty("api.timeout.sec", 
+               String.valueOf(FrameworkConstants.API_TIMEOUT_SEC)));
+    }
+    
+    // ==================== FORM FILL ====================
+    
+    /**
+     * Get how BasePage.fillForm enters values
+     * @return script (one call for all fields) or native (sendKeys per field)
+     */
+    public static String getFormFillMode() {
+        return getProperty("form.fill.mode", FrameworkConstants.FORM_FILL_MODE);
+    }
+    
+    // ==================== LOCATOR HEALING ====================
+    
+    /**
+     * Check if broken page object locators should be healed
+     * @return true if healing is enabled
+     */
+    public static boolean isHealingEnabled() {
+        return Boolean.parseBoolean(getProperty("healing.enabled", 
+               String.valueOf(FrameworkConstants.HEALING_ENABLED)));
+    }
+    
+    /**
+     * Get wait before a fingerprinted locator falls back to its cached heal
+     * @return timeout in seconds
+     */
+    public static int getHealingTimeout() {
+        return Integer.parseInt(getProperty("healing.timeout.sec", 
+               String.valueOf(FrameworkConstants.HEALING_TIMEOUT_SEC)));
+    }
+    
+    /**
+     * Get lowest fingerprint match score accepted for a heal
+     * @return score between 0 and 1
+     */
+    public static double getHealingMinScore() {
+        return Double.parseDouble(getProperty("healing.min.score", 
+               String.valueOf(FrameworkConstants.HEALING_MIN_SCORE)));
+    }
+    
+    // ==================== METRICS ====================
+    
+    /**
+     * Check if the live metrics endpoint is enabled
+     * @return true if enabled
+     */
+    public static boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.enabled", 
+               String.valueOf(FrameworkConstants.METRICS_ENABLED)));
+    }
+    
+    /**
+     * Get port for the metrics HTTP endpoint
+     * @return port number
+     */
+    public static int getMetricsPort() {
+        return Integer.parseInt(getProperty("metrics.port", 
+               String.valueOf(FrameworkConstants.METRICS_PORT)));
+    }
+    
+    /**
+     * Get interval for writing metrics to file
+     * @return interval in seconds (0 = disabled)
+     */
+    public static int getMetricsFileInterval() {
+        return Integer.parseInt(getProperty("metrics.file.interval", 
+               String.valueOf(FrameworkConstants.METRICS_FILE_INTERVAL)));
+    }
+    
+    /**
+     * Get baseline file used to flag phase timing regressions
+     * @return path to phase baseline properties file
+     */
+    public static String getPhaseBaselineFile() {
+        return getProperty("phase.baseline.file", FrameworkConstants.PHASE_BASELINE_FILE);
+    }
+    
+    /**
+     * Get allowed increase of a phase mean over baseline before it is flagged
+     * @return threshold in percent
+     */
+    public static double getPhaseRegressionThreshold() {
+        return Double.parseDouble(getProperty("phase.regression.threshold", 
+               String.valueOf(FrameworkConstants.PHASE_REGRESSION_THRESHOLD)));
+    }
+    
     // ==================== CREDENTIALS (OPTIONAL - USE WITH CAUTION) ====================
     
     /**
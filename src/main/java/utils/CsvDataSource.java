@@ -0,0 +1,269 @@
+package utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CsvDataSource - Memory-mapped CSV (RFC 4180) test data
+ *
+ * Purpose: Fastest way to feed large data sets to data providers - the
+ *          file is mapped, not read, and next() only records where each
+ *          field starts and ends; a field is decoded to a String when get()
+ *          asks for it, so unused columns cost nothing
+ *
+ * The file is mapped in windows of up to 64 MB, so its size is unlimited; a
+ * row crossing the end of a window is scanned again from a window starting
+ * at that row. Quoted fields may contain delimiters, line breaks and ""
+ * escapes. UTF-8, with or without a byte order mark. The first row holds the
+ * column names; blank rows are skipped. A row with fewer fields than the
+ * header reads null for the rest; fields past the last column are ignored,
+ * with one warning.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class CsvDataSource implements TestDataSource {
+
+    private static final int WINDOW = 64 << 20;
+    private static final int MAX_WINDOW = Integer.MAX_VALUE - 8;
+
+    private final String name;
+    private final FileChannel channel;
+    private final long size;
+    private final byte delimiter;
+    private final List<String> columns;
+
+    private MappedByteBuffer buffer;
+    private long windowStart;
+    private int windowSize;
+    private int position;
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+    private int fieldCount;
+    private long row;
+    private byte[] scratch = new byte[256];
+    private boolean warnedExtra;
+
+    CsvDataSource(Path path, char delimiter) throws IOException {
+        this(path, delimiter, WINDOW);
+    }
+
+    /**
+     * Source mapping windows of the given size, so rows cross window ends (unit tests)
+     * @param window initial window size, at least 3 bytes to hold a byte order mark
+     */
+    CsvDataSource(Path path, char delimiter, int window) throws IOException {
+        this.name = path.getFileName().toString();
+        this.delimiter = (byte) delimiter;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            this.windowSize = (int) Math.min(window, size);
+            map(0);
+            if (size >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB &&
+                buffer.get(2) == (byte) 0xBF) {
+                position = 3;
+            }
+            List<String> header = new ArrayList<>();
+            if (next()) {
+                for (int column = 0; column < fieldCount; column++) {
+                    header.add(((String) get(column)).trim());
+                }
+            }
+            this.columns = Collections.unmodifiableList(header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean next() {
+        while (windowStart + position < size) {
+            if (!scan()) {
+                // Row crosses the end of the window: map a window starting at the row
+                if (position == 0) {
+                    if (windowSize == MAX_WINDOW) {
+                        throw new IllegalArgumentException(name + " row " + (row + 1) + " is larger than 2 GB");
+                    }
+                    windowSize = (int) Math.min(MAX_WINDOW, 2L * windowSize);
+                }
+                remap(windowStart + position);
+                continue;
+            }
+            row++;
+            if (!isBlank()) {
+                if (columns != null && fieldCount > columns.size() && !warnedExtra) {
+                    warnedExtra = true;
+                    LogUtil.warn(getLocation() + " has more fields than the header - they are ignored");
+                }
+                return true;
+            }
+        }
+        fieldCount = 0;
+        return false;
+    }
+
+    @Override
+    public Object get(int column) {
+        if (column >= fieldCount || columns != null && column >= columns.size()) {
+            return null;
+        }
+        int length = ends[column] - starts[column];
+        if (length == 0) {
+            return "";
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, 2 * scratch.length)];
+        }
+        buffer.get(starts[column], scratch, 0, length);
+        String value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        return escaped[column] ? value.replace("\"\"", "\"") : value;
+    }
+
+    @Override
+    public String getLocation() {
+        return name + " row " + row;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LogUtil.warn("Could not close " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Find the fields of the row at position
+     * @return false if the row does not end inside the window (and the file goes on)
+     */
+    private boolean scan() {
+        int limit = buffer.limit();
+        boolean lastWindow = windowStart + limit == size;
+        int p = position;
+        fieldCount = 0;
+        while (true) {
+            if (p < limit && buffer.get(p) == '"') {
+                int q = p + 1;
+                boolean hasEscapes = false;
+                while (true) {
+                    if (q >= limit) {
+                        if (lastWindow) {
+                            throw malformed("unterminated quoted field");
+                        }
+                        return false;
+                    }
+                    if (buffer.get(q) == '"') {
+                        if (q + 1 < limit && buffer.get(q + 1) == '"') {
+                            hasEscapes = true;
+                            q += 2;
+                            continue;
+                        }
+                        if (q + 1 >= limit && !lastWindow) {
+                            return false;
+                        }
+                        break;
+                    }
+                    q++;
+                }
+                addField(p + 1, q, hasEscapes);
+                p = q + 1;
+                if (p < limit && !isSeparator(buffer.get(p))) {
+                    throw malformed("text after closing quote");
+                }
+            } else {
+                int q = p;
+                while (q < limit && !isSeparator(buffer.get(q))) {
+                    q++;
+                }
+                if (q >= limit && !lastWindow) {
+                    return false;
+                }
+                addField(p, q, false);
+                p = q;
+            }
+
+            if (p >= limit) {
+                position = p;
+                return true;
+            }
+            byte separator = buffer.get(p);
+            if (separator == delimiter) {
+                p++;
+                continue;
+            }
+            if (separator == '\r') {
+                if (p + 1 < limit) {
+                    if (buffer.get(p + 1) == '\n') {
+                        p++;
+                    }
+                } else if (!lastWindow) {
+                    return false;
+                }
+            }
+            position = p + 1;
+            return true;
+        }
+    }
+
+    private boolean isSeparator(byte b) {
+        return b == delimiter || b == '\n' || b == '\r';
+    }
+
+    private void addField(int start, int end, boolean hasEscapes) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, 2 * fieldCount);
+            ends = Arrays.copyOf(ends, 2 * fieldCount);
+            escaped = Arrays.copyOf(escaped, 2 * fieldCount);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        escaped[fieldCount] = hasEscapes;
+        fieldCount++;
+    }
+
+    private boolean isBlank() {
+        for (int field = 0; field < fieldCount; field++) {
+            if (ends[field] > starts[field]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void remap(long start) {
+        try {
+            map(start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + name, e);
+        }
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+        position = 0;
+    }
+
+    private IllegalArgumentException malformed(String problem) {
+        return new IllegalArgumentException(name + " row " + (row + 1) + ": malformed CSV, " + problem);
+    }
+}
@@ -1,6 +1,19 @@
 package utils;
 
+import admission.AdmissionController;
+import browserlogs.BrowserLogCapture;
+import constants.FrameworkConstants;
+import fake.FakeWebDriver;
+import grid.GridHttpClientFactory;
+import grid.GridHub;
+import grid.GridHubPool;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import isolation.BrowserContextPool;
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import metrics.FrameworkMetrics;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -8,13 +21,19 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import registry.DriverRegistry;
+import warmup.BrowserWarmup;
 import utils.ConfigReader;
 import utils.LogUtil;
 
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DriverManager - Manages WebDriver instances with Grid support
@@ -28,6 +47,8 @@ import java.time.Duration;
 public class DriverManager {
     
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static ThreadLocal<BrowserTarget> target = new ThreadLocal<>();
+    private static final Set<String> resolvedBinaries = ConcurrentHashMap.newKeySet();
     
     /**
      * Get WebDriver instance for current thread
@@ -37,120 +58,288 @@ public class DriverManager {
         return driver.get();
     }
     
+    /**
+     * Get browser target the current thread's driver was created for
+     * @return BrowserTarget or null if no driver is active
+     */
+    public static BrowserTarget getCurrentTarget() {
+        return target.get();
+    }
+    
     /**
      * Initialize WebDriver based on configuration
      * Supports both local and remote execution
      */
     public static void initializeDriver() {
-        String browser = ConfigReader.getBrowser().toLowerCase();
+        initializeDriver(BrowserTarget.fromConfig());
+    }
+    
+    /**
+     * Initialize WebDriver for an explicit browser target
+     * Used by matrix execution so parallel threads never share browser selection
+     * 
+     * @param browserTarget browser, version and viewport to create
+     */
+    public static void initializeDriver(BrowserTarget browserTarget) {
+        String browser = browserTarget.getBrowser();
         boolean isRemote = ConfigReader.isRemoteExecution();
         
-        LogUtil.info("Initializing driver - Browser: " + browser + 
+        LogUtil.info("Initializing driver - Target: " + browserTarget.getLabel() + 
                     ", Execution Mode: " + (isRemote ? "Remote (Grid)" : "Local"));
         
-        WebDriver webDriver;
+        // Session pre-launched by suite warmup, if one is waiting for this target;
+        // it already holds its matrix and admission slots, which pass to this test
+        WebDriver webDriver = BrowserWarmup.take(browserTarget);
+        String source = "warm";
         
-        if (isRemote) {
-            webDriver = createRemoteDriver(browser);
-        } else {
-            webDriver = createLocalDriver(browser);
+        if (webDriver == null) {
+            // Respect per-browser concurrency limit (matrix.limits)
+            BrowserMatrix.acquire(browser);
+            
+            // Wait until the host has room for another browser (admission.enabled)
+            try {
+                AdmissionController.acquire();
+            } catch (RuntimeException e) {
+                BrowserMatrix.release(browser);
+                throw e;
+            }
         }
+        long start = System.nanoTime();
         
-        // Set implicit wait
-        webDriver.manage().timeouts()
-            .implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
-        
-        // Set page load timeout
-        webDriver.manage().timeouts()
-            .pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
-        
-        // Maximize window if configured
-        if (!ConfigReader.isHeadless()) {
-            webDriver.manage().window().maximize();
+        try {
+            // Isolated context in a shared browser, if enabled and supported
+            boolean contextIsolated = false;
+            if (webDriver == null && ConfigReader.isContextIsolation()) {
+                webDriver = BrowserContextPool.acquire(browserTarget, 
+                    () -> createDriver(browserTarget, isRemote));
+                contextIsolated = webDriver != null;
+                source = "context";
+            }
+            if (webDriver == null) {
+                webDriver = createDriver(browserTarget, isRemote);
+                source = "cold";
+            }
+            
+            // Set implicit wait. Shared browsers serialize commands, so an
+            // implicit wait would block every context; they rely on explicit waits
+            webDriver.manage().timeouts()
+                .implicitlyWait(Duration.ofSeconds(contextIsolated ? 0 : ConfigReader.getImplicitWait()));
+            
+            // Set page load timeout
+            webDriver.manage().timeouts()
+                .pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
+            
+            // Fixed viewport for matrix targets, otherwise maximize if configured
+            if (browserTarget.hasViewport()) {
+                webDriver.manage().window().setSize(
+                    new Dimension(browserTarget.getWidth(), browserTarget.getHeight()));
+            } else if (!ConfigReader.isHeadless()) {
+                webDriver.manage().window().maximize();
+            }
+            
+            // Console / network capture for failure reports (browser.logs.enabled);
+            // a shared browser's DevTools connection cannot be split per context
+            if (!"context".equals(source)) {
+                BrowserLogCapture.start(webDriver);
+            }
+            
+            // Track for leak detection; slots are released once the driver is
+            // quit or reaped, whichever happens first
+            webDriver = DriverRegistry.register(webDriver, browserTarget.getLabel(), () -> {
+                AdmissionController.release();
+                BrowserMatrix.release(browser);
+                FrameworkMetrics.ACTIVE_SESSIONS.dec();
+            });
+        } catch (RuntimeException e) {
+            discard(webDriver);
+            AdmissionController.release();
+            BrowserMatrix.release(browser);
+            throw e;
         }
         
         driver.set(webDriver);
+        target.set(browserTarget);
+        FrameworkMetrics.SESSION_CREATION.recordSince(start, browser);
+        FrameworkMetrics.DRIVER_ACQUISITION.recordSince(start, source);
+        FrameworkMetrics.ACTIVE_SESSIONS.inc();
         LogUtil.info("Driver initialized successfully");
     }
     
+    /**
+     * Quit a driver whose setup failed before it was registered
+     * @param webDriver driver, or null if none was created
+     */
+    private static void discard(WebDriver webDriver) {
+        BrowserLogCapture.stop();
+        if (webDriver == null) {
+            return;
+        }
+        try {
+            webDriver.quit();
+        } catch (RuntimeException e) {
+            LogUtil.warn("Could not quit driver after failed setup: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Launch a browser for the target without binding it to the current thread
+     * Used by BrowserWarmup to pre-start sessions during suite setup
+     * 
+     * @param browserTarget browser target
+     * @return new WebDriver session
+     */
+    public static WebDriver launchBrowser(BrowserTarget browserTarget) {
+        return createDriver(browserTarget, ConfigReader.isRemoteExecution());
+    }
+    
+    /**
+     * Resolve the local driver binary for the target once per run
+     * WebDriverManager checks versions on every setup() call, so later drivers
+     * of the same browser and version skip it
+     * 
+     * @param browserTarget browser target
+     */
+    public static void resolveDriverBinary(BrowserTarget browserTarget) {
+        String key = browserTarget.getBrowser() + ":" + browserTarget.getVersion();
+        if (resolvedBinaries.contains(key)) {
+            return;
+        }
+        
+        WebDriverManager manager;
+        switch (browserTarget.getBrowser()) {
+            case "chrome":
+                manager = WebDriverManager.chromedriver();
+                break;
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            case "edge":
+                manager = WebDriverManager.edgedriver();
+                break;
+            default:
+                return;
+        }
+        if (browserTarget.hasVersion()) {
+            manager.browserVersion(browserTarget.getVersion());
+        }
+        manager.setup();
+        resolvedBinaries.add(key);
+    }
+    
+    /**
+     * Create a browser process for the target
+     */
+    private static WebDriver createDriver(BrowserTarget browserTarget, boolean isRemote) {
+        return isRemote ? createRemoteDriver(browserTarget) : createLocalDriver(browserTarget);
+    }
+    
     /**
      * Create local WebDriver instance
-     * @param browser browser name
+     * @param browserTarget browser target
      * @return WebDriver instance
      */
-    private static WebDriver createLocalDriver(String browser) {
+    private static WebDriver createLocalDriver(BrowserTarget browserTarget) {
         WebDriver webDriver;
         
-        switch (browser) {
+        switch (browserTarget.getBrowser()) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
-                webDriver = new ChromeDriver(getChromeOptions());
+                resolveDriverBinary(browserTarget);
+                webDriver = new ChromeDriver(getChromeOptions(browserTarget));
                 break;
                 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                webDriver = new FirefoxDriver(getFirefoxOptions());
+                resolveDriverBinary(browserTarget);
+                webDriver = new FirefoxDriver(getFirefoxOptions(browserTarget));
                 break;
                 
             case "edge":
-                WebDriverManager.edgedriver().setup();
-                webDriver = new EdgeDriver(getEdgeOptions());
+                resolveDriverBinary(browserTarget);
+                webDriver = new EdgeDriver(getEdgeOptions(browserTarget));
+                break;
+                
+            case "fake":
+                // In-memory browser for framework-level load testing
+                webDriver = new FakeWebDriver();
                 break;
                 
             default:
-                LogUtil.warn("Invalid browser: " + browser + ". Using Chrome as default.");
-                WebDriverManager.chromedriver().setup();
-                webDriver = new ChromeDriver(getChromeOptions());
+                LogUtil.warn("Invalid browser: " + browserTarget.getBrowser() + 
+                            ". Using Chrome as default.");
+                // Any Chrome version: the requested one belongs to another browser
+                resolveDriverBinary(BrowserTarget.of("chrome", "", browserTarget.getViewport()));
+                webDriver = new ChromeDriver(getChromeOptions(browserTarget));
         }
         
         return webDriver;
     }
     
     /**
-     * Create remote WebDriver instance for Selenium Grid
-     * @param browser browser name
+     * Create remote WebDriver instance on a Grid hub chosen by GridHubPool
+     * @param browserTarget browser target
      * @return RemoteWebDriver instance
      */
-    private static WebDriver createRemoteDriver(String browser) {
-        String gridUrl = ConfigReader.getGridUrl();
+    private static WebDriver createRemoteDriver(BrowserTarget browserTarget) {
+        String browser = browserTarget.getBrowser();
+        MutableCapabilities options;
         
-        try {
-            URL hubUrl = new URL(gridUrl + "/wd/hub");
-            RemoteWebDriver remoteDriver;
-            
-            switch (browser.toLowerCase()) {
-                case "chrome":
-                    remoteDriver = new RemoteWebDriver(hubUrl, getChromeOptions());
-                    break;
-                    
-                case "firefox":
-                    remoteDriver = new RemoteWebDriver(hubUrl, getFirefoxOptions());
-                    break;
-                    
-                case "edge":
-                    remoteDriver = new RemoteWebDriver(hubUrl, getEdgeOptions());
-                    break;
-                    
-                default:
-                    LogUtil.warn("Invalid browser: " + browser + ". Using Chrome as default.");
-                    remoteDriver = new RemoteWebDriver(hubUrl, getChromeOptions());
+        switch (browser) {
+            case "chrome":
+                options = getChromeOptions(browserTarget);
+                break;
+                
+            case "firefox":
+                options = getFirefoxOptions(browserTarget);
+                break;
+                
+            case "edge":
+                options = getEdgeOptions(browserTarget);
+                break;
+                
+            case "fake":
+                // Served by FakeWebDriverServer
+                options = new MutableCapabilities(Map.of("browserName", "fake"));
+                break;
+                
+            default:
+                LogUtil.warn("Invalid browser: " + browser + ". Using Chrome as default.");
+                options = getChromeOptions(browserTarget);
+        }
+        
+        // Let the Grid route to a node with the requested version
+        if (browserTarget.hasVersion()) {
+            options.setCapability("browserVersion", browserTarget.getVersion());
+        }
+        
+        // Try hubs in routing order; a rejected session fails over to the next hub
+        Set<GridHub> tried = new HashSet<>();
+        RuntimeException lastError = null;
+        GridHub hub;
+        while ((hub = GridHubPool.acquire(tried)) != null) {
+            tried.add(hub);
+            try {
+                // Shared, tuned HTTP client per hub instead of a new one per session
+                HttpCommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(),
+                    GridHttpClientFactory.clientConfig(hub.getHubUrl()), GridHttpClientFactory.getInstance());
+                RemoteWebDriver remoteDriver = new RemoteWebDriver(executor, options);
+                GridHubPool.recordSuccess(hub);
+                
+                LogUtil.info("Remote driver created - Grid URL: " + hub.getUrl() + 
+                            ", Target: " + browserTarget.getLabel());
+                return remoteDriver;
+            } catch (RuntimeException e) {
+                GridHubPool.recordFailure(hub, e);
+                lastError = e;
             }
-            
-            LogUtil.info("Remote driver created - Grid URL: " + gridUrl + 
-                        ", Browser: " + browser);
-            return remoteDriver;
-            
-        } catch (MalformedURLException e) {
-            LogUtil.error("Invalid Grid URL: " + gridUrl, e);
-            throw new RuntimeException("Failed to create remote driver", e);
         }
+        throw new RuntimeException("Failed to create remote driver on any Grid hub", lastError);
     }
     
     /**
      * Get Chrome options with common configurations
+     * @param browserTarget browser target (viewport)
      * @return ChromeOptions
      */
-    private static ChromeOptions getChromeOptions() {
+    private static ChromeOptions getChromeOptions(BrowserTarget browserTarget) {
         ChromeOptions options = new ChromeOptions();
         
         // Headless mode
@@ -162,7 +351,8 @@ public class DriverManager {
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--no-sandbox");
         options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
+        Dimension size = windowSize(browserTarget);
+        options.addArguments("--window-size=" + size.getWidth() + "," + size.getHeight());
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-popup-blocking");
         
@@ -173,15 +363,18 @@ public class DriverManager {
         options.setExperimentalOption("excludeSwitches", 
             new String[]{"enable-automation", "enable-logging"});
         
+        enableBiDi(options);
+        
         LogUtil.debug("Chrome options configured");
         return options;
     }
     
     /**
      * Get Firefox options with common configurations
+     * @param browserTarget browser target (viewport)
      * @return FirefoxOptions
      */
-    private static FirefoxOptions getFirefoxOptions() {
+    private static FirefoxOptions getFirefoxOptions(BrowserTarget browserTarget) {
         FirefoxOptions options = new FirefoxOptions();
         
         // Headless mode
@@ -190,21 +383,25 @@ public class DriverManager {
         }
         
         // Common arguments
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
+        Dimension size = windowSize(browserTarget);
+        options.addArguments("--width=" + size.getWidth());
+        options.addArguments("--height=" + size.getHeight());
         
         // Disable notifications
         options.addPreference("dom.webnotifications.enabled", false);
         
+        enableBiDi(options);
+        
         LogUtil.debug("Firefox options configured");
         return options;
     }
     
     /**
      * Get Edge options with common configurations
+     * @param browserTarget browser target (viewport)
      * @return EdgeOptions
      */
-    private static EdgeOptions getEdgeOptions() {
+    private static EdgeOptions getEdgeOptions(BrowserTarget browserTarget) {
         EdgeOptions options = new EdgeOptions();
         
         // Headless mode
@@ -216,26 +413,55 @@ public class DriverManager {
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--no-sandbox");
         options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
+        Dimension size = windowSize(browserTarget);
+        options.addArguments("--window-size=" + size.getWidth() + "," + size.getHeight());
         options.addArguments("--disable-extensions");
         
+        enableBiDi(options);
+        
         LogUtil.debug("Edge options configured");
         return options;
     }
     
+    /**
+     * Request a BiDi WebSocket when browsers host isolated contexts
+     */
+    private static void enableBiDi(MutableCapabilities options) {
+        if (ConfigReader.isContextIsolation()) {
+            options.setCapability("webSocketUrl", true);
+        }
+    }
+    
+    /**
+     * Window size for browser arguments
+     * @return target viewport, or the FrameworkConstants.WINDOW_SIZE default
+     */
+    private static Dimension windowSize(BrowserTarget browserTarget) {
+        if (browserTarget.hasViewport()) {
+            return new Dimension(browserTarget.getWidth(), browserTarget.getHeight());
+        }
+        String[] size = FrameworkConstants.WINDOW_SIZE.split(",");
+        return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+    }
+    
     /**
      * Quit and remove driver from current thread
      */
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
+            BrowserLogCapture.stop();
             try {
                 webDriver.quit();
+                DriverRegistry.markQuit(webDriver);
                 LogUtil.info("Driver quit successfully");
             } catch (Exception e) {
                 LogUtil.warn("Error while quitting driver: " + e.getMessage());
+                // Kill driver service and browser so they do not linger
+                DriverRegistry.markQuitFailed(webDriver, e);
             } finally {
                 driver.remove();
+                target.remove();
             }
         }
     }
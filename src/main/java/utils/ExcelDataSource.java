@@ -0,0 +1,279 @@
+package utils;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ExcelDataSource - Streaming .xlsx test data
+ *
+ * Purpose: Read large workbooks without loading them - the sheet XML is
+ *          pulled one row at a time (StAX) instead of building every cell
+ *          as ExcelReader's XSSFWorkbook does
+ *
+ * The first row holds the column names; blank rows are skipped. Formula
+ * cells give the value Excel saved with the file (a workbook written by a
+ * tool that does not calculate formulas has none: use ExcelReader there,
+ * which evaluates them). Date-formatted numbers become LocalDateTime.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class ExcelDataSource implements TestDataSource {
+
+    private final String name;
+    private final String sheetName;
+    private final OPCPackage workbook;
+    private final SharedStrings strings;
+    private final StylesTable styles;
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+    private final InputStream sheet;
+    private final XMLStreamReader xml;
+    private final List<String> columns;
+
+    private final List<Object> cells = new ArrayList<>();
+    private Object[] values;
+    private long row;
+
+    ExcelDataSource(Path path, String sheetName) throws IOException {
+        this.name = path.getFileName().toString();
+        InputStream stream = null;
+        String selected = null;
+        try {
+            this.workbook = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Not an .xlsx workbook: " + name, e);
+        }
+        try {
+            XSSFReader reader = new XSSFReader(workbook);
+            this.strings = new ReadOnlySharedStringsTable(workbook, false);
+            this.styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (stream == null && sheets.hasNext()) {
+                InputStream candidate = sheets.next();
+                if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                    stream = candidate;
+                    selected = sheets.getSheetName();
+                } else {
+                    candidate.close();
+                }
+            }
+            if (stream == null) {
+                throw new IllegalArgumentException("No sheet " + sheetName + " in " + name);
+            }
+            this.sheet = stream;
+            this.sheetName = selected;
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            this.xml = factory.createXMLStreamReader(stream);
+
+            List<String> header = new ArrayList<>();
+            if (readRow()) {
+                for (Object cell : cells) {
+                    header.add(cell == null ? null : RecordMapper.text(cell).trim());
+                }
+            }
+            this.columns = Collections.unmodifiableList(header);
+            this.values = new Object[header.size()];
+        } catch (IOException | RuntimeException e) {
+            abandon(stream);
+            throw e;
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            abandon(stream);
+            throw new IOException("Cannot read workbook " + name, e);
+        }
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean next() {
+        while (readRow()) {
+            Arrays.fill(values, null);
+            boolean blank = true;
+            for (int column = 0; column < Math.min(values.length, cells.size()); column++) {
+                Object value = cells.get(column);
+                values[column] = value;
+                blank &= value == null || value instanceof String && ((String) value).isBlank();
+            }
+            if (!blank) {
+                return true;
+            }
+        }
+        Arrays.fill(values, null);
+        return false;
+    }
+
+    @Override
+    public Object get(int column) {
+        return column < values.length ? values[column] : null;
+    }
+
+    @Override
+    public String getLocation() {
+        return name + " " + sheetName + " row " + row;
+    }
+
+    @Override
+    public void close() {
+        try {
+            xml.close();
+            sheet.close();
+        } catch (XMLStreamException | IOException e) {
+            LogUtil.warn("Could not close " + name + ": " + e.getMessage());
+        }
+        workbook.revert();
+    }
+
+    private void abandon(InputStream stream) throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+        workbook.revert();
+    }
+
+    // ==================== SHEET XML ====================
+
+    /**
+     * Read the next row element into cells (by column index)
+     * @return false at the end of the sheet data
+     */
+    private boolean readRow() {
+        try {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    String number = xml.getAttributeValue(null, "r");
+                    row = number != null ? Long.parseLong(number) : row + 1;
+                    cells.clear();
+                    readCells();
+                    return true;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            throw new UncheckedIOException(new IOException(getLocation() + ": cannot read sheet XML", e));
+        }
+    }
+
+    private void readCells() throws XMLStreamException {
+        int column = -1;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String reference = xml.getAttributeValue(null, "r");
+                column = reference != null ? columnIndex(reference) : column + 1;
+                Object value = readCell(reference, xml.getAttributeValue(null, "t"), xml.getAttributeValue(null, "s"));
+                while (cells.size() <= column) {
+                    cells.add(null);
+                }
+                cells.set(column, value);
+            }
+        }
+    }
+
+    /**
+     * Value of the c element the reader is on
+     */
+    private Object readCell(String reference, String type, String style) throws XMLStreamException {
+        String value = null;
+        StringBuilder inline = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "v":
+                        value = xml.getElementText();
+                        break;
+                    case "t":
+                        inline = inline == null ? new StringBuilder() : inline;
+                        inline.append(xml.getElementText());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        if (type == null || "n".equals(type)) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            double number = Double.parseDouble(value);
+            return isDateStyle(style) ? DateUtil.getLocalDateTime(number) : (Object) number;
+        }
+        switch (type) {
+            case "s":
+                return value == null ? null : strings.getItemAt(Integer.parseInt(value)).getString();
+            case "inlineStr":
+                return inline == null ? null : inline.toString();
+            case "b":
+                return value == null ? null : "1".equals(value);
+            case "e":
+                throw new IllegalArgumentException(name + " " + sheetName + " " + reference + ": formula error " +
+                                                   value);
+            default:
+                return value;
+        }
+    }
+
+    private boolean isDateStyle(String style) {
+        if (style == null) {
+            return false;
+        }
+        return dateStyles.computeIfAbsent(Integer.parseInt(style), index -> {
+            XSSFCellStyle cellStyle = styles.getStyleAt(index);
+            return cellStyle != null &&
+                   DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        });
+    }
+
+    /**
+     * Column index of a cell reference ("AB12" -> 27)
+     */
+    private static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+}
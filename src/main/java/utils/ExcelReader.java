@@ -5,6 +5,7 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,11 +14,17 @@ import java.util.Map;
 /**
  * ExcelReader - Reads test data from Excel files
  * Supports data-driven testing with multiple data sets
+ *
+ * Rows can be read as strings (getTestData, getTestDataAsMap) or as typed
+ * records (getRecords, getRecordData): declare e.g.
+ *  record LoginData(String username, String password, boolean expectSuccess)
+ * with one component per column; columns are matched by header name.
+ * Formulas are evaluated (one evaluator per workbook, which caches results).
  */
 public class ExcelReader {
     
     /**
-     * Get test data as 2D Object array (for TestNG DataProvider)
+     * Get test data as 2D Object array (for TestNG DataProvider), one row per non-blank sheet row
      * @param fileName - Excel file name
      * @param sheetName - Sheet name
      * @return 2D array of test data
@@ -30,18 +37,22 @@ public class ExcelReader {
              Workbook workbook = new XSSFWorkbook(fis)) {
             
             Sheet sheet = workbook.getSheet(sheetName);
-            int rowCount = sheet.getLastRowNum();
+            FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
             int colCount = sheet.getRow(0).getLastCellNum();
+            List<Object[]> rows = new ArrayList<>();
             
-            data = new Object[rowCount][colCount];
-            
-            for (int i = 1; i <= rowCount; i++) {
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
                 Row row = sheet.getRow(i);
+                if (isBlank(row)) {
+                    continue;
+                }
+                Object[] values = new Object[colCount];
                 for (int j = 0; j < colCount; j++) {
-                    Cell cell = row.getCell(j);
-                    data[i-1][j] = getCellValue(cell);
+                    values[j] = getCellValue(row.getCell(j), evaluator);
                 }
+                rows.add(values);
             }
+            data = rows.toArray(new Object[0][]);
             
             LogUtil.info("Test data loaded from: " + fileName + " | Sheet: " + sheetName);
             
@@ -66,16 +77,22 @@ public class ExcelReader {
              Workbook workbook = new XSSFWorkbook(fis)) {
             
             Sheet sheet = workbook.getSheet(sheetName);
+            FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
             Row headerRow = sheet.getRow(0);
+            String[] keys = new String[headerRow.getLastCellNum()];
+            for (int j = 0; j < keys.length; j++) {
+                keys[j] = headerRow.getCell(j).getStringCellValue();
+            }
             
             for (int i = 1; i <= sheet.getLastRowNum(); i++) {
                 Row row = sheet.getRow(i);
+                if (isBlank(row)) {
+                    continue;
+                }
                 Map<String, String> dataMap = new HashMap<>();
                 
-                for (int j = 0; j < headerRow.getLastCellNum(); j++) {
-                    String key = headerRow.getCell(j).getStringCellValue();
-                    String value = getCellValue(row.getCell(j));
-                    dataMap.put(key, value);
+                for (int j = 0; j < keys.length; j++) {
+                    dataMap.put(keys[j], getCellValue(row.getCell(j), evaluator));
                 }
                 dataList.add(dataMap);
             }
@@ -89,30 +106,90 @@ public class ExcelReader {
         return dataList;
     }
     
+    /**
+     * Get test data as typed records, one per non-blank row
+     * @param fileName - Excel file name
+     * @param sheetName - Sheet name
+     * @param type - record class, one component per column (matched by header name)
+     * @return List of records
+     * @throws IllegalArgumentException if a column is missing or a cell does not fit its component
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static <R extends Record> List<R> getRecords(String fileName, String sheetName, Class<R> type) {
+        String filePath = FrameworkConstants.TEST_DATA_PATH + fileName;
+        RecordMapper<R> mapper = RecordMapper.of(type);
+        List<R> records = new ArrayList<>();
+        
+        try (FileInputStream fis = new FileInputStream(filePath);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            
+            Sheet sheet = workbook.getSheet(sheetName);
+            if (sheet == null) {
+                throw new IllegalArgumentException("No sheet " + sheetName + " in " + fileName);
+            }
+            FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+            int[] columns = mapper.resolveColumns(sheet.getRow(0), sheetName);
+            Map<String, String> strings = new HashMap<>();
+            
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (!isBlank(row)) {
+                    records.add(mapper.map(row, columns, evaluator, strings));
+                }
+            }
+            
+            LogUtil.info(records.size() + " " + type.getSimpleName() + " records loaded from: " + fileName +
+                         " | Sheet: " + sheetName);
+                         
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read Excel file " + fileName, e);
+        }
+        
+        return records;
+    }
+    
+    /**
+     * Get typed records for a TestNG DataProvider (the record is the only test parameter)
+     * @param fileName - Excel file name
+     * @param sheetName - Sheet name
+     * @param type - record class
+     * @return 2D array with one record per row
+     */
+    public static <R extends Record> Object[][] getRecordData(String fileName, String sheetName, Class<R> type) {
+        List<R> records = getRecords(fileName, sheetName, type);
+        Object[][] data = new Object[records.size()][];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = new Object[] {records.get(i)};
+        }
+        return data;
+    }
+    
     /**
      * Get cell value as String regardless of cell type
+     * Numbers, dates and formula results are formatted as RecordMapper does
+     * for typed records: 3 not 3.0, 2.5 kept, dates ISO
      * @param cell - Excel cell
-     * @return String value of cell
+     * @param evaluator - the workbook's formula evaluator
+     * @return String value of cell (formulas evaluated)
+     */
+    private static String getCellValue(Cell cell, FormulaEvaluator evaluator) {
+        Object value = RecordMapper.rawValue(cell, evaluator, null);
+        return value == null ? "" : RecordMapper.text(value);
+    }
+    
+    /**
+     * Row missing or without any non-blank cell
      */
-    private static String getCellValue(Cell cell) {
-        if (cell == null) {
-            return "";
+    private static boolean isBlank(Row row) {
+        if (row == null) {
+            return true;
         }
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                }
-                return String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
+        for (Cell cell : row) {
+            if (cell.getCellType() != CellType.BLANK &&
+                !(cell.getCellType() == CellType.STRING && cell.getStringCellValue().isBlank())) {
+                return false;
+            }
         }
+        return true;
     }
 }
@@ -0,0 +1,175 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.util.Unbox;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ExecutionEvents - Structured JSON-lines stream of test execution events
+ *
+ * Purpose: Give tooling one machine-readable line per lifecycle step
+ *          (test start, each timed phase, outcome) instead of parsing the
+ *          human log, and tag every log line of a test invocation with a
+ *          correlation id
+ *
+ * Events go to the "execution.events" logger, an async (LMAX disruptor)
+ * logger writing test-output/logs/events.jsonl (see log4j2.xml); set its
+ * level to "off" to disable the stream. Each line looks like:
+ *  {"ts":1760822640123,"thread":"TestNG-methods-2","event":"phase","cid":"t17",
+ *   "test":"LoginTest.testValidLogin","browser":"chrome","phase":"driver","durationMs":812,"outcome":""}
+ * Fields that do not apply to an event are empty strings (durationMs -1).
+ *
+ * The correlation id lives in the log4j ThreadContext under "cid" from
+ * begin() to end(), so LogUtil output of that invocation carries it via
+ * %X{cid} - one invocation runs on one thread at a time, also with
+ * parallel="methods". Events are parameterized messages with at most ten
+ * parameters and boxed through Unbox, so with async loggers and thread-local
+ * reusable messages (the log4j defaults) emitting an event allocates nothing.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ExecutionEvents {
+
+    public static final String LOGGER_NAME = "execution.events";
+    public static final String CORRELATION_KEY = "cid";
+
+    // Reusable (thread-local) messages are formatted straight into the ring buffer slot
+    private static final Logger EVENTS = LogManager.getLogger(LOGGER_NAME, ReusableMessageFactory.INSTANCE);
+    private static final String FORMAT = "\"event\":\"{}\",\"cid\":\"{}\",\"test\":\"{}\",\"browser\":\"{}\"," +
+                                         "\"phase\":\"{}\",\"durationMs\":{},\"outcome\":\"{}\"";
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private static final ThreadLocal<Invocation> current = new ThreadLocal<>();
+
+    /**
+     * Correlation id, test and browser of the running invocation
+     */
+    private static final class Invocation {
+        private final String cid;
+        private final String test;
+        private final String browser;
+        private final long startNanos;
+
+        private Invocation(String cid, String test, String browser) {
+            this.cid = cid;
+            this.test = test;
+            this.browser = browser;
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private ExecutionEvents() {
+        throw new AssertionError("ExecutionEvents class cannot be instantiated");
+    }
+
+    /**
+     * Start a test invocation on the current thread: assign its correlation id
+     * and emit "test.start"
+     * @param test test id, e.g. LoginTest.testValidLogin
+     * @param browser browser label
+     * @return correlation id
+     */
+    public static String begin(String test, String browser) {
+        String cid = "t" + sequence.incrementAndGet();
+        Invocation invocation = new Invocation(cid, json(test), json(browser));
+        current.set(invocation);
+        ThreadContext.put(CORRELATION_KEY, cid);
+        emit("test.start", invocation, "", -1, "");
+        return cid;
+    }
+
+    /**
+     * Emit a "phase" event for the current invocation
+     * @param phase phase name
+     * @param nanos phase duration
+     */
+    public static void phase(String phase, long nanos) {
+        emit("phase", current.get(), phase, nanos / 1_000_000, "");
+    }
+
+    /**
+     * Emit a "test.end" event with the outcome of the current invocation
+     * @param test test id, used when no invocation was begun (e.g. skipped before setup)
+     * @param outcome PASS, FAIL or SKIP
+     * @param millis test duration as reported by TestNG
+     */
+    public static void outcome(String test, String outcome, long millis) {
+        Invocation invocation = current.get();
+        if (invocation == null) {
+            invocation = new Invocation("", json(test), "");
+        }
+        emit("test.end", invocation, "", millis, outcome);
+    }
+
+    /**
+     * Finish the current invocation: emit "test.finish" with the wall time
+     * since begin() and drop the correlation id
+     */
+    public static void end() {
+        Invocation invocation = current.get();
+        if (invocation == null) {
+            return;
+        }
+        emit("test.finish", invocation, "", (System.nanoTime() - invocation.startNanos) / 1_000_000, "");
+        current.remove();
+        ThreadContext.remove(CORRELATION_KEY);
+    }
+
+    /**
+     * Correlation id of the current thread's invocation
+     * @return id, or null outside a test
+     */
+    public static String getCorrelationId() {
+        Invocation invocation = current.get();
+        return invocation == null ? null : invocation.cid;
+    }
+
+    private static void emit(String event, Invocation invocation, String phase, long millis, String outcome) {
+        if (!EVENTS.isInfoEnabled()) {
+            return;
+        }
+        if (invocation == null) {
+            EVENTS.info(FORMAT, event, "", "", "", phase, Unbox.box(millis), outcome);
+        } else {
+            EVENTS.info(FORMAT, event, invocation.cid, invocation.test, invocation.browser, phase,
+                        Unbox.box(millis), outcome);
+        }
+    }
+
+    /**
+     * Escape a value for a JSON string (returns the value itself when nothing needs escaping)
+     */
+    static String json(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return escape(value);
+            }
+        }
+        return value;
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,215 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonDataSource - Streaming JSON test data, one object per row
+ *
+ * Purpose: Read JSON data sets of any size - objects are parsed one at a
+ *          time as rows are asked for, the document is never held in memory
+ *
+ * Layout: an array of objects, or an object whose members are named arrays
+ * of objects (like the sheets of a workbook):
+ *  {"login": [{"username": "standard_user", "password": "secret_sauce"}, ...]}
+ * Columns are the members of the first object; later objects may leave
+ * members out (null). Members the first object does not have are ignored,
+ * with one warning. Nested objects and arrays are returned as Map / List.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class JsonDataSource implements TestDataSource {
+
+    private static final Json JSON = new Json();
+
+    private final String name;
+    private final JsonInput input;
+    private final List<String> columns;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private Object[] values;
+    private Object[] pending;
+    private long row;
+    private boolean ended;
+    private boolean warnedUnknown;
+
+    JsonDataSource(Path path, String section) throws IOException {
+        this.name = path.getFileName().toString();
+        this.input = JSON.newInput(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        try {
+            openArray(section);
+            List<String> names = new ArrayList<>();
+            if (input.hasNext()) {
+                pending = readFirstRow(names);
+            } else {
+                input.endArray();
+                ended = true;
+            }
+            this.columns = Collections.unmodifiableList(names);
+            this.values = new Object[names.size()];
+        } catch (RuntimeException e) {
+            input.close();
+            throw e instanceof JsonException ? malformed(e) : e;
+        }
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean next() {
+        try {
+            while (true) {
+                if (pending != null) {
+                    values = pending;
+                    pending = null;
+                    row++;
+                } else if (ended || !input.hasNext()) {
+                    if (!ended) {
+                        input.endArray();
+                        ended = true;
+                    }
+                    Arrays.fill(values, null);
+                    return false;
+                } else {
+                    row++;
+                    readRow();
+                }
+                if (!isBlank()) {
+                    return true;
+                }
+            }
+        } catch (JsonException e) {
+            throw malformed(e);
+        }
+    }
+
+    @Override
+    public Object get(int column) {
+        return column < values.length ? values[column] : null;
+    }
+
+    @Override
+    public String getLocation() {
+        return name + " row " + row;
+    }
+
+    @Override
+    public void close() {
+        input.close();
+    }
+
+    /**
+     * Position the input inside the array holding the rows
+     */
+    private void openArray(String section) {
+        if (input.peek() == JsonType.START_MAP) {
+            input.beginObject();
+            boolean found = false;
+            while (!found && input.hasNext()) {
+                String member = input.nextName();
+                if (section == null || section.equals(member)) {
+                    found = true;
+                } else {
+                    input.skipValue();
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException(name + " has no member " +
+                                                   (section == null ? "holding rows" : "'" + section + "'"));
+            }
+        } else if (section != null) {
+            throw new IllegalArgumentException(name + " is an array, it has no member '" + section + "'");
+        }
+        if (input.peek() != JsonType.START_COLLECTION) {
+            throw new IllegalArgumentException(name + ": rows must be an array of objects");
+        }
+        input.beginArray();
+    }
+
+    /**
+     * First object: its members become the columns
+     */
+    private Object[] readFirstRow(List<String> names) {
+        List<Object> first = new ArrayList<>();
+        beginRow(1);
+        while (input.hasNext()) {
+            String member = input.nextName();
+            Object value = readValue();
+            if (indexes.putIfAbsent(member, names.size()) == null) {
+                names.add(member);
+                first.add(value);
+            }
+        }
+        input.endObject();
+        return first.toArray();
+    }
+
+    private void readRow() {
+        Arrays.fill(values, null);
+        beginRow(row);
+        while (input.hasNext()) {
+            Integer column = indexes.get(input.nextName());
+            if (column != null) {
+                values[column] = readValue();
+            } else {
+                input.skipValue();
+                if (!warnedUnknown) {
+                    warnedUnknown = true;
+                    LogUtil.warn(getLocation() + " has members the first row does not have - they are ignored");
+                }
+            }
+        }
+        input.endObject();
+    }
+
+    private void beginRow(long number) {
+        if (input.peek() != JsonType.START_MAP) {
+            throw new IllegalArgumentException(name + " row " + number + " is not an object");
+        }
+        input.beginObject();
+    }
+
+    private Object readValue() {
+        switch (input.peek()) {
+            case STRING:
+                return input.nextString();
+            case NUMBER:
+                return input.nextNumber();
+            case BOOLEAN:
+                return input.nextBoolean();
+            case NULL:
+                return input.nextNull();
+            default:
+                return input.read(Object.class);
+        }
+    }
+
+    private boolean isBlank() {
+        for (Object value : values) {
+            if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalArgumentException malformed(RuntimeException e) {
+        return new IllegalArgumentException(getLocation() + ": malformed JSON, " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,326 @@
+package utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.CellValue;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * RecordMapper - Maps sheet and data source rows onto a Java record type
+ *
+ * Purpose: Let data-driven tests declare their data as a record, e.g.
+ *          record LoginData(String username, String password), instead of
+ *          positional Object[] or Map lookups
+ *
+ * Per record type (cached): components, canonical constructor and one
+ * converter per component. Per sheet or source: each component's column,
+ * resolved once from the header. Header names match component names ignoring case,
+ * spaces and punctuation ("Expect Success" -> expectSuccess).
+ *
+ * Supported component types: String, int, long, double, boolean (and boxed),
+ * BigDecimal, LocalDate, enums. Blank cells become "" for String, 0/false
+ * for primitives and null otherwise.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class RecordMapper<R extends Record> {
+
+    private static final Map<Class<?>, RecordMapper<?>> mappers = new ConcurrentHashMap<>();
+
+    private final Class<R> type;
+    private final RecordComponent[] components;
+    private final Constructor<R> constructor;
+    private final List<Function<Object, Object>> converters = new ArrayList<>();
+
+    private RecordMapper(Class<R> type) {
+        this.type = type;
+        this.components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+            converters.add(converter(components[i].getType(), components[i].getName()));
+        }
+        try {
+            this.constructor = type.getDeclaredConstructor(parameterTypes);
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No canonical constructor in record " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Mapper for a record type (built once per type)
+     * @param type record class
+     * @return mapper
+     */
+    @SuppressWarnings("unchecked")
+    static <R extends Record> RecordMapper<R> of(Class<R> type) {
+        return (RecordMapper<R>) mappers.computeIfAbsent(type, key -> new RecordMapper<>(type));
+    }
+
+    /**
+     * Column of each component in a sheet
+     * @param header header row
+     * @param sheetName sheet name for messages
+     * @return column index per component
+     * @throws IllegalArgumentException if a component has no column
+     */
+    int[] resolveColumns(Row header, String sheetName) {
+        List<String> names = new ArrayList<>();
+        for (int column = 0; header != null && column < header.getLastCellNum(); column++) {
+            Cell cell = header.getCell(column);
+            names.add(cell != null && cell.getCellType() == CellType.STRING ? cell.getStringCellValue() : null);
+        }
+        return resolveColumns(names, "Sheet " + sheetName);
+    }
+
+    /**
+     * Column of each component, given the column names of a data source
+     * @param names column names (null for unnamed columns)
+     * @param source source name for messages
+     * @return column index per component
+     * @throws IllegalArgumentException if a component has no column
+     */
+    int[] resolveColumns(List<String> names, String source) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int column = 0; column < names.size(); column++) {
+            if (names.get(column) != null) {
+                columns.putIfAbsent(normalize(names.get(column)), column);
+            }
+        }
+        int[] indexes = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Integer column = columns.get(normalize(components[i].getName()));
+            if (column == null) {
+                throw new IllegalArgumentException(source + " has no column for " +
+                                                   type.getSimpleName() + "." + components[i].getName() +
+                                                   " (columns: " + names + ")");
+            }
+            indexes[i] = column;
+        }
+        return indexes;
+    }
+
+    /**
+     * Record of one row
+     * @param row sheet row
+     * @param columns from resolveColumns
+     * @param evaluator the workbook's formula evaluator
+     * @param strings the sheet's string pool (repeated values share one instance)
+     * @return record
+     * @throws IllegalArgumentException if a cell does not convert to its component type
+     */
+    R map(Row row, int[] columns, FormulaEvaluator evaluator, Map<String, String> strings) {
+        Object[] raw = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            raw[i] = rawValue(row.getCell(columns[i]), evaluator, strings);
+        }
+        return create(raw, columns, row.getSheet().getSheetName() + " row " + (row.getRowNum() + 1));
+    }
+
+    /**
+     * Record of the current row of a data source
+     * @param source data source positioned on a row
+     * @param columns from resolveColumns
+     * @return record
+     * @throws IllegalArgumentException if a value does not convert to its component type
+     */
+    R map(TestDataSource source, int[] columns) {
+        Object[] raw = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            raw[i] = source.get(columns[i]);
+        }
+        return create(raw, columns, source.getLocation());
+    }
+
+    /**
+     * Convert raw values (String, Number, Boolean, LocalDateTime or null) and
+     * call the canonical constructor
+     */
+    private R create(Object[] raw, int[] columns, String location) {
+        Object[] arguments = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Object value = raw[i];
+            if (value instanceof String && ((String) value).isBlank() && components[i].getType() != String.class) {
+                value = null;
+            }
+            try {
+                arguments[i] = converters.get(i).apply(value);
+            } catch (IllegalArgumentException | ArithmeticException | java.time.DateTimeException e) {
+                throw new IllegalArgumentException(location + ", column " + (columns[i] + 1) + ": cannot read '" +
+                                                   value + "' as " + components[i].getType().getSimpleName() + " " +
+                                                   components[i].getName(), e);
+            }
+        }
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException(location + " rejected by " + type.getSimpleName() + ": " +
+                                               e.getCause().getMessage(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Cell content as String, Double, Boolean, LocalDateTime or null (blank);
+     * formulas are evaluated
+     * @param strings string pool, or null for none
+     */
+    static Object rawValue(Cell cell, FormulaEvaluator evaluator, Map<String, String> strings) {
+        if (cell == null) {
+            return null;
+        }
+        CellType cellType = cell.getCellType();
+        if (cellType == CellType.FORMULA) {
+            CellValue value = evaluator.evaluate(cell);
+            switch (value.getCellType()) {
+                case STRING:
+                    return pooled(value.getStringValue(), strings);
+                case NUMERIC:
+                    return DateUtil.isCellDateFormatted(cell) ? DateUtil.getLocalDateTime(value.getNumberValue())
+                                                              : value.getNumberValue();
+                case BOOLEAN:
+                    return value.getBooleanValue();
+                case ERROR:
+                    throw new IllegalArgumentException("Formula error in " + cell.getAddress() + ": " +
+                                                       cell.getCellFormula());
+                default:
+                    return null;
+            }
+        }
+        switch (cellType) {
+            case STRING:
+                return pooled(cell.getStringCellValue(), strings);
+            case NUMERIC:
+                return DateUtil.isCellDateFormatted(cell) ? cell.getLocalDateTimeCellValue() : cell.getNumericCellValue();
+            case BOOLEAN:
+                return cell.getBooleanCellValue();
+            default:
+                return null;
+        }
+    }
+
+    // ==================== CONVERSION ====================
+
+    private static Function<Object, Object> converter(Class<?> target, String component) {
+        if (target == String.class) {
+            return raw -> raw == null ? "" : text(raw);
+        }
+        if (target == int.class || target == Integer.class) {
+            return number(target, raw -> raw instanceof Number ? (Object) Math.toIntExact(whole((Number) raw))
+                                                               : (Object) Integer.parseInt(text(raw).trim()));
+        }
+        if (target == long.class || target == Long.class) {
+            return number(target, raw -> raw instanceof Number ? (Object) whole((Number) raw)
+                                                               : (Object) Long.parseLong(text(raw).trim()));
+        }
+        if (target == double.class || target == Double.class) {
+            return number(target, raw -> raw instanceof Number ? (Object) ((Number) raw).doubleValue()
+                                                               : (Object) Double.parseDouble(text(raw).trim()));
+        }
+        if (target == boolean.class || target == Boolean.class) {
+            return raw -> raw == null ? (target == boolean.class ? Boolean.FALSE : null) : bool(raw);
+        }
+        if (target == BigDecimal.class) {
+            return raw -> raw == null ? null : raw instanceof Double ? BigDecimal.valueOf((Double) raw)
+                                                                     : new BigDecimal(text(raw).trim());
+        }
+        if (target == LocalDate.class) {
+            return raw -> raw == null ? null : raw instanceof LocalDateTime ? ((LocalDateTime) raw).toLocalDate()
+                                                                            : LocalDate.parse(text(raw).trim());
+        }
+        if (target.isEnum()) {
+            return raw -> raw == null ? null : enumConstant(target, text(raw).trim());
+        }
+        throw new IllegalArgumentException("Unsupported record component type " + target.getName() + " " + component);
+    }
+
+    /**
+     * Numeric converter: blank is 0 for primitives, null for boxed types
+     */
+    private static Function<Object, Object> number(Class<?> target, Function<Object, Object> convert) {
+        Object blank = target == int.class ? (Object) 0 : target == long.class ? (Object) 0L
+                     : target == double.class ? (Object) 0.0 : null;
+        return raw -> raw == null ? blank : convert.apply(raw);
+    }
+
+    private static long whole(Number number) {
+        if (!(number instanceof Double || number instanceof Float)) {
+            return number.longValue();
+        }
+        double value = number.doubleValue();
+        if (value != Math.rint(value)) {
+            throw new IllegalArgumentException("not a whole number");
+        }
+        return (long) value;
+    }
+
+    private static Boolean bool(Object raw) {
+        if (raw instanceof Boolean) {
+            return (Boolean) raw;
+        }
+        if (raw instanceof Number) {
+            return ((Number) raw).doubleValue() != 0;
+        }
+        switch (text(raw).trim().toLowerCase(Locale.ROOT)) {
+            case "true": case "yes": case "y": case "1":
+                return true;
+            case "false": case "no": case "n": case "0": case "":
+                return false;
+            default:
+                throw new IllegalArgumentException("not a boolean");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumConstant(Class<?> type, String name) {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum) constant).name().equalsIgnoreCase(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("not one of " + java.util.Arrays.toString(type.getEnumConstants()));
+    }
+
+    /**
+     * Text of a raw value; whole numbers without ".0" (as Excel displays them)
+     */
+    static String text(Object raw) {
+        if (raw instanceof Double) {
+            double value = (Double) raw;
+            return value == Math.rint(value) && !Double.isInfinite(value) ? String.valueOf((long) value)
+                                                                          : BigDecimal.valueOf(value).toPlainString();
+        }
+        return String.valueOf(raw);
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String pooled(String value, Map<String, String> strings) {
+        if (strings == null) {
+            return value;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+}
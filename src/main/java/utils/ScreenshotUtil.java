@@ -1,6 +1,7 @@
 package utils;
 
 import constants.FrameworkConstants;
+import metrics.FrameworkMetrics;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -38,6 +39,7 @@ public class ScreenshotUtil {
             File source = ts.getScreenshotAs(OutputType.FILE);
             File finalDestination = new File(destination);
             FileUtils.copyFile(source, finalDestination);
+            FrameworkMetrics.SCREENSHOT_BYTES.add(finalDestination.length());
             LogUtil.info("Screenshot captured: " + fileName);
             return destination;
         } catch (IOException e) {
@@ -0,0 +1,165 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * TestDataReader - Data provider rows from CSV, JSON or Excel files
+ *
+ * Purpose: One data provider API for every TestDataSource format; the
+ *          format follows the file extension, so moving a data set from
+ *          .xlsx to .csv changes only its file name
+ *
+ * Usage:
+ *  @DataProvider(name = "loginData")
+ *  public Iterator<Object[]> loginData() {
+ *      return TestDataReader.records("TestData.json", "login", LoginData.class);
+ *  }
+ *
+ * rows()/records() are lazy: rows are read as TestNG asks for them and the
+ * file is closed after the last one, so data sets of any size use constant
+ * memory. getTestData()/getRecords() read the whole file.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class TestDataReader {
+
+    // Private constructor to prevent instantiation
+    private TestDataReader() {
+        throw new AssertionError("TestDataReader class cannot be instantiated");
+    }
+
+    /**
+     * Rows as parameter arrays, one value per column, read lazily
+     * @param fileName - test data file (.csv, .tsv, .json, .xlsx)
+     * @param section - Excel sheet or JSON member (null: first sheet / top-level array)
+     * @return lazy rows
+     */
+    public static Iterator<Object[]> rows(String fileName, String section) {
+        TestDataSource source = open(fileName, section);
+        return new SourceIterator(source) {
+            @Override
+            Object[] current() {
+                return source.toArray();
+            }
+        };
+    }
+
+    /**
+     * Rows as typed records (one record parameter per row), read lazily
+     * @param fileName - test data file
+     * @param section - Excel sheet or JSON member (null: first sheet / top-level array)
+     * @param type - record class, one component per column (matched by column name)
+     * @return lazy rows
+     */
+    public static <R extends Record> Iterator<Object[]> records(String fileName, String section, Class<R> type) {
+        TestDataSource source = open(fileName, section);
+        RecordMapper<R> mapper = RecordMapper.of(type);
+        int[] columns;
+        try {
+            columns = mapper.resolveColumns(source.getColumns(), fileName);
+        } catch (RuntimeException e) {
+            source.close();
+            throw e;
+        }
+        return new SourceIterator(source) {
+            @Override
+            Object[] current() {
+                return new Object[] {mapper.map(source, columns)};
+            }
+        };
+    }
+
+    /**
+     * Get test data as 2D Object array (for TestNG DataProvider)
+     * @param fileName - test data file
+     * @param section - Excel sheet or JSON member (null: first sheet / top-level array)
+     * @return 2D array of test data
+     */
+    public static Object[][] getTestData(String fileName, String section) {
+        List<Object[]> rows = new ArrayList<>();
+        rows(fileName, section).forEachRemaining(rows::add);
+        return rows.toArray(new Object[0][]);
+    }
+
+    /**
+     * Get test data as typed records
+     * @param fileName - test data file
+     * @param section - Excel sheet or JSON member (null: first sheet / top-level array)
+     * @param type - record class
+     * @return List of records
+     */
+    public static <R extends Record> List<R> getRecords(String fileName, String section, Class<R> type) {
+        List<R> records = new ArrayList<>();
+        Iterator<Object[]> rows = records(fileName, section, type);
+        while (rows.hasNext()) {
+            records.add(type.cast(rows.next()[0]));
+        }
+        return records;
+    }
+
+    private static TestDataSource open(String fileName, String section) {
+        try {
+            TestDataSource source = TestDataSource.open(fileName, section);
+            LogUtil.info("Test data opened: " + fileName + (section == null ? "" : " | " + section) +
+                         " | Columns: " + source.getColumns());
+            return source;
+        } catch (RuntimeException e) {
+            LogUtil.error("Error reading test data file: " + fileName, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Iterator over a source's rows, closing the source after the last one
+     * (or when reading a row fails)
+     */
+    private abstract static class SourceIterator implements Iterator<Object[]> {
+        private final TestDataSource source;
+        private Boolean hasNext;
+
+        private SourceIterator(TestDataSource source) {
+            this.source = source;
+        }
+
+        /**
+         * @return parameters of the row the source is on
+         */
+        abstract Object[] current();
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                try {
+                    hasNext = source.next();
+                } catch (RuntimeException e) {
+                    hasNext = false;
+                    source.close();
+                    throw e;
+                }
+                if (!hasNext) {
+                    source.close();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            try {
+                return current();
+            } catch (RuntimeException e) {
+                hasNext = false;
+                source.close();
+                throw e;
+            }
+        }
+    }
+}
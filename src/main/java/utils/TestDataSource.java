@@ -0,0 +1,119 @@
+package utils;
+
+import constants.FrameworkConstants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * TestDataSource - Forward-only cursor over the rows of a test data file
+ *
+ * Purpose: One reader interface for every test data format, so data
+ *          providers (TestDataReader) do not care where rows come from
+ *
+ * Implementations, chosen by file extension:
+ *  .csv / .tsv  CsvDataSource   - memory-mapped, fields decoded on access
+ *  .json        JsonDataSource  - streaming, one object per row
+ *  .xlsx        ExcelDataSource - streaming sheet XML, no workbook in memory
+ *
+ * Values are String, Number, Boolean, LocalDateTime (Excel dates) or null.
+ * A source reads one row at a time: values of a row are only valid until
+ * the next call to next().
+ *
+ * Usage:
+ *  try (TestDataSource source = TestDataSource.open("users.csv", null)) {
+ *      while (source.next()) {
+ *          String name = (String) source.get(0);
+ *      }
+ *  }
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public interface TestDataSource extends Closeable {
+
+    /**
+     * Column names, from the header row (CSV, Excel) or the first object (JSON)
+     * @return column names
+     */
+    List<String> getColumns();
+
+    /**
+     * Move to the next non-blank row
+     * @return false after the last row
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is malformed
+     */
+    boolean next();
+
+    /**
+     * Value of a column in the current row
+     * @param column column index
+     * @return value, or null if the row has no value there
+     */
+    Object get(int column);
+
+    /**
+     * Current position for messages, e.g. "users.csv row 12"
+     * @return location
+     */
+    String getLocation();
+
+    /**
+     * Values of the current row, one per column
+     * @return new array
+     */
+    default Object[] toArray() {
+        Object[] values = new Object[getColumns().size()];
+        for (int column = 0; column < values.length; column++) {
+            values[column] = get(column);
+        }
+        return values;
+    }
+
+    @Override
+    void close();
+
+    /**
+     * Open a test data file by extension
+     * @param fileName file in the test data folder, or an absolute path
+     * @param section Excel sheet or JSON member holding the rows (null: first sheet / top-level array); ignored for CSV
+     * @return source positioned before the first row
+     * @throws UncheckedIOException if the file cannot be opened
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    static TestDataSource open(String fileName, String section) {
+        Path path = Paths.get(fileName);
+        if (!path.isAbsolute()) {
+            path = Paths.get(FrameworkConstants.TEST_DATA_PATH, fileName);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new UncheckedIOException(new IOException("Test data file not found: " + path));
+        }
+        String name = path.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        try {
+            switch (extension) {
+                case "csv":
+                    return new CsvDataSource(path, ',');
+                case "tsv":
+                    return new CsvDataSource(path, '\t');
+                case "json":
+                    return new JsonDataSource(path, section);
+                case "xlsx":
+                    return new ExcelDataSource(path, section);
+                default:
+                    throw new IllegalArgumentException("Unsupported test data format: " + name +
+                                                       " (supported: csv, tsv, json, xlsx)");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open test data file: " + path, e);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package utils;
 
 //import constants.FrameworkConstants;
+import metrics.FrameworkMetrics;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -20,9 +22,17 @@ public class WaitHelper {
     private WebDriverWait wait;
     
     public WaitHelper(WebDriver driver) {
+        this(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+    }
+    
+    /**
+     * Wait helper with its own timeout
+     * @param driver - WebDriver
+     * @param timeout - Maximum wait time
+     */
+    public WaitHelper(WebDriver driver, Duration timeout) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, 
-            Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        this.wait = new WebDriverWait(driver, timeout);
     }
     
     /**
@@ -32,7 +42,7 @@ public class WaitHelper {
      */
     public WebElement waitForElementVisible(By locator) {
         LogUtil.debug("Waiting for element to be visible: " + locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timedWait("visible", ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
     /**
@@ -42,7 +52,7 @@ public class WaitHelper {
      */
     public WebElement waitForElementClickable(By locator) {
         LogUtil.debug("Waiting for element to be clickable: " + locator);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return timedWait("clickable", ExpectedConditions.elementToBeClickable(locator));
     }
     
     /**
@@ -52,7 +62,7 @@ public class WaitHelper {
      */
     public WebElement waitForElementPresent(By locator) {
         LogUtil.debug("Waiting for element to be present: " + locator);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return timedWait("present", ExpectedConditions.presenceOfElementLocated(locator));
     }
     
     /**
@@ -62,14 +72,14 @@ public class WaitHelper {
      */
     public boolean waitForElementInvisible(By locator) {
         LogUtil.debug("Waiting for element to be invisible: " + locator);
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return timedWait("invisible", ExpectedConditions.invisibilityOfElementLocated(locator));
     }
     
     /**
      * Wait for page to load completely
      */
     public void waitForPageLoad() {
-        wait.until(webDriver -> 
+        timedWait("page_load", webDriver -> 
             ((org.openqa.selenium.JavascriptExecutor) webDriver)
                 .executeScript("return document.readyState").equals("complete"));
         LogUtil.debug("Page loaded completely");
@@ -89,6 +99,26 @@ public class WaitHelper {
             .ignoring(NoSuchElementException.class);
         
         LogUtil.debug("Applying fluent wait for: " + locator);
-        return fluentWait.until(driver -> driver.findElement(locator));
+        long start = System.nanoTime();
+        try {
+            return fluentWait.until(driver -> driver.findElement(locator));
+        } finally {
+            FrameworkMetrics.WAIT_TIME.recordSince(start, "fluent");
+        }
+    }
+    
+    /**
+     * Run an explicit wait and record the time spent in it
+     * @param condition - metric label for the condition type
+     * @param expectedCondition - condition to wait for
+     * @return value returned by the condition
+     */
+    private <T> T timedWait(String condition, ExpectedCondition<T> expectedCondition) {
+        long start = System.nanoTime();
+        try {
+            return wait.until(expectedCondition);
+        } finally {
+            FrameworkMetrics.WAIT_TIME.recordSince(start, condition);
+        }
     }
 }
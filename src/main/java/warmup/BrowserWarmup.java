@@ -0,0 +1,273 @@
+package warmup;
+
+import admission.AdmissionController;
+import grid.GridHubPool;
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.LogUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BrowserWarmup - Pre-launches browsers during suite setup
+ *
+ * Purpose: Avoid the thundering herd of cold starts when the first wave of
+ *          tests all create browsers in the same @BeforeMethod
+ *
+ * warmUp() (called from @BeforeSuite):
+ *  1. resolves local driver binaries once per target
+ *  2. for remote runs, waits for a Grid hub to report ready (GridHubPool
+ *     health check), which opens the shared client's first connections
+ *  3. launches warmup.count browsers in parallel, one every warmup.stagger.ms,
+ *     round-robin over the matrix targets (or the configured browser)
+ *
+ * Each warm session holds a matrix slot (matrix.limits) and an admission
+ * while it waits, so warmup never runs more browsers than tests could. A
+ * launch that finds no free slot is skipped instead of waiting for one.
+ * DriverManager takes a warm session with take() before acquiring slots of
+ * its own; the session's slots pass to the test and are released when its
+ * driver is quit. Sessions nobody took are quit, and their slots returned,
+ * by discard() at suite end.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class BrowserWarmup {
+
+    private static final long GRID_POLL_MS = 500;
+
+    // Guards warm and closed, so a launch finishing after discard() cannot queue a session
+    private static final Object lock = new Object();
+    private static final Map<BrowserTarget, Queue<WebDriver>> warm = new HashMap<>();
+    private static final AtomicInteger handedOut = new AtomicInteger();
+    private static boolean closed;
+
+    // Private constructor to prevent instantiation
+    private BrowserWarmup() {
+        throw new AssertionError("BrowserWarmup class cannot be instantiated");
+    }
+
+    /**
+     * Resolve drivers, prime the Grid and launch warm browsers
+     * Blocks until all launches finished or warmup.timeout.sec passed
+     */
+    public static void warmUp() {
+        int count = ConfigReader.getWarmupCount();
+        if (count <= 0) {
+            return;
+        }
+        if (ConfigReader.isContextIsolation()) {
+            LogUtil.info("Browser warmup skipped - context isolation shares browsers already");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(ConfigReader.getWarmupTimeout());
+        List<BrowserTarget> targets = targets();
+        boolean remote = ConfigReader.isRemoteExecution();
+
+        if (remote) {
+            primeGrid(deadline);
+        } else {
+            for (BrowserTarget target : new LinkedHashSet<>(targets)) {
+                try {
+                    DriverManager.resolveDriverBinary(target);
+                } catch (RuntimeException e) {
+                    LogUtil.warn("Could not resolve driver for " + target + ": " + e.getMessage());
+                }
+            }
+        }
+
+        long stagger = ConfigReader.getWarmupStagger();
+        AtomicInteger launched = new AtomicInteger();
+        ExecutorService launcher = Executors.newFixedThreadPool(count, r -> {
+            Thread thread = new Thread(r, "browser-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < count; i++) {
+            BrowserTarget target = targets.get(i % targets.size());
+            long delay = i * stagger;
+            launcher.execute(() -> launch(target, delay, launched));
+        }
+        launcher.shutdown();
+        try {
+            long remaining = deadline - System.nanoTime();
+            if (!launcher.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                LogUtil.warn("Browser warmup timed out; slower launches will be added when ready");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        LogUtil.info("Browser warmup: " + launched.get() + "/" + count + " browsers ready in " +
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    /**
+     * Take a warm session for the target
+     * @param target browser target the test needs
+     * @return live warm driver, or null if none is waiting
+     */
+    public static WebDriver take(BrowserTarget target) {
+        WebDriver driver;
+        while ((driver = poll(target)) != null) {
+            try {
+                driver.getWindowHandle();
+                handedOut.incrementAndGet();
+                LogUtil.debug("Using warm " + target + " session");
+                return driver;
+            } catch (RuntimeException e) {
+                LogUtil.debug("Warm " + target + " session died, discarding: " + e.getMessage());
+                quit(target, driver);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Quit warm sessions no test took (call once at suite end)
+     * @return number of sessions quit
+     */
+    public static int discard() {
+        Map<BrowserTarget, Queue<WebDriver>> unused;
+        synchronized (lock) {
+            closed = true;
+            unused = new HashMap<>(warm);
+            warm.clear();
+        }
+        int discarded = 0;
+        for (Map.Entry<BrowserTarget, Queue<WebDriver>> entry : unused.entrySet()) {
+            for (WebDriver driver : entry.getValue()) {
+                quit(entry.getKey(), driver);
+                discarded++;
+            }
+        }
+        if (discarded > 0) {
+            LogUtil.info("Quit " + discarded + " unused warm browser(s); " + handedOut.get() +
+                         " were handed to tests");
+        }
+        return discarded;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private static List<BrowserTarget> targets() {
+        List<BrowserTarget> targets = new ArrayList<>();
+        if (ConfigReader.isMatrixEnabled()) {
+            targets.addAll(BrowserMatrix.getTargets());
+        }
+        if (targets.isEmpty()) {
+            targets.add(BrowserTarget.fromConfig());
+        }
+        return targets;
+    }
+
+    private static void launch(BrowserTarget target, long delayMillis, AtomicInteger launched) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!acquireSlots(target)) {
+            LogUtil.info("Warmup launch of " + target + " skipped - no free matrix or admission slot");
+            return;
+        }
+        WebDriver driver;
+        try {
+            driver = DriverManager.launchBrowser(target);
+        } catch (RuntimeException e) {
+            releaseSlots(target);
+            LogUtil.warn("Warmup launch of " + target + " failed: " + e.getMessage());
+            return;
+        }
+        synchronized (lock) {
+            if (!closed) {
+                warm.computeIfAbsent(target, key -> new ArrayDeque<>()).add(driver);
+                launched.incrementAndGet();
+                return;
+            }
+        }
+        // Suite already ended while this launch was still running
+        quit(target, driver);
+    }
+
+    private static WebDriver poll(BrowserTarget target) {
+        synchronized (lock) {
+            Queue<WebDriver> queue = warm.get(target);
+            return queue == null ? null : queue.poll();
+        }
+    }
+
+    /**
+     * Take the slots a test would hold for this session, without waiting
+     */
+    private static boolean acquireSlots(BrowserTarget target) {
+        if (!BrowserMatrix.tryAcquire(target.getBrowser())) {
+            return false;
+        }
+        if (!AdmissionController.tryAcquire()) {
+            BrowserMatrix.release(target.getBrowser());
+            return false;
+        }
+        return true;
+    }
+
+    private static void releaseSlots(BrowserTarget target) {
+        AdmissionController.release();
+        BrowserMatrix.release(target.getBrowser());
+    }
+
+    /**
+     * Poll the Grid hubs' status until at least one reports ready
+     */
+    private static void primeGrid(long deadline) {
+        long start = System.nanoTime();
+        try {
+            while (true) {
+                int healthy = GridHubPool.checkHealth();
+                if (healthy > 0) {
+                    LogUtil.info(healthy + "/" + GridHubPool.getHubs().size() + " Grid hub(s) ready after " +
+                                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+                    return;
+                }
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(GRID_POLL_MS) > deadline) {
+                    LogUtil.warn("No Grid hub reported ready during warmup");
+                    return;
+                }
+                Thread.sleep(GRID_POLL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LogUtil.warn("Could not prime Grid connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quit a warm session no test will use and return its slots
+     */
+    private static void quit(BrowserTarget target, WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LogUtil.debug("Quit of warm browser failed: " + e.getMessage());
+        } finally {
+            releaseSlots(target);
+        }
+    }
+}
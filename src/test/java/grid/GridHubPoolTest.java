@@ -0,0 +1,189 @@
+package grid;
+
+import fake.FakeWebDriverServer;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GridHubPoolTest - Circuit breaker transitions and hub failover
+ *
+ * Hubs are FakeWebDriverServer instances: a stopped server stands in for a
+ * dead hub, one rejecting sessions for a hub that is up but broken.
+ */
+public class GridHubPoolTest {
+
+    private static final String[] PROPERTIES = {
+        "grid.hubs", "grid.routing", "grid.breaker.failures", "grid.breaker.open.sec", "grid.health.interval.sec"
+    };
+
+    private final List<FakeWebDriverServer> servers = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        // Keep the background check from racing the explicit ones
+        System.setProperty("grid.health.interval.sec", "3600");
+        GridHubPool.reset();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        GridHubPool.reset();
+        servers.forEach(FakeWebDriverServer::stop);
+        servers.clear();
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    // ==================== CIRCUIT BREAKER ====================
+
+    @Test(description = "Breaker opens after the configured failures in a row and rejects sessions")
+    public void testBreakerOpensAfterConsecutiveFailures() {
+        GridHub hub = new GridHub("http://localhost:1", 1);
+
+        hub.beginCreation();
+        hub.creationFailed(2);
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.CLOSED, "One failure is below the threshold");
+
+        hub.beginCreation();
+        hub.creationFailed(2);
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.OPEN);
+        Assert.assertFalse(hub.allowsSession(60_000), "Open breaker must reject sessions until it times out");
+    }
+
+    @Test(description = "Success resets the failure count")
+    public void testSuccessResetsFailureCount() {
+        GridHub hub = new GridHub("http://localhost:1", 1);
+
+        hub.beginCreation();
+        hub.creationFailed(2);
+        hub.beginCreation();
+        hub.creationSucceeded();
+        hub.beginCreation();
+        hub.creationFailed(2);
+
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.CLOSED);
+    }
+
+    @Test(description = "Timed-out breaker admits one trial; failure reopens, success closes")
+    public void testHalfOpenAdmitsOneTrial() {
+        GridHub hub = new GridHub("http://localhost:1", 1);
+        hub.beginCreation();
+        hub.creationFailed(1);
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.OPEN);
+
+        Assert.assertTrue(hub.allowsSession(0), "Open breaker past its timeout must admit a trial");
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.HALF_OPEN);
+        hub.beginCreation();
+        Assert.assertFalse(hub.allowsSession(0), "Only one trial may be in flight");
+
+        hub.creationFailed(1);
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.OPEN, "Failed trial must reopen the breaker");
+        Assert.assertFalse(hub.allowsSession(60_000));
+
+        Assert.assertTrue(hub.allowsSession(0));
+        hub.beginCreation();
+        hub.creationSucceeded();
+        Assert.assertEquals(hub.getBreaker(), GridHub.Breaker.CLOSED, "Successful trial must close the breaker");
+        Assert.assertTrue(hub.allowsSession(60_000));
+    }
+
+    // ==================== ROUTING ====================
+
+    @Test(description = "Dead hub fails the health check and is skipped while another is healthy")
+    public void testDeadHubIsSkipped() {
+        String dead = deadHubUrl();
+        String live = startServer().getUrl();
+        System.setProperty("grid.hubs", dead + "," + live);
+
+        Assert.assertEquals(GridHubPool.checkHealth(), 1);
+        GridHub deadHub = hub(dead);
+        Assert.assertFalse(deadHub.isHealthy());
+
+        GridHub first = GridHubPool.acquire(Collections.emptySet());
+        Assert.assertEquals(first.getUrl(), live);
+
+        // With the healthy hub tried, the dead one is still the last resort
+        Assert.assertSame(GridHubPool.acquire(Collections.singleton(first)), deadHub);
+        Assert.assertNull(GridHubPool.acquire(new HashSet<>(GridHubPool.getHubs())));
+    }
+
+    @Test(description = "Rejected session fails over to the next hub, whose breaker stays closed")
+    public void testFailoverOrder() {
+        FakeWebDriverServer broken = startServer();
+        broken.setRejectSessions(true);
+        FakeWebDriverServer working = startServer();
+        System.setProperty("grid.hubs", broken.getUrl() + ";3," + working.getUrl() + ";1");
+        System.setProperty("grid.routing", GridHubPool.WEIGHTED);
+        System.setProperty("grid.breaker.failures", "1");
+        System.setProperty("grid.breaker.open.sec", "60");
+
+        Assert.assertEquals(createSession(), List.of(broken.getUrl(), working.getUrl()),
+                            "Heavier hub first, then the next one");
+        Assert.assertEquals(hub(broken.getUrl()).getBreaker(), GridHub.Breaker.OPEN);
+        Assert.assertEquals(hub(working.getUrl()).getBreaker(), GridHub.Breaker.CLOSED);
+
+        // Open breaker keeps the next session away from the broken hub
+        Assert.assertEquals(createSession(), List.of(working.getUrl()));
+        Assert.assertEquals(working.getSessionCount(), 0, "Sessions are quit after each attempt");
+    }
+
+    // ==================== HELPERS ====================
+
+    private FakeWebDriverServer startServer() {
+        FakeWebDriverServer server = new FakeWebDriverServer(0, 0, 0, 0.0).start();
+        servers.add(server);
+        return server;
+    }
+
+    /**
+     * URL of a port nothing listens on any more
+     */
+    private static String deadHubUrl() {
+        FakeWebDriverServer server = new FakeWebDriverServer(0, 0, 0, 0.0).start();
+        String url = server.getUrl();
+        server.stop();
+        return url;
+    }
+
+    private static GridHub hub(String url) {
+        return GridHubPool.getHubs().stream()
+            .filter(hub -> hub.getUrl().equals(url))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No hub " + url));
+    }
+
+    /**
+     * Create one session the way DriverManager does, recording each hub tried
+     * @return URLs of the hubs tried, in order
+     */
+    private static List<String> createSession() {
+        List<String> order = new ArrayList<>();
+        Set<GridHub> tried = new HashSet<>();
+        GridHub hub;
+        while ((hub = GridHubPool.acquire(tried)) != null) {
+            tried.add(hub);
+            order.add(hub.getUrl());
+            try {
+                new RemoteWebDriver(hub.getHubUrl(), new MutableCapabilities(Map.of("browserName", "fake"))).quit();
+                GridHubPool.recordSuccess(hub);
+                return order;
+            } catch (RuntimeException e) {
+                GridHubPool.recordFailure(hub, e);
+            }
+        }
+        Assert.fail("No hub created the session; tried " + order);
+        return order;
+    }
+}
@@ -0,0 +1,472 @@
+package launcher;
+
+import capacity.DurationHistory;
+import constants.FrameworkConstants;
+import fake.FakeWebDriverServer;
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+import results.MergeSummary;
+import results.ResultMerger;
+import results.ShardResults;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * ForkedLauncher - Runs a suite on several worker JVMs
+ *
+ * Purpose: Spread drivers, listeners and their garbage over fork.workers
+ *          JVMs instead of one heap and one GC, without giving up a single
+ *          run with one report
+ *
+ * How it works:
+ *  - Every test method of the suite file becomes a WorkItem, dealt over a
+ *    WorkQueue: workers pull one method at a time and steal from each other
+ *    when their own share runs out, so faster workers run more
+ *  - Workers (ForkedWorker) stream each result back over a loopback socket
+ *  - A worker that dies, or stays silent past fork.test.timeout.seconds, is
+ *    killed and restarted (at most fork.max.restarts times); its running
+ *    method is re-queued, and reported as failed after fork.max.attempts runs
+ *  - Each worker writes to test-output/workers/worker-N (output.dir); at the
+ *    end their shard result files are merged into test-output/results/merged
+ *
+ * With fork.fake.grid=true the launcher also starts a FakeWebDriverServer and
+ * points every worker at it, so a forked run needs nothing but this box.
+ *
+ * Usage (exit status 1 if any test failed or could not run):
+ *  java -cp <test classpath> launcher.ForkedLauncher [suite file]
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ForkedLauncher {
+
+    static final String DEFAULT_SUITE = "src/test/java/testsuites/testng.xml";
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+    private static final int EXIT_TIMEOUT_SECONDS = 30;
+    private static final String MERGED_DIR = "merged";
+
+    private final String suiteFile;
+    private final int workers;
+    private final int testTimeoutMillis;
+    private final int maxAttempts;
+    private final int maxRestarts;
+    private final Set<Process> processes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger retried = new AtomicInteger();
+    private final AtomicInteger crashed = new AtomicInteger();
+    private final AtomicInteger restarts = new AtomicInteger();
+    private WorkQueue queue;
+    private List<String> jvmArgs;
+
+    /**
+     * One worker JVM at a time, restarted when it crashes
+     */
+    private final class WorkerSlot implements Runnable {
+        private final int index;
+        private final String name;
+        private final File dir;
+        private WorkItem current;
+        private long currentStart;
+        private boolean connected;
+
+        private WorkerSlot(int index) {
+            this.index = index;
+            this.name = "worker-" + (index + 1);
+            this.dir = new File(FrameworkConstants.WORKERS_PATH, name);
+        }
+
+        @Override
+        public void run() {
+            for (int generation = 0; ; generation++) {
+                String failure = runWorker(generation);
+                if (failure == null) {
+                    return;
+                }
+                LogUtil.warn("[" + name + "] " + failure + (current == null ? "" : " while running " + current));
+                if (current != null) {
+                    requeueOrFail(current, failure);
+                    current = null;
+                }
+                if (generation >= maxRestarts) {
+                    LogUtil.error("[" + name + "] given up after " + maxRestarts + " restarts");
+                    return;
+                }
+                restarts.incrementAndGet();
+            }
+        }
+
+        /**
+         * Start a worker JVM and serve it until it runs out of work
+         * @return null when done, otherwise why the worker had to be dropped
+         */
+        private String runWorker(int generation) {
+            Process process = null;
+            connected = false;
+            try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                server.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+                process = start(server.getLocalPort(), generation);
+                try (Socket socket = server.accept()) {
+                    connected = true;
+                    socket.setTcpNoDelay(true);
+                    BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    PrintWriter out = new PrintWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+                    while (true) {
+                        // Only a running test is bounded by the test timeout; starting up is not
+                        socket.setSoTimeout(current == null ? CONNECT_TIMEOUT_MILLIS : testTimeoutMillis);
+                        String line = in.readLine();
+                        if (line == null) {
+                            return "worker exited unexpectedly" + exitCode(process);
+                        }
+                        String[] message = line.split(ForkedWorker.SEPARATOR, -1);
+                        if (ForkedWorker.READY.equals(message[0])) {
+                            current = queue.take(index);
+                            if (current == null) {
+                                out.println(ForkedWorker.EXIT);
+                                awaitExit(process);
+                                return null;
+                            }
+                            currentStart = System.currentTimeMillis();
+                            out.println(String.join(ForkedWorker.SEPARATOR, ForkedWorker.RUN,
+                                                    String.valueOf(current.getId()), current.getTestName(),
+                                                    current.getClassName(), current.getMethodName()));
+                        } else if (ForkedWorker.RESULT.equals(message[0]) && message.length >= 5) {
+                            onResult(message[1], Long.parseLong(message[2]), message[3], message[4]);
+                        } else if (ForkedWorker.DONE.equals(message[0]) && current != null) {
+                            queue.finish(current);
+                            current = null;
+                        }
+                    }
+                }
+            } catch (SocketTimeoutException e) {
+                if (current != null) {
+                    return "worker hung for " + testTimeoutMillis / 1000 + " s";
+                }
+                return "worker did not " + (connected ? "ask for work" : "connect") + " within " +
+                       CONNECT_TIMEOUT_MILLIS / 1000 + " s";
+            } catch (IOException e) {
+                return "worker connection lost (" + e.getMessage() + ")" + exitCode(process);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                if (process != null && process.isAlive()) {
+                    process.destroyForcibly();
+                }
+                if (process != null) {
+                    processes.remove(process);
+                }
+            }
+        }
+
+        private Process start(int port, int generation) throws IOException {
+            FrameworkConstants.createDirectoryIfNotExists(dir.getPath());
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmArgs);
+            command.add("-Doutput.dir=" + dir.getAbsolutePath());
+            command.add("-Dshard.id=" + (generation == 0 ? name : name + "-r" + generation));
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ForkedWorker.class.getName());
+            command.add(String.valueOf(port));
+            command.add(suiteFile);
+            command.add(name);
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(new File(dir, "worker.log")))
+                .start();
+            processes.add(process);
+            LogUtil.info("[" + name + "] started JVM (pid " + process.pid() + ")");
+            return process;
+        }
+
+        private void onResult(String status, long millis, String browser, String test) {
+            switch (status) {
+                case "PASS":
+                    passed.incrementAndGet();
+                    break;
+                case "FAIL":
+                    failed.incrementAndGet();
+                    break;
+                case "RETRY":
+                    retried.incrementAndGet();
+                    break;
+                default:
+                    skipped.incrementAndGet();
+            }
+            // Skipped and retried attempts say nothing about how long the test takes
+            if ("PASS".equals(status) || "FAIL".equals(status)) {
+                DurationHistory.record(browser, test, millis);
+            }
+            LogUtil.info("[" + name + "] " + status + " " + test + " (" + millis + " ms)");
+        }
+
+        private void requeueOrFail(WorkItem item, String failure) {
+            if (item.getAttempts() < maxAttempts) {
+                LogUtil.info("[" + name + "] re-queued " + item + " (run " + item.getAttempts() + " of " +
+                             maxAttempts + ")");
+                queue.requeue(item, index);
+                return;
+            }
+            crashed.incrementAndGet();
+            LogUtil.error("[" + name + "] " + item + " lost its worker " + item.getAttempts() +
+                          " times - reported as failed");
+            ShardResults.record(item.getName(), "", item.getBrowser(), "FAIL", false, currentStart,
+                                System.currentTimeMillis() - currentStart,
+                                "Worker lost " + item.getAttempts() + " times: " + failure);
+            queue.finish(item);
+        }
+    }
+
+    /**
+     * Create launcher
+     * @param suiteFile TestNG suite file
+     * @param workers number of worker JVMs
+     */
+    public ForkedLauncher(String suiteFile, int workers) {
+        this.suiteFile = suiteFile;
+        this.workers = Math.max(1, workers);
+        this.testTimeoutMillis = (int) TimeUnit.SECONDS.toMillis(ConfigReader.getForkTestTimeout());
+        this.maxAttempts = Math.max(1, ConfigReader.getForkMaxAttempts());
+        this.maxRestarts = Math.max(0, ConfigReader.getForkMaxRestarts());
+    }
+
+    public static void main(String[] args) throws IOException {
+        String suiteFile = args.length > 0 ? args[0] : DEFAULT_SUITE;
+        System.exit(new ForkedLauncher(suiteFile, ConfigReader.getForkWorkers()).run());
+    }
+
+    /**
+     * Run the suite on the worker JVMs and merge their results
+     * @return exit status: 0 if all tests passed or were skipped, 1 otherwise
+     * @throws IOException if the suite file cannot be read
+     */
+    public int run() throws IOException {
+        List<WorkItem> items = collectItems();
+        if (items.isEmpty()) {
+            LogUtil.warn("No test methods found in " + suiteFile);
+            return 0;
+        }
+        deleteTree(Paths.get(FrameworkConstants.WORKERS_PATH));
+        FakeWebDriverServer fakeGrid = ConfigReader.isForkFakeGrid() ? new FakeWebDriverServer(0).start() : null;
+        jvmArgs = workerJvmArgs(fakeGrid);
+        queue = new WorkQueue(items, workers);
+        Thread cleanup = new Thread(() -> processes.forEach(Process::destroyForcibly), "fork-cleanup");
+        Runtime.getRuntime().addShutdownHook(cleanup);
+
+        LogUtil.info("Forked run: " + items.size() + " test methods of " + suiteFile + " on " + workers +
+                     " worker JVMs");
+        long started = System.currentTimeMillis();
+        List<Thread> slots = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            Thread slot = new Thread(new WorkerSlot(i), "fork-slot-" + (i + 1));
+            slots.add(slot);
+            slot.start();
+        }
+        try {
+            for (Thread slot : slots) {
+                slot.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            slots.forEach(Thread::interrupt);
+        }
+        Runtime.getRuntime().removeShutdownHook(cleanup);
+        if (fakeGrid != null) {
+            fakeGrid.stop();
+        }
+
+        List<WorkItem> notRun = queue.drain();
+        for (WorkItem item : notRun) {
+            ShardResults.record(item.getName(), "", item.getBrowser(), "SKIP", false, System.currentTimeMillis(), 0,
+                                "Not run: no worker JVM left");
+        }
+        DurationHistory.save();
+        mergeResults();
+
+        LogUtil.info("Forked run finished in " + (System.currentTimeMillis() - started) / 1000 + " s: " +
+                     passed + " passed, " + failed + " failed, " + skipped + " skipped, " + retried +
+                     " retried, " + crashed + " crashed, " + notRun.size() + " not run; " + queue.getSteals() +
+                     " steals, " + restarts + " worker restarts");
+        return failed.get() + crashed.get() + notRun.size() > 0 ? 1 : 0;
+    }
+
+    // ==================== WORK ITEMS ====================
+
+    /**
+     * One item per test method and <test> of the suite file
+     */
+    private List<WorkItem> collectItems() throws IOException {
+        List<WorkItem> items = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (XmlSuite suite : new Parser(suiteFile).parseToList()) {
+            for (XmlTest test : suite.getTests()) {
+                String browser = BrowserTarget.of(test.getParameter(BrowserMatrix.BROWSER_PARAM),
+                                                  test.getParameter(BrowserMatrix.VERSION_PARAM),
+                                                  test.getParameter(BrowserMatrix.VIEWPORT_PARAM)).getBrowser();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    for (String method : testMethods(xmlClass)) {
+                        // Suite files may list a class more than once; it still runs once per <test>
+                        if (!seen.add(test.getName() + "#" + xmlClass.getName() + "#" + method)) {
+                            continue;
+                        }
+                        String simpleName = xmlClass.getName().substring(xmlClass.getName().lastIndexOf('.') + 1);
+                        items.add(new WorkItem(items.size() + 1, test.getName(), xmlClass.getName(), method, browser,
+                                               DurationHistory.estimate(browser, simpleName + "." + method)));
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Test methods of a <class>: its <include>s, else its enabled @Test methods
+     */
+    private static Set<String> testMethods(XmlClass xmlClass) {
+        Set<String> methods = new TreeSet<>();
+        for (XmlInclude include : xmlClass.getIncludedMethods()) {
+            methods.add(include.getName());
+        }
+        if (methods.isEmpty()) {
+            Class<?> type = xmlClass.getSupportClass();
+            boolean classLevel = type.isAnnotationPresent(Test.class);
+            for (Method method : type.getMethods()) {
+                Test test = method.getAnnotation(Test.class);
+                if (test != null ? test.enabled()
+                                 : classLevel && method.getDeclaringClass() == type && method.getAnnotations().length == 0) {
+                    methods.add(method.getName());
+                }
+            }
+        }
+        methods.removeAll(xmlClass.getExcludedMethods());
+        return methods;
+    }
+
+    // ==================== WORKER JVMS ====================
+
+    /**
+     * JVM arguments for workers: fork.worker.jvm.args, this JVM's -D options
+     * (so command line overrides apply to workers too) and the fake grid
+     */
+    private static List<String> workerJvmArgs(FakeWebDriverServer fakeGrid) {
+        List<String> args = new ArrayList<>();
+        String configured = ConfigReader.getForkWorkerJvmArgs();
+        if (!configured.isEmpty()) {
+            args.addAll(Arrays.asList(configured.split("\\s+")));
+        }
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("-D") && !arg.startsWith("-Doutput.dir=") && !arg.startsWith("-Dshard.id=")) {
+                args.add(arg);
+            }
+        }
+        if (fakeGrid != null) {
+            args.add("-Dbrowser=fake");
+            args.add("-Dexecution.mode=remote");
+            args.add("-Dgrid.url=" + fakeGrid.getUrl());
+        }
+        return args;
+    }
+
+    private static void awaitExit(Process process) throws InterruptedException {
+        if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static String exitCode(Process process) {
+        if (process == null) {
+            return "";
+        }
+        try {
+            return process.waitFor(5, TimeUnit.SECONDS) ? " (exit code " + process.exitValue() + ")" : "";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "";
+        }
+    }
+
+    // ==================== RESULTS ====================
+
+    /**
+     * Merge the workers' shard files (and this JVM's, for crashed or unrun tests)
+     */
+    private static void mergeResults() {
+        List<File> inputs = new ArrayList<>();
+        File[] workerDirs = new File(FrameworkConstants.WORKERS_PATH).listFiles(File::isDirectory);
+        if (workerDirs != null) {
+            for (File dir : workerDirs) {
+                File results = new File(dir, "results");
+                if (results.isDirectory()) {
+                    inputs.add(results);
+                }
+            }
+        }
+        String own = ShardResults.write();
+        if (own != null) {
+            inputs.add(new File(own));
+        }
+        if (inputs.isEmpty()) {
+            LogUtil.warn("Forked run produced no shard result files");
+            return;
+        }
+        try {
+            MergeSummary summary = ResultMerger.merge(inputs, new File(FrameworkConstants.RESULTS_PATH, MERGED_DIR));
+            LogUtil.info("Merged report: " + new File(FrameworkConstants.RESULTS_PATH, MERGED_DIR + File.separator +
+                                                      ResultMerger.REPORT_FILE).getPath() + " (" +
+                         summary.getTests() + " tests, " + summary.getFlaky() + " flaky)");
+        } catch (IOException | IllegalStateException e) {
+            LogUtil.warn("Could not merge worker results: " + e.getMessage());
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package launcher;
+
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+import utils.LogUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ForkedWorker - Worker JVM of a forked run
+ *
+ * Purpose: Run the test methods ForkedLauncher hands out, one at a time, and
+ *          stream each result back as soon as TestNG reports it
+ *
+ * Protocol (one tab-separated line per message over a loopback socket):
+ *  worker -> launcher  READY                            ready for an item
+ *                      RESULT status ms browser test    one finished attempt
+ *                      DONE id                          item finished
+ *  launcher -> worker  RUN id test class method         run an item
+ *                      EXIT                             no more work
+ *
+ * Each item runs as a one-method TestNG suite built from its <test> in the
+ * suite file (parameters, groups), inside this JVM. WorkerHooks make the
+ * worker the suite: @BeforeSuite and the suite listeners' onStart run before
+ * its first item, @AfterSuite and onFinish after its last, so browser pools
+ * and other JVM-wide state carry over between items and reports, histories
+ * and shard results are written once per worker.
+ *
+ * Started by ForkedLauncher:
+ *  java ... launcher.ForkedWorker <launcher port> <suite file> <worker name>
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class ForkedWorker {
+
+    static final String READY = "READY";
+    static final String RUN = "RUN";
+    static final String RESULT = "RESULT";
+    static final String DONE = "DONE";
+    static final String EXIT = "EXIT";
+    static final String SEPARATOR = "\t";
+
+    private final String name;
+    private final BufferedReader in;
+    private final PrintWriter out;
+    private final Map<String, XmlTest> tests = new HashMap<>();
+    private final WorkerHooks hooks;
+
+    /**
+     * Streams results of the running item to the launcher
+     */
+    private final class ResultStream implements ITestListener {
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            report(result, "PASS");
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            report(result, "FAIL");
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            report(result, result.wasRetried() ? "RETRY" : "SKIP");
+        }
+
+        private void report(ITestResult result, String status) {
+            XmlTest test = result.getTestContext().getCurrentXmlTest();
+            BrowserTarget target = BrowserTarget.of(test.getParameter(BrowserMatrix.BROWSER_PARAM),
+                                                    test.getParameter(BrowserMatrix.VERSION_PARAM),
+                                                    test.getParameter(BrowserMatrix.VIEWPORT_PARAM));
+            send(RESULT, status, String.valueOf(result.getEndMillis() - result.getStartMillis()),
+                 target.getBrowser(),
+                 result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+        }
+    }
+
+    private ForkedWorker(String name, Socket socket, String suiteFile) throws IOException {
+        this.name = name;
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        this.out = new PrintWriter(writer, true);
+        List<XmlSuite> suites = new Parser(suiteFile).parseToList();
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                tests.putIfAbsent(test.getName(), test);
+            }
+        }
+        this.hooks = new WorkerHooks(suites.isEmpty() ? Collections.emptyList() : suites.get(0).getListeners());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: ForkedWorker <launcher port> <suite file> <worker name>");
+            System.exit(2);
+        }
+        int status;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+            socket.setTcpNoDelay(true);
+            status = new ForkedWorker(args[2], socket, args[1]).serve();
+        }
+        // TestNG and driver pools may leave non-daemon threads behind
+        System.exit(status);
+    }
+
+    /**
+     * Ask for items and run them until told to exit
+     * @return process exit status
+     */
+    private int serve() throws IOException {
+        LogUtil.info("Forked worker " + name + " started (pid " + ProcessHandle.current().pid() + ")");
+        ResultStream results = new ResultStream();
+        while (true) {
+            send(READY);
+            String line = in.readLine();
+            if (line == null || line.equals(EXIT)) {
+                hooks.finish();
+                LogUtil.info("Forked worker " + name + " finished");
+                return 0;
+            }
+            String[] message = line.split(SEPARATOR, -1);
+            if (!RUN.equals(message[0]) || message.length < 5) {
+                LogUtil.error("Forked worker " + name + " got unknown message: " + line);
+                hooks.finish();
+                return 1;
+            }
+            run(message[2], message[3], message[4], results);
+            send(DONE, message[1]);
+        }
+    }
+
+    private void run(String testName, String className, String methodName, ResultStream results) {
+        XmlTest source = tests.get(testName);
+        if (source == null) {
+            LogUtil.error("Forked worker " + name + ": no <test> named " + testName + " in the suite file");
+            send(RESULT, "FAIL", "0", "", className.substring(className.lastIndexOf('.') + 1) + "." + methodName);
+            return;
+        }
+        XmlSuite suite = new XmlSuite();
+        suite.setName(source.getSuite().getName());
+        suite.setParameters(source.getSuite().getParameters());
+
+        XmlTest test = new XmlTest(suite);
+        test.setName(source.getName());
+        test.setParameters(source.getLocalParameters());
+        test.setIncludedGroups(source.getIncludedGroups());
+        test.setExcludedGroups(source.getExcludedGroups());
+        XmlClass xmlClass = new XmlClass(className, false);
+        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(methodName)));
+        test.setXmlClasses(Collections.singletonList(xmlClass));
+
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.setVerbose(0);
+        testng.addListener(results);
+        hooks.attachTo(testng);
+        LogUtil.info("Forked worker " + name + " running " + className + "." + methodName);
+        testng.run();
+    }
+
+    private void send(String... fields) {
+        synchronized (out) {
+            out.println(String.join(SEPARATOR, fields));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package launcher;
+
+/**
+ * WorkItem - One test method handed to a forked worker JVM
+ *
+ * Purpose: Name a method precisely enough for a worker to rebuild it from the
+ *          suite file (the <test> it belongs to, its class and method), and
+ *          carry what the coordinator tracks about it
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class WorkItem {
+
+    private final int id;
+    private final String testName;
+    private final String className;
+    private final String methodName;
+    private final String browser;
+    private final long expectedMillis;
+    private int attempts;
+
+    /**
+     * Create work item
+     * @param id id unique within the run
+     * @param testName name of the suite's <test> holding the method
+     * @param className fully qualified test class
+     * @param methodName test method
+     * @param browser browser the <test> runs on
+     * @param expectedMillis expected duration (DurationHistory)
+     */
+    public WorkItem(int id, String testName, String className, String methodName, String browser,
+                    long expectedMillis) {
+        this.id = id;
+        this.testName = testName;
+        this.className = className;
+        this.methodName = methodName;
+        this.browser = browser;
+        this.expectedMillis = expectedMillis;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public long getExpectedMillis() {
+        return expectedMillis;
+    }
+
+    /**
+     * Test id as used in reports and DurationHistory
+     * @return SimpleClass.method
+     */
+    public String getName() {
+        return className.substring(className.lastIndexOf('.') + 1) + "." + methodName;
+    }
+
+    /**
+     * Number of times the item was handed to a worker
+     */
+    int getAttempts() {
+        return attempts;
+    }
+
+    void startAttempt() {
+        attempts++;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " [" + testName + "]";
+    }
+}
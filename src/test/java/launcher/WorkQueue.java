@@ -0,0 +1,141 @@
+package launcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * WorkQueue - Work-stealing distribution of test methods over worker JVMs
+ *
+ * Purpose: Keep every worker busy until the whole run is done, however
+ *          unevenly test durations or worker speeds turn out
+ *
+ * How it works:
+ *  - Items are dealt longest first (expected duration from history) to the
+ *    worker deque with the least expected work, so deques start balanced
+ *  - A worker takes from the head of its own deque (its longest item)
+ *  - A worker with an empty deque steals from the tail (the shortest items)
+ *    of the deque with the most expected work left, so fast workers pull more
+ *  - A worker with nothing to take or steal waits while others still run
+ *    items, because a crashed worker's item comes back (requeue)
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public final class WorkQueue {
+
+    private final List<Deque<WorkItem>> deques = new ArrayList<>();
+    private final long[] expectedMillis;
+    private int inFlight;
+    private int steals;
+
+    /**
+     * Deal items over the workers
+     * @param items work items
+     * @param workers number of workers
+     */
+    public WorkQueue(List<WorkItem> items, int workers) {
+        expectedMillis = new long[workers];
+        for (int i = 0; i < workers; i++) {
+            deques.add(new ArrayDeque<>());
+        }
+        List<WorkItem> longestFirst = new ArrayList<>(items);
+        longestFirst.sort(Comparator.comparingLong(WorkItem::getExpectedMillis).reversed());
+        for (WorkItem item : longestFirst) {
+            int target = 0;
+            for (int i = 1; i < workers; i++) {
+                if (expectedMillis[i] < expectedMillis[target]) {
+                    target = i;
+                }
+            }
+            deques.get(target).addLast(item);
+            expectedMillis[target] += item.getExpectedMillis();
+        }
+    }
+
+    /**
+     * Next item for a worker: its own, else stolen, else wait while items are in flight
+     * @param worker worker index
+     * @return item, or null when the run is done
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized WorkItem take(int worker) throws InterruptedException {
+        while (true) {
+            WorkItem item = poll(worker);
+            if (item != null) {
+                inFlight++;
+                item.startAttempt();
+                return item;
+            }
+            if (inFlight == 0) {
+                return null;
+            }
+            wait();
+        }
+    }
+
+    /**
+     * Mark an item taken by take() as finished
+     * @param item item
+     */
+    public synchronized void finish(WorkItem item) {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Put back an item whose worker crashed; it is the next item its worker takes
+     * @param item item
+     * @param worker worker index
+     */
+    public synchronized void requeue(WorkItem item, int worker) {
+        inFlight--;
+        deques.get(worker).addFirst(item);
+        expectedMillis[worker] += item.getExpectedMillis();
+        notifyAll();
+    }
+
+    /**
+     * Remove all items nobody ran (e.g. when every worker was given up)
+     * @return items left in the deques
+     */
+    public synchronized List<WorkItem> drain() {
+        List<WorkItem> left = new ArrayList<>();
+        for (int i = 0; i < deques.size(); i++) {
+            left.addAll(deques.get(i));
+            deques.get(i).clear();
+            expectedMillis[i] = 0;
+        }
+        return left;
+    }
+
+    /**
+     * Number of items taken from another worker's deque
+     * @return steal count
+     */
+    public synchronized int getSteals() {
+        return steals;
+    }
+
+    private WorkItem poll(int worker) {
+        int owner = worker;
+        WorkItem item = deques.get(worker).pollFirst();
+        if (item == null) {
+            owner = -1;
+            for (int i = 0; i < deques.size(); i++) {
+                if (!deques.get(i).isEmpty() && (owner < 0 || expectedMillis[i] > expectedMillis[owner])) {
+                    owner = i;
+                }
+            }
+            if (owner < 0) {
+                return null;
+            }
+            item = deques.get(owner).pollLast();
+            steals++;
+        }
+        expectedMillis[owner] -= item.getExpectedMillis();
+        return item;
+    }
+}
@@ -0,0 +1,161 @@
+package launcher;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkQueueTest - Dealing, stealing, waiting for in-flight items and termination
+ */
+public class WorkQueueTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    // ==================== DEALING ====================
+
+    @Test(description = "Items are dealt longest first to the worker with the least expected work")
+    public void testLongestFirstDealing() throws InterruptedException {
+        // 600 -> w0; 300, 200, 100 -> w1 (each time lighter than 600); 50 -> w0 (tie, first worker)
+        WorkQueue queue = new WorkQueue(items(100, 600, 50, 300, 200), 2);
+
+        Assert.assertEquals(takeAll(queue, 1, 3), List.of(300L, 200L, 100L));
+        Assert.assertEquals(takeAll(queue, 0, 2), List.of(600L, 50L));
+        Assert.assertEquals(queue.getSteals(), 0);
+    }
+
+    @Test(description = "More workers than items leaves the extra deques empty")
+    public void testMoreWorkersThanItems() throws InterruptedException {
+        WorkQueue queue = new WorkQueue(items(100, 200), 4);
+
+        Assert.assertEquals(takeAll(queue, 0, 1), List.of(200L));
+        Assert.assertEquals(takeAll(queue, 1, 1), List.of(100L));
+        Assert.assertEquals(queue.getSteals(), 0);
+    }
+
+    // ==================== STEALING ====================
+
+    @Test(description = "An idle worker steals the shortest item from the tail of the busiest deque")
+    public void testStealsFromTailOfBusiest() throws InterruptedException {
+        // w0 [1000], w1 [400, 200] = 600, w2 [350, 300] = 650
+        WorkQueue queue = new WorkQueue(items(1000, 400, 350, 300, 200), 3);
+        Assert.assertEquals(takeAll(queue, 0, 1), List.of(1000L));
+
+        // w2 is busiest (650): its tail 300; then w1 (600 vs 350): its tail 200
+        Assert.assertEquals(takeAll(queue, 0, 2), List.of(300L, 200L));
+        Assert.assertEquals(queue.getSteals(), 2);
+
+        // Owners keep their heads
+        Assert.assertEquals(takeAll(queue, 1, 1), List.of(400L));
+        Assert.assertEquals(takeAll(queue, 2, 1), List.of(350L));
+    }
+
+    @Test(description = "Stealing follows expected work left, not item count")
+    public void testStealsByExpectedWork() throws InterruptedException {
+        // w0 [900], w1 [200, 90], w2 [150, 100]: w2 holds more items, w0 more work
+        WorkQueue queue = new WorkQueue(items(900, 200, 150, 100, 90), 3);
+        Assert.assertEquals(takeAll(queue, 1, 3), List.of(200L, 90L, 900L));
+        Assert.assertEquals(queue.getSteals(), 1);
+    }
+
+    // ==================== WAITING AND TERMINATION ====================
+
+    @Test(description = "take() blocks while an item is in flight and returns it once requeued", timeOut = 10_000)
+    public void testTakeWaitsForRequeue() throws Exception {
+        WorkQueue queue = new WorkQueue(items(100), 2);
+        WorkItem item = queue.take(0);
+
+        FutureTask<WorkItem> waiting = takeInBackground(queue, 1);
+        Assert.assertFalse(waiting.isDone(), "Nothing to take, but the item may come back");
+
+        // Worker 0 crashed: its item goes back to its own deque, worker 1 steals it
+        queue.requeue(item, 0);
+        WorkItem taken = waiting.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertSame(taken, item);
+        Assert.assertEquals(taken.getAttempts(), 2);
+    }
+
+    @Test(description = "Requeued item is the next one its worker takes")
+    public void testRequeueGoesFirst() throws InterruptedException {
+        WorkQueue queue = new WorkQueue(items(300, 200, 100), 1);
+        WorkItem first = queue.take(0);
+        queue.requeue(first, 0);
+
+        Assert.assertSame(queue.take(0), first);
+    }
+
+    @Test(description = "Blocked take() returns null once the last in-flight item finishes", timeOut = 10_000)
+    public void testTerminatesWhenNothingInFlight() throws Exception {
+        WorkQueue queue = new WorkQueue(items(100), 2);
+        WorkItem item = queue.take(0);
+
+        FutureTask<WorkItem> waiting = takeInBackground(queue, 1);
+        queue.finish(item);
+
+        Assert.assertNull(waiting.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertNull(queue.take(0), "Done queue answers at once");
+    }
+
+    @Test(description = "An empty queue is done immediately")
+    public void testEmptyQueue() throws InterruptedException {
+        Assert.assertNull(new WorkQueue(new ArrayList<>(), 2).take(0));
+    }
+
+    @Test(description = "drain() hands back the items nobody ran", timeOut = 10_000)
+    public void testDrain() throws Exception {
+        WorkQueue queue = new WorkQueue(items(300, 200, 100), 2);
+        WorkItem running = queue.take(0);
+
+        List<WorkItem> left = queue.drain();
+        Assert.assertEquals(left.size(), 2);
+        Assert.assertFalse(left.contains(running));
+
+        FutureTask<WorkItem> waiting = takeInBackground(queue, 1);
+        queue.finish(running);
+        Assert.assertNull(waiting.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    // ==================== HELPERS ====================
+
+    private static List<WorkItem> items(long... expectedMillis) {
+        List<WorkItem> items = new ArrayList<>();
+        for (int i = 0; i < expectedMillis.length; i++) {
+            items.add(new WorkItem(i, "Tests", "tests.SampleTest", "test" + i, "fake", expectedMillis[i]));
+        }
+        return items;
+    }
+
+    /**
+     * Take and finish count items as one worker
+     * @return their expected durations, in the order taken
+     */
+    private static List<Long> takeAll(WorkQueue queue, int worker, int count) throws InterruptedException {
+        List<Long> taken = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            WorkItem item = queue.take(worker);
+            Assert.assertNotNull(item, "worker " + worker + " expected an item");
+            taken.add(item.getExpectedMillis());
+            queue.finish(item);
+        }
+        return taken;
+    }
+
+    /**
+     * Call take() on another thread and return once it is blocked in it
+     */
+    private static FutureTask<WorkItem> takeInBackground(WorkQueue queue, int worker) throws InterruptedException {
+        FutureTask<WorkItem> task = new FutureTask<>(() -> queue.take(worker));
+        Thread thread = new Thread(task, "work-queue-test-" + worker);
+        thread.setDaemon(true);
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (thread.getState() != Thread.State.WAITING && !task.isDone()) {
+            Assert.assertTrue(System.nanoTime() < deadline, "take() neither returned nor blocked");
+            Thread.sleep(10);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,178 @@
+package launcher;
+
+import org.testng.IConfigurable;
+import org.testng.IConfigureCallBack;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import utils.LogUtil;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * WorkerHooks - Suite lifecycle of a forked worker JVM
+ *
+ * Purpose: A worker runs every item as its own one-method TestNG suite, so
+ *          left alone TestNG would run @BeforeSuite/@AfterSuite and the suite
+ *          listeners' onStart/onFinish(ISuite) around every method - tearing
+ *          down browser pools and writing reports and histories per method.
+ *          These hooks make the worker JVM the suite instead:
+ *  - @BeforeSuite methods run the first time they come up, then are skipped
+ *  - @AfterSuite methods are skipped and run once by finish(), on the last
+ *    test instance TestNG handed them
+ *  - Suite listeners (the suite file's <listeners>) are created once and
+ *    shared by every run; their onStart(ISuite) sees the first item's suite,
+ *    onFinish(ISuite) the last one's, called by finish() after @AfterSuite
+ *
+ * A worker that crashes never reaches finish(); the launcher re-queues its
+ * method and the next worker generation starts its own suite.
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+final class WorkerHooks implements IConfigurable, ISuiteListener {
+
+    /**
+     * Deferred @AfterSuite call
+     */
+    private static final class AfterSuite {
+        private final Object instance;
+        private final Object[] parameters;
+
+        private AfterSuite(Object instance, Object[] parameters) {
+            this.instance = instance;
+            this.parameters = parameters;
+        }
+    }
+
+    private final List<ITestNGListener> listeners = new ArrayList<>();
+    private final List<ISuiteListener> suiteListeners = new ArrayList<>();
+    private final Set<Method> beforeSuiteDone = new HashSet<>();
+    private final Map<Method, AfterSuite> afterSuite = new LinkedHashMap<>();
+    private ISuite lastSuite;
+
+    /**
+     * Create the suite file's listeners
+     * @param listenerClasses class names from the suite's <listeners>
+     */
+    WorkerHooks(List<String> listenerClasses) {
+        Set<Class<?>> registered = new HashSet<>();
+        for (String className : listenerClasses) {
+            ITestNGListener listener = instantiate(className);
+            if (listener instanceof ISuiteListener) {
+                suiteListeners.add((ISuiteListener) listener);
+                listener = withoutSuiteEvents(listener);
+            }
+            // TestNG keeps one listener per class; a proxy class is shared by equal interface lists
+            if (!registered.add(listener.getClass())) {
+                LogUtil.warn("Forked worker: listener " + className + " has the same interfaces as an " +
+                             "earlier suite listener and is not registered");
+                continue;
+            }
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Register the hooks and the shared listeners with one item's run
+     */
+    void attachTo(TestNG testng) {
+        testng.addListener(this);
+        listeners.forEach(testng::addListener);
+    }
+
+    // ==================== CONFIGURATION METHODS ====================
+
+    @Override
+    public void run(IConfigureCallBack callBack, ITestResult testResult) {
+        ITestNGMethod method = testResult.getMethod();
+        Method javaMethod = method.getConstructorOrMethod().getMethod();
+        if (method.isBeforeSuiteConfiguration() && !beforeSuiteDone.add(javaMethod)) {
+            // Already ran in this JVM; TestNG wants a status for a callback not invoked
+            testResult.setStatus(ITestResult.SUCCESS);
+            return;
+        }
+        if (method.isAfterSuiteConfiguration()) {
+            afterSuite.put(javaMethod, new AfterSuite(testResult.getInstance(), testResult.getParameters()));
+            testResult.setStatus(ITestResult.SUCCESS);
+            return;
+        }
+        callBack.runConfigurationMethod(testResult);
+    }
+
+    // ==================== SUITE EVENTS ====================
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (lastSuite == null) {
+            suiteListeners.forEach(listener -> listener.onStart(suite));
+        }
+        lastSuite = suite;
+    }
+
+    /**
+     * End the worker's suite: run the deferred @AfterSuite methods, then the
+     * suite listeners' onFinish
+     */
+    void finish() {
+        afterSuite.forEach((method, call) -> {
+            try {
+                method.setAccessible(true);
+                method.invoke(call.instance, call.parameters);
+            } catch (InvocationTargetException e) {
+                LogUtil.error("@AfterSuite " + method.getName() + " failed", e.getCause());
+            } catch (ReflectiveOperationException e) {
+                LogUtil.error("@AfterSuite " + method.getName() + " could not run", e);
+            }
+        });
+        if (lastSuite != null) {
+            suiteListeners.forEach(listener -> listener.onFinish(lastSuite));
+        }
+    }
+
+    // ==================== LISTENERS ====================
+
+    private static ITestNGListener instantiate(String className) {
+        try {
+            return (ITestNGListener) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Cannot create suite listener " + className, e);
+        }
+    }
+
+    /**
+     * The listener with every interface but ISuiteListener, so TestNG does not
+     * send it the per-item suite events
+     */
+    private static ITestNGListener withoutSuiteEvents(ITestNGListener listener) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = listener.getClass(); type != null; type = type.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        interfaces.remove(ISuiteListener.class);
+        interfaces.add(ITestNGListener.class);
+        InvocationHandler forward = (proxy, method, args) -> {
+            try {
+                return method.invoke(listener, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (ITestNGListener) Proxy.newProxyInstance(listener.getClass().getClassLoader(),
+                                                        interfaces.toArray(new Class<?>[0]), forward);
+    }
+}
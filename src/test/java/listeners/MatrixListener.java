@@ -0,0 +1,87 @@
+package listeners;
+
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.ConfigReader;
+import utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MatrixListener - Fans each <test> out across the browser matrix
+ *
+ * Purpose: Replace copy-pasted <test> blocks per browser with one test
+ *          definition that runs concurrently on every matrix target
+ * Implements: IAlterSuiteListener (runs before TestNG builds the suite)
+ *
+ * For every <test> without its own "browser" parameter, one copy per
+ * target in matrix.browsers is created with browser / browserVersion /
+ * viewport parameters, which BaseTest passes straight to DriverManager.
+ * The suite is switched to parallel="tests" with enough threads for all
+ * copies; matrix.limits then caps sessions per browser.
+ *
+ * Usage: add to <listeners> in the suite XML and set matrix.enabled=true
+ *
+ * @author Automation Team
+ * @version 1.0
+ */
+public class MatrixListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ConfigReader.isMatrixEnabled()) {
+            return;
+        }
+        List<BrowserTarget> targets = BrowserMatrix.getTargets();
+        if (targets.isEmpty()) {
+            LogUtil.warn("Matrix mode enabled but matrix.browsers is empty");
+            return;
+        }
+
+        for (XmlSuite suite : suites) {
+            List<XmlTest> original = new ArrayList<>(suite.getTests());
+            List<XmlTest> expanded = new ArrayList<>();
+
+            for (XmlTest xmlTest : original) {
+                // A <test> pinned to a browser in the XML is left as is
+                if (xmlTest.getLocalParameters().containsKey(BrowserMatrix.BROWSER_PARAM)) {
+                    expanded.add(xmlTest);
+                    continue;
+                }
+                for (BrowserTarget target : targets) {
+                    expanded.add(copyFor(xmlTest, target));
+                }
+            }
+
+            // XmlTest.clone() registers each copy with the suite; replace the whole list
+            suite.setTests(expanded);
+
+            if (suite.getParallel() == null || !suite.getParallel().isParallel()) {
+                suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            }
+            suite.setThreadCount(Math.max(suite.getThreadCount(), expanded.size()));
+
+            LogUtil.info("Matrix expanded suite '" + suite.getName() + "': " + original.size() +
+                         " test(s) x " + targets.size() + " target(s) = " + expanded.size() +
+                         " test(s), " + suite.getThreadCount() + " thread(s)");
+        }
+    }
+
+    private XmlTest copyFor(XmlTest xmlTest, BrowserTarget target) {
+        XmlTest copy = (XmlTest) xmlTest.clone();
+        copy.setName(xmlTest.getName() + " [" + target.getLabel() + "]");
+
+        Map<String, String> parameters = new HashMap<>(xmlTest.getLocalParameters());
+        parameters.put(BrowserMatrix.BROWSER_PARAM, target.getBrowser());
+        parameters.put(BrowserMatrix.VERSION_PARAM, target.getVersion());
+        parameters.put(BrowserMatrix.VIEWPORT_PARAM, target.getViewport());
+        copy.setParameters(parameters);
+        return copy;
+    }
+}
@@ -1,5 +1,6 @@
 package listeners;
 
+import metrics.FrameworkMetrics;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 import utils.ConfigReader;
@@ -48,6 +49,7 @@ public class RetryAnalyzer implements IRetryAnalyzer {
                 
                 // Mark test as failed for this attempt
                 result.setStatus(ITestResult.FAILURE);
+                FrameworkMetrics.TESTS_RETRIED.inc();
                 
                 return true; // Retry the test
             } else {
@@ -1,20 +1,52 @@
 package listeners;
 
+import admission.AdmissionReport;
+import browserlogs.BrowserLogCapture;
+import browserlogs.HarSummary;
+import capacity.CapacityPlanner;
+import capacity.DurationHistory;
+import capacity.ScalingPlan;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
+import constants.FrameworkConstants;
+import healing.HealingReport;
+import healing.HealingStore;
+import locators.LocatorReport;
+import matrix.BrowserMatrix;
+import matrix.BrowserTarget;
+import matrix.MatrixResults;
+import metrics.FrameworkMetrics;
+import metrics.PhaseTimer;
+import metrics.PhaseTimingReport;
 import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import recording.FailureRecorder;
+import registry.LeakReport;
+import results.ShardResults;
+import testlogs.LogBuffer;
+import testlogs.TestLogs;
 import reports.ExtentReportManager;
 import utils.ConfigReader;
+import utils.ExecutionEvents;
 import utils.LogUtil;
 import utils.ScreenshotUtil;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * TestListener - TestNG listener for Extent Reports
@@ -25,7 +57,7 @@ import java.util.Arrays;
  * @author Automation Team
  * @version 2.0
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     
     private static ExtentReports extent;
     private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
@@ -62,6 +94,11 @@ public class TestListener implements ITestListener {
         
         test.set(extentTest);
         
+        // Tag matrix cell so per-browser results can be filtered in the report
+        if (ConfigReader.isMatrixEnabled()) {
+            extentTest.assignDevice(getTarget(result).getLabel());
+        }
+        
         // Assign categories/groups if any
         String[] groups = result.getMethod().getGroups();
         if (groups.length > 0) {
@@ -73,6 +110,7 @@ public class TestListener implements ITestListener {
         // Log test start
         test.get().info("Test Started: " + testName);
         LogUtil.logTestStart(testName);
+        FrameworkMetrics.TESTS_STARTED.inc();
     }
     
     /**
@@ -81,6 +119,7 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         String testName = result.getMethod().getMethodName();
+        recordTestBody(result);
         
         // Log success in Extent Report
         test.get().log(Status.PASS, 
@@ -92,6 +131,8 @@ public class TestListener implements ITestListener {
         }
         
         LogUtil.logTestPass(testName);
+        FrameworkMetrics.TESTS_PASSED.inc();
+        recordResult(result, MatrixResults.PASS);
     }
     
     /**
@@ -101,6 +142,7 @@ public class TestListener implements ITestListener {
     public void onTestFailure(ITestResult result) {
         String testName = result.getMethod().getMethodName();
         Throwable throwable = result.getThrowable();
+        recordTestBody(result);
         
         // Log failure in Extent Report
         test.get().log(Status.FAIL, 
@@ -114,6 +156,11 @@ public class TestListener implements ITestListener {
         
         // Capture screenshot on failure
         captureScreenshot(result, "FAIL");
+        attachFailureReplay(result);
+        attachBrowserLogs(result);
+        attachTestLog();
+        FrameworkMetrics.TESTS_FAILED.inc();
+        recordResult(result, MatrixResults.FAIL);
     }
     
     /**
@@ -134,6 +181,8 @@ public class TestListener implements ITestListener {
         } else {
             LogUtil.logTestSkip(testName, "Test was skipped");
         }
+        FrameworkMetrics.TESTS_SKIPPED.inc();
+        recordResult(result, MatrixResults.SKIP);
     }
     
     /**
@@ -167,6 +216,128 @@ public class TestListener implements ITestListener {
         }
     }
     
+    /**
+     * Called before any test of the suite runs
+     * Plans Grid capacity for the suite and warns if the Grid is too small
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        try {
+            ScalingPlan plan = CapacityPlanner.plan(getDemand(suite));
+            CapacityPlanner.checkGrid(plan);
+            plan.write(FrameworkConstants.CAPACITY_PATH);
+        } catch (RuntimeException e) {
+            LogUtil.warn("Capacity planning failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Called after all tests of the suite have finished
+     * Adds suite-level performance sections and flushes the report
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationHistory.save();
+        ShardResults.write();
+        HealingStore.save();
+        PhaseTimingReport.attachTo(extent);
+        MatrixResults.attachTo(extent);
+        CapacityPlanner.attachTo(extent);
+        AdmissionReport.attachTo(extent);
+        LeakReport.attachTo(extent);
+        LocatorReport.attachTo(extent);
+        HealingReport.attachTo(extent);
+        
+        if (extent != null) {
+            extent.flush();
+        }
+    }
+    
+    /**
+     * Record test method duration as the test body phase
+     */
+    private void recordTestBody(ITestResult result) {
+        PhaseTimer.recordMillis(PhaseTimer.Phase.TEST_BODY, 
+            result.getEndMillis() - result.getStartMillis());
+    }
+    
+    /**
+     * Browser target the test ran on, from its <test> parameters
+     */
+    private BrowserTarget getTarget(ITestResult result) {
+        return BrowserTarget.fromParameters(
+            result.getTestContext().getCurrentXmlTest().getAllParameters());
+    }
+    
+    /**
+     * Aggregate outcome per browser matrix target, emit it as an execution
+     * event and keep it for this JVM's shard result file
+     */
+    private void recordResult(ITestResult result, String status) {
+        BrowserTarget target = getTarget(result);
+        String testName = result.getTestClass().getRealClass().getSimpleName() + "." + 
+            result.getMethod().getMethodName();
+        long duration = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        MatrixResults.record(target, testName, status, duration);
+        ExecutionEvents.outcome(testName, status, duration);
+        Throwable throwable = result.getThrowable();
+        ShardResults.record(testName, 
+            result.getParameters().length > 0 ? Arrays.deepToString(result.getParameters()) : "",
+            target.getLabel(), status, result.wasRetried(), result.getStartMillis(), duration,
+            throwable == null ? null : throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+        
+        // Skipped tests say nothing about how long the test takes
+        if (!MatrixResults.SKIP.equals(status)) {
+            DurationHistory.record(target.getBrowser(), testName, duration);
+        }
+    }
+    
+    /**
+     * Tests and the most concurrent sessions TestNG will open, per browser
+     */
+    private Map<String, CapacityPlanner.Demand> getDemand(ISuite suite) {
+        Map<String, CapacityPlanner.Demand> demand = new LinkedHashMap<>();
+        Map<String, List<Integer>> testConcurrency = new LinkedHashMap<>();
+        Map<XmlTest, Integer> methodsPerTest = new LinkedHashMap<>();
+        
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            XmlTest xmlTest = method.getXmlTest();
+            String browser = BrowserTarget.fromParameters(xmlTest.getAllParameters()).getBrowser();
+            String testName = method.getRealClass().getSimpleName() + "." + method.getMethodName();
+            CapacityPlanner.Demand browserDemand = 
+                demand.computeIfAbsent(browser, CapacityPlanner.Demand::new);
+            for (int i = 0; i < Math.max(1, method.getInvocationCount()); i++) {
+                browserDemand.addTest(testName);
+            }
+            methodsPerTest.merge(xmlTest, 1, Integer::sum);
+        }
+        
+        // A <test> runs min(thread-count, methods) sessions at once if parallel, else one
+        for (Map.Entry<XmlTest, Integer> entry : methodsPerTest.entrySet()) {
+            XmlTest xmlTest = entry.getKey();
+            int concurrency = xmlTest.getParallel().isParallel() && 
+                xmlTest.getParallel() != XmlSuite.ParallelMode.TESTS
+                ? Math.min(xmlTest.getThreadCount(), entry.getValue()) : 1;
+            String browser = BrowserTarget.fromParameters(xmlTest.getAllParameters()).getBrowser();
+            testConcurrency.computeIfAbsent(browser, key -> new ArrayList<>()).add(concurrency);
+        }
+        
+        // parallel="tests" runs up to thread-count <test>s side by side, otherwise one at a time
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        int testsAtOnce = xmlSuite.getParallel() == XmlSuite.ParallelMode.TESTS ? xmlSuite.getThreadCount() : 1;
+        for (Map.Entry<String, List<Integer>> entry : testConcurrency.entrySet()) {
+            List<Integer> concurrency = entry.getValue();
+            concurrency.sort(Collections.reverseOrder());
+            int parallelism = 0;
+            for (int i = 0; i < Math.min(testsAtOnce, concurrency.size()); i++) {
+                parallelism += concurrency.get(i);
+            }
+            int limit = BrowserMatrix.getLimit(entry.getKey());
+            demand.get(entry.getKey()).setParallelism(limit > 0 ? Math.min(limit, parallelism) : parallelism);
+        }
+        return demand;
+    }
+    
     /**
      * Capture screenshot and attach to report
      */
@@ -177,10 +348,12 @@ public class TestListener implements ITestListener {
             WebDriver driver = getDriverFromTestInstance(testInstance);
             
             if (driver != null) {
+                long phaseStart = PhaseTimer.start();
                 String screenshotPath = ScreenshotUtil.captureScreenshot(
                     driver, 
                     result.getMethod().getMethodName() + "_" + status
                 );
+                PhaseTimer.record(PhaseTimer.Phase.SCREENSHOT, phaseStart);
                 
                 // Attach screenshot to Extent Report
                 test.get().addScreenCaptureFromPath(screenshotPath);
@@ -191,6 +364,45 @@ public class TestListener implements ITestListener {
         }
     }
     
+    /**
+     * Attach console errors and failed requests captured before the failure
+     */
+    private void attachBrowserLogs(ITestResult result) {
+        HarSummary summary = BrowserLogCapture.summarize();
+        if (summary == null || summary.isEmpty()) {
+            return;
+        }
+        String path = summary.write(result.getMethod().getMethodName() + "_FAIL");
+        test.get().info(summary.toHtml() + (path == null ? "" : "<br>Full summary: " + path));
+    }
+    
+    /**
+     * Attach the failed test's own log lines (parallel tests' lines left out)
+     */
+    private void attachTestLog() {
+        LogBuffer log = TestLogs.collect();
+        if (log != null) {
+            test.get().info(log.toHtml());
+        }
+    }
+    
+    /**
+     * Attach the buffered frames before the failure as an animated GIF
+     */
+    private void attachFailureReplay(ITestResult result) {
+        long phaseStart = PhaseTimer.start();
+        String replayPath = FailureRecorder.saveFailure(result.getMethod().getMethodName() + "_FAIL");
+        if (replayPath == null) {
+            return;
+        }
+        PhaseTimer.record(PhaseTimer.Phase.SCREENSHOT, phaseStart);
+        try {
+            test.get().addScreenCaptureFromPath(replayPath, "Replay before failure");
+        } catch (Exception e) {
+            LogUtil.warn("Failed to attach failure replay: " + e.getMessage());
+        }
+    }
+    
     /**
      * Get WebDriver instance from test class
      * Assumes test class has a getDriver() method or driver field
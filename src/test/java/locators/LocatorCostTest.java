@@ -0,0 +1,187 @@
+package locators;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * LocatorCostTest - XPath to CSS translation, cost ranking and validation
+ */
+public class LocatorCostTest {
+
+    // ==================== XPATH TO CSS ====================
+
+    @DataProvider(name = "translations")
+    public Object[][] translations() {
+        return new Object[][]{
+            {"//div", "div"},
+            {"//*", "*"},
+            {"//*[@id='main']", "#main"},
+            {"//input[@id='user-name']", "input#user-name"},
+            {"//input[@id=\"password\"]", "input#password"},
+            {"//div[@id='1st']", "div[id='1st']"},
+            {"//div[@id='two words']", "div[id='two words']"},
+            {"//input[@name='q']", "input[name='q']"},
+            {"//input[ @type = 'submit' ]", "input[type='submit']"},
+            {"//a[@href]", "a[href]"},
+            {"//div[contains(@class,'btn')]", "div[class*='btn']"},
+            {"//a[starts-with(@href, 'https:')]", "a[href^='https:']"},
+            {"//div[contains(concat(' ', normalize-space(@class), ' '), ' inventory_item ')]", "div.inventory_item"},
+            {"//div[@data-test=\"it's\"]", "div[data-test=\"it's\"]"},
+            {"//button[@type='submit' and @id='login']", "button#login[type='submit']"},
+            {"//input[@type='text'][@name='q']", "input[type='text'][name='q']"},
+            {"//form/input", "form > input"},
+            {"//div//span/a", "div span > a"},
+            {"//ul[@id='menu']/li[@class='item']//a", "ul#menu > li[class='item'] a"},
+            {"//div[@title='a/b']/span", "div[title='a/b'] > span"},
+        };
+    }
+
+    @Test(dataProvider = "translations", description = "Simple XPath translates to the exact CSS equivalent")
+    public void testTranslates(String xpath, String css) {
+        Assert.assertEquals(LocatorCost.suggestCss("xpath", xpath), css, xpath);
+    }
+
+    @DataProvider(name = "untranslatable")
+    public Object[][] untranslatable() {
+        return new Object[][]{
+            // Not document-wide
+            {"/html/body/div"},
+            {"div/span"},
+            {"./div"},
+            {"(//div)[2]"},
+            // Positions, text and functions CSS cannot express exactly
+            {"//div[1]"},
+            {"//li[last()]"},
+            {"//a[text()='Logout']"},
+            {"//a[normalize-space()='Logout']"},
+            {"//div[contains(text(),'Epic')]"},
+            {"//div[contains(@class,'')]"},
+            {"//div[not(@hidden)]"},
+            {"//div[@id='a' or @id='b']"},
+            {"//div[@id='a'][@id='b']"},
+            {"//div[@title='a\\b']"},
+            // Axes, attributes and qualified names as steps
+            {"//h3/.."},
+            {"//a/@href"},
+            {"//div/following-sibling::p"},
+            {"//input/ancestor::form"},
+            {"//svg:path"},
+            // Malformed
+            {"//div[@id='x'"},
+            {"//div/"},
+        };
+    }
+
+    @Test(dataProvider = "untranslatable", description = "XPath without an exact CSS form gets no suggestion")
+    public void testDoesNotTranslate(String xpath) {
+        Assert.assertNull(LocatorCost.suggestCss("xpath", xpath), xpath);
+    }
+
+    @Test(description = "Only XPath locators get CSS suggestions")
+    public void testSuggestsOnlyForXPath() {
+        Assert.assertNull(LocatorCost.suggestCss("css selector", "div"));
+        Assert.assertNull(LocatorCost.suggestCss("id", "main"));
+    }
+
+    // ==================== COST ====================
+
+    @DataProvider(name = "costs")
+    public Object[][] costs() {
+        return new Object[][]{
+            {By.id("user-name"), 1},
+            {By.name("q"), 2},
+            {By.cssSelector("#main .item"), 2},
+            {By.cssSelector("[data-test='login']"), 3},
+            {By.cssSelector("*[class*='btn']"), 4},
+            {By.className("item"), 3},
+            {By.tagName("input"), 3},
+            {By.linkText("Logout"), 5},
+            {By.partialLinkText("Log"), 6},
+            {By.xpath("id('main')/div"), 5},
+            {By.xpath("//div"), 6},
+            {By.xpath("//div[@id='x']"), 6},
+            {By.xpath("//li[2]"), 7},
+            {By.xpath("//div[contains(@class,'btn')]"), 7},
+            {By.xpath("//a[text()='Logout']"), 8},
+            {By.xpath("//div[contains(text(),'Epic')]"), 9},
+            {By.xpath("//input/ancestor::form[1]"), 9},
+            {By.xpath("(//div[contains(normalize-space(text()),'x')]/preceding-sibling::p)[last()]"), 10},
+        };
+    }
+
+    @Test(dataProvider = "costs", description = "Cost of each strategy and XPath feature")
+    public void testScore(By by, int cost) {
+        String[] strategy = LocatorCost.strategy(by);
+        Assert.assertEquals(LocatorCost.score(strategy[0], strategy[1]), cost, by.toString());
+    }
+
+    @Test(description = "Native strategies rank below script-evaluated ones")
+    public void testRanking() {
+        String[][] cheapestFirst = {
+            {"id", "main"}, {"name", "q"}, {"class name", "item"}, {"link text", "Logout"},
+            {"xpath", "//div"}, {"xpath", "//div[text()='x']"}, {"other", "chained"}
+        };
+        for (int i = 1; i < cheapestFirst.length; i++) {
+            int cheaper = LocatorCost.score(cheapestFirst[i - 1][0], cheapestFirst[i - 1][1]);
+            int dearer = LocatorCost.score(cheapestFirst[i][0], cheapestFirst[i][1]);
+            Assert.assertTrue(cheaper < dearer, cheapestFirst[i - 1][0] + " (" + cheaper + ") should rank below " +
+                                                cheapestFirst[i][0] + " " + cheapestFirst[i][1] + " (" + dearer + ")");
+        }
+        Assert.assertEquals(LocatorCost.score("other", "chained"), LocatorCost.MAX_COST);
+    }
+
+    @Test(description = "A suggested CSS selector costs less than its XPath")
+    public void testSuggestionIsCheaper() {
+        for (Object[] row : translations()) {
+            String xpath = (String) row[0];
+            String css = (String) row[1];
+            Assert.assertTrue(LocatorCost.score("css selector", css) < LocatorCost.score("xpath", xpath), xpath);
+        }
+    }
+
+    @Test(description = "Cost bands")
+    public void testBand() {
+        Assert.assertEquals(LocatorCost.band(1), "fast");
+        Assert.assertEquals(LocatorCost.band(2), "fast");
+        Assert.assertEquals(LocatorCost.band(3), "moderate");
+        Assert.assertEquals(LocatorCost.band(4), "moderate");
+        Assert.assertEquals(LocatorCost.band(5), "slow");
+        Assert.assertEquals(LocatorCost.band(LocatorCost.MAX_COST), "slow");
+    }
+
+    // ==================== VALIDATION ====================
+
+    @DataProvider(name = "validation")
+    public Object[][] validation() {
+        return new Object[][]{
+            // Selenium's By.className rejects compound names itself; page objects may bypass it
+            {"id", "main", true},
+            {"class name", "inventory_item", true},
+            {"class name", "btn btn-primary", false},
+            {"xpath", "//div[@id='x']", true},
+            {"xpath", "//div[@id='x'", false},
+            {"xpath", "//div[text()='x']]", false},
+            {"css selector", "div[data-test='a]b']", true},
+            {"css selector", "div[data-test='x'", false},
+            {"css selector", "div:not(.a))", false},
+            {"css selector", "div[title='open", false},
+            {"css selector", " ", false},
+            {"other", "", true},
+        };
+    }
+
+    @Test(dataProvider = "validation", description = "Malformed locators are reported")
+    public void testValidate(String using, String value, boolean valid) {
+        String problem = LocatorCost.validate(using, value);
+        Assert.assertEquals(problem == null, valid, using + " '" + value + "' -> " + problem);
+    }
+
+    @Test(description = "Strategy and value are split from the locator")
+    public void testStrategy() {
+        Assert.assertEquals(LocatorCost.strategy(By.cssSelector("a > b")), new String[]{"css selector", "a > b"});
+        Assert.assertEquals(LocatorCost.strategy(By.partialLinkText("Log")), new String[]{"partial link text", "Log"});
+        Assert.assertEquals(LocatorCost.strategy(By.xpath("//a"))[0], "xpath");
+    }
+}
@@ -0,0 +1,275 @@
+package results;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ResultMergerTest - k-way merge of shard files, incomplete files and retries
+ */
+public class ResultMergerTest {
+
+    private Path dir;
+    private File output;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("result-merger");
+        output = dir.resolve("merged").toFile();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    // ==================== ORDERING ====================
+
+    @Test(description = "Records of all shards come out sorted by test, then start time")
+    public void testOrderingAcrossShards() throws IOException {
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"), record("T.c", "PASS", 30, "shard-a"));
+        File b = shard("shard-b", record("T.b", "PASS", 5, "shard-b"), record("T.c", "FAIL", 20, "shard-b"),
+                       record("T.d", "SKIP", 1, "shard-b"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(a, b), output);
+
+        Assert.assertEquals(mergedRecords(), List.of("T.a@10", "T.b@5", "T.c@20", "T.c@30", "T.d@1"));
+        Assert.assertEquals(summary.getShardCount(), 2);
+        Assert.assertEquals(summary.getAttempts(), 5);
+        Assert.assertEquals(summary.getTests(), 4);
+        Assert.assertEquals(summary.getPassed(), 3, "T.c's latest attempt passed");
+        Assert.assertEquals(summary.getSkipped(), 1);
+    }
+
+    @Test(description = "Attempts starting at the same time are ordered by shard id")
+    public void testTiesOrderedByShard() throws IOException {
+        File b = shard("shard-b", record("T.a", "PASS", 10, "shard-b"));
+        File a = shard("shard-a", record("T.a", "FAIL", 10, "shard-a"));
+
+        ResultMerger.merge(List.of(b, a), output);
+
+        List<Map<String, Object>> merged = readMerged();
+        Assert.assertEquals(merged.get(1).get("shard"), "shard-a");
+        Assert.assertEquals(merged.get(2).get("shard"), "shard-b");
+    }
+
+    @Test(description = "A merged file is itself a shard file and merges to the same records")
+    public void testMergedFileMergesAgain() throws IOException {
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"), record("T.b", "PASS", 20, "shard-a"));
+        File b = shard("shard-b", record("T.a", "PASS", 15, "shard-b"));
+        ResultMerger.merge(List.of(a, b), output);
+        List<String> once = mergedRecords();
+
+        File first = new File(output, ResultMerger.MERGED_FILE);
+        File copy = dir.resolve("first" + ShardResults.FILE_SUFFIX).toFile();
+        Files.copy(first.toPath(), copy.toPath());
+        MergeSummary again = ResultMerger.merge(List.of(copy), output);
+
+        Assert.assertEquals(mergedRecords(), once);
+        Assert.assertEquals(again.getTests(), 2);
+    }
+
+    @Test(description = "No shard files in the inputs is an error", expectedExceptions = IOException.class)
+    public void testDirectoryWithoutShardFiles() throws IOException {
+        ResultMerger.merge(List.of(dir.toFile()), output);
+    }
+
+    @Test(description = "Out-of-order records fail the merge", expectedExceptions = IllegalStateException.class,
+          expectedExceptionsMessageRegExp = ".*not sorted.*")
+    public void testUnsortedShardFails() throws IOException {
+        File a = shard("shard-a", record("T.b", "PASS", 10, "shard-a"), record("T.a", "PASS", 20, "shard-a"));
+        ResultMerger.merge(List.of(a), output);
+    }
+
+    // ==================== INCOMPLETE FILES ====================
+
+    @Test(description = "An empty shard file is skipped")
+    public void testEmptyShardSkipped() throws IOException {
+        File empty = dir.resolve("empty" + ShardResults.FILE_SUFFIX).toFile();
+        Files.write(empty.toPath(), new byte[0]);
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(empty, a), output);
+
+        Assert.assertEquals(summary.getShardCount(), 1);
+        Assert.assertEquals(summary.getTests(), 1);
+    }
+
+    @Test(description = "A shard without results merges as an empty shard")
+    public void testHeaderOnlyShard() throws IOException {
+        File none = shard("shard-none");
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(none, a), output);
+
+        Assert.assertEquals(summary.getShardCount(), 2);
+        Assert.assertEquals(summary.getAttempts(), 1);
+    }
+
+    @Test(description = "A file cut off inside its header is skipped")
+    public void testTruncatedHeaderSkipped() throws IOException {
+        File cut = dir.resolve("cut" + ShardResults.FILE_SUFFIX).toFile();
+        Files.write(cut.toPath(), "{\"format\":\"automation-res".getBytes(StandardCharsets.UTF_8));
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(a, cut), output);
+
+        Assert.assertEquals(summary.getShardCount(), 1);
+        Assert.assertEquals(mergedRecords(), List.of("T.a@10"));
+    }
+
+    @Test(description = "A last record cut off mid-write is dropped, the records before it kept")
+    public void testTruncatedLastRecordSkipped() throws IOException {
+        File a = shard("shard-a", record("T.a", "PASS", 10, "shard-a"), record("T.b", "PASS", 20, "shard-a"),
+                       record("T.c", "PASS", 30, "shard-a"));
+        String text = new String(Files.readAllBytes(a.toPath()), StandardCharsets.UTF_8);
+        Files.write(a.toPath(), text.substring(0, text.length() - 20).getBytes(StandardCharsets.UTF_8));
+        File b = shard("shard-b", record("T.d", "PASS", 5, "shard-b"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(a, b), output);
+
+        Assert.assertEquals(mergedRecords(), List.of("T.a@10", "T.b@20", "T.d@5"));
+        Assert.assertEquals(summary.getAttempts(), 3);
+    }
+
+    @Test(description = "A malformed record before the end fails the merge with its file and line",
+          expectedExceptions = IllegalStateException.class,
+          expectedExceptionsMessageRegExp = ".*broken\\.results\\.jsonl:3: .*")
+    public void testMalformedRecordFails() throws IOException {
+        File broken = dir.resolve("broken" + ShardResults.FILE_SUFFIX).toFile();
+        try (Writer writer = Files.newBufferedWriter(broken.toPath(), StandardCharsets.UTF_8)) {
+            JsonLines.write(writer, header("broken", 3));
+            JsonLines.write(writer, record("T.a", "PASS", 10, "broken").toMap());
+            writer.write("{not json\n");
+            JsonLines.write(writer, record("T.c", "PASS", 30, "broken").toMap());
+        }
+        ResultMerger.merge(List.of(broken), output);
+    }
+
+    @Test(description = "A file without the shard header is rejected",
+          expectedExceptions = IllegalStateException.class,
+          expectedExceptionsMessageRegExp = ".*not a shard result file.*")
+    public void testForeignFileFails() throws IOException {
+        File foreign = dir.resolve("foreign" + ShardResults.FILE_SUFFIX).toFile();
+        Files.write(foreign.toPath(), "{\"format\":\"other\"}\n{}\n".getBytes(StandardCharsets.UTF_8));
+        ResultMerger.merge(List.of(foreign), output);
+    }
+
+    // ==================== RETRIES ====================
+
+    @Test(description = "A test retried on another shard is one flaky test with two attempts")
+    public void testRetryOnAnotherShard() throws IOException {
+        File a = shard("shard-a", retried(record("T.a", "FAIL", 10, "shard-a")));
+        File b = shard("shard-b", record("T.a", "PASS", 20, "shard-b"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(a, b), output);
+
+        Assert.assertEquals(summary.getTests(), 1);
+        Assert.assertEquals(summary.getAttempts(), 2);
+        Assert.assertEquals(summary.getPassed(), 1, "Latest attempt decides the status");
+        Assert.assertEquals(summary.getFailed(), 0);
+        Assert.assertEquals(summary.getFlaky(), 1);
+        Assert.assertEquals(summary.toMap().get("flakyTests"), List.of("T.a||fake"));
+    }
+
+    @Test(description = "A test failing every attempt is failed, not flaky")
+    public void testRetryFailingAgain() throws IOException {
+        File a = shard("shard-a", retried(record("T.a", "FAIL", 10, "shard-a")), record("T.a", "FAIL", 20, "shard-a"));
+
+        MergeSummary summary = ResultMerger.merge(List.of(a), output);
+
+        Assert.assertEquals(summary.getTests(), 1);
+        Assert.assertEquals(summary.getFailed(), 1);
+        Assert.assertEquals(summary.getFlaky(), 0);
+    }
+
+    @Test(description = "The same test on other parameters or browsers is a separate test")
+    public void testKeyIncludesParamsAndBrowser() throws IOException {
+        // Written in key order ("T.a|user=x|chrome" sorts before "T.a||chrome")
+        File a = shard("shard-a",
+                       new ResultRecord("T.a", "user=x", "chrome", "PASS", false, 10, 100, "shard-a", null),
+                       new ResultRecord("T.a", "", "chrome", "PASS", false, 10, 100, "shard-a", null),
+                       new ResultRecord("T.a", "", "firefox", "PASS", false, 10, 100, "shard-a", null));
+
+        Assert.assertEquals(ResultMerger.merge(List.of(a), output).getTests(), 3);
+    }
+
+    // ==================== HELPERS ====================
+
+    private static ResultRecord record(String test, String status, long start, String shard) {
+        return new ResultRecord(test, "", "fake", status, false, start, 100, shard,
+                                "FAIL".equals(status) ? "AssertionError: expected" : null);
+    }
+
+    private static ResultRecord retried(ResultRecord record) {
+        return new ResultRecord(record.getTest(), record.getParams(), record.getBrowser(), record.getStatus(), true,
+                                record.getStartMillis(), record.getDurationMillis(), record.getShard(),
+                                record.getError());
+    }
+
+    private static Map<String, Object> header(String shard, int records) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("format", ShardResults.FORMAT);
+        header.put("version", ShardResults.VERSION);
+        header.put("shard", shard);
+        header.put("host", "localhost");
+        header.put("started", 1);
+        header.put("finished", 2);
+        header.put("records", records);
+        return header;
+    }
+
+    /**
+     * Write a shard file the way ShardResults does (records in the given order)
+     */
+    private File shard(String id, ResultRecord... records) throws IOException {
+        File file = dir.resolve(ShardResults.fileName(id)).toFile();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            JsonLines.write(writer, header(id, records.length));
+            for (ResultRecord record : records) {
+                JsonLines.write(writer, record.toMap());
+            }
+        }
+        return file;
+    }
+
+    private List<Map<String, Object>> readMerged() throws IOException {
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(new File(output, ResultMerger.MERGED_FILE).toPath())) {
+            lines.add(JsonLines.read(line));
+        }
+        return lines;
+    }
+
+    /**
+     * Merged records as "test@start", header skipped
+     */
+    private List<String> mergedRecords() throws IOException {
+        List<Map<String, Object>> merged = readMerged();
+        Assert.assertEquals(merged.get(0).get("format"), ShardResults.FORMAT);
+        List<String> records = new ArrayList<>();
+        for (Map<String, Object> record : merged.subList(1, merged.size())) {
+            records.add(record.get("test") + "@" + record.get("start"));
+        }
+        return Collections.unmodifiableList(records);
+    }
+}
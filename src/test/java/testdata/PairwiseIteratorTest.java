@@ -0,0 +1,177 @@
+package testdata;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PairwiseIteratorTest - All-pairs coverage, constraints and seeded replay
+ */
+public class PairwiseIteratorTest {
+
+    // 3 x 2 x 2 x 3 = 36 combinations; pairwise needs at least 3 x 3 = 9 rows
+    private static final Object[][] DOMAINS = {
+        {"chrome", "firefox", "edge"},
+        {"admin", "guest"},
+        {true, false},
+        {"en", "de", "fr"},
+    };
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        System.clearProperty("testdata.seed");
+        TestDataGenerator.resetRunSeed();
+    }
+
+    // ==================== COVERAGE ====================
+
+    @Test(description = "Every value pair of any two finite fields appears in some row")
+    public void testCoversEveryPair() {
+        for (long seed : new long[]{1, 42, -7, Long.MAX_VALUE}) {
+            List<Object[]> rows = collect(TestDataGenerator.of(schema()).seed(seed).pairwise());
+
+            Assert.assertEquals(missingPairs(rows, new int[]{0, 1, 2, 3}, DOMAINS), List.of(), "seed " + seed);
+            Assert.assertTrue(rows.size() >= 9 && rows.size() < 36,
+                              "seed " + seed + ": " + rows.size() + " rows");
+        }
+    }
+
+    @Test(description = "Fields without a finite domain do not hide pairs of the finite ones")
+    public void testCoversPairsAroundRandomFields() {
+        DataSchema schema = new DataSchema("mixed")
+            .field("browser", Values.oneOf(DOMAINS[0]))
+            .field("name", Values.alphanumeric(3, 8))
+            .field("locale", Values.oneOf(DOMAINS[3]))
+            .field("age", Values.intRange(18, 99))
+            .field("admin", Values.bool());
+
+        List<Object[]> rows = collect(TestDataGenerator.of(schema).seed(3).pairwise());
+
+        Assert.assertEquals(missingPairs(rows, new int[]{0, 2, 4}, DOMAINS[0], DOMAINS[3], DOMAINS[2]), List.of());
+        for (Object[] row : rows) {
+            Assert.assertTrue(row[1] instanceof String && !((String) row[1]).isEmpty());
+            Assert.assertTrue((Integer) row[3] >= 18 && (Integer) row[3] <= 99);
+        }
+    }
+
+    @Test(description = "Pairs a constraint rules out are dropped; every other pair is still covered")
+    public void testConstraintExcludesPairs() {
+        DataSchema schema = schema()
+            .where(row -> !("guest".equals(row.get("role")) && "edge".equals(row.get("browser"))));
+
+        List<Object[]> rows = collect(TestDataGenerator.of(schema).seed(5).pairwise());
+
+        List<String> missing = missingPairs(rows, new int[]{0, 1, 2, 3}, DOMAINS);
+        Assert.assertEquals(missing, List.of("0=edge,1=guest"));
+        for (Object[] row : rows) {
+            Assert.assertFalse("edge".equals(row[0]) && "guest".equals(row[1]), Arrays.toString(row));
+        }
+    }
+
+    @Test(description = "Derived fields are computed for every pairwise row")
+    public void testDerivedFields() {
+        DataSchema schema = schema().derive("label", row -> row.get("browser") + "/" + row.get("locale"));
+
+        for (Object[] row : collect(TestDataGenerator.of(schema).seed(9).pairwise())) {
+            Assert.assertEquals(row[4], row[0] + "/" + row[3]);
+        }
+    }
+
+    // ==================== SEED ====================
+
+    @Test(description = "The same seed gives the same rows, in the same order")
+    public void testSameSeedSameSequence() {
+        Assert.assertEquals(toStrings(TestDataGenerator.of(schema()).seed(42).pairwise()),
+                            toStrings(TestDataGenerator.of(schema()).seed(42).pairwise()));
+        Assert.assertEquals(toStrings(TestDataGenerator.of(schema()).seed(42).random(50)),
+                            toStrings(TestDataGenerator.of(schema()).seed(42).random(50)));
+    }
+
+    @Test(description = "Another seed gives other random rows")
+    public void testOtherSeedOtherSequence() {
+        Assert.assertNotEquals(toStrings(TestDataGenerator.of(schema()).seed(42).random(50)),
+                               toStrings(TestDataGenerator.of(schema()).seed(43).random(50)));
+    }
+
+    @Test(description = "testdata.seed fixes the run's seed, so a run replays")
+    public void testConfiguredSeedReplays() {
+        System.setProperty("testdata.seed", "20240601");
+        TestDataGenerator.resetRunSeed();
+
+        Assert.assertEquals(TestDataGenerator.getRunSeed(), 20240601L);
+        List<String> first = toStrings(TestDataGenerator.of(schema()).pairwise());
+
+        // A later run (fresh seed state) with the same setting
+        TestDataGenerator.resetRunSeed();
+        Assert.assertEquals(toStrings(TestDataGenerator.of(schema()).pairwise()), first);
+        Assert.assertEquals(toStrings(TestDataGenerator.of(schema()).seed(20240601L).pairwise()), first);
+    }
+
+    @Test(description = "Random row n does not depend on how many rows were read before")
+    public void testRandomRowsIndependent() {
+        List<String> ten = toStrings(TestDataGenerator.of(schema()).seed(11).random(10));
+        List<String> twenty = toStrings(TestDataGenerator.of(schema()).seed(11).random(20));
+
+        Assert.assertEquals(twenty.subList(0, 10), ten);
+    }
+
+    // ==================== HELPERS ====================
+
+    private static DataSchema schema() {
+        return new DataSchema("pairwise-test")
+            .field("browser", Values.oneOf(DOMAINS[0]))
+            .field("role", Values.oneOf(DOMAINS[1]))
+            .field("remember", Values.bool())
+            .field("locale", Values.oneOf(DOMAINS[3]));
+    }
+
+    private static List<Object[]> collect(Iterator<Object[]> rows) {
+        List<Object[]> all = new ArrayList<>();
+        rows.forEachRemaining(all::add);
+        return all;
+    }
+
+    private static List<String> toStrings(Iterator<Object[]> rows) {
+        List<String> all = new ArrayList<>();
+        rows.forEachRemaining(row -> all.add(Arrays.toString(row)));
+        return all;
+    }
+
+    /**
+     * Value pairs of the given columns that no row covers, as "i=a,j=b"
+     * @param domains values of each column, in the order of columns
+     */
+    private static List<String> missingPairs(List<Object[]> rows, int[] columns, Object[]... domains) {
+        Set<String> seen = new HashSet<>();
+        for (Object[] row : rows) {
+            for (int i : columns) {
+                for (int j : columns) {
+                    if (i < j) {
+                        seen.add(i + "=" + row[i] + "," + j + "=" + row[j]);
+                    }
+                }
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        for (int a = 0; a < columns.length; a++) {
+            for (int b = a + 1; b < columns.length; b++) {
+                for (Object first : domains[a]) {
+                    for (Object second : domains[b]) {
+                        String pair = columns[a] + "=" + first + "," + columns[b] + "=" + second;
+                        if (!seen.contains(pair)) {
+                            missing.add(pair);
+                        }
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+}
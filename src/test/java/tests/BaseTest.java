@@ -1,11 +1,29 @@
 package tests;
 
+import actions.ActionMode;
+import actions.ApiClient;
+import admission.AdmissionController;
 import constants.FrameworkConstants;
-import utils.DriverManager;
+import grid.GridHttpClientFactory;
+import grid.GridHubPool;
+import isolation.BrowserContextPool;
+import locators.LocatorRegistry;
+import matrix.BrowserTarget;
+import metrics.MetricsServer;
+import metrics.PhaseTimer;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
+import recording.FailureRecorder;
+import registry.DriverRegistry;
+import testlogs.TestLogs;
 import utils.ConfigReader;
+import utils.DriverManager;
+import utils.ExecutionEvents;
 import utils.LogUtil;
+import warmup.BrowserWarmup;
+
+import java.lang.reflect.Method;
 
 /**
  * BaseTest - Base class for all test classes
@@ -23,41 +41,80 @@ public class BaseTest {
         LogUtil.info("Framework initialized successfully");
         LogUtil.info("Execution Mode: " + ConfigReader.getExecutionMode());
         LogUtil.info("Grid URL: " + ConfigReader.getGridUrl());
+        
+        // Fail fast on malformed page object locators
+        LocatorRegistry.validate();
+        
+        // Start live metrics endpoint (no-op unless metrics.enabled=true)
+        MetricsServer.start();
+        
+        // Pre-launch browsers for the first tests (no-op unless warmup.count > 0)
+        BrowserWarmup.warmUp();
     }
     
     /**
      * Setup method - runs before each test
-     * Accepts browser parameter from testng.xml
+     * Accepts browser, browserVersion and viewport parameters from testng.xml
+     * (set per matrix cell by MatrixListener); falls back to config
      * 
      * @param browser browser name from TestNG parameter (optional)
+     * @param browserVersion browser version from TestNG parameter (optional)
+     * @param viewport WIDTHxHEIGHT from TestNG parameter (optional)
      */
     @BeforeMethod
-    @Parameters({"browser"})
-    public void setup(@Optional String browser) {
-        // Override browser if provided via TestNG parameter
+    @Parameters({"browser", "browserVersion", "viewport"})
+    public void setup(Method method, ITestResult result, @Optional String browser, 
+                      @Optional String browserVersion, @Optional String viewport) {
+        ActionMode.declareFor(method);
+        
+        // Browser selection is passed explicitly - never via System properties,
+        // which are shared by all parallel threads
+        BrowserTarget target = BrowserTarget.of(browser, browserVersion, viewport);
+        
+        // Correlation id for this invocation's log lines and execution events
+        // (named like TestListener's results: the test class, not an inherited method's declaring class)
+        ExecutionEvents.begin(result.getTestClass().getRealClass().getSimpleName() + "." + method.getName(),
+                              target.getLabel());
+        
+        // Buffer this test's log lines for a failure report (no-op unless test.log.enabled=true)
+        TestLogs.open();
         if (browser != null && !browser.isEmpty()) {
-            System.setProperty("browser", browser);
-            LogUtil.info("Browser overridden by TestNG parameter: " + browser);
+            LogUtil.info("Browser overridden by TestNG parameter: " + target.getLabel());
         }
         
         // Initialize driver (local or remote based on config)
-        DriverManager.initializeDriver();
+        long phaseStart = PhaseTimer.start();
+        DriverManager.initializeDriver(target);
+        PhaseTimer.record(PhaseTimer.Phase.DRIVER, phaseStart);
         
         // Get driver instance
         WebDriver driver = getDriver();
         
+        // Buffer frames for a failure replay (no-op unless recording.enabled=true)
+        FailureRecorder.start(driver);
+        
         // Navigate to application URL
+        phaseStart = PhaseTimer.start();
         String url = ConfigReader.getUrl();
         driver.get(url);
+        PhaseTimer.record(PhaseTimer.Phase.NAVIGATION, phaseStart);
         LogUtil.info("Navigated to: " + url);
     }
     
     /**
-     * Teardown method - runs after each test
+     * Teardown method - runs after each test, also when setup failed
+     * (the driver, admission slot and log buffer must still be released)
      */
-    @AfterMethod
-    public void teardown() {
+    @AfterMethod(alwaysRun = true)
+    public void teardown(ITestResult result) {
+        long phaseStart = PhaseTimer.start();
+        FailureRecorder.stop();
         DriverManager.quitDriver();
+        ActionMode.clear();
+        PhaseTimer.record(PhaseTimer.Phase.TEARDOWN, phaseStart);
+        PhaseTimer.completeTest(result.getMethod().getMethodName());
+        TestLogs.close();
+        ExecutionEvents.end();
     }
     
     /**
@@ -68,8 +125,17 @@ public class BaseTest {
         return DriverManager.getDriver();
     }
     
-    @AfterSuite
+    @AfterSuite(alwaysRun = true)
     public void cleanupFramework() {
+        BrowserWarmup.discard();
+        DriverRegistry.cleanupAll("suite end");
+        GridHubPool.stop();
+        GridHttpClientFactory.shutdown();
+        ApiClient.shutdown();
+        BrowserContextPool.shutdown();
+        FailureRecorder.shutdown();
+        AdmissionController.stop();
+        MetricsServer.stop();
         LogUtil.info("Framework cleanup completed");
     }
 }
\ No newline at end of file
@@ -1,16 +1,32 @@
 package tests;
 
+import actions.ActionMode;
 import actions.LoginAction;
+import actions.SetupVia;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import pages.HomePage;
+import testdata.DataSchema;
+import testdata.LoginData;
+import testdata.TestDataGenerator;
+import testdata.Values;
 import utils.*;
 
+import java.util.Iterator;
+
 /**
  * LoginTest - Test cases for login functionality
  */
 public class LoginTest extends BaseTest {
     
+    // Known, locked and unknown users against right and wrong passwords
+    private static final DataSchema LOGIN_SCHEMA = new DataSchema("login")
+        .field("username", Values.oneOf("standard_user", "locked_out_user", Values.alphanumeric(6, 12)))
+        .field("password", Values.oneOf("secret_sauce", Values.alphanumeric(6, 12)))
+        .derive("expectSuccess", row -> "standard_user".equals(row.get("username"))
+                                        && "secret_sauce".equals(row.get("password")));
+    
     @Test(priority = 1, description = "Verify login with valid credentials")
     public void testValidLogin() {
         LogUtil.info("Test: Valid Login");
@@ -34,14 +50,42 @@ public class LoginTest extends BaseTest {
         LogUtil.info("Invalid login test passed");
     }
     
-    @Test(priority = 3, dataProvider = "loginData")
-    public void testLoginWithDataProvider(String username, String password) {
+    @Test(priority = 3, description = "Verify logout returns to the login page")
+    @SetupVia(ActionMode.API)
+    public void testLogout() {
+        LogUtil.info("Test: Logout");
+        
+        // Login is only the precondition here - API setup when api.url is set
+        LoginAction loginAction = new LoginAction(DriverManager.getDriver());
+        Assert.assertTrue(loginAction.login("standard_user", "secret_sauce"), "Login should be successful");
+        
+        HomePage homePage = new HomePage(DriverManager.getDriver());
+        homePage.logout();
+        Assert.assertFalse(homePage.isDashboardDisplayed(), "Dashboard should not be displayed after logout");
+        LogUtil.info("Logout test passed");
+    }
+    
+    @Test(priority = 4, dataProvider = "loginData")
+    public void testLoginWithDataProvider(LoginData data) {
         LoginAction loginAction = new LoginAction(DriverManager.getDriver());
-        loginAction.performLogin(username, password);
+        loginAction.performLogin(data.username(), data.password());
     }
     
     @DataProvider(name = "loginData")
     public Object[][] getLoginData() {
-        return ExcelReader.getTestData("TestData.xlsx", "Sheet1");
+        return ExcelReader.getRecordData("TestData.xlsx", "Sheet1", LoginData.class);
+    }
+    
+    @Test(priority = 5, dataProvider = "generatedLoginData", 
+          description = "Verify login outcome for generated credentials")
+    public void testLoginWithGeneratedData(String username, String password, boolean expectSuccess) {
+        LoginAction loginAction = new LoginAction(DriverManager.getDriver());
+        Assert.assertEquals(loginAction.performLogin(username, password), expectSuccess, 
+                            "Login outcome for user " + username);
+    }
+    
+    @DataProvider(name = "generatedLoginData")
+    public Iterator<Object[]> getGeneratedLoginData() {
+        return TestDataGenerator.of(LOGIN_SCHEMA).pairwise();
     }
 }
@@ -0,0 +1,184 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CsvDataSourceTest - RFC 4180 quoting, rows across mapped windows and ragged rows
+ */
+public class CsvDataSourceTest {
+
+    // Quoted delimiters, line breaks (LF and CRLF), "" escapes, empty fields and a blank row
+    private static final String TRICKY = "name,comment,city\r\n" +
+                                         "\"Smith, John\",\"said \"\"hi\"\"\r\nthen left\",Boston\r\n" +
+                                         "\r\n" +
+                                         "plain,,\"\"\n" +
+                                         "\"\"\"quoted\"\"\",\"a,b\nc\",\"Zürich\"\r\n" +
+                                         "last,row,no newline";
+
+    private static final List<List<String>> TRICKY_ROWS = List.of(
+        List.of("Smith, John", "said \"hi\"\r\nthen left", "Boston"),
+        List.of("plain", "", ""),
+        List.of("\"quoted\"", "a,b\nc", "Zürich"),
+        List.of("last", "row", "no newline")
+    );
+
+    private Path folder;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("csv-data-source-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // ==================== QUOTING ====================
+
+    @Test(description = "Quoted fields keep delimiters, CRLF and LF; doubled quotes unescape; blank rows are skipped")
+    public void testQuotedFields() throws IOException {
+        try (CsvDataSource source = open(TRICKY)) {
+            Assert.assertEquals(source.getColumns(), List.of("name", "comment", "city"));
+            Assert.assertEquals(readAll(source), TRICKY_ROWS);
+        }
+    }
+
+    @Test(description = "Byte order mark is not part of the first column name")
+    public void testByteOrderMark() throws IOException {
+        try (CsvDataSource source = open("\uFEFFid,name\n1,a\n")) {
+            Assert.assertEquals(source.getColumns(), List.of("id", "name"));
+            Assert.assertEquals(readAll(source), List.of(List.of("1", "a")));
+        }
+    }
+
+    @Test(description = "Tab-separated files keep commas inside fields")
+    public void testTabDelimiter() throws IOException {
+        Path file = write("data.tsv", "a\tb\n1,5\t\"x\ty\"\n");
+        try (CsvDataSource source = new CsvDataSource(file, '\t')) {
+            Assert.assertEquals(readAll(source), List.of(List.of("1,5", "x\ty")));
+        }
+    }
+
+    @DataProvider(name = "malformed")
+    public Object[][] malformed() {
+        return new Object[][]{
+            {"a,b\n\"open,1\n", "unterminated quoted field"},
+            {"a,b\n\"x\"y,1\n", "text after closing quote"},
+        };
+    }
+
+    @Test(dataProvider = "malformed", description = "Malformed quoting fails with the row number")
+    public void testMalformed(String content, String problem) throws IOException {
+        try (CsvDataSource source = open(content)) {
+            IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, source::next);
+            Assert.assertTrue(e.getMessage().contains("row 2") && e.getMessage().contains(problem), e.getMessage());
+        }
+    }
+
+    // ==================== WINDOWS ====================
+
+    @Test(description = "Every window size gives the same rows, however they split across window ends")
+    public void testRowsAcrossWindows() throws IOException {
+        Path file = write("tricky.csv", TRICKY);
+        for (int window = 3; window <= Files.size(file) + 1; window++) {
+            try (CsvDataSource source = new CsvDataSource(file, ',', window)) {
+                Assert.assertEquals(source.getColumns(), List.of("name", "comment", "city"), "window " + window);
+                Assert.assertEquals(readAll(source), TRICKY_ROWS, "window " + window);
+            }
+        }
+    }
+
+    @Test(description = "A row larger than the window grows the window")
+    public void testRowLargerThanWindow() throws IOException {
+        char[] chars = new char[10_000];
+        Arrays.fill(chars, 'x');
+        String large = new String(chars);
+        Path file = write("large.csv", "id,text\n1,\"" + large + "\"\n2,\"a\"\"" + large + "\"\n3,short\n");
+
+        try (CsvDataSource source = new CsvDataSource(file, ',', 16)) {
+            Assert.assertEquals(readAll(source), List.of(
+                List.of("1", large), List.of("2", "a\"" + large), List.of("3", "short")));
+        }
+    }
+
+    @Test(description = "CRLF split between two windows is one line break")
+    public void testCrLfSplitAcrossWindows() throws IOException {
+        // "a,b\r" fills the first 4-byte window; its "\n" starts the next
+        Path file = write("crlf.csv", "a,b\r\n1,2\r\n");
+        try (CsvDataSource source = new CsvDataSource(file, ',', 4)) {
+            Assert.assertEquals(source.getColumns(), List.of("a", "b"));
+            Assert.assertEquals(readAll(source), List.of(List.of("1", "2")));
+        }
+    }
+
+    // ==================== HEADER MISMATCH ====================
+
+    @Test(description = "Missing trailing fields read null; extra fields are ignored")
+    public void testRaggedRows() throws IOException {
+        try (CsvDataSource source = open("a,b,c\n1\n1,2,3,4,5\n,,\n1,2\n")) {
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{"1", null, null});
+            Assert.assertEquals(source.getLocation(), "test.csv row 2");
+
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{"1", "2", "3"});
+            Assert.assertNull(source.get(3), "Extra field is not a column");
+
+            // ",," is blank and skipped
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{"1", "2", null});
+            Assert.assertEquals(source.getLocation(), "test.csv row 5");
+            Assert.assertFalse(source.next());
+        }
+    }
+
+    @Test(description = "Header names are trimmed; an empty file has no columns and no rows")
+    public void testHeader() throws IOException {
+        try (CsvDataSource source = open(" id , name\n1,a\n")) {
+            Assert.assertEquals(source.getColumns(), List.of("id", "name"));
+        }
+        try (CsvDataSource source = open("")) {
+            Assert.assertEquals(source.getColumns(), List.of());
+            Assert.assertFalse(source.next());
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private CsvDataSource open(String content) throws IOException {
+        return new CsvDataSource(write("test.csv", content), ',');
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(folder.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<List<String>> readAll(TestDataSource source) {
+        List<List<String>> rows = new ArrayList<>();
+        while (source.next()) {
+            List<String> row = new ArrayList<>();
+            for (Object value : source.toArray()) {
+                row.add((String) value);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,145 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * JsonDataSourceTest - Layouts, members missing from or added to later rows and malformed input
+ */
+public class JsonDataSourceTest {
+
+    private Path folder;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("json-data-source-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // ==================== LAYOUT ====================
+
+    @Test(description = "Top-level array: columns come from the first object, values keep their JSON types")
+    public void testTopLevelArray() throws IOException {
+        try (JsonDataSource source = open("[{\"name\": \"a, \\\"b\\\"\", \"age\": 30, \"admin\": true, " +
+                                          "\"tags\": [\"x\"], \"address\": {\"city\": \"Bern\"}}]", null)) {
+            Assert.assertEquals(source.getColumns(), List.of("name", "age", "admin", "tags", "address"));
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.get(0), "a, \"b\"");
+            Assert.assertEquals(((Number) source.get(1)).intValue(), 30);
+            Assert.assertEquals(source.get(2), Boolean.TRUE);
+            Assert.assertEquals(source.get(3), List.of("x"));
+            Assert.assertEquals(source.get(4), Map.of("city", "Bern"));
+            Assert.assertFalse(source.next());
+        }
+    }
+
+    @Test(description = "Object of named arrays: the section picks one, null the first")
+    public void testSections() throws IOException {
+        String json = "{\"admins\": [{\"user\": \"root\"}], \"guests\": [{\"user\": \"anon\"}, {\"user\": \"bob\"}]}";
+
+        try (JsonDataSource source = open(json, "guests")) {
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.get(0), "anon");
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.get(0), "bob");
+            Assert.assertEquals(source.getLocation(), "test.json row 2");
+            Assert.assertFalse(source.next());
+        }
+        try (JsonDataSource source = open(json, null)) {
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.get(0), "root");
+        }
+    }
+
+    @Test(description = "Empty array has no columns and no rows")
+    public void testEmptyArray() throws IOException {
+        try (JsonDataSource source = open("{\"login\": []}", "login")) {
+            Assert.assertEquals(source.getColumns(), List.of());
+            Assert.assertFalse(source.next());
+        }
+    }
+
+    // ==================== HEADER MISMATCH ====================
+
+    @Test(description = "Members a later row leaves out read null; members the first row lacks are ignored")
+    public void testMissingAndExtraMembers() throws IOException {
+        String json = "[{\"user\": \"a\", \"password\": \"1\"}," +
+                      " {\"password\": \"2\"}," +
+                      " {\"user\": \"c\", \"password\": \"3\", \"role\": \"admin\"}," +
+                      " {\"role\": \"guest\"}," +
+                      " {\"password\": \"5\", \"user\": \"e\"}]";
+
+        try (JsonDataSource source = open(json, null)) {
+            Assert.assertEquals(source.getColumns(), List.of("user", "password"));
+            Assert.assertTrue(source.next());
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{null, "2"});
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{"c", "3"});
+            Assert.assertNull(source.get(2));
+
+            // {"role": "guest"} has nothing in the columns: blank, skipped
+            Assert.assertTrue(source.next());
+            Assert.assertEquals(source.toArray(), new Object[]{"e", "5"}, "Members are matched by name, not order");
+            Assert.assertEquals(source.getLocation(), "test.json row 5");
+            Assert.assertFalse(source.next());
+        }
+    }
+
+    // ==================== MALFORMED ====================
+
+    @DataProvider(name = "badLayout")
+    public Object[][] badLayout() {
+        return new Object[][]{
+            {"{\"login\": []}", "logout", "no member 'logout'"},
+            {"[{\"a\": 1}]", "login", "is an array"},
+            {"{\"login\": {\"a\": 1}}", "login", "must be an array of objects"},
+            {"[1, 2]", null, "row 1 is not an object"},
+        };
+    }
+
+    @Test(dataProvider = "badLayout", description = "Layouts without an array of objects are rejected on open")
+    public void testBadLayout(String json, String section, String problem) {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, () -> open(json, section));
+        Assert.assertTrue(e.getMessage().contains(problem), e.getMessage());
+    }
+
+    @Test(description = "A row that is not an object, or broken JSON, fails with the row")
+    public void testMalformedRow() throws IOException {
+        try (JsonDataSource source = open("[{\"a\": 1}, \"text\"]", null)) {
+            Assert.assertTrue(source.next());
+            IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, source::next);
+            Assert.assertTrue(e.getMessage().contains("row 2 is not an object"), e.getMessage());
+        }
+        try (JsonDataSource source = open("[{\"a\": 1}, {\"a\": 2,]", null)) {
+            Assert.assertTrue(source.next());
+            IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, source::next);
+            Assert.assertTrue(e.getMessage().contains("malformed JSON"), e.getMessage());
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private JsonDataSource open(String json, String section) throws IOException {
+        Path file = Files.write(folder.resolve("test.json"), json.getBytes(StandardCharsets.UTF_8));
+        return new JsonDataSource(file, section);
+    }
+}
@@ -0,0 +1,138 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * TestDataReaderTest - Rows and typed records from CSV and JSON, header mismatch and format selection
+ */
+public class TestDataReaderTest {
+
+    record Login(String username, String password, boolean expectSuccess) {}
+
+    private static final List<Login> LOGINS = List.of(
+        new Login("standard_user", "se,cret \"sauce\"", true),
+        new Login("locked_out_user", "", false)
+    );
+
+    private Path folder;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("test-data-reader-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // ==================== FORMATS ====================
+
+    @Test(description = "CSV and JSON with the same data give the same records")
+    public void testSameRecordsFromEveryFormat() throws IOException {
+        String csv = write("logins.csv", "Username,Password,Expect Success\r\n" +
+                                         "standard_user,\"se,cret \"\"sauce\"\"\",true\r\n" +
+                                         "locked_out_user,,false\r\n");
+        String json = write("logins.json", "{\"logins\": [" +
+                                           "{\"username\": \"standard_user\"," +
+                                           " \"password\": \"se,cret \\\"sauce\\\"\", \"expectSuccess\": true}," +
+                                           "{\"username\": \"locked_out_user\", \"password\": \"\"," +
+                                           " \"expectSuccess\": false}]}");
+
+        Assert.assertEquals(TestDataReader.getRecords(csv, null, Login.class), LOGINS);
+        Assert.assertEquals(TestDataReader.getRecords(json, "logins", Login.class), LOGINS);
+    }
+
+    @Test(description = "Rows hold one value per column, in header order")
+    public void testRows() throws IOException {
+        String csv = write("rows.csv", "a,b\n1,\"x\ny\"\n\n2,z\n");
+
+        Object[][] data = TestDataReader.getTestData(csv, null);
+        Assert.assertEquals(data, new Object[][]{{"1", "x\ny"}, {"2", "z"}});
+    }
+
+    @Test(description = "Each record is one data provider parameter; rows are read as asked for")
+    public void testRecordsIterator() throws IOException {
+        String csv = write("lazy.csv", "username,password,expectSuccess\nstandard_user,p,true\nlocked,\"x\"y,false\n");
+
+        Iterator<Object[]> rows = TestDataReader.records(csv, null, Login.class);
+        Assert.assertTrue(rows.hasNext());
+        Assert.assertEquals(rows.next(), new Object[]{new Login("standard_user", "p", true)});
+
+        // The malformed row only fails when it is reached, and ends the iteration
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, rows::hasNext);
+        Assert.assertTrue(e.getMessage().contains("lazy.csv row 3"), e.getMessage());
+        Assert.assertFalse(rows.hasNext());
+    }
+
+    @Test(description = "Unknown extension and missing file are rejected")
+    public void testOpenFailures() throws IOException {
+        String text = write("data.txt", "a,b\n");
+        Assert.expectThrows(IllegalArgumentException.class, () -> TestDataReader.getTestData(text, null));
+        Assert.expectThrows(UncheckedIOException.class,
+                            () -> TestDataReader.getTestData(folder.resolve("absent.csv").toString(), null));
+    }
+
+    // ==================== HEADER MISMATCH ====================
+
+    @Test(description = "A record component without a column fails before any row is read")
+    public void testMissingColumn() throws IOException {
+        String csv = write("missing.csv", "username,password\nstandard_user,secret\n");
+
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                                                         () -> TestDataReader.records(csv, null, Login.class));
+        Assert.assertTrue(e.getMessage().contains("Login.expectSuccess"), e.getMessage());
+    }
+
+    @Test(description = "Columns the record does not use are ignored, whatever their position")
+    public void testExtraColumns() throws IOException {
+        String csv = write("extra.csv", "id,expectSuccess,note,password,username\n" +
+                                        "1,true,\"a, b\",\"se,cret \"\"sauce\"\"\",standard_user\n" +
+                                        "2,false,,,locked_out_user\n");
+
+        Assert.assertEquals(TestDataReader.getRecords(csv, null, Login.class), LOGINS);
+    }
+
+    @Test(description = "Short rows leave the missing components at their blank value; extra fields are ignored")
+    public void testRaggedRows() throws IOException {
+        String csv = write("ragged.csv", "username,password,expectSuccess\n" +
+                                         "standard_user\n" +
+                                         "locked_out_user,x,true,unexpected\n");
+
+        Assert.assertEquals(TestDataReader.getRecords(csv, null, Login.class), List.of(
+            new Login("standard_user", "", false), new Login("locked_out_user", "x", true)));
+    }
+
+    @Test(description = "A value that does not convert names the row and column")
+    public void testBadValue() throws IOException {
+        String json = write("bad.json", "[{\"username\": \"a\", \"password\": \"b\", \"expectSuccess\": \"maybe\"}]");
+
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                                                         () -> TestDataReader.getRecords(json, null, Login.class));
+        Assert.assertTrue(e.getMessage().contains("bad.json row 1, column 3"), e.getMessage());
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * @return absolute path of the written file
+     */
+    private String write(String name, String content) throws IOException {
+        return Files.write(folder.resolve(name), content.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}